@@ -0,0 +1,70 @@
+package io.github.columnwise.shortlink.util;
+
+import io.github.columnwise.shortlink.adapter.id.Base62CodeGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 해시 기반 코드 생성 비용 비교 (BigInteger 변환 대비 바이트 배열 변환)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Base62Benchmark {
+    
+    private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final String LONG_URL = "https://www.example.com/articles/2025/01/some-long-article-title?utm_source=newsletter";
+    
+    private final Base62CodeGenerator generator = new Base62CodeGenerator();
+    private final char[] buffer = new char[43];
+    private final byte[] digest = new byte[32];
+    private long sequence;
+    
+    @Benchmark
+    public String hashCodeGenerator() {
+        return generator.generate(LONG_URL);
+    }
+    
+    @Benchmark
+    public String bigIntegerBaseline() throws NoSuchAlgorithmException {
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(LONG_URL.getBytes(StandardCharsets.UTF_8));
+        BigInteger number = new BigInteger(1, hash);
+        BigInteger base = BigInteger.valueOf(62);
+        StringBuilder result = new StringBuilder();
+        while (number.signum() > 0) {
+            result.insert(0, ALPHABET.charAt(number.remainder(base).intValue()));
+            number = number.divide(base);
+        }
+        return result.substring(0, 10);
+    }
+    
+    @Benchmark
+    public int encodeDigest() {
+        // 매 반복 같은 값을 다시 채워 나눗셈 비용만 측정
+        for (int i = 0; i < digest.length; i++) {
+            digest[i] = (byte) (0xA5 ^ i);
+        }
+        return Base62.encodeTo(digest, buffer);
+    }
+    
+    @Benchmark
+    public String encodeLong() {
+        return Base62.encode(++sequence & Long.MAX_VALUE);
+    }
+}
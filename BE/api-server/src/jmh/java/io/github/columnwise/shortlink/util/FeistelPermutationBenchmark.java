@@ -0,0 +1,51 @@
+package io.github.columnwise.shortlink.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 순차 번호를 코드로 바꾸는 비용 측정
+ * gc 프로파일러 결과(gc.alloc.rate.norm)로 permute가 할당하지 않는지 함께 확인 (./gradlew :api-server:jmh)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FeistelPermutationBenchmark {
+    
+    @Param({"6", "7", "8"})
+    private int length;
+    
+    private FeistelPermutation permutation;
+    private long sequence;
+    
+    @Setup
+    public void setUp() {
+        permutation = FeistelPermutation.base62(length, "benchmark", 8);
+    }
+    
+    @Benchmark
+    public long permute() {
+        sequence = sequence + 1 < permutation.size() ? sequence + 1 : 0;
+        return permutation.permute(sequence);
+    }
+    
+    @Benchmark
+    public String permuteAndEncode() {
+        sequence = sequence + 1 < permutation.size() ? sequence + 1 : 0;
+        return Base62.encode(permutation.permute(sequence), length);
+    }
+}
@@ -0,0 +1,282 @@
+package io.github.columnwise.shortlink.adapter.cache;
+
+import io.github.columnwise.shortlink.adapter.journal.MappedClickJournal;
+import io.github.columnwise.shortlink.application.port.out.UrlHitCounterPort;
+import io.github.columnwise.shortlink.config.ClickCounterProperties;
+import io.github.columnwise.shortlink.config.RedisProperties;
+import io.github.columnwise.shortlink.domain.service.RedisKeyManager;
+import io.github.columnwise.shortlink.domain.service.ShortUrlPolicy;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 방문 수를 JVM 내부에서 (코드, 일자) 버킷별 LongAdder로 누적하고 주기적으로 Redis에 일괄 반영
+ * 리다이렉트 경로에서는 Redis를 호출하지 않으며, Redis 명령 수는 방문 수가 아닌 플러시 주기당 고유 코드 수에 비례
+ * 반영 결과는 코드별 일자 카운터 해시(url:access:daily:{code})와 일자별 코드 SET, 누적 카운터(hitcount:code),
+ * 고유 방문자 HyperLogLog(url:unique:visitors:{code}:date)이며, 모든 키에 TTL을 걸어 Redis 메모리가 활성 코드 수에 비례하도록 함
+ * 로컬 클릭 저널이 켜져 있으면 방문을 저널에도 기록하고, Redis 반영이 끝난 위치까지 저널을 확인 처리
+ */
+@Component
+@Primary
+@RequiredArgsConstructor
+@Slf4j
+public class BufferedHitCounterAdapter implements UrlHitCounterPort {
+    
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisHitCounterAdapter redisHitCounter;
+    private final RedisProperties redisProperties;
+    private final ClickCounterProperties clickCounterProperties;
+    private final Clock clock;
+    private final MappedClickJournal clickJournal;
+    private final MeterRegistry meterRegistry;
+    
+    private final ConcurrentHashMap<BucketKey, Bucket> pending = new ConcurrentHashMap<>();
+    // 지난 플러시에서 맵에서 뺀 버킷, 그 사이 늦게 들어온 증가분을 다음 플러시에서 거둠 (플러시 스레드에서만 접근)
+    private final List<RetiredBucket> retiring = new ArrayList<>();
+    private final LongAdder flushedClicks = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+    
+    @PostConstruct
+    void init() {
+        replayJournal();
+        Gauge.builder("shortlink.click.counter.buckets", pending, Map::size)
+                .description("Code/day buckets currently buffered in memory")
+                .register(meterRegistry);
+        FunctionCounter.builder("shortlink.click.counter.flushed", flushedClicks, LongAdder::sum)
+                .description("Clicks written to Redis by the buffered counter")
+                .register(meterRegistry);
+        FunctionCounter.builder("shortlink.click.counter.flush.failures", failedFlushes, LongAdder::sum)
+                .description("Flushes that failed and were kept for the next attempt")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public void incrementHitCount(String code) {
+        recordVisit(code, null);
+    }
+    
+    @Override
+    public void recordVisit(String code, String visitorId) {
+        if (code == null || code.trim().isEmpty()) {
+            log.warn("Cannot increment hit count for null or empty code");
+            return;
+        }
+        
+        BucketKey key = new BucketKey(code, LocalDate.now(clock));
+        Bucket bucket;
+        while (true) {
+            bucket = pending.computeIfAbsent(key, k -> new Bucket());
+            bucket.count.increment();
+            if (!bucket.retired) {
+                break;
+            }
+            // 맵에서 빠지는 중인 버킷을 받았으면 증가분을 되돌리고 새 버킷에 다시 기록
+            bucket.count.decrement();
+        }
+        if (visitorId != null) {
+            bucket.visitors.add(visitorId);
+        }
+        // 버킷에 먼저 반영해야 플러시가 읽은 저널 위치 이전의 방문이 모두 그 플러시에 포함됨
+        clickJournal.append(code, clock.millis(), visitorId);
+    }
+    
+    @Override
+    public long getHitCount(String code) {
+        long buffered = 0;
+        for (Map.Entry<BucketKey, Bucket> entry : pending.entrySet()) {
+            if (entry.getKey().code().equals(code)) {
+                buffered += entry.getValue().count.sum();
+            }
+        }
+        return redisHitCounter.getHitCount(code) + buffered;
+    }
+    
+    @Override
+    public void resetHitCount(String code) {
+        pending.keySet().removeIf(key -> key.code().equals(code));
+        redisHitCounter.resetHitCount(code);
+    }
+    
+    @Scheduled(fixedDelayString = "${app.click-counter.flush-interval:1s}")
+    public synchronized void flush() {
+        long journalPosition = clickJournal.position();
+        Map<BucketKey, BucketDelta> deltas = drain();
+        if (deltas.isEmpty()) {
+            clickJournal.acknowledge(journalPosition);
+            return;
+        }
+        
+        try {
+            writeToRedis(deltas);
+            long clicks = deltas.values().stream().mapToLong(BucketDelta::clicks).sum();
+            flushedClicks.add(clicks);
+            log.debug("Flushed {} clicks for {} buckets", clicks, deltas.size());
+        } catch (Exception e) {
+            // 실패한 증가분은 버킷에 되돌려 다음 플러시에서 다시 시도
+            failedFlushes.increment();
+            deltas.forEach((key, delta) -> {
+                Bucket bucket = pending.computeIfAbsent(key, k -> new Bucket());
+                bucket.count.add(delta.clicks());
+                bucket.visitors.addAll(delta.visitors());
+            });
+            log.warn("Failed to flush {} click buckets, will retry", deltas.size(), e);
+            // 장애가 길어져 프로세스가 재시작되더라도 저널에서 복구할 수 있도록 디스크에 기록
+            clickJournal.sync();
+            return;
+        }
+        clickJournal.acknowledge(journalPosition);
+    }
+    
+    private void replayJournal() {
+        clickJournal.replay(click -> {
+            LocalDate date = LocalDate.ofInstant(Instant.ofEpochMilli(click.timestamp()), clock.getZone());
+            Bucket bucket = pending.computeIfAbsent(new BucketKey(click.code(), date), k -> new Bucket());
+            bucket.count.increment();
+            if (click.visitorId() != null) {
+                bucket.visitors.add(click.visitorId());
+            }
+        });
+    }
+    
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+    
+    private Map<BucketKey, BucketDelta> drain() {
+        Map<BucketKey, BucketDelta> deltas = new HashMap<>();
+        
+        // 지난 플러시에서 뺀 버킷에는 그 전에 버킷을 받아 둔 방문만 남으므로 한 주기 뒤에 거두면 빠지는 증가분이 없음
+        // 뺀 뒤 버킷을 받은 방문은 retired를 보고 증가분을 되돌린 뒤 새 버킷에 기록하므로 두 번 세지 않음
+        for (RetiredBucket retired : retiring) {
+            long residual = retired.bucket().count.sumThenReset();
+            if (residual > 0) {
+                deltas.merge(retired.key(), new BucketDelta(residual, drainVisitors(retired.bucket())), BucketDelta::plus);
+            }
+        }
+        retiring.clear();
+        
+        for (Map.Entry<BucketKey, Bucket> entry : pending.entrySet()) {
+            Bucket bucket = entry.getValue();
+            long clicks = bucket.count.sumThenReset();
+            if (clicks > 0) {
+                bucket.idleFlushes = 0;
+                deltas.merge(entry.getKey(), new BucketDelta(clicks, drainVisitors(bucket)), BucketDelta::plus);
+                continue;
+            }
+            
+            // 한동안 증가가 없던 버킷은 retired로 표시한 뒤 맵에서 빼고, 남은 증가분은 다음 플러시에서 거둠
+            if (++bucket.idleFlushes >= clickCounterProperties.getIdleFlushesBeforeEviction()) {
+                bucket.retired = true;
+                if (pending.remove(entry.getKey(), bucket)) {
+                    retiring.add(new RetiredBucket(entry.getKey(), bucket));
+                }
+            }
+        }
+        return deltas;
+    }
+    
+    private List<String> drainVisitors(Bucket bucket) {
+        if (bucket.visitors.isEmpty()) {
+            return List.of();
+        }
+        List<String> visitors = new ArrayList<>();
+        Iterator<String> iterator = bucket.visitors.iterator();
+        while (iterator.hasNext()) {
+            visitors.add(iterator.next());
+            iterator.remove();
+        }
+        return visitors;
+    }
+    
+    private void writeToRedis(Map<BucketKey, BucketDelta> deltas) {
+        long retentionSeconds = clickCounterProperties.getRetention().toSeconds();
+        long lifetimeSeconds = ShortUrlPolicy.DEFAULT_TTL.toSeconds();
+        String hitCountPrefix = redisProperties.getHitCounter().getKeyPrefix();
+        
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                Set<LocalDate> dates = new HashSet<>();
+                for (Map.Entry<BucketKey, BucketDelta> entry : deltas.entrySet()) {
+                    String code = entry.getKey().code();
+                    LocalDate date = entry.getKey().date();
+                    BucketDelta delta = entry.getValue();
+                    String dailyKey = RedisKeyManager.getDailyAccessHashKey(code);
+                    
+                    ops.opsForHash().increment(dailyKey, date.format(DateTimeFormatter.ISO_LOCAL_DATE), delta.clicks());
+                    ops.expire(dailyKey, retentionSeconds, TimeUnit.SECONDS);
+                    ops.opsForSet().add(RedisKeyManager.getAccessCodesSetKey(date), code);
+                    ops.opsForValue().increment(hitCountPrefix + code, delta.clicks());
+                    ops.expire(hitCountPrefix + code, lifetimeSeconds, TimeUnit.SECONDS);
+                    
+                    if (!delta.visitors().isEmpty()) {
+                        String visitorsKey = RedisKeyManager.getUniqueVisitorsKey(code, date);
+                        ops.opsForHyperLogLog().add(visitorsKey, delta.visitors().toArray(new String[0]));
+                        ops.expire(visitorsKey, retentionSeconds, TimeUnit.SECONDS);
+                    }
+                    dates.add(date);
+                }
+                for (LocalDate date : dates) {
+                    ops.expire(RedisKeyManager.getAccessCodesSetKey(date), retentionSeconds,
+                            TimeUnit.SECONDS);
+                }
+                return null;
+            }
+        });
+    }
+    
+    private record BucketKey(String code, LocalDate date) {
+    }
+    
+    private record BucketDelta(long clicks, List<String> visitors) {
+        
+        BucketDelta plus(BucketDelta other) {
+            List<String> merged = new ArrayList<>(visitors);
+            merged.addAll(other.visitors());
+            return new BucketDelta(clicks + other.clicks(), merged);
+        }
+    }
+    
+    private record RetiredBucket(BucketKey key, Bucket bucket) {
+    }
+    
+    private static final class Bucket {
+        private final LongAdder count = new LongAdder();
+        // 플러시 주기 동안의 방문자 식별자, 플러시 시 PFADD 한 번으로 반영
+        private final Set<String> visitors = ConcurrentHashMap.newKeySet();
+        // 플러시 스레드에서만 접근
+        private int idleFlushes;
+        // 맵에서 빠졌거나 빠지는 중인 버킷, 방문 스레드는 증가 후 이 값을 확인
+        private volatile boolean retired;
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.columnwise.shortlink.adapter.cache;
+
+import io.github.columnwise.shortlink.domain.model.ShortUrl;
+
+/**
+ * Redis에 저장되는 캐시 엔트리
+ * 확률적 조기 갱신(XFetch)을 위해 값과 함께 재계산 비용과 만료 시각을 보관
+ *
+ * @param shortUrl 캐시된 단축 URL
+ * @param computeMillis 값을 다시 계산(DB 조회)하는 데 걸린 시간 (ms)
+ * @param expiresAtMillis 엔트리 만료 시각 (epoch ms)
+ */
+public record CachedShortUrl(
+        ShortUrl shortUrl,
+        long computeMillis,
+        long expiresAtMillis
+) {
+}
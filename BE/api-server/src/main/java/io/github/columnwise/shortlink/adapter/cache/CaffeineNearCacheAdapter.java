@@ -0,0 +1,69 @@
+package io.github.columnwise.shortlink.adapter.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.columnwise.shortlink.application.port.out.NearCachePort;
+import io.github.columnwise.shortlink.config.NearCacheProperties;
+import io.github.columnwise.shortlink.domain.model.ShortUrl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Caffeine 기반 L1 캐시
+ * W-TinyLFU 정책으로 접근 빈도가 높은 코드를 우선 유지하고, 크기와 TTL로 메모리 사용량을 제한
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CaffeineNearCacheAdapter implements NearCachePort {
+    
+    private static final String CACHE_NAME = "shortUrlNearCache";
+    
+    private final NearCacheProperties nearCacheProperties;
+    private final MeterRegistry meterRegistry;
+    
+    private Cache<String, ShortUrl> cache;
+    
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(nearCacheProperties.getMaximumSize())
+                .expireAfterWrite(nearCacheProperties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("Near cache initialized with maximumSize: {}, ttl: {}",
+                nearCacheProperties.getMaximumSize(), nearCacheProperties.getTtl());
+    }
+    
+    @Override
+    public Optional<ShortUrl> findByCode(String code) {
+        if (code == null || code.trim().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getIfPresent(code));
+    }
+    
+    @Override
+    public void save(ShortUrl shortUrl) {
+        if (shortUrl == null || shortUrl.code() == null || shortUrl.code().trim().isEmpty()) {
+            log.warn("Cannot save null ShortUrl or ShortUrl with null/empty code to near cache");
+            return;
+        }
+        cache.put(shortUrl.code(), shortUrl);
+    }
+    
+    @Override
+    public void evict(String code) {
+        if (code == null || code.trim().isEmpty()) {
+            return;
+        }
+        cache.invalidate(code);
+    }
+}
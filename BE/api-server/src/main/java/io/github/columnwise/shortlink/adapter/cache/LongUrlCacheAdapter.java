@@ -0,0 +1,95 @@
+package io.github.columnwise.shortlink.adapter.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.columnwise.shortlink.application.port.out.LongUrlCachePort;
+import io.github.columnwise.shortlink.config.NearCacheProperties;
+import io.github.columnwise.shortlink.config.RedisProperties;
+import io.github.columnwise.shortlink.domain.model.ShortUrl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 원본 URL 지문 -> 단축 URL 캐시
+ * 같은 URL의 반복 단축 요청을 프로세스 메모리(L1)와 Redis(L2)에서 처리하여 DB 조회를 줄임
+ * 발급된 대응은 바뀌지 않으므로 무효화 없이 TTL로만 정리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LongUrlCacheAdapter implements LongUrlCachePort {
+    
+    private static final String CACHE_NAME = "longUrlNearCache";
+    
+    private final RedisTemplate<String, CachedShortUrl> redisTemplate;
+    private final RedisProperties redisProperties;
+    private final NearCacheProperties nearCacheProperties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    
+    private Cache<String, ShortUrl> nearCache;
+    
+    @PostConstruct
+    void init() {
+        nearCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheProperties.getMaximumSize())
+                .expireAfterWrite(nearCacheProperties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, nearCache, CACHE_NAME);
+    }
+    
+    @Override
+    public Optional<ShortUrl> findByFingerprint(String fingerprint) {
+        if (fingerprint == null || fingerprint.isEmpty()) {
+            return Optional.empty();
+        }
+        
+        ShortUrl near = nearCache.getIfPresent(fingerprint);
+        if (near != null) {
+            return Optional.of(near);
+        }
+        
+        try {
+            CachedShortUrl cached = redisTemplate.opsForValue().get(getCacheKey(fingerprint));
+            if (cached == null || cached.shortUrl() == null) {
+                return Optional.empty();
+            }
+            nearCache.put(fingerprint, cached.shortUrl());
+            return Optional.of(cached.shortUrl());
+        } catch (Exception e) {
+            log.warn("Failed to get long URL cache entry for fingerprint: {}", fingerprint, e);
+            return Optional.empty();
+        }
+    }
+    
+    @Override
+    public void save(String fingerprint, ShortUrl shortUrl) {
+        if (fingerprint == null || fingerprint.isEmpty() || shortUrl == null) {
+            log.warn("Cannot save null fingerprint or ShortUrl to long URL cache");
+            return;
+        }
+        
+        nearCache.put(fingerprint, shortUrl);
+        try {
+            Duration ttl = redisProperties.getLongUrl().getTtl();
+            CachedShortUrl entry = new CachedShortUrl(shortUrl, 0L, clock.millis() + ttl.toMillis());
+            redisTemplate.opsForValue().set(getCacheKey(fingerprint), entry, ttl);
+        } catch (Exception e) {
+            log.warn("Failed to cache long URL for fingerprint: {}", fingerprint, e);
+        }
+    }
+    
+    private String getCacheKey(String fingerprint) {
+        return redisProperties.getLongUrl().getKeyPrefix() + fingerprint;
+    }
+}
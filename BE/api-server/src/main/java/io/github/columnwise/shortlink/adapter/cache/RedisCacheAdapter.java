@@ -3,32 +3,91 @@ package io.github.columnwise.shortlink.adapter.cache;
 import io.github.columnwise.shortlink.application.port.out.CachePort;
 import io.github.columnwise.shortlink.config.RedisProperties;
 import io.github.columnwise.shortlink.domain.model.ShortUrl;
+import io.github.columnwise.shortlink.util.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class RedisCacheAdapter implements CachePort {
     
-    private final RedisTemplate<String, ShortUrl> redisTemplate;
+    private final RedisTemplate<String, CachedShortUrl> redisTemplate;
     private final RedisProperties redisProperties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    
+    private final SingleFlight<String, Optional<CachedShortUrl>> cacheReads = new SingleFlight<>();
+    
+    // 조기 갱신은 유실돼도 정상 만료로 복구되므로, 큐가 가득 차면 버림
+    private final ThreadPoolExecutor refreshExecutor = new ThreadPoolExecutor(
+            1, 2, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(256),
+            Thread.ofPlatform().name("cache-refresh-", 0).daemon(true).factory());
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final LongAdder earlyRefreshes = new LongAdder();
+    private final LongAdder rejectedRefreshes = new LongAdder();
+    
+    @PostConstruct
+    void registerMetrics() {
+        cacheReads.bindTo(meterRegistry, "redis-cache");
+        FunctionCounter.builder("shortlink.cache.early.refresh", earlyRefreshes, LongAdder::sum)
+                .tag("result", "scheduled")
+                .register(meterRegistry);
+        FunctionCounter.builder("shortlink.cache.early.refresh", rejectedRefreshes, LongAdder::sum)
+                .tag("result", "rejected")
+                .register(meterRegistry);
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
     
     @Override
     public Optional<ShortUrl> findByCode(String code) {
+        return findByCode(code, null);
+    }
+    
+    @Override
+    public Optional<ShortUrl> findByCode(String code, Supplier<Optional<ShortUrl>> refreshLoader) {
         if (code == null || code.trim().isEmpty()) {
             log.warn("Cannot find cache entry for null or empty code");
             return Optional.empty();
         }
         
+        Optional<CachedShortUrl> cached = cacheReads.execute(code, () -> readFromRedis(code));
+        cached.ifPresent(entry -> {
+            if (refreshLoader != null && shouldRefreshEarly(entry)) {
+                refreshInBackground(code, refreshLoader);
+            }
+        });
+        return cached.map(CachedShortUrl::shortUrl);
+    }
+    
+    private Optional<CachedShortUrl> readFromRedis(String code) {
         try {
             String key = getCacheKey(code);
-            ShortUrl cached = redisTemplate.opsForValue().get(key);
+            CachedShortUrl cached = redisTemplate.opsForValue().get(key);
             if (cached != null) {
                 log.debug("Cache hit for code: {}", code);
             } else {
@@ -43,6 +102,11 @@ public class RedisCacheAdapter implements CachePort {
     
     @Override
     public void save(ShortUrl shortUrl) {
+        save(shortUrl, Duration.ZERO);
+    }
+    
+    @Override
+    public void save(ShortUrl shortUrl, Duration computeTime) {
         if (shortUrl == null || shortUrl.code() == null || shortUrl.code().trim().isEmpty()) {
             log.warn("Cannot save null ShortUrl or ShortUrl with null/empty code");
             return;
@@ -50,14 +114,79 @@ public class RedisCacheAdapter implements CachePort {
         
         try {
             String key = getCacheKey(shortUrl.code());
-            redisTemplate.opsForValue().set(key, shortUrl, redisProperties.getCache().getDefaultTtl());
+            Duration ttl = jitteredTtl();
+            CachedShortUrl entry = new CachedShortUrl(
+                    shortUrl,
+                    computeTime != null ? computeTime.toMillis() : 0L,
+                    clock.millis() + ttl.toMillis());
+            redisTemplate.opsForValue().set(key, entry, ttl);
             log.debug("Successfully cached ShortUrl for code: {} with TTL: {}", 
-                shortUrl.code(), redisProperties.getCache().getDefaultTtl());
+                shortUrl.code(), ttl);
         } catch (Exception e) {
             log.warn("Failed to cache ShortUrl for code: {}", shortUrl.code(), e);
         }
     }
     
+    /**
+     * 같은 시점에 저장된 엔트리들이 동시에 만료되지 않도록 TTL을 ±jitter 범위에서 분산
+     */
+    private Duration jitteredTtl() {
+        RedisProperties.Cache cacheProperties = redisProperties.getCache();
+        long baseMillis = cacheProperties.getDefaultTtl().toMillis();
+        double jitter = cacheProperties.getTtlJitterRatio();
+        if (jitter <= 0) {
+            return cacheProperties.getDefaultTtl();
+        }
+        double factor = 1.0 + jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        return Duration.ofMillis(Math.max(1L, Math.round(baseMillis * factor)));
+    }
+    
+    /**
+     * XFetch: now - delta * beta * ln(rand) >= expiry 이면 만료 전에 미리 갱신
+     * 만료에 가까울수록, 재계산 비용(delta)이 클수록 갱신될 확률이 높아짐
+     */
+    private boolean shouldRefreshEarly(CachedShortUrl entry) {
+        RedisProperties.Cache cacheProperties = redisProperties.getCache();
+        if (!cacheProperties.isEarlyRefreshEnabled()) {
+            return false;
+        }
+        long delta = Math.max(entry.computeMillis(), cacheProperties.getEarlyRefreshMinComputeTime().toMillis());
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        double gap = -delta * cacheProperties.getEarlyRefreshBeta() * Math.log(random);
+        return clock.millis() + gap >= entry.expiresAtMillis();
+    }
+    
+    private void refreshInBackground(String code, Supplier<Optional<ShortUrl>> refreshLoader) {
+        if (!refreshing.add(code)) {
+            return;
+        }
+        
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    long start = System.nanoTime();
+                    Optional<ShortUrl> loaded = refreshLoader.get();
+                    Duration computeTime = Duration.ofNanos(System.nanoTime() - start);
+                    if (loaded.isPresent()) {
+                        save(loaded.get(), computeTime);
+                    } else {
+                        delete(code);
+                    }
+                    log.debug("Early refreshed cache for code: {}", code);
+                } catch (Exception e) {
+                    log.warn("Failed to early refresh cache for code: {}", code, e);
+                } finally {
+                    refreshing.remove(code);
+                }
+            });
+            earlyRefreshes.increment();
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(code);
+            rejectedRefreshes.increment();
+            log.debug("Early refresh queue full, skipping code: {}", code);
+        }
+    }
+    
     @Override
     public void delete(String code) {
         if (code == null || code.trim().isEmpty()) {
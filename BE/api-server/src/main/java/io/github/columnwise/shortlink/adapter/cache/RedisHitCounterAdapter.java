@@ -1,12 +1,18 @@
 package io.github.columnwise.shortlink.adapter.cache;
 
 import io.github.columnwise.shortlink.application.port.out.UrlHitCounterPort;
+import io.github.columnwise.shortlink.config.ClickCounterProperties;
 import io.github.columnwise.shortlink.config.RedisProperties;
+import io.github.columnwise.shortlink.domain.service.RedisKeyManager;
+import io.github.columnwise.shortlink.domain.service.ShortUrlPolicy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
+import java.time.LocalDate;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -14,6 +20,8 @@ public class RedisHitCounterAdapter implements UrlHitCounterPort {
     
     private final RedisTemplate<String, String> redisTemplate;
     private final RedisProperties redisProperties;
+    private final ClickCounterProperties clickCounterProperties;
+    private final Clock clock;
     
     @Override
     public void incrementHitCount(String code) {
@@ -25,12 +33,30 @@ public class RedisHitCounterAdapter implements UrlHitCounterPort {
         try {
             String key = getHitCountKey(code);
             Long newCount = redisTemplate.opsForValue().increment(key);
+            // 누적 카운터는 링크 수명만큼 유지하고, 방문이 끊긴 코드의 키는 스스로 사라지게 함
+            redisTemplate.expire(key, ShortUrlPolicy.DEFAULT_TTL);
             log.debug("Successfully incremented hit count for code: {} to {}", code, newCount);
         } catch (Exception e) {
             log.warn("Failed to increment hit count for code: {}", code, e);
         }
     }
     
+    @Override
+    public void recordVisit(String code, String visitorId) {
+        incrementHitCount(code);
+        if (code == null || code.trim().isEmpty() || visitorId == null) {
+            return;
+        }
+        
+        try {
+            String key = RedisKeyManager.getUniqueVisitorsKey(code, LocalDate.now(clock));
+            redisTemplate.opsForHyperLogLog().add(key, visitorId);
+            redisTemplate.expire(key, clickCounterProperties.getRetention());
+        } catch (Exception e) {
+            log.warn("Failed to record unique visitor for code: {}", code, e);
+        }
+    }
+    
     @Override
     public long getHitCount(String code) {
         if (code == null || code.trim().isEmpty()) {
@@ -0,0 +1,155 @@
+package io.github.columnwise.shortlink.adapter.filter;
+
+import io.github.columnwise.shortlink.application.port.out.CodeExistenceFilterPort;
+import io.github.columnwise.shortlink.application.port.out.ShortUrlRepositoryPort;
+import io.github.columnwise.shortlink.config.ExistenceFilterProperties;
+import io.github.columnwise.shortlink.domain.model.ShortUrl;
+import io.github.columnwise.shortlink.util.ScalableBloomFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 발급된 모든 코드를 담는 메모리 Bloom filter
+ * 시작 시 short_urls를 id 순으로 페이징하여 재구축하고, 이후에는
+ * 로컬 발급 + Redis pub/sub(다른 인스턴스 발급) + 주기적 id 워터마크 조회로 최신 상태를 유지
+ * 재구축이 끝나기 전에는 모든 코드를 "존재할 수 있음"으로 응답하여 오탐 거절을 막음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BloomCodeExistenceFilterAdapter implements CodeExistenceFilterPort, MessageListener {
+    
+    private final ShortUrlRepositoryPort shortUrlRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ExistenceFilterProperties properties;
+    private final MeterRegistry meterRegistry;
+    
+    private long lastLoadedId;
+    private volatile ScalableBloomFilter filter;
+    private volatile boolean ready;
+    
+    @PostConstruct
+    void init() {
+        filter = new ScalableBloomFilter(properties.getExpectedInsertions(), properties.getFalsePositiveRate());
+        Gauge.builder("shortlink.existence.filter.memory", this, adapter -> adapter.filter.memoryBytes())
+                .baseUnit("bytes")
+                .description("Memory used by the short code existence filter")
+                .register(meterRegistry);
+        Gauge.builder("shortlink.existence.filter.false.positive.rate", this,
+                        adapter -> adapter.filter.expectedFalsePositiveRate())
+                .description("Estimated false positive rate of the short code existence filter")
+                .register(meterRegistry);
+        Gauge.builder("shortlink.existence.filter.elements", this, adapter -> adapter.filter.approximateElementCount())
+                .description("Approximate number of codes in the existence filter")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public boolean mightExist(String code) {
+        if (!properties.isEnabled() || !ready) {
+            return true;
+        }
+        return code != null && filter.mightContain(code);
+    }
+    
+    @Override
+    public void add(String code) {
+        if (code == null || code.isEmpty()) {
+            return;
+        }
+        filter.put(code);
+        
+        try {
+            redisTemplate.convertAndSend(properties.getChannel(), code);
+        } catch (Exception e) {
+            // 전파에 실패해도 다른 인스턴스는 워터마크 조회로 따라잡음
+            log.warn("Failed to publish created code: {}", code, e);
+        }
+    }
+    
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        filter.put(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        
+        try {
+            listenerContainer.addMessageListener(this, new ChannelTopic(properties.getChannel()));
+        } catch (Exception e) {
+            log.warn("Failed to subscribe to created code channel: {}", properties.getChannel(), e);
+        }
+        
+        Thread.ofPlatform().name("existence-filter-rebuild").daemon(true).start(() -> {
+            try {
+                long start = System.currentTimeMillis();
+                long loaded = loadCodes(0);
+                ready = true;
+                log.info("Existence filter built with {} codes in {} ms ({} bytes)",
+                        loaded, System.currentTimeMillis() - start, filter.memoryBytes());
+            } catch (Exception e) {
+                log.error("Failed to build existence filter, unknown codes will fall through to storage", e);
+            }
+        });
+    }
+    
+    /**
+     * pub/sub 메시지 유실에 대비해 마지막으로 읽은 id 이후 발급분을 주기적으로 반영
+     * 늦게 커밋되어 워터마크 뒤에 나타난 행도 담도록 워터마크 앞 catch-up-overlap개 id부터 다시 읽음 (Bloom filter 추가는 멱등)
+     */
+    @Scheduled(fixedDelayString = "${app.existence-filter.catch-up-interval:30s}",
+            initialDelayString = "${app.existence-filter.catch-up-interval:30s}")
+    public void catchUp() {
+        if (!properties.isEnabled() || !ready) {
+            return;
+        }
+        
+        try {
+            long scanned = loadCodes(properties.getCatchUpOverlap());
+            log.debug("Existence filter catch-up scanned {} codes", scanned);
+        } catch (Exception e) {
+            log.warn("Failed to catch up existence filter", e);
+        }
+    }
+    
+    /**
+     * 워터마크보다 overlap개 앞의 id부터 끝까지 읽어 필터에 추가하고 워터마크를 올림
+     */
+    private synchronized long loadCodes(long overlap) {
+        long loaded = 0;
+        long cursor = Math.max(0, lastLoadedId - overlap);
+        List<ShortUrl> page;
+        do {
+            page = shortUrlRepository.findCodesAfterId(cursor, properties.getRebuildPageSize());
+            for (ShortUrl shortUrl : page) {
+                filter.put(shortUrl.code());
+            }
+            if (!page.isEmpty()) {
+                cursor = page.get(page.size() - 1).id();
+                loaded += page.size();
+            }
+        } while (page.size() == properties.getRebuildPageSize());
+        lastLoadedId = Math.max(lastLoadedId, cursor);
+        return loaded;
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.columnwise.shortlink.adapter.id;
+
+import io.github.columnwise.shortlink.config.CodeGeneratorProperties;
+import io.github.columnwise.shortlink.domain.service.RedisKeyManager;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Redis 카운터(INCRBY)에서 순차 ID를 블록 단위로 임대해 로컬 AtomicLong으로 나눠 주는 할당기
+ * Redis 호출은 블록당 한 번이며, 블록을 prefetch-threshold만큼 쓰면 다음 블록을 백그라운드에서 미리 임대
+ * 인스턴스 종료 시 쓰지 않은 ID는 버려지므로 ID에 빈 구간이 생길 수 있음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisIdBlockAllocator {
+    
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CodeGeneratorProperties codeGeneratorProperties;
+    private final MeterRegistry meterRegistry;
+    
+    private final ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("id-block-prefetch").daemon(true).factory());
+    private final LongAdder leasedBlocks = new LongAdder();
+    private volatile Block current;
+    // current 교체와 함께 synchronized 안에서만 갱신
+    private CompletableFuture<Block> prefetched;
+    
+    @PostConstruct
+    void registerMetrics() {
+        FunctionCounter.builder("shortlink.id.block.leases", leasedBlocks, LongAdder::sum)
+                .description("ID blocks leased from the Redis counter")
+                .register(meterRegistry);
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        prefetchExecutor.shutdownNow();
+    }
+    
+    /**
+     * 다음 순차 ID (1부터 시작, 인스턴스 간에 겹치지 않음)
+     *
+     * @throws IllegalStateException 새 블록을 임대하지 못한 경우
+     */
+    public long nextId() {
+        while (true) {
+            Block block = current;
+            if (block != null) {
+                long id = block.next.getAndIncrement();
+                if (id <= block.last) {
+                    if (id == block.prefetchAt) {
+                        prefetch(block);
+                    }
+                    return id;
+                }
+            }
+            advance(block);
+        }
+    }
+    
+    private synchronized void prefetch(Block block) {
+        if (current != block || prefetched != null) {
+            return;
+        }
+        prefetched = CompletableFuture.supplyAsync(this::lease, prefetchExecutor);
+    }
+    
+    private synchronized void advance(Block exhausted) {
+        if (current != exhausted) {
+            return;
+        }
+        
+        Block next = null;
+        if (prefetched != null) {
+            try {
+                next = prefetched.join();
+            } catch (CompletionException e) {
+                log.warn("Failed to prefetch ID block, leasing synchronously", e.getCause());
+            }
+            prefetched = null;
+        }
+        current = next != null ? next : lease();
+    }
+    
+    private Block lease() {
+        long size = codeGeneratorProperties.getBlock().getSize();
+        Long end = redisTemplate.opsForValue().increment(RedisKeyManager.getIdBlockCounterKey(), size);
+        if (end == null) {
+            throw new IllegalStateException("Failed to lease an ID block");
+        }
+        leasedBlocks.increment();
+        long first = end - size + 1;
+        long prefetchAt = first + (long) (size * codeGeneratorProperties.getBlock().getPrefetchThreshold());
+        log.debug("Leased ID block [{}, {}]", first, end);
+        return new Block(first, end, prefetchAt);
+    }
+    
+    private static final class Block {
+        private final AtomicLong next;
+        private final long last;
+        private final long prefetchAt;
+        
+        private Block(long first, long last, long prefetchAt) {
+            this.next = new AtomicLong(first);
+            this.last = last;
+            this.prefetchAt = prefetchAt;
+        }
+    }
+}
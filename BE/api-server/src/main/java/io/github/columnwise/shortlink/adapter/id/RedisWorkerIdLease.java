@@ -0,0 +1,139 @@
+package io.github.columnwise.shortlink.adapter.id;
+
+import io.github.columnwise.shortlink.config.CodeGeneratorProperties;
+import io.github.columnwise.shortlink.domain.service.RedisKeyManager;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Snowflake 워커 ID를 Redis 키(SET NX + TTL)로 임대해 인스턴스마다 다른 ID를 쓰도록 보장
+ * 주기적으로 임대를 연장하며, 연장이 확인된 시점부터 TTL이 지나기 전까지만 워커 ID를 내줌
+ * 연장하지 못한 채 TTL이 지나면 다른 인스턴스가 같은 ID를 가져갈 수 있으므로 ID 발급을 멈추고 다시 임대
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.code-generator", name = "strategy", havingValue = "snowflake")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisWorkerIdLease {
+    
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('pexpire', KEYS[1], ARGV[2]) " +
+            "else " +
+            "  return 0 " +
+            "end", Long.class);
+    
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('del', KEYS[1]) " +
+            "else " +
+            "  return 0 " +
+            "end", Long.class);
+    
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CodeGeneratorProperties codeGeneratorProperties;
+    
+    private final String token = UUID.randomUUID().toString();
+    private volatile int workerId = -1;
+    // System.nanoTime 기준 임대 유효 기한
+    private volatile long validUntil;
+    
+    @PostConstruct
+    void acquire() {
+        if (!tryAcquire()) {
+            throw new IllegalStateException("No free Snowflake worker ID is available");
+        }
+    }
+    
+    /**
+     * 현재 임대 중인 워커 ID
+     *
+     * @throws IllegalStateException 임대가 없거나 만료된 경우
+     */
+    public int workerId() {
+        int id = workerId;
+        if (id < 0 || System.nanoTime() - validUntil >= 0) {
+            throw new IllegalStateException("Snowflake worker ID lease is not held");
+        }
+        return id;
+    }
+    
+    @Scheduled(fixedDelayString = "${app.code-generator.snowflake.lease-renew-interval:10s}")
+    public void renew() {
+        int id = workerId;
+        if (id >= 0) {
+            Duration ttl = codeGeneratorProperties.getSnowflake().getLeaseTtl();
+            long requestedAt = System.nanoTime();
+            try {
+                Long renewed = redisTemplate.execute(RENEW_SCRIPT,
+                        Collections.singletonList(RedisKeyManager.getSnowflakeWorkerKey(id)),
+                        token, String.valueOf(ttl.toMillis()));
+                if (renewed != null && renewed == 1L) {
+                    validUntil = requestedAt + ttl.toNanos();
+                    return;
+                }
+                log.warn("Snowflake worker ID {} lease was lost, acquiring a new one", id);
+                workerId = -1;
+            } catch (Exception e) {
+                // 기존 임대는 유효 기한까지 계속 사용하고 다음 주기에 다시 연장
+                log.warn("Failed to renew Snowflake worker ID {} lease", id, e);
+                return;
+            }
+        }
+        
+        try {
+            if (!tryAcquire()) {
+                log.error("No free Snowflake worker ID is available");
+            }
+        } catch (Exception e) {
+            log.warn("Failed to acquire Snowflake worker ID", e);
+        }
+    }
+    
+    @PreDestroy
+    void release() {
+        int id = workerId;
+        if (id < 0) {
+            return;
+        }
+        workerId = -1;
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT,
+                    Collections.singletonList(RedisKeyManager.getSnowflakeWorkerKey(id)), token);
+        } catch (Exception e) {
+            log.warn("Failed to release Snowflake worker ID {}", id, e);
+        }
+    }
+    
+    private synchronized boolean tryAcquire() {
+        Duration ttl = codeGeneratorProperties.getSnowflake().getLeaseTtl();
+        int workerCount = 1 << codeGeneratorProperties.getSnowflake().getWorkerIdBits();
+        // 기동이 겹친 인스턴스끼리 같은 ID부터 경쟁하지 않도록 임의 위치에서 탐색
+        int start = ThreadLocalRandom.current().nextInt(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            int candidate = (start + i) % workerCount;
+            long requestedAt = System.nanoTime();
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(RedisKeyManager.getSnowflakeWorkerKey(candidate), token, ttl);
+            if (Boolean.TRUE.equals(acquired)) {
+                validUntil = requestedAt + ttl.toNanos();
+                workerId = candidate;
+                log.info("Acquired Snowflake worker ID {}", candidate);
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.columnwise.shortlink.adapter.id;
+
+import io.github.columnwise.shortlink.config.CodeGeneratorProperties;
+import io.github.columnwise.shortlink.domain.service.CodeGenerator;
+import io.github.columnwise.shortlink.util.Base62;
+import io.github.columnwise.shortlink.util.FeistelPermutation;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 순차 ID를 키로 정한 Feistel 순열에 통과시켜 고정 길이 Base62 코드로 만드는 생성기
+ * 순차 ID를 그대로 노출하지 않아 다음 코드를 추측하거나 순회할 수 없고,
+ * 순열이 전단사이므로 ID가 겹치지 않는 한 코드도 겹치지 않아 저장 전 중복 확인이 필요 없음
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.code-generator", name = "strategy", havingValue = "scrambled")
+@RequiredArgsConstructor
+public class ScrambledCodeGenerator implements CodeGenerator {
+    
+    private final RedisIdBlockAllocator idBlockAllocator;
+    private final CodeGeneratorProperties codeGeneratorProperties;
+    
+    private FeistelPermutation permutation;
+    
+    @PostConstruct
+    void init() {
+        CodeGeneratorProperties.Scrambled scrambled = codeGeneratorProperties.getScrambled();
+        // 공개된 기본 키로 돌면 누구나 순열을 되돌릴 수 있으므로 키가 없으면 기동을 중단
+        if (scrambled.getKey() == null || scrambled.getKey().isBlank()) {
+            throw new IllegalStateException(
+                    "app.code-generator.scrambled.key must be set to a secret when the scrambled strategy is used");
+        }
+        permutation = FeistelPermutation.base62(scrambled.getCodeLength(), scrambled.getKey(), scrambled.getRounds());
+    }
+    
+    @Override
+    public String generate(String longUrl) {
+        long sequence = idBlockAllocator.nextId();
+        if (sequence >= permutation.size()) {
+            throw new IllegalStateException("Code space of length " + permutation.length() + " is exhausted");
+        }
+        return Base62.encode(permutation.permute(sequence), permutation.length());
+    }
+    
+    @Override
+    public boolean guaranteesUniqueness() {
+        return true;
+    }
+}
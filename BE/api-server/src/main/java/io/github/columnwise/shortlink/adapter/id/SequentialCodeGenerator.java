@@ -0,0 +1,29 @@
+package io.github.columnwise.shortlink.adapter.id;
+
+import io.github.columnwise.shortlink.domain.service.CodeGenerator;
+import io.github.columnwise.shortlink.util.Base62;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis에서 블록 단위로 임대한 순차 ID를 가장 짧은 Base62로 인코딩한 코드 생성기 (6자리로 약 568억 개)
+ * ID가 인스턴스 간에 겹치지 않으므로 저장 전 중복 확인이 필요 없음
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.code-generator", name = "strategy", havingValue = "sequential")
+@RequiredArgsConstructor
+public class SequentialCodeGenerator implements CodeGenerator {
+    
+    private final RedisIdBlockAllocator idBlockAllocator;
+    
+    @Override
+    public String generate(String longUrl) {
+        return Base62.encode(idBlockAllocator.nextId());
+    }
+    
+    @Override
+    public boolean guaranteesUniqueness() {
+        return true;
+    }
+}
@@ -1,4 +1,76 @@
 package io.github.columnwise.shortlink.adapter.id;
 
-public class SnowflakeCodeGenerator {
+import io.github.columnwise.shortlink.config.CodeGeneratorProperties;
+import io.github.columnwise.shortlink.domain.service.CodeGenerator;
+import io.github.columnwise.shortlink.util.Base62;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake 방식 64비트 ID를 Base62로 인코딩한 코드 생성기
+ * ID 구성: [기준 시각 이후 ms][워커 ID][ms당 시퀀스], 워커 ID는 Redis 임대로 인스턴스마다 다르게 배정
+ * 마지막 (ms, 시퀀스)를 AtomicLong 하나에 담아 CAS로 갱신하므로 락 없이 발급하며, 코드가 겹치지 않아 저장 전 중복 확인이 필요 없음
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.code-generator", name = "strategy", havingValue = "snowflake")
+@RequiredArgsConstructor
+public class SnowflakeCodeGenerator implements CodeGenerator {
+    
+    private final RedisWorkerIdLease workerIdLease;
+    private final CodeGeneratorProperties codeGeneratorProperties;
+    private final Clock clock;
+    
+    // (기준 시각 이후 ms << sequenceBits) | 시퀀스
+    private final AtomicLong state = new AtomicLong();
+    
+    @Override
+    public String generate(String longUrl) {
+        return Base62.encode(nextId());
+    }
+    
+    @Override
+    public boolean guaranteesUniqueness() {
+        return true;
+    }
+    
+    long nextId() {
+        CodeGeneratorProperties.Snowflake snowflake = codeGeneratorProperties.getSnowflake();
+        int sequenceBits = snowflake.getSequenceBits();
+        int workerIdBits = snowflake.getWorkerIdBits();
+        long sequenceMask = (1L << sequenceBits) - 1;
+        long maxMillis = 1L << (Long.SIZE - 1 - workerIdBits - sequenceBits);
+        long maxRollback = snowflake.getMaxClockRollback().toMillis();
+        long epochMillis = snowflake.getEpoch().toEpochMilli();
+        long workerId = workerIdLease.workerId();
+        
+        while (true) {
+            long now = clock.millis() - epochMillis;
+            long last = state.get();
+            long lastMillis = last >>> sequenceBits;
+            long next;
+            if (now > lastMillis) {
+                next = now << sequenceBits;
+            } else if (lastMillis - now > maxRollback) {
+                throw new IllegalStateException("Clock moved backwards by " + (lastMillis - now) + "ms");
+            } else if ((last & sequenceMask) < sequenceMask) {
+                // 같은 ms이거나 허용 범위 안에서 시계가 역행하면 마지막 ms의 시퀀스를 이어서 사용
+                next = last + 1;
+            } else {
+                // ms당 시퀀스를 다 쓰면 다음 ms를 앞당겨 사용 (시계가 따라오면 다시 현재 시각 기준)
+                next = (lastMillis + 1) << sequenceBits;
+            }
+            
+            long millis = next >>> sequenceBits;
+            if (millis < 0 || millis >= maxMillis) {
+                throw new IllegalStateException("Snowflake timestamp is out of range, check the configured epoch");
+            }
+            if (state.compareAndSet(last, next)) {
+                return (millis << (workerIdBits + sequenceBits)) | (workerId << sequenceBits) | (next & sequenceMask);
+            }
+        }
+    }
 }
@@ -0,0 +1,382 @@
+package io.github.columnwise.shortlink.adapter.journal;
+
+import io.github.columnwise.shortlink.config.ClickJournalProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 방문을 고정 크기 메모리 매핑 세그먼트 파일에 고정 폭(64 bytes) 레코드로 추가 기록하는 로컬 저널
+ * 기록 스레드는 세그먼트의 슬롯 카운터 증가 한 번으로 자리를 잡고 락 없이 기록하며, 세그먼트 교체만 동기화
+ * 위치는 (세그먼트 번호 << 32 | 슬롯)으로 표현하고, 그 위치까지 반영이 확인되면 지난 세그먼트를 삭제
+ * 재시작 시 체크포인트 이후의 레코드를 다시 읽어 반영하므로 전달은 최소 한 번(at-least-once)
+ *
+ * 레코드 구성: [0] 헤더(매직, 플래그, 코드 길이) [8] 방문 시각 epoch ms [16] 방문자 식별자 [24..63] 코드(ASCII)
+ * 헤더는 나머지 필드를 쓴 뒤 release 쓰기로 기록하므로 헤더가 0이 아닌 레코드만 완성된 것으로 취급
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MappedClickJournal {
+    
+    static final int RECORD_SIZE = 64;
+    static final int MAX_CODE_LENGTH = RECORD_SIZE - 24;
+    
+    private static final long MAGIC = 0x434A_0000_0000_0000L;
+    private static final long MAGIC_MASK = 0xFFFF_0000_0000_0000L;
+    private static final long FLAG_VISITOR = 1L << 8;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    
+    private static final VarHandle LONG_VIEW =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    
+    private final ClickJournalProperties clickJournalProperties;
+    private final MeterRegistry meterRegistry;
+    
+    // 교체/삭제는 synchronized 메서드에서만, 기록 스레드는 active만 읽음
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private final List<Segment> recovered = new ArrayList<>();
+    private volatile Segment active;
+    private FileChannel checkpointChannel;
+    private long checkpoint;
+    
+    private final LongAdder appendedClicks = new LongAdder();
+    private final LongAdder skippedClicks = new LongAdder();
+    private final LongAdder replayedClicks = new LongAdder();
+    
+    @PostConstruct
+    void open() throws IOException {
+        if (!clickJournalProperties.isEnabled()) {
+            return;
+        }
+        
+        Path directory = Path.of(clickJournalProperties.getDirectory());
+        Files.createDirectories(directory);
+        checkpointChannel = FileChannel.open(directory.resolve(CHECKPOINT_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        checkpoint = readCheckpoint();
+        
+        long nextIndex = 0;
+        for (Path path : listSegments(directory)) {
+            long index = segmentIndex(path);
+            nextIndex = Math.max(nextIndex, index + 1);
+            long size = Files.size(path);
+            if (size < RECORD_SIZE || position(index, (int) (size / RECORD_SIZE)) <= checkpoint) {
+                Files.deleteIfExists(path);
+                continue;
+            }
+            Segment segment = map(directory, index, (int) (size / RECORD_SIZE));
+            segments.addLast(segment);
+            recovered.add(segment);
+        }
+        active = createSegment(directory, nextIndex);
+        
+        Gauge.builder("shortlink.click.journal.segments", this, MappedClickJournal::segmentCount)
+                .description("Journal segments kept on disk until their clicks are acknowledged")
+                .register(meterRegistry);
+        FunctionCounter.builder("shortlink.click.journal.appended", appendedClicks, LongAdder::sum)
+                .description("Clicks appended to the local journal")
+                .register(meterRegistry);
+        FunctionCounter.builder("shortlink.click.journal.skipped", skippedClicks, LongAdder::sum)
+                .description("Clicks not journaled because the journal was full or the code too long")
+                .register(meterRegistry);
+        FunctionCounter.builder("shortlink.click.journal.replayed", replayedClicks, LongAdder::sum)
+                .description("Clicks replayed from the journal at startup")
+                .register(meterRegistry);
+        log.info("Click journal opened at {} with {} unacknowledged segments", directory, recovered.size());
+    }
+    
+    public boolean isEnabled() {
+        return clickJournalProperties.isEnabled();
+    }
+    
+    /**
+     * 방문 한 건 기록 (리다이렉트 스레드에서 호출, 세그먼트가 찬 경우를 제외하면 락 없음)
+     * 저널 공간이 없으면 기록을 건너뛰고 메모리 버퍼에만 남김
+     */
+    public void append(String code, long timestamp, String visitorId) {
+        Segment segment = active;
+        if (segment == null) {
+            return;
+        }
+        if (code.length() > MAX_CODE_LENGTH) {
+            skippedClicks.increment();
+            return;
+        }
+        
+        while (true) {
+            // 찬 세그먼트에서는 카운터를 더 올리지 않아 초과분이 동시 기록 스레드 수를 넘지 않음
+            if (segment.next.get() < segment.capacity) {
+                int slot = segment.next.getAndIncrement();
+                if (slot < segment.capacity) {
+                    write(segment.buffer, slot * RECORD_SIZE, code, timestamp, visitorId);
+                    appendedClicks.increment();
+                    return;
+                }
+            }
+            segment = rotate(segment);
+            if (segment == null) {
+                skippedClicks.increment();
+                return;
+            }
+        }
+    }
+    
+    /**
+     * 지금까지 자리를 잡은 레코드 바로 다음 위치
+     * 이 값을 읽은 뒤 반영한 방문은 이 위치 이전의 레코드를 모두 포함
+     */
+    public long position() {
+        Segment segment = active;
+        if (segment == null) {
+            return 0;
+        }
+        return position(segment.index, Math.min(segment.next.get(), segment.capacity));
+    }
+    
+    /**
+     * position 이전 레코드의 반영 완료 기록
+     * 체크포인트를 디스크에 쓰고 모든 레코드가 체크포인트 이전인 세그먼트를 삭제
+     */
+    public synchronized void acknowledge(long position) {
+        if (active == null || position <= checkpoint) {
+            return;
+        }
+        
+        try {
+            ByteBuffer bytes = ByteBuffer.allocate(Long.BYTES).putLong(0, position);
+            checkpointChannel.write(bytes, 0);
+            checkpointChannel.force(false);
+            checkpoint = position;
+        } catch (IOException e) {
+            log.warn("Failed to write click journal checkpoint", e);
+            return;
+        }
+        
+        while (!segments.isEmpty() && segments.peekFirst() != active
+                && segments.peekFirst().end() <= position) {
+            Segment segment = segments.pollFirst();
+            recovered.remove(segment);
+            try {
+                Files.deleteIfExists(segment.path);
+            } catch (IOException e) {
+                log.warn("Failed to delete click journal segment {}", segment.path, e);
+            }
+        }
+    }
+    
+    /**
+     * 이전 프로세스가 남긴 미반영 레코드를 전달 (기동 시 한 번 호출)
+     *
+     * @return 전달한 레코드 수
+     */
+    public synchronized long replay(Consumer<JournaledClick> consumer) {
+        long replayed = 0;
+        for (Segment segment : recovered) {
+            for (int slot = 0; slot < segment.capacity; slot++) {
+                if (position(segment.index, slot) < checkpoint) {
+                    continue;
+                }
+                JournaledClick click = read(segment.buffer, slot * RECORD_SIZE);
+                if (click != null) {
+                    consumer.accept(click);
+                    replayed++;
+                }
+            }
+        }
+        recovered.clear();
+        replayedClicks.add(replayed);
+        if (replayed > 0) {
+            log.info("Replayed {} clicks from the click journal", replayed);
+        }
+        return replayed;
+    }
+    
+    /**
+     * 미반영 세그먼트를 디스크에 강제 기록 (저장소 장애가 이어지는 동안 호출)
+     */
+    public void sync() {
+        Segment segment = active;
+        if (segment != null) {
+            segment.buffer.force();
+        }
+    }
+    
+    @PreDestroy
+    synchronized void close() throws IOException {
+        if (active == null) {
+            return;
+        }
+        for (Segment segment : segments) {
+            segment.buffer.force();
+        }
+        checkpointChannel.close();
+    }
+    
+    private synchronized Segment rotate(Segment full) {
+        if (active != full) {
+            return active;
+        }
+        if (segments.size() >= clickJournalProperties.getMaxSegments()) {
+            return null;
+        }
+        try {
+            active = createSegment(Path.of(clickJournalProperties.getDirectory()), full.index + 1);
+            return active;
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Failed to create click journal segment", e);
+            return null;
+        }
+    }
+    
+    private synchronized int segmentCount() {
+        return segments.size();
+    }
+    
+    private Segment createSegment(Path directory, long index) throws IOException {
+        Segment segment = map(directory, index, clickJournalProperties.getRecordsPerSegment());
+        segments.addLast(segment);
+        return segment;
+    }
+    
+    private long readCheckpoint() throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(Long.BYTES);
+        if (checkpointChannel.read(bytes, 0) < Long.BYTES) {
+            return 0;
+        }
+        return bytes.getLong(0);
+    }
+    
+    private static Segment map(Path directory, long index, int capacity) throws IOException {
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 매핑은 채널을 닫아도 유지됨
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * RECORD_SIZE);
+            return new Segment(index, path, buffer, capacity);
+        }
+    }
+    
+    private static List<Path> listSegments(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+    
+    private static long segmentIndex(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+    
+    private static long position(long index, int slot) {
+        return (index << 32) | slot;
+    }
+    
+    private static void write(MappedByteBuffer buffer, int offset, String code, long timestamp, String visitorId) {
+        long flags = 0;
+        buffer.putLong(offset + 8, timestamp);
+        if (visitorId != null) {
+            buffer.putLong(offset + 16, encodeVisitor(visitorId));
+            flags |= FLAG_VISITOR;
+        }
+        for (int i = 0; i < code.length(); i++) {
+            buffer.put(offset + 24 + i, (byte) code.charAt(i));
+        }
+        LONG_VIEW.setRelease(buffer, offset, MAGIC | flags | code.length());
+    }
+    
+    private static JournaledClick read(MappedByteBuffer buffer, int offset) {
+        long header = (long) LONG_VIEW.getAcquire(buffer, offset);
+        if ((header & MAGIC_MASK) != MAGIC) {
+            // 자리만 잡고 기록되지 못한 슬롯
+            return null;
+        }
+        int length = (int) (header & 0xFF);
+        if (length == 0 || length > MAX_CODE_LENGTH) {
+            return null;
+        }
+        byte[] code = new byte[length];
+        buffer.get(offset + 24, code);
+        String visitorId = (header & FLAG_VISITOR) != 0 ? Long.toHexString(buffer.getLong(offset + 16)) : null;
+        return new JournaledClick(new String(code, StandardCharsets.US_ASCII), buffer.getLong(offset + 8), visitorId);
+    }
+    
+    private static long encodeVisitor(String visitorId) {
+        // VisitorFingerprint는 64비트 해시의 16진수이므로 그대로 되돌릴 수 있음
+        if (visitorId.length() <= 16) {
+            try {
+                return Long.parseUnsignedLong(visitorId, 16);
+            } catch (NumberFormatException ignored) {
+                // 아래에서 해시로 대체
+            }
+        }
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < visitorId.length(); i++) {
+            h ^= visitorId.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return h;
+    }
+    
+    /**
+     * 저널에서 다시 읽은 방문
+     *
+     * @param code 단축 코드
+     * @param timestamp 방문 시각 (epoch ms)
+     * @param visitorId 방문자 식별자, 없으면 null
+     */
+    public record JournaledClick(String code, long timestamp, String visitorId) {
+    }
+    
+    private static final class Segment {
+        private final long index;
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private final AtomicInteger next = new AtomicInteger();
+        
+        private Segment(long index, Path path, MappedByteBuffer buffer, int capacity) {
+            this.index = index;
+            this.path = path;
+            this.buffer = buffer;
+            this.capacity = capacity;
+        }
+        
+        private long end() {
+            return position(index, capacity);
+        }
+    }
+}
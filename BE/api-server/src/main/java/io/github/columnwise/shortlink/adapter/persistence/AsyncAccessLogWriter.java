@@ -0,0 +1,154 @@
+package io.github.columnwise.shortlink.adapter.persistence;
+
+import io.github.columnwise.shortlink.config.AccessLogProperties;
+import io.github.columnwise.shortlink.config.AccessLogProperties.OverflowPolicy;
+import io.github.columnwise.shortlink.domain.model.UrlAccessLog;
+import io.github.columnwise.shortlink.util.MpscRingBuffer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 접속 로그를 락 없는 링 버퍼에 모았다가 주기적으로 JDBC 배치 INSERT로 저장
+ * IDENTITY 키는 Hibernate 배치 INSERT를 막으므로 JPA를 거치지 않고 JdbcTemplate으로 직접 저장
+ * 버퍼가 찼을 때의 동작은 app.access-log.overflow-policy(DROP/SAMPLE/BLOCK)로 선택
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AsyncAccessLogWriter {
+    
+    private static final String INSERT_SQL =
+            "INSERT INTO url_access_logs (code, ip_address, user_agent, accessed_at) VALUES (?, ?, ?, ?)";
+    
+    // url_access_logs 컬럼 길이
+    private static final int MAX_IP_ADDRESS_LENGTH = 45;
+    private static final int MAX_USER_AGENT_LENGTH = 512;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final AccessLogProperties accessLogProperties;
+    private final MeterRegistry meterRegistry;
+    
+    private MpscRingBuffer<UrlAccessLog> buffer;
+    private final LongAdder writtenLogs = new LongAdder();
+    private final LongAdder droppedLogs = new LongAdder();
+    private final LongAdder sampledOutLogs = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+    
+    @PostConstruct
+    void init() {
+        buffer = new MpscRingBuffer<>(accessLogProperties.getBufferCapacity());
+        Gauge.builder("shortlink.access.log.queue.depth", buffer, MpscRingBuffer::size)
+                .description("Access logs waiting to be written")
+                .register(meterRegistry);
+        FunctionCounter.builder("shortlink.access.log.written", writtenLogs, LongAdder::sum)
+                .description("Access logs written with JDBC batch inserts")
+                .register(meterRegistry);
+        FunctionCounter.builder("shortlink.access.log.dropped", droppedLogs, LongAdder::sum)
+                .description("Access logs dropped because the buffer was full or the write failed")
+                .register(meterRegistry);
+        FunctionCounter.builder("shortlink.access.log.sampled.out", sampledOutLogs, LongAdder::sum)
+                .description("Access logs skipped by the SAMPLE overflow policy")
+                .register(meterRegistry);
+        FunctionCounter.builder("shortlink.access.log.flush.failures", failedFlushes, LongAdder::sum)
+                .description("Batch inserts that failed")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 접속 로그를 버퍼에 추가 (리다이렉트 스레드에서 호출)
+     */
+    public void enqueue(UrlAccessLog accessLog) {
+        if (!accessLogProperties.isEnabled()) {
+            return;
+        }
+        
+        OverflowPolicy policy = accessLogProperties.getOverflowPolicy();
+        if (policy == OverflowPolicy.SAMPLE && shouldSampleOut()) {
+            sampledOutLogs.increment();
+            return;
+        }
+        if (buffer.offer(accessLog)) {
+            return;
+        }
+        if (policy == OverflowPolicy.BLOCK && offerWithin(accessLog, accessLogProperties.getBlockTimeout().toNanos())) {
+            return;
+        }
+        droppedLogs.increment();
+    }
+    
+    @Scheduled(fixedDelayString = "${app.access-log.flush-interval:200ms}")
+    public void flush() {
+        // 남은 로그는 다음 주기에 이어서 저장하여 다른 스케줄 작업이 기다리지 않게 함
+        flush(accessLogProperties.getMaxBatchesPerFlush());
+    }
+    
+    @PreDestroy
+    void flushOnShutdown() {
+        flush(Integer.MAX_VALUE);
+    }
+    
+    private synchronized void flush(int maxBatches) {
+        // 링 버퍼는 소비자가 하나여야 하므로 synchronized로 종료 시 플러시와 겹치지 않게 함
+        List<UrlAccessLog> batch = new ArrayList<>(accessLogProperties.getBatchSize());
+        for (int i = 0; i < maxBatches && buffer.drainTo(batch, accessLogProperties.getBatchSize()) > 0; i++) {
+            try {
+                insert(batch);
+                writtenLogs.add(batch.size());
+            } catch (Exception e) {
+                // 감사용 로그라도 DB 장애 동안 메모리를 무한히 쓰지 않도록 실패한 묶음은 버림
+                failedFlushes.increment();
+                droppedLogs.add(batch.size());
+                log.error("Failed to write {} access logs", batch.size(), e);
+                // 커넥션 대기 시간 초과가 배치마다 반복되지 않도록 이번 주기는 중단
+                return;
+            }
+            batch.clear();
+        }
+    }
+    
+    private boolean shouldSampleOut() {
+        double usage = (double) buffer.size() / buffer.capacity();
+        return usage >= accessLogProperties.getSampleThreshold()
+                && ThreadLocalRandom.current().nextInt(accessLogProperties.getSampleRate()) != 0;
+    }
+    
+    private boolean offerWithin(UrlAccessLog accessLog, long timeoutNanos) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+            if (buffer.offer(accessLog)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void insert(List<UrlAccessLog> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (statement, accessLog) -> {
+            statement.setString(1, accessLog.code());
+            statement.setString(2, truncate(accessLog.ipAddress(), MAX_IP_ADDRESS_LENGTH));
+            statement.setString(3, truncate(accessLog.userAgent(), MAX_USER_AGENT_LENGTH));
+            statement.setTimestamp(4, Timestamp.from(accessLog.accessedAt()));
+        });
+    }
+    
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
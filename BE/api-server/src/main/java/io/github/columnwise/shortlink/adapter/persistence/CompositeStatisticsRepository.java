@@ -3,14 +3,20 @@ package io.github.columnwise.shortlink.adapter.persistence;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.columnwise.shortlink.application.port.out.StatisticsRepository;
+import io.github.columnwise.shortlink.config.ClickCounterProperties;
 import io.github.columnwise.shortlink.domain.model.DailyStatistics;
+import io.github.columnwise.shortlink.domain.model.DailyUrlStatisticsEntity;
+import io.github.columnwise.shortlink.domain.model.UniqueVisitorCount;
+import io.github.columnwise.shortlink.domain.service.RedisKeyManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.Cursor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Repository;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -24,6 +30,9 @@ public class CompositeStatisticsRepository implements StatisticsRepository {
     private final RedisTemplate<String, String> stringRedisTemplate;
     private final RedisTemplate<String, Object> objectRedisTemplate;
     private final ObjectMapper objectMapper;
+    private final SpringDataDailyUrlStatisticsRepository dailyStatisticsRepository;
+    private final Clock clock;
+    private final ClickCounterProperties clickCounterProperties;
     
     @Override
     public List<DailyStatistics> getDailyStatistics(String code, LocalDate startDate, LocalDate endDate) {
@@ -35,8 +44,8 @@ public class CompositeStatisticsRepository implements StatisticsRepository {
             return cachedStats;
         }
         
-        // 캐시 미스: 실시간으로 Redis 방문 키들을 조회해서 계산
-        List<DailyStatistics> result = calculateRealTimeStatistics(code, startDate, endDate);
+        // 캐시 미스: 마감된 날짜는 일일 통계 테이블에서, 오늘은 Redis 실시간 카운터에서 조회
+        List<DailyStatistics> result = loadStatistics(code, startDate, endDate);
         
         // 결과를 캐시에 저장 (5분 TTL)
         cacheStatistics(cacheKey, result, 5, java.util.concurrent.TimeUnit.MINUTES);
@@ -60,27 +69,125 @@ public class CompositeStatisticsRepository implements StatisticsRepository {
         return null;
     }
     
-    private List<DailyStatistics> calculateRealTimeStatistics(String code, LocalDate startDate, LocalDate endDate) {
+    private List<DailyStatistics> loadStatistics(String code, LocalDate startDate, LocalDate endDate) {
+        LocalDate today = LocalDate.now(clock);
+        LocalDate yesterday = today.minusDays(1);
+        LocalDate archivedEnd = endDate.isBefore(yesterday) ? endDate : yesterday;
+        
         List<DailyStatistics> result = new ArrayList<>();
-        LocalDate currentDate = startDate;
+        if (!startDate.isAfter(archivedEnd)) {
+            result.addAll(findArchivedStatistics(code, startDate, archivedEnd));
+        }
+        
+        // 전날 스냅샷은 자정 이후 일일 배치가 끝나기 전까지 비어 있으므로 그 사이에는 Redis에서 보충
+        LocalDate liveStart = today;
+        boolean yesterdayInRange = !yesterday.isBefore(startDate) && !yesterday.isAfter(endDate);
+        if (yesterdayInRange && result.stream().noneMatch(stats -> stats.date().equals(yesterday))) {
+            liveStart = yesterday;
+        }
+        LocalDate liveEnd = endDate.isBefore(today) ? endDate : today;
+        if (liveStart.isBefore(startDate)) {
+            liveStart = startDate;
+        }
+        if (!liveStart.isAfter(liveEnd)) {
+            result.addAll(calculateRealTimeStatistics(code, liveStart, liveEnd));
+        }
+        return result;
+    }
+    
+    /**
+     * 배치가 기록한 일일 통계 스냅샷을 (code, stat_date) 인덱스 범위 조회 한 번으로 가져옴
+     */
+    private List<DailyStatistics> findArchivedStatistics(String code, LocalDate startDate, LocalDate endDate) {
+        try {
+            return dailyStatisticsRepository.findByCodeAndStatDateBetweenOrderByStatDateAsc(code, startDate, endDate)
+                    .stream()
+                    .filter(entity -> entity.getAccessCount() > 0)
+                    .map(entity -> DailyStatistics.builder()
+                            .code(entity.getCode())
+                            .date(entity.getStatDate())
+                            .accessCount(entity.getAccessCount())
+                            .uniqueVisitors(entity.getUniqueVisitors())
+                            .build())
+                    .toList();
+        } catch (Exception e) {
+            log.error("Failed to read archived statistics for code: {} between {} and {}", code, startDate, endDate, e);
+            return List.of();
+        }
+    }
+    
+    private List<DailyStatistics> calculateRealTimeStatistics(String code, LocalDate startDate, LocalDate endDate) {
+        List<Object> dateFields = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            dateFields.add(date.format(DateTimeFormatter.ISO_LOCAL_DATE));
+        }
         
-        while (!currentDate.isAfter(endDate)) {
-            long accessCount = getAccessCountForDate(code, currentDate);
+        try {
+            // 기간 전체 방문 수를 코드별 해시에서 HMGET 한 번으로 조회
+            List<Object> counts = stringRedisTemplate.opsForHash()
+                    .multiGet(RedisKeyManager.getDailyAccessHashKey(code), dateFields);
             
             // 0이 아닌 경우만 결과에 포함
-            if (accessCount > 0) {
+            List<LocalDate> visitedDates = new ArrayList<>();
+            List<Long> accessCounts = new ArrayList<>();
+            for (int i = 0; i < dateFields.size(); i++) {
+                long accessCount = parseCount(counts.get(i));
+                if (accessCount > 0) {
+                    visitedDates.add(startDate.plusDays(i));
+                    accessCounts.add(accessCount);
+                }
+            }
+            if (visitedDates.isEmpty()) {
+                return List.of();
+            }
+            
+            List<Long> uniqueVisitors = countUniqueVisitors(code, visitedDates);
+            List<DailyStatistics> result = new ArrayList<>(visitedDates.size());
+            for (int i = 0; i < visitedDates.size(); i++) {
                 result.add(DailyStatistics.builder()
                         .code(code)
-                        .date(currentDate)
-                        .accessCount(accessCount)
-                        .uniqueVisitors(estimateUniqueVisitors(accessCount))
+                        .date(visitedDates.get(i))
+                        .accessCount(accessCounts.get(i))
+                        .uniqueVisitors(uniqueVisitors.get(i))
                         .build());
             }
-            
-            currentDate = currentDate.plusDays(1);
+            return result;
+        } catch (Exception e) {
+            log.error("Failed to read daily statistics for code: {} between {} and {}", code, startDate, endDate, e);
+            return List.of();
+        }
+    }
+    
+    /**
+     * 일자별 PFCOUNT를 파이프라인 한 번으로 실행 (같은 코드의 키는 같은 슬롯)
+     */
+    private List<Long> countUniqueVisitors(String code, List<LocalDate> dates) {
+        List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (LocalDate date : dates) {
+                    ops.opsForHyperLogLog().size(RedisKeyManager.getUniqueVisitorsKey(code, date));
+                }
+                return null;
+            }
+        });
+        return results.stream()
+                .map(value -> value instanceof Long count ? count : 0L)
+                .toList();
+    }
+    
+    private long parseCount(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value.toString());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid access count value: {}", value);
+            return 0;
         }
-        
-        return result;
     }
     
     private void cacheStatistics(String cacheKey, List<DailyStatistics> statistics, long timeout, java.util.concurrent.TimeUnit unit) {
@@ -95,53 +202,47 @@ public class CompositeStatisticsRepository implements StatisticsRepository {
     
     @Override
     public long getAccessCountForDate(String code, LocalDate date) {
-        String pattern = "url:access:count:" + code + ":*";
-        String targetDatePrefix = date.format(DateTimeFormatter.ISO_LOCAL_DATE);
-        
-        ScanOptions scanOptions = ScanOptions.scanOptions()
-                .match(pattern)
-                .count(1000)
-                .build();
-        
-        long count = 0;
-        try (Cursor<String> cursor = stringRedisTemplate.scan(scanOptions)) {
-            while (cursor.hasNext()) {
-                String key = cursor.next();
-                if (key.contains(targetDatePrefix)) {
-                    count++;
+        try {
+            if (date.isBefore(LocalDate.now(clock))) {
+                Long archived = dailyStatisticsRepository.findByCodeAndStatDate(code, date)
+                        .map(DailyUrlStatisticsEntity::getAccessCount)
+                        .orElse(null);
+                if (archived != null) {
+                    return archived;
                 }
             }
+            Object value = stringRedisTemplate.opsForHash()
+                    .get(RedisKeyManager.getDailyAccessHashKey(code), date.format(DateTimeFormatter.ISO_LOCAL_DATE));
+            return parseCount(value);
         } catch (Exception e) {
-            log.error("Failed to scan Redis keys for pattern: {} on date: {}", pattern, date, e);
+            log.error("Failed to get access count for code: {} on date: {}", code, date, e);
             return 0;
         }
-        
-        return count;
     }
     
-    private long estimateUniqueVisitors(long accessCount) {
-        if (accessCount <= 0) {
-            return 0;
+    @Override
+    public UniqueVisitorCount getUniqueVisitors(String code, LocalDate startDate, LocalDate endDate) {
+        // 일별 HyperLogLog는 retention 동안만 남고 일일 통계 테이블의 일별 값은 합칠 수 없으므로,
+        // 보관 기간 밖의 날짜는 0으로 세지 않고 센 기간을 좁혀 응답에 드러냄
+        LocalDate earliest = LocalDate.now(clock).minusDays(Math.max(clickCounterProperties.getRetention().toDays() - 1, 0));
+        if (endDate.isBefore(earliest)) {
+            return new UniqueVisitorCount(startDate, endDate, 0, true);
         }
+        boolean truncated = startDate.isBefore(earliest);
+        LocalDate from = truncated ? earliest : startDate;
         
-        // 현실적인 고유 방문자 추정 알고리즘:
-        // - 낮은 접근수: 고유 방문자 비율 높음 (90-95%)
-        // - 중간 접근수: 중간 비율 (70-80%)  
-        // - 높은 접근수: 중복 증가로 비율 감소 (50-70%)
-        
-        double uniqueRatio;
-        if (accessCount <= 10) {
-            // 1-10 접근: 거의 모두 고유 방문자
-            uniqueRatio = 0.95 - (accessCount - 1) * 0.02; // 95% -> 77%
-        } else if (accessCount <= 100) {
-            // 11-100 접근: 점진적 중복 증가
-            uniqueRatio = 0.77 - Math.log10(accessCount - 9) * 0.15; // 77% -> 62%
-        } else {
-            // 100+ 접근: 상당한 중복, 로그 스케일로 감소
-            uniqueRatio = 0.62 - Math.log10(accessCount / 100.0) * 0.1;
-            uniqueRatio = Math.max(uniqueRatio, 0.3); // 최소 30% 보장
+        // 읽기 경로이므로 PFMERGE로 결과 키를 쓰지 않고 다중 키 PFCOUNT로 합집합을 셈 (같은 코드의 키는 같은 슬롯)
+        List<String> dailyKeys = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(endDate); date = date.plusDays(1)) {
+            dailyKeys.add(RedisKeyManager.getUniqueVisitorsKey(code, date));
         }
         
-        return Math.max(1, Math.round(accessCount * uniqueRatio));
+        try {
+            Long count = stringRedisTemplate.opsForHyperLogLog().size(dailyKeys.toArray(new String[0]));
+            return new UniqueVisitorCount(from, endDate, count != null ? count : 0, truncated);
+        } catch (Exception e) {
+            log.error("Failed to count unique visitors for code: {} between {} and {}", code, from, endDate, e);
+            return new UniqueVisitorCount(from, endDate, 0, truncated);
+        }
     }
-}
\ No newline at end of file
+}
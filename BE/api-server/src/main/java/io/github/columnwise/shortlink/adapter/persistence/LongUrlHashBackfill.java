@@ -0,0 +1,95 @@
+package io.github.columnwise.shortlink.adapter.persistence;
+
+import io.github.columnwise.shortlink.util.UrlFingerprint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * long_url_hash 컬럼 도입 이전에 저장된 행의 지문을 채움
+ * 시작 후 백그라운드에서 NULL인 행을 id 순으로 페이징하여 JDBC 배치 UPDATE
+ * 같은 URL이 이미 여러 번 저장된 경우 먼저 채워진 행만 지문을 갖고 나머지는 NULL로 남김
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LongUrlHashBackfill {
+    
+    private static final int PAGE_SIZE = 1000;
+    private static final String SELECT_SQL =
+            "SELECT id, long_url FROM short_urls WHERE long_url_hash IS NULL AND id > ? ORDER BY id LIMIT ?";
+    private static final String UPDATE_SQL = "UPDATE short_urls SET long_url_hash = ? WHERE id = ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    private volatile boolean complete;
+    
+    /**
+     * 모든 행의 지문이 채워졌는지 여부, 그 전에는 지문 조회에서 빠진 행이 있을 수 있음
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread.ofPlatform().name("long-url-hash-backfill").daemon(true).start(() -> {
+            try {
+                long start = System.currentTimeMillis();
+                long filled = backfill();
+                complete = true;
+                if (filled > 0) {
+                    log.info("Backfilled long URL hash for {} rows in {} ms", filled, System.currentTimeMillis() - start);
+                }
+            } catch (Exception e) {
+                log.error("Failed to backfill long URL hash, lookups fall back to the long_url column", e);
+            }
+        });
+    }
+    
+    long backfill() {
+        long filled = 0;
+        long lastId = 0;
+        List<Row> page;
+        do {
+            page = jdbcTemplate.query(SELECT_SQL,
+                    (resultSet, rowNum) -> new Row(resultSet.getLong(1), resultSet.getString(2)), lastId, PAGE_SIZE);
+            if (page.isEmpty()) {
+                break;
+            }
+            filled += update(page);
+            lastId = page.get(page.size() - 1).id();
+        } while (page.size() == PAGE_SIZE);
+        return filled;
+    }
+    
+    private int update(List<Row> page) {
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, page, page.size(), (statement, row) -> {
+                statement.setBytes(1, UrlFingerprint.of(row.longUrl()));
+                statement.setLong(2, row.id());
+            });
+            return page.size();
+        } catch (DataIntegrityViolationException e) {
+            // 중복 URL이 섞인 묶음은 한 행씩 다시 처리하여 충돌하는 행만 건너뜀
+            int updated = 0;
+            for (Row row : page) {
+                try {
+                    updated += jdbcTemplate.update(UPDATE_SQL, UrlFingerprint.of(row.longUrl()), row.id());
+                } catch (DataIntegrityViolationException duplicate) {
+                    log.debug("Skipping duplicate long URL for id: {}", row.id());
+                }
+            }
+            return updated;
+        }
+    }
+    
+    private record Row(long id, String longUrl) {
+    }
+}
@@ -1,33 +1,69 @@
 package io.github.columnwise.shortlink.adapter.persistence;
 
 import io.github.columnwise.shortlink.adapter.persistence.entity.ShortUrlEntity;
-import io.github.columnwise.shortlink.adapter.persistence.entity.UrlAccessLogEntity;
 import io.github.columnwise.shortlink.application.port.out.ShortUrlRepositoryPort;
+import io.github.columnwise.shortlink.domain.exception.CodeCollisionException;
 import io.github.columnwise.shortlink.domain.model.ShortUrl;
 import io.github.columnwise.shortlink.domain.model.UrlAccessLog;
+import io.github.columnwise.shortlink.util.UrlFingerprint;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
+@Slf4j
 public class ShortUrlRepositoryAdapter implements ShortUrlRepositoryPort {
     
+    // IN 목록과 배치 INSERT 한 번에 담는 행 수
+    private static final int CHUNK_SIZE = 1000;
+    private static final String INSERT_SQL =
+            "INSERT INTO short_urls (code, long_url, long_url_hash, created_at, expires_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM short_urls WHERE code = ? AND expires_at <= ?";
+    
     private final SpringDataShortUrlRepository shortUrlRepository;
     private final SpringDataUrlAccessLogRepository accessLogRepository;
+    private final AsyncAccessLogWriter accessLogWriter;
+    private final LongUrlHashBackfill longUrlHashBackfill;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
     
     @Override
     public ShortUrl save(ShortUrl shortUrl) {
         ShortUrlEntity entity = ShortUrlEntity.builder()
                 .code(shortUrl.code())
                 .longUrl(shortUrl.longUrl())
+                .longUrlHash(UrlFingerprint.of(shortUrl.longUrl()))
                 .createdAt(shortUrl.createdAt())
                 .expiresAt(shortUrl.expiresAt())
                 .build();
-                
-        ShortUrlEntity saved = shortUrlRepository.save(entity);
+        
+        ShortUrlEntity saved;
+        try {
+            saved = shortUrlRepository.save(entity);
+        } catch (DataIntegrityViolationException e) {
+            // 원본 URL 지문 충돌과 구분하여, 코드가 이미 있으면 호출 측이 새 코드로 재시도할 수 있게 알림
+            if (shortUrlRepository.findByCode(shortUrl.code()).isPresent()) {
+                throw new CodeCollisionException("Code already exists: " + shortUrl.code());
+            }
+            throw e;
+        }
         
         return ShortUrl.builder()
                 .id(saved.getId())
@@ -52,19 +88,17 @@ public class ShortUrlRepositoryAdapter implements ShortUrlRepositoryPort {
     
     @Override
     public void saveAccessLog(UrlAccessLog accessLog) {
-        UrlAccessLogEntity entity = UrlAccessLogEntity.builder()
-                .code(accessLog.code())
-                .ipAddress(accessLog.ipAddress())
-                .userAgent(accessLog.userAgent())
-                .accessedAt(accessLog.accessedAt())
-                .build();
-                
-        accessLogRepository.save(entity);
+        // 요청마다 INSERT하지 않고 버퍼에 넣어 배치로 저장
+        accessLogWriter.enqueue(accessLog);
     }
     
     @Override
     public Optional<ShortUrl> findByLongUrl(String longUrl) {
-        return shortUrlRepository.findByLongUrl(longUrl)
+        // 고정 길이 지문의 유니크 인덱스로 조회하고, 지문 충돌에 대비해 원본을 한 번 더 비교
+        // 지문이 아직 채워지지 않은 기존 행은 원본 컬럼으로 조회
+        return shortUrlRepository.findByLongUrlHash(UrlFingerprint.of(longUrl))
+                .filter(entity -> UrlFingerprint.sameUrl(entity.getLongUrl(), longUrl))
+                .or(() -> longUrlHashBackfill.isComplete() ? Optional.empty() : shortUrlRepository.findByLongUrl(longUrl))
                 .map(entity -> ShortUrl.builder()
                         .id(entity.getId())
                         .code(entity.getCode())
@@ -74,6 +108,77 @@ public class ShortUrlRepositoryAdapter implements ShortUrlRepositoryPort {
                         .build());
     }
     
+    @Override
+    public List<ShortUrl> findAllByLongUrls(Collection<String> longUrls) {
+        List<String> distinct = longUrls.stream().distinct().toList();
+        Set<String> requested = distinct.stream().map(UrlFingerprint::normalize).collect(Collectors.toSet());
+        List<ShortUrl> found = new ArrayList<>();
+        for (List<String> chunk : chunks(distinct)) {
+            List<byte[]> hashes = chunk.stream().map(UrlFingerprint::of).toList();
+            shortUrlRepository.findByLongUrlHashIn(hashes).stream()
+                    .filter(entity -> requested.contains(UrlFingerprint.normalize(entity.getLongUrl())))
+                    .map(ShortUrlRepositoryAdapter::toDomain)
+                    .forEach(found::add);
+            if (!longUrlHashBackfill.isComplete()) {
+                // 지문이 아직 채워지지 않은 기존 행은 원본 컬럼으로 조회
+                shortUrlRepository.findByLongUrlIn(chunk).stream()
+                        .filter(entity -> entity.getLongUrlHash() == null)
+                        .map(ShortUrlRepositoryAdapter::toDomain)
+                        .forEach(found::add);
+            }
+        }
+        return found;
+    }
+    
+    @Override
+    public Set<String> findExistingCodes(Collection<String> codes) {
+        Set<String> existing = new HashSet<>();
+        for (List<String> chunk : chunks(codes.stream().distinct().toList())) {
+            shortUrlRepository.findByCodeIn(chunk).forEach(row -> existing.add(row.getCode()));
+        }
+        return existing;
+    }
+    
+    @Override
+    public List<ShortUrl> saveAll(List<ShortUrl> shortUrls) {
+        // IDENTITY 키는 Hibernate 배치 INSERT를 막으므로 JdbcTemplate으로 직접 저장
+        List<ShortUrl> inserted = new ArrayList<>(shortUrls.size());
+        for (List<ShortUrl> chunk : chunks(shortUrls)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                        INSERT_SQL, chunk, chunk.size(), (statement, shortUrl) -> bind(statement, shortUrl)));
+                inserted.addAll(chunk);
+            } catch (DataIntegrityViolationException e) {
+                // 묶음 전체가 롤백되었으므로 한 행씩 다시 저장하여 충돌한 행만 제외
+                for (ShortUrl shortUrl : chunk) {
+                    try {
+                        jdbcTemplate.update(INSERT_SQL, statement -> bind(statement, shortUrl));
+                        inserted.add(shortUrl);
+                    } catch (DataIntegrityViolationException duplicate) {
+                        log.debug("Skipping conflicting short URL for code: {}", shortUrl.code());
+                    }
+                }
+            }
+        }
+        return inserted;
+    }
+    
+    @Override
+    public boolean deleteIfExpired(String code, Instant now) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, code, Timestamp.from(now)) > 0;
+    }
+    
+    @Override
+    public List<ShortUrl> findCodesAfterId(long afterId, int limit) {
+        return shortUrlRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, limit))
+                .stream()
+                .map(row -> ShortUrl.builder()
+                        .id(row.getId())
+                        .code(row.getCode())
+                        .build())
+                .toList();
+    }
+    
     @Override
     public List<UrlAccessLog> findAccessLogsByCode(String code) {
         return accessLogRepository.findByCodeOrderByAccessedAtDesc(code)
@@ -87,4 +192,30 @@ public class ShortUrlRepositoryAdapter implements ShortUrlRepositoryPort {
                         .build())
                 .toList();
     }
+    
+    private static void bind(PreparedStatement statement, ShortUrl shortUrl) throws SQLException {
+        statement.setString(1, shortUrl.code());
+        statement.setString(2, shortUrl.longUrl());
+        statement.setBytes(3, UrlFingerprint.of(shortUrl.longUrl()));
+        statement.setTimestamp(4, Timestamp.from(shortUrl.createdAt()));
+        statement.setTimestamp(5, shortUrl.expiresAt() != null ? Timestamp.from(shortUrl.expiresAt()) : null);
+    }
+    
+    private static ShortUrl toDomain(ShortUrlEntity entity) {
+        return ShortUrl.builder()
+                .id(entity.getId())
+                .code(entity.getCode())
+                .longUrl(entity.getLongUrl())
+                .createdAt(entity.getCreatedAt())
+                .expiresAt(entity.getExpiresAt())
+                .build();
+    }
+    
+    private static <T> List<List<T>> chunks(List<T> values) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += CHUNK_SIZE) {
+            chunks.add(values.subList(from, Math.min(from + CHUNK_SIZE, values.size())));
+        }
+        return chunks;
+    }
 }
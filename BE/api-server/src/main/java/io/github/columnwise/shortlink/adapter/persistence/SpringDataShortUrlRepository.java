@@ -1,11 +1,24 @@
 package io.github.columnwise.shortlink.adapter.persistence;
 
 import io.github.columnwise.shortlink.adapter.persistence.entity.ShortUrlEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface SpringDataShortUrlRepository extends JpaRepository<ShortUrlEntity, Long> {
     Optional<ShortUrlEntity> findByCode(String code);
     Optional<ShortUrlEntity> findByLongUrl(String longUrl);
+    Optional<ShortUrlEntity> findByLongUrlHash(byte[] longUrlHash);
+    List<ShortUrlEntity> findByLongUrlHashIn(Collection<byte[]> longUrlHashes);
+    List<ShortUrlEntity> findByLongUrlIn(Collection<String> longUrls);
+    List<CodeOnly> findByCodeIn(Collection<String> codes);
+    List<CodeOnly> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
+    interface CodeOnly {
+        Long getId();
+        String getCode();
+    }
 }
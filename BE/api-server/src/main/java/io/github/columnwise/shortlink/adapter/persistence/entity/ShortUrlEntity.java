@@ -9,7 +9,12 @@ import lombok.NoArgsConstructor;
 import java.time.Instant;
 
 @Entity
-@Table(name = "short_urls")
+@Table(name = "short_urls", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_short_urls_long_url_hash", columnNames = "long_url_hash")
+}, indexes = {
+        // 만료 정리 배치가 (expires_at, id) 키셋 순서로 페이지를 읽음 (InnoDB 보조 인덱스는 PK를 포함)
+        @Index(name = "idx_short_urls_expires_at", columnList = "expires_at")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -20,12 +25,17 @@ public class ShortUrlEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
-    @Column(unique = true, nullable = false, length = 10)
+    @Column(unique = true, nullable = false, length = 16)
     private String code;
     
     @Column(nullable = false, length = 2048)
     private String longUrl;
     
+    // 정규화한 원본 URL의 SHA-256 앞 16바이트, 2048자 컬럼 대신 이 고정 길이 컬럼으로 중복 조회
+    // 기존 행은 LongUrlHashBackfill이 채우기 전까지 NULL
+    @Column(name = "long_url_hash", length = 16)
+    private byte[] longUrlHash;
+    
     @Column(nullable = false)
     private Instant createdAt;
     
@@ -20,7 +20,7 @@ public class UrlAccessLogEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
-    @Column(nullable = false, length = 10)
+    @Column(nullable = false, length = 16)
     private String code;
     
     @Column(length = 45)
@@ -0,0 +1,125 @@
+package io.github.columnwise.shortlink.adapter.stream;
+
+import io.github.columnwise.shortlink.application.port.out.ClickEventPublisherPort;
+import io.github.columnwise.shortlink.config.ClickStreamProperties;
+import io.github.columnwise.shortlink.domain.model.ClickEvent;
+import io.github.columnwise.shortlink.domain.service.RedisKeyManager;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 클릭 이벤트를 메모리 큐에 모았다가 코드별 샤드 Redis Stream에 파이프라인 XADD (MAXLEN ~ 로 길이 제한)
+ * 큐가 가득 차면 리다이렉트를 지연시키지 않고 이벤트를 버리며, 버린 수는 메트릭으로 노출
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisStreamClickEventPublisher implements ClickEventPublisherPort {
+    
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ClickStreamProperties clickStreamProperties;
+    private final MeterRegistry meterRegistry;
+    
+    private BlockingQueue<ClickEvent> queue;
+    private final LongAdder publishedEvents = new LongAdder();
+    private final LongAdder droppedEvents = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+    
+    @PostConstruct
+    void init() {
+        queue = new ArrayBlockingQueue<>(clickStreamProperties.getBufferCapacity());
+        Gauge.builder("shortlink.click.stream.pending", queue, BlockingQueue::size)
+                .description("Click events waiting to be appended to Redis Streams")
+                .register(meterRegistry);
+        FunctionCounter.builder("shortlink.click.stream.published", publishedEvents, LongAdder::sum)
+                .description("Click events appended to Redis Streams")
+                .register(meterRegistry);
+        FunctionCounter.builder("shortlink.click.stream.dropped", droppedEvents, LongAdder::sum)
+                .description("Click events dropped because the publish buffer was full")
+                .register(meterRegistry);
+        FunctionCounter.builder("shortlink.click.stream.flush.failures", failedFlushes, LongAdder::sum)
+                .description("Stream flushes that failed and were kept for the next attempt")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public void publish(ClickEvent event) {
+        if (!clickStreamProperties.isEnabled()) {
+            return;
+        }
+        if (!queue.offer(event)) {
+            droppedEvents.increment();
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${app.click-stream.flush-interval:200ms}")
+    public synchronized void flush() {
+        List<ClickEvent> batch = new ArrayList<>(clickStreamProperties.getFlushBatchSize());
+        while (queue.drainTo(batch, clickStreamProperties.getFlushBatchSize()) > 0) {
+            try {
+                append(batch);
+                publishedEvents.add(batch.size());
+            } catch (Exception e) {
+                // 보내지 못한 이벤트는 남은 자리만큼 큐에 되돌려 다음 플러시에서 다시 시도
+                failedFlushes.increment();
+                int requeued = 0;
+                for (ClickEvent event : batch) {
+                    if (queue.offer(event)) {
+                        requeued++;
+                    }
+                }
+                droppedEvents.add(batch.size() - requeued);
+                log.warn("Failed to append {} click events to Redis Streams, will retry", batch.size(), e);
+                return;
+            }
+            batch.clear();
+        }
+    }
+    
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+    
+    private void append(List<ClickEvent> events) {
+        int shardCount = clickStreamProperties.getShardCount();
+        XAddOptions options = XAddOptions.maxlen(clickStreamProperties.getMaxLength()).approximateTrimming(true);
+        
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (ClickEvent event : events) {
+                    String streamKey = RedisKeyManager.getClickStreamKey(
+                            RedisKeyManager.getClickStreamShard(event.code(), shardCount));
+                    MapRecord<String, String, String> record = StreamRecords.newRecord()
+                            .in(streamKey)
+                            .ofMap(event.toFields());
+                    ops.opsForStream().add(record, options);
+                }
+                return null;
+            }
+        });
+    }
+}
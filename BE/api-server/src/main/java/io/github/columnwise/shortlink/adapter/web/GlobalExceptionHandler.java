@@ -1,5 +1,6 @@
 package io.github.columnwise.shortlink.adapter.web;
 
+import io.github.columnwise.shortlink.domain.exception.UrlExpiredException;
 import io.github.columnwise.shortlink.domain.exception.UrlNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -26,6 +27,14 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler(UrlExpiredException.class)
+    public ResponseEntity<Map<String, String>> handleUrlExpiredException(UrlExpiredException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "URL_EXPIRED");
+        error.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.GONE).body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationException(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
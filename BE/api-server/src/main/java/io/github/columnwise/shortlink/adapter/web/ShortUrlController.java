@@ -1,12 +1,23 @@
 package io.github.columnwise.shortlink.adapter.web;
 
+import io.github.columnwise.shortlink.adapter.web.dto.BatchCreateShortUrlRequest;
+import io.github.columnwise.shortlink.adapter.web.dto.BatchCreateShortUrlResponse;
 import io.github.columnwise.shortlink.adapter.web.dto.CreateShortUrlRequest;
 import io.github.columnwise.shortlink.adapter.web.dto.CreateShortUrlResponse;
+import io.github.columnwise.shortlink.adapter.web.dto.ImportShortUrlsResponse;
+import io.github.columnwise.shortlink.adapter.web.dto.UniqueVisitorsResponse;
 import io.github.columnwise.shortlink.application.port.in.CreateShortUrlUseCase;
+import io.github.columnwise.shortlink.application.port.in.CreateShortUrlUseCase.BatchResult;
 import io.github.columnwise.shortlink.application.port.in.GetStatsUseCase;
+import io.github.columnwise.shortlink.application.port.in.ImportShortUrlsUseCase;
+import io.github.columnwise.shortlink.application.port.in.ImportShortUrlsUseCase.ImportSummary;
 import io.github.columnwise.shortlink.application.port.in.ResolveUrlUseCase;
+import io.github.columnwise.shortlink.application.port.in.ResolveUrlUseCase.Visit;
 import io.github.columnwise.shortlink.domain.model.ShortUrl;
 import io.github.columnwise.shortlink.domain.model.DailyStatistics;
+import io.github.columnwise.shortlink.domain.model.UniqueVisitorCount;
+import io.github.columnwise.shortlink.util.LinkImportReader;
+import io.github.columnwise.shortlink.util.VisitorFingerprint;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -15,9 +26,11 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -29,6 +42,11 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.view.RedirectView;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -41,6 +59,8 @@ public class ShortUrlController {
 	private final CreateShortUrlUseCase createShortUrlUseCase;
 	private final ResolveUrlUseCase resolveUrlUseCase;
 	private final GetStatsUseCase getStatsUseCase;
+	private final ImportShortUrlsUseCase importShortUrlsUseCase;
+	private final Clock clock;
 	
 	@Value("${server.url}")
 	private String serverUrl;
@@ -75,6 +95,76 @@ public class ShortUrlController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(response);
 	}
 
+	@PostMapping("/urls/batch")
+	@Operation(
+		summary = "URL 일괄 단축",
+		description = "여러 URL을 한 번에 단축합니다. 결과는 요청 순서대로 반환되며, 일부 항목이 실패해도 나머지는 처리됩니다."
+	)
+	@ApiResponses({
+		@ApiResponse(
+			responseCode = "200",
+			description = "일괄 처리 완료 (항목별 성공 여부는 results 참고)",
+			content = @Content(schema = @Schema(implementation = BatchCreateShortUrlResponse.class))
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "잘못된 요청 (빈 목록, 최대 개수 초과 또는 유효하지 않은 URL 형식)"
+		)
+	})
+	public ResponseEntity<BatchCreateShortUrlResponse> createShortUrls(
+		@Parameter(description = "단축할 URL 목록", required = true)
+		@Valid @RequestBody BatchCreateShortUrlRequest request
+	) {
+		List<BatchResult> results = createShortUrlUseCase.createShortUrls(request.longUrls());
+		
+		List<BatchCreateShortUrlResponse.Item> items = results.stream()
+				.map(result -> result.succeeded()
+						? new BatchCreateShortUrlResponse.Item(
+								result.longUrl(),
+								result.shortUrl().code(),
+								serverUrl + "/api/v1/r/" + result.shortUrl().code(),
+								null)
+						: new BatchCreateShortUrlResponse.Item(result.longUrl(), null, null, result.error()))
+				.toList();
+		int succeeded = (int) results.stream().filter(BatchResult::succeeded).count();
+		
+		return ResponseEntity.ok(new BatchCreateShortUrlResponse(succeeded, results.size() - succeeded, items));
+	}
+
+	@PostMapping(value = "/urls/import", consumes = {"text/csv", "application/x-ndjson"})
+	@Operation(
+		summary = "링크 가져오기",
+		description = "CSV(long_url[,code]) 또는 NDJSON({\"longUrl\", \"code\"}) 본문을 스트리밍으로 읽어 저장합니다. "
+				+ "code가 있으면 그 코드를 유지하고, 없으면 새로 생성합니다. "
+				+ "중단된 경우 응답 또는 로그의 마지막 줄 번호를 skipLines로 넘겨 이어서 가져올 수 있습니다."
+	)
+	@ApiResponses({
+		@ApiResponse(
+			responseCode = "200",
+			description = "가져오기 완료 (항목별 실패는 errors 참고)",
+			content = @Content(schema = @Schema(implementation = ImportShortUrlsResponse.class))
+		),
+		@ApiResponse(
+			responseCode = "415",
+			description = "지원하지 않는 Content-Type"
+		)
+	})
+	public ResponseEntity<ImportShortUrlsResponse> importShortUrls(
+		@Parameter(description = "처음부터 건너뛸 줄 수 (이어서 가져올 때 이전 결과의 lastLine)", example = "0")
+		@RequestParam(defaultValue = "0") long skipLines,
+		
+		@Parameter(hidden = true)
+		HttpServletRequest request
+	) throws IOException {
+		LinkImportReader.Format format = LinkImportReader.Format.detect(request.getContentType());
+		try (LinkImportReader reader = new LinkImportReader(
+				new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8), format)) {
+			reader.skip(skipLines);
+			ImportSummary summary = importShortUrlsUseCase.importLinks(reader);
+			return ResponseEntity.ok(ImportShortUrlsResponse.from(summary));
+		}
+	}
+
 	@GetMapping("/r/{code}")
 	@Operation(
 		summary = "URL 리다이렉트",
@@ -92,9 +182,20 @@ public class ShortUrlController {
 	})
 	public RedirectView redirectToOriginalUrl(
 		@Parameter(description = "단축 코드", required = true, example = "abc123")
-		@PathVariable("code") String code
+		@PathVariable("code") String code,
+		
+		@Parameter(hidden = true)
+		HttpServletRequest request
 	) {
-		String longUrl = resolveUrlUseCase.resolveUrl(code);
+		String ip = clientIp(request);
+		String userAgent = request.getHeader(HttpHeaders.USER_AGENT);
+		Visit visit = new Visit(
+				VisitorFingerprint.of(ip, userAgent),
+				ip,
+				userAgent,
+				referrerHost(request.getHeader(HttpHeaders.REFERER))
+		);
+		String longUrl = resolveUrlUseCase.resolveUrl(code, visit);
 		return new RedirectView(longUrl);
 	}
 
@@ -134,10 +235,10 @@ public class ShortUrlController {
 	) {
 		// 기본값 처리와 검증
 		if (startDate == null) {
-			startDate = LocalDate.now().minusDays(30);
+			startDate = LocalDate.now(clock).minusDays(30);
 		}
 		if (endDate == null) {
-			endDate = LocalDate.now();
+			endDate = LocalDate.now(clock);
 		}
 		
 		// 날짜 범위 검증: 시작일이 종료일보다 늦으면 안됨
@@ -148,4 +249,73 @@ public class ShortUrlController {
 		List<DailyStatistics> statistics = getStatsUseCase.getDailyStatistics(code, startDate, endDate);
 		return ResponseEntity.ok(statistics);
 	}
+
+	@GetMapping("/urls/{code}/stats/unique-visitors")
+	@Operation(
+		summary = "URL 기간 고유 방문자 수 조회",
+		description = "기간 전체의 고유 방문자 수를 조회합니다. 일별 값의 합이 아닌 기간 내 중복을 제거한 HyperLogLog 추정치입니다. "
+			+ "일별 방문자 데이터는 보관 기간(기본 7일) 동안만 남으므로, 그보다 긴 기간은 보관 기간 첫날부터 세고 truncated를 true로 반환합니다."
+	)
+	@ApiResponses({
+		@ApiResponse(
+			responseCode = "200",
+			description = "조회 성공",
+			content = @Content(schema = @Schema(implementation = UniqueVisitorsResponse.class))
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "잘못된 요청 (잘못된 날짜 형식 또는 날짜 범위 오류)"
+		)
+	})
+	public ResponseEntity<UniqueVisitorsResponse> getUniqueVisitors(
+		@Parameter(description = "단축 코드", required = true, example = "abc123")
+		@PathVariable("code") String code,
+		
+		@Parameter(description = "시작 날짜 (YYYY-MM-DD, 생략시 30일 전)", example = "2024-01-01")
+		@RequestParam(required = false)
+		@org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE)
+		LocalDate startDate,
+		
+		@Parameter(description = "종료 날짜 (YYYY-MM-DD, 생략시 오늘)", example = "2024-01-31")
+		@RequestParam(required = false)
+		@org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE)
+		LocalDate endDate
+	) {
+		if (startDate == null) {
+			startDate = LocalDate.now(clock).minusDays(30);
+		}
+		if (endDate == null) {
+			endDate = LocalDate.now(clock);
+		}
+		
+		if (startDate.isAfter(endDate)) {
+			throw new IllegalArgumentException("Start date cannot be after end date");
+		}
+		
+		UniqueVisitorCount count = getStatsUseCase.getUniqueVisitors(code, startDate, endDate);
+		return ResponseEntity.ok(new UniqueVisitorsResponse(
+			code, count.startDate(), count.endDate(), count.uniqueVisitors(), count.truncated()));
+	}
+
+	private String clientIp(HttpServletRequest request) {
+		// 프록시 뒤에서는 X-Forwarded-For의 첫 번째 값이 실제 클라이언트
+		String forwardedFor = request.getHeader("X-Forwarded-For");
+		if (forwardedFor != null && !forwardedFor.isBlank()) {
+			int comma = forwardedFor.indexOf(',');
+			return (comma >= 0 ? forwardedFor.substring(0, comma) : forwardedFor).trim();
+		}
+		return request.getRemoteAddr();
+	}
+
+	private String referrerHost(String referer) {
+		// 전체 URL 대신 호스트만 기록하여 이벤트 크기와 개인정보 노출을 줄임
+		if (referer == null || referer.isBlank()) {
+			return null;
+		}
+		try {
+			return URI.create(referer.trim()).getHost();
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
 }
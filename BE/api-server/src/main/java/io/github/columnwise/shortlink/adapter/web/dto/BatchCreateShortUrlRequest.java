@@ -0,0 +1,18 @@
+package io.github.columnwise.shortlink.adapter.web.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "URL 일괄 단축 요청")
+public record BatchCreateShortUrlRequest(
+		@ArraySchema(
+			arraySchema = @Schema(description = "단축할 원본 URL 목록 (최대 10000개)", requiredMode = Schema.RequiredMode.REQUIRED),
+			schema = @Schema(example = "https://www.example.com/very/long/path/to/resource")
+		)
+		@NotEmpty @Size(max = 10000) List<@NotBlank @Size(max = 2048) String> longUrls
+) {}
@@ -0,0 +1,33 @@
+package io.github.columnwise.shortlink.adapter.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "URL 일괄 단축 응답")
+public record BatchCreateShortUrlResponse(
+		@Schema(description = "성공한 항목 수", example = "2")
+		int succeeded,
+		
+		@Schema(description = "실패한 항목 수", example = "0")
+		int failed,
+		
+		@Schema(description = "요청 순서와 같은 항목별 결과")
+		List<Item> results
+) {
+	
+	@Schema(description = "URL 일괄 단축 항목 결과")
+	public record Item(
+			@Schema(description = "요청한 원본 URL", example = "https://www.example.com")
+			String longUrl,
+			
+			@Schema(description = "단축 코드, 실패하면 null", example = "abc123")
+			String code,
+			
+			@Schema(description = "완성된 단축 URL, 실패하면 null", example = "http://localhost:8080/api/v1/r/abc123")
+			String shortUrl,
+			
+			@Schema(description = "실패 사유, 성공하면 null")
+			String error
+	) {}
+}
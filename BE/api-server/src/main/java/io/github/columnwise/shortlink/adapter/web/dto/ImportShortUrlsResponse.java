@@ -0,0 +1,49 @@
+package io.github.columnwise.shortlink.adapter.web.dto;
+
+import io.github.columnwise.shortlink.application.port.in.ImportShortUrlsUseCase.ImportSummary;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "링크 가져오기 응답")
+public record ImportShortUrlsResponse(
+		@Schema(description = "마지막으로 처리한 줄 번호 (이어서 가져올 때 skipLines로 전달)", example = "10000")
+		long lastLine,
+		
+		@Schema(description = "저장되었거나 이미 있던 항목 수", example = "9990")
+		long imported,
+		
+		@Schema(description = "검증에 실패한 항목 수", example = "8")
+		long invalid,
+		
+		@Schema(description = "저장에 실패한 항목 수", example = "2")
+		long failed,
+		
+		@Schema(description = "실패 항목 (최대 app.link-import.max-reported-errors개)")
+		List<Error> errors
+) {
+	
+	public static ImportShortUrlsResponse from(ImportSummary summary) {
+		return new ImportShortUrlsResponse(
+				summary.lastLine(),
+				summary.imported(),
+				summary.invalid(),
+				summary.failed(),
+				summary.errors().stream()
+						.map(error -> new Error(error.line(), error.longUrl(), error.reason()))
+						.toList()
+		);
+	}
+	
+	@Schema(description = "링크 가져오기 실패 항목")
+	public record Error(
+			@Schema(description = "입력 파일에서의 줄 번호", example = "42")
+			long line,
+			
+			@Schema(description = "원본 URL, 줄을 해석하지 못했으면 null", example = "ftp://example.com/file")
+			String longUrl,
+			
+			@Schema(description = "실패 사유", example = "URL scheme must be http or https")
+			String reason
+	) {}
+}
@@ -0,0 +1,23 @@
+package io.github.columnwise.shortlink.adapter.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+@Schema(description = "기간 고유 방문자 응답")
+public record UniqueVisitorsResponse(
+		@Schema(description = "단축 코드", example = "abc123")
+		String code,
+		
+		@Schema(description = "실제로 센 기간의 시작 날짜 (truncated이면 요청한 날짜보다 늦음)", example = "2024-01-25")
+		LocalDate startDate,
+		
+		@Schema(description = "종료 날짜", example = "2024-01-31")
+		LocalDate endDate,
+		
+		@Schema(description = "기간 내 고유 방문자 수 (HyperLogLog 추정치, 표준 오차 약 0.81%)", example = "1520")
+		long uniqueVisitors,
+		
+		@Schema(description = "요청 기간이 고유 방문자 보관 기간보다 길어 앞부분을 세지 않았는지 여부", example = "true")
+		boolean truncated
+) {}
@@ -2,6 +2,28 @@ package io.github.columnwise.shortlink.application.port.in;
 
 import io.github.columnwise.shortlink.domain.model.ShortUrl;
 
+import java.util.List;
+
 public interface CreateShortUrlUseCase {
     ShortUrl createShortUrl(String longUrl);
+    
+    /**
+     * 여러 URL을 한 번에 단축하고 요청 순서대로 항목별 결과를 반환
+     * 같은 URL이 여러 번 들어오거나 이미 발급된 URL이면 기존 단축 URL을 돌려주며, 한 항목의 실패는 다른 항목에 영향을 주지 않음
+     */
+    List<BatchResult> createShortUrls(List<String> longUrls);
+    
+    /**
+     * 일괄 단축의 항목별 결과
+     *
+     * @param longUrl 요청한 원본 URL
+     * @param shortUrl 발급되었거나 기존의 단축 URL, 실패하면 null
+     * @param error 실패 사유, 성공하면 null
+     */
+    record BatchResult(String longUrl, ShortUrl shortUrl, String error) {
+        
+        public boolean succeeded() {
+            return shortUrl != null;
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package io.github.columnwise.shortlink.application.port.in;
 
 import io.github.columnwise.shortlink.domain.model.DailyStatistics;
+import io.github.columnwise.shortlink.domain.model.UniqueVisitorCount;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -15,4 +16,14 @@ public interface GetStatsUseCase {
      * @return 일별 통계 목록
      */
     List<DailyStatistics> getDailyStatistics(String code, LocalDate startDate, LocalDate endDate);
+    
+    /**
+     * 특정 기간 전체의 고유 방문자 수를 조회합니다.
+     * 
+     * @param code 단축 코드
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜
+     * @return 기간 내 중복을 제거한 고유 방문자 수 추정치와 실제로 센 기간 (보관 기간을 넘는 앞부분은 제외)
+     */
+    UniqueVisitorCount getUniqueVisitors(String code, LocalDate startDate, LocalDate endDate);
 }
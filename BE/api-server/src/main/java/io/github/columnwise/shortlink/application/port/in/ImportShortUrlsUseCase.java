@@ -0,0 +1,35 @@
+package io.github.columnwise.shortlink.application.port.in;
+
+import io.github.columnwise.shortlink.util.LinkImportReader;
+
+import java.util.List;
+
+public interface ImportShortUrlsUseCase {
+    
+    /**
+     * 입력을 끝까지 청크 단위로 읽어 저장하고 결과를 집계
+     * 코드가 주어진 항목은 그 코드를 유지하고, 없는 항목은 새로 생성 (이미 발급된 URL은 기존 코드 유지)
+     * 같은 입력을 다시 가져와도 이미 저장된 항목은 성공으로 집계되므로 중단된 지점부터 이어서 실행할 수 있음
+     */
+    ImportSummary importLinks(LinkImportReader reader);
+    
+    /**
+     * 가져오기 결과
+     *
+     * @param lastLine 마지막으로 처리한 줄 번호 (이어서 가져올 때 건너뛸 줄 수)
+     * @param imported 저장되었거나 이미 있던 항목 수
+     * @param invalid 검증에 실패한 항목 수
+     * @param failed 저장에 실패한 항목 수
+     * @param errors 실패 항목 (최대 app.link-import.max-reported-errors개)
+     */
+    record ImportSummary(long lastLine, long imported, long invalid, long failed, List<ImportError> errors) {
+    }
+    
+    /**
+     * @param line 입력 파일에서의 줄 번호
+     * @param longUrl 원본 URL, 줄을 해석하지 못했으면 null
+     * @param reason 실패 사유
+     */
+    record ImportError(long line, String longUrl, String reason) {
+    }
+}
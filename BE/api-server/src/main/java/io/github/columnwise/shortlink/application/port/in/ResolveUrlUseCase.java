@@ -2,4 +2,26 @@ package io.github.columnwise.shortlink.application.port.in;
 
 public interface ResolveUrlUseCase {
     String resolveUrl(String code);
+    
+    /**
+     * 방문자 식별자와 함께 URL을 조회하여 고유 방문자 집계에 반영
+     */
+    String resolveUrl(String code, String visitorId);
+    
+    /**
+     * 방문 정보와 함께 URL을 조회하여 고유 방문자 집계, 클릭 이벤트 스트림, 접속 로그에 반영
+     */
+    String resolveUrl(String code, Visit visit);
+    
+    /**
+     * 리다이렉트 요청에서 추출한 방문 정보
+     * 원본 IP/User-Agent는 접속 로그에만 저장되고, 클릭 이벤트에는 해시로만 기록됨
+     *
+     * @param visitorId 고유 방문자 식별자
+     * @param ipAddress 클라이언트 IP, 없으면 null
+     * @param userAgent User-Agent, 없으면 null
+     * @param referrer 리퍼러 호스트, 없으면 null
+     */
+    record Visit(String visitorId, String ipAddress, String userAgent, String referrer) {
+    }
 }
@@ -0,0 +1,42 @@
+package io.github.columnwise.shortlink.application.port.out;
+
+import io.github.columnwise.shortlink.domain.model.ShortUrl;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public interface CachePort {
+    
+    /**
+     * 캐시에서 단축 URL 조회
+     */
+    Optional<ShortUrl> findByCode(String code);
+    
+    /**
+     * 캐시에서 단축 URL 조회
+     * 만료가 임박한 엔트리는 refreshLoader로 백그라운드에서 미리 갱신될 수 있음
+     */
+    Optional<ShortUrl> findByCode(String code, Supplier<Optional<ShortUrl>> refreshLoader);
+    
+    /**
+     * 단축 URL을 캐시에 저장
+     */
+    void save(ShortUrl shortUrl);
+    
+    /**
+     * 원본 조회에 걸린 시간과 함께 단축 URL을 캐시에 저장
+     * 조회 비용이 큰 엔트리일수록 더 일찍 갱신 대상이 됨
+     */
+    void save(ShortUrl shortUrl, Duration computeTime);
+    
+    /**
+     * 캐시에서 단축 URL 삭제
+     */
+    void delete(String code);
+    
+    /**
+     * 캐시 만료 시간 설정 (초 단위)
+     */
+    void setExpiration(String code, long seconds);
+}
@@ -0,0 +1,11 @@
+package io.github.columnwise.shortlink.application.port.out;
+
+import io.github.columnwise.shortlink.domain.model.ClickEvent;
+
+public interface ClickEventPublisherPort {
+    
+    /**
+     * 클릭 이벤트 발행 (리다이렉트 경로를 막지 않도록 구현체는 비동기로 전송)
+     */
+    void publish(ClickEvent event);
+}
@@ -0,0 +1,15 @@
+package io.github.columnwise.shortlink.application.port.out;
+
+public interface CodeExistenceFilterPort {
+    
+    /**
+     * 발급된 적이 있을 수 있는 코드인지 확인
+     * false면 확실히 존재하지 않는 코드, true면 존재하지 않을 수도 있음(오탐)
+     */
+    boolean mightExist(String code);
+    
+    /**
+     * 새로 발급된 코드를 필터에 등록
+     */
+    void add(String code);
+}
@@ -0,0 +1,18 @@
+package io.github.columnwise.shortlink.application.port.out;
+
+import io.github.columnwise.shortlink.domain.model.ShortUrl;
+
+import java.util.Optional;
+
+public interface LongUrlCachePort {
+    
+    /**
+     * 원본 URL 지문으로 이미 발급된 단축 URL 조회 (지문 충돌 여부는 호출자가 확인)
+     */
+    Optional<ShortUrl> findByFingerprint(String fingerprint);
+    
+    /**
+     * 원본 URL 지문과 단축 URL의 대응을 캐시에 저장
+     */
+    void save(String fingerprint, ShortUrl shortUrl);
+}
@@ -0,0 +1,23 @@
+package io.github.columnwise.shortlink.application.port.out;
+
+import io.github.columnwise.shortlink.domain.model.ShortUrl;
+
+import java.util.Optional;
+
+public interface NearCachePort {
+    
+    /**
+     * 프로세스 내부 캐시에서 단축 URL 조회
+     */
+    Optional<ShortUrl> findByCode(String code);
+    
+    /**
+     * 단축 URL을 프로세스 내부 캐시에 저장
+     */
+    void save(ShortUrl shortUrl);
+    
+    /**
+     * 프로세스 내부 캐시에서 단축 URL 제거
+     */
+    void evict(String code);
+}
@@ -0,0 +1,55 @@
+package io.github.columnwise.shortlink.application.port.out;
+
+import io.github.columnwise.shortlink.domain.model.ShortUrl;
+import io.github.columnwise.shortlink.domain.model.UrlAccessLog;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public interface ShortUrlRepositoryPort {
+    /**
+     * 단축 URL 저장
+     * 
+     * @throws io.github.columnwise.shortlink.domain.exception.CodeCollisionException 코드가 이미 사용 중인 경우
+     */
+    ShortUrl save(ShortUrl shortUrl);
+    Optional<ShortUrl> findByCode(String code);
+    Optional<ShortUrl> findByLongUrl(String longUrl);
+    
+    /**
+     * 여러 원본 URL에 대해 이미 발급된 단축 URL을 한 번에 조회 (없는 URL은 결과에서 빠짐)
+     */
+    List<ShortUrl> findAllByLongUrls(Collection<String> longUrls);
+    
+    /**
+     * 주어진 코드 중 이미 사용 중인 코드
+     */
+    Set<String> findExistingCodes(Collection<String> codes);
+    
+    /**
+     * JDBC 배치 INSERT로 한 번에 저장하고 실제로 저장된 단축 URL을 반환
+     * 코드나 원본 URL이 이미 있는 행은 저장하지 않고 결과에서 빠지며, 반환값의 id는 채워지지 않음
+     */
+    List<ShortUrl> saveAll(List<ShortUrl> shortUrls);
+    
+    /**
+     * 코드의 단축 URL이 now 기준으로 만료되었으면 삭제 (같은 원본 URL을 다시 발급할 수 있도록)
+     *
+     * @return 삭제했으면 true
+     */
+    boolean deleteIfExpired(String code, Instant now);
+    
+    /**
+     * afterId보다 큰 id를 가진 단축 URL을 id 오름차순으로 조회 (id와 code만 채워짐)
+     */
+    List<ShortUrl> findCodesAfterId(long afterId, int limit);
+    
+    /**
+     * 접속 로그 저장 요청 (비동기로 모아서 저장되므로 반환 시점에 DB에 기록되었음을 보장하지 않음)
+     */
+    void saveAccessLog(UrlAccessLog accessLog);
+    List<UrlAccessLog> findAccessLogsByCode(String code);
+}
@@ -0,0 +1,26 @@
+package io.github.columnwise.shortlink.application.port.out;
+
+import io.github.columnwise.shortlink.domain.model.DailyStatistics;
+import io.github.columnwise.shortlink.domain.model.UniqueVisitorCount;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface StatisticsRepository {
+    
+    /**
+     * 기간 내 일별 통계 조회 (방문이 있었던 날짜만 포함)
+     */
+    List<DailyStatistics> getDailyStatistics(String code, LocalDate startDate, LocalDate endDate);
+    
+    /**
+     * 특정 날짜의 방문 수 조회
+     */
+    long getAccessCountForDate(String code, LocalDate date);
+    
+    /**
+     * 기간 전체의 고유 방문자 수 조회 (일별 값의 합이 아닌 기간 내 중복 제거 추정치)
+     * 일별 HyperLogLog 보관 기간을 벗어난 날짜는 세지 않고 실제로 센 기간을 함께 반환
+     */
+    UniqueVisitorCount getUniqueVisitors(String code, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,24 @@
+package io.github.columnwise.shortlink.application.port.out;
+
+public interface UrlHitCounterPort {
+    
+    /**
+     * URL 조회 횟수 증가
+     */
+    void incrementHitCount(String code);
+    
+    /**
+     * URL 조회 횟수 증가와 함께 방문자 식별자를 고유 방문자 집계에 기록
+     */
+    void recordVisit(String code, String visitorId);
+    
+    /**
+     * URL 조회 횟수 조회
+     */
+    long getHitCount(String code);
+    
+    /**
+     * URL 조회 횟수 초기화
+     */
+    void resetHitCount(String code);
+}
@@ -1,51 +1,94 @@
 package io.github.columnwise.shortlink.application.service;
 
 import io.github.columnwise.shortlink.application.port.in.CreateShortUrlUseCase;
+import io.github.columnwise.shortlink.application.port.out.CodeExistenceFilterPort;
+import io.github.columnwise.shortlink.application.port.out.LongUrlCachePort;
 import io.github.columnwise.shortlink.application.port.out.ShortUrlRepositoryPort;
+import io.github.columnwise.shortlink.domain.exception.CodeCollisionException;
 import io.github.columnwise.shortlink.domain.model.ShortUrl;
 import io.github.columnwise.shortlink.domain.service.CodeGenerator;
+import io.github.columnwise.shortlink.domain.service.ShortUrlPolicy;
+import io.github.columnwise.shortlink.util.UrlFingerprint;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class CreateShortUrlService implements CreateShortUrlUseCase {
     
+    private static final int MAX_RETRIES = 5;
+    
     private final ShortUrlRepositoryPort shortUrlRepository;
     private final CodeGenerator codeGenerator;
+    private final CodeExistenceFilterPort codeExistenceFilter;
+    private final LongUrlCachePort longUrlCache;
     
     @Override
     public ShortUrl createShortUrl(String longUrl) {
-        // 기존 URL이 있으면 반환
+        // 기존 URL이 있으면 반환 (지문 캐시 -> 지문 인덱스 순으로 조회)
+        String fingerprint = UrlFingerprint.hex(longUrl);
+        Instant now = Instant.now();
+        Optional<ShortUrl> cached = longUrlCache.findByFingerprint(fingerprint)
+                .filter(shortUrl -> UrlFingerprint.sameUrl(shortUrl.longUrl(), longUrl))
+                .filter(shortUrl -> !ShortUrlPolicy.isExpired(shortUrl.expiresAt(), now));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
         Optional<ShortUrl> existing = shortUrlRepository.findByLongUrl(longUrl);
         if (existing.isPresent()) {
-            return existing.get();
+            if (!ShortUrlPolicy.isExpired(existing.get().expiresAt(), now)) {
+                longUrlCache.save(fingerprint, existing.get());
+                return existing.get();
+            }
+            // 정리 배치가 아직 지우지 않은 만료 행이 원본 URL 유니크 인덱스를 차지하고 있으므로 먼저 삭제하고 새로 발급
+            shortUrlRepository.deleteIfExpired(existing.get().code(), now);
+        }
+        
+        // 생성기가 유일한 코드를 보장하면 중복 확인 없이 바로 저장
+        // 가져오기로 등록된 임의 코드와는 겹칠 수 있으므로, 코드 충돌이면 새 번호를 받아 다시 저장
+        if (codeGenerator.guaranteesUniqueness()) {
+            for (int i = 0; i < MAX_RETRIES; i++) {
+                ShortUrl created = newShortUrl(codeGenerator.generate(longUrl), longUrl);
+                try {
+                    return registerCreated(fingerprint, shortUrlRepository.save(created));
+                } catch (CodeCollisionException e) {
+                    log.warn("Generated code {} is already taken, drawing a new one", created.code());
+                } catch (RuntimeException e) {
+                    // 같은 URL을 동시에 저장한 요청이 먼저 성공했으면 그 결과를 반환
+                    return shortUrlRepository.findByLongUrl(longUrl).orElseThrow(() -> e);
+                }
+            }
+            throw new CodeCollisionException("Failed to generate unique code after " + MAX_RETRIES + " attempts");
         }
         
         // 코드 충돌 방지를 위한 재시도 로직
-        int maxRetries = 5;
-        for (int i = 0; i < maxRetries; i++) {
+        for (int i = 0; i < MAX_RETRIES; i++) {
             String code = codeGenerator.generate(longUrl + "_" + i); // salt 추가
             
             // 코드 중복 확인
             if (shortUrlRepository.findByCode(code).isEmpty()) {
-                ShortUrl shortUrl = ShortUrl.builder()
-                        .code(code)
-                        .longUrl(longUrl)
-                        .createdAt(Instant.now())
-                        .expiresAt(Instant.now().plus(365, ChronoUnit.DAYS))
-                        .build();
-                        
                 try {
-                    return shortUrlRepository.save(shortUrl);
+                    return registerCreated(fingerprint, shortUrlRepository.save(newShortUrl(code, longUrl)));
                 } catch (Exception e) {
-                    // 동시성으로 인한 충돌 시 재시도
-                    if (i == maxRetries - 1) {
-                        throw new RuntimeException("Failed to generate unique code after " + maxRetries + " attempts", e);
+                    // 같은 URL이 동시에 저장됐으면 그 결과를 반환하고, 코드 충돌이면 재시도
+                    Optional<ShortUrl> concurrent = shortUrlRepository.findByLongUrl(longUrl);
+                    if (concurrent.isPresent()) {
+                        return concurrent.get();
+                    }
+                    if (i == MAX_RETRIES - 1) {
+                        throw new RuntimeException("Failed to generate unique code after " + MAX_RETRIES + " attempts", e);
                     }
                 }
             }
@@ -53,4 +96,83 @@ public class CreateShortUrlService implements CreateShortUrlUseCase {
         
         throw new RuntimeException("Failed to generate unique code");
     }
+    
+    @Override
+    public List<BatchResult> createShortUrls(List<String> longUrls) {
+        // 정규화한 URL이 같은 항목은 한 번만 처리
+        List<String> keys = longUrls.stream().map(UrlFingerprint::normalize).toList();
+        Map<String, String> distinct = new LinkedHashMap<>();
+        for (int i = 0; i < longUrls.size(); i++) {
+            distinct.putIfAbsent(keys.get(i), longUrls.get(i));
+        }
+        
+        // 이미 발급된 URL은 지문 IN 조회 한 번으로 확인
+        Map<String, ShortUrl> resolved = new HashMap<>();
+        // 만료된 URL은 새로 발급하도록 남겨 두며, 배치 INSERT에서 충돌한 뒤 단건 경로에서 만료 행을 지우고 다시 저장됨
+        Instant now = Instant.now();
+        for (ShortUrl existing : shortUrlRepository.findAllByLongUrls(distinct.values())) {
+            if (!ShortUrlPolicy.isExpired(existing.expiresAt(), now)) {
+                resolved.putIfAbsent(UrlFingerprint.normalize(existing.longUrl()), existing);
+            }
+        }
+        List<String> newUrls = distinct.entrySet().stream()
+                .filter(entry -> !resolved.containsKey(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .toList();
+        
+        // 코드 생성은 URL마다 독립적이므로 병렬로 처리
+        boolean uniqueCodes = codeGenerator.guaranteesUniqueness();
+        List<ShortUrl> candidates = newUrls.parallelStream()
+                .map(longUrl -> newShortUrl(codeGenerator.generate(uniqueCodes ? longUrl : longUrl + "_0"), longUrl))
+                .toList();
+        if (!uniqueCodes) {
+            // 기존 코드나 같은 묶음의 다른 코드와 겹치는 후보는 아래 단건 생성으로 넘김
+            Set<String> claimed = new HashSet<>(
+                    shortUrlRepository.findExistingCodes(candidates.stream().map(ShortUrl::code).toList()));
+            candidates = candidates.stream().filter(candidate -> claimed.add(candidate.code())).toList();
+        }
+        
+        for (ShortUrl saved : shortUrlRepository.saveAll(candidates)) {
+            registerCreated(UrlFingerprint.hex(saved.longUrl()), saved);
+            resolved.put(UrlFingerprint.normalize(saved.longUrl()), saved);
+        }
+        
+        // 충돌로 저장되지 않은 URL은 단건 경로에서 재시도 및 동시 저장 여부를 확인
+        Map<String, String> errors = new HashMap<>();
+        for (String longUrl : newUrls) {
+            String key = UrlFingerprint.normalize(longUrl);
+            if (resolved.containsKey(key)) {
+                continue;
+            }
+            try {
+                resolved.put(key, createShortUrl(longUrl));
+            } catch (RuntimeException e) {
+                log.warn("Failed to create short URL in batch for: {}", longUrl, e);
+                errors.put(key, e.getMessage());
+            }
+        }
+        
+        List<BatchResult> results = new ArrayList<>(longUrls.size());
+        for (int i = 0; i < longUrls.size(); i++) {
+            ShortUrl shortUrl = resolved.get(keys.get(i));
+            results.add(new BatchResult(longUrls.get(i), shortUrl, shortUrl == null ? errors.get(keys.get(i)) : null));
+        }
+        return results;
+    }
+    
+    private ShortUrl registerCreated(String fingerprint, ShortUrl saved) {
+        codeExistenceFilter.add(saved.code());
+        longUrlCache.save(fingerprint, saved);
+        return saved;
+    }
+    
+    private ShortUrl newShortUrl(String code, String longUrl) {
+        Instant now = Instant.now();
+        return ShortUrl.builder()
+                .code(code)
+                .longUrl(longUrl)
+                .createdAt(now)
+                .expiresAt(ShortUrlPolicy.expiresAt(now))
+                .build();
+    }
 }
@@ -3,9 +3,11 @@ package io.github.columnwise.shortlink.application.service;
 import io.github.columnwise.shortlink.application.port.in.GetStatsUseCase;
 import io.github.columnwise.shortlink.application.port.out.StatisticsRepository;
 import io.github.columnwise.shortlink.domain.model.DailyStatistics;
+import io.github.columnwise.shortlink.domain.model.UniqueVisitorCount;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -14,12 +16,13 @@ import java.util.List;
 public class GetStatsService implements GetStatsUseCase {
     
     private final StatisticsRepository statisticsRepository;
+    private final Clock clock;
     
     @Override
     public List<DailyStatistics> getDailyStatistics(String code, LocalDate startDate, LocalDate endDate) {
         // 기본값 설정
         if (endDate == null) {
-            endDate = LocalDate.now();
+            endDate = LocalDate.now(clock);
         }
         if (startDate == null) {
             startDate = endDate.minusDays(30);  // 기본 30일
@@ -27,4 +30,9 @@ public class GetStatsService implements GetStatsUseCase {
         
         return statisticsRepository.getDailyStatistics(code, startDate, endDate);
     }
+    
+    @Override
+    public UniqueVisitorCount getUniqueVisitors(String code, LocalDate startDate, LocalDate endDate) {
+        return statisticsRepository.getUniqueVisitors(code, startDate, endDate);
+    }
 }
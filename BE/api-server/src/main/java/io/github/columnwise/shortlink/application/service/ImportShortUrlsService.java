@@ -0,0 +1,220 @@
+package io.github.columnwise.shortlink.application.service;
+
+import io.github.columnwise.shortlink.application.port.in.CreateShortUrlUseCase;
+import io.github.columnwise.shortlink.application.port.in.CreateShortUrlUseCase.BatchResult;
+import io.github.columnwise.shortlink.application.port.in.ImportShortUrlsUseCase;
+import io.github.columnwise.shortlink.application.port.out.CodeExistenceFilterPort;
+import io.github.columnwise.shortlink.application.port.out.ShortUrlRepositoryPort;
+import io.github.columnwise.shortlink.config.LinkImportProperties;
+import io.github.columnwise.shortlink.domain.model.ShortUrl;
+import io.github.columnwise.shortlink.domain.service.ShortUrlPolicy;
+import io.github.columnwise.shortlink.util.LinkImportReader;
+import io.github.columnwise.shortlink.util.LinkImportReader.Entry;
+import io.github.columnwise.shortlink.util.UrlFingerprint;
+import io.github.columnwise.shortlink.util.UrlValidator;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 대량 링크 가져오기
+ * 입력을 청크 단위로 읽어 검증 -> 코드 생성 -> 배치 INSERT 순으로 처리하고, 한 청크를 저장한 뒤에 다음 청크를 읽음
+ * 요청 본문을 처리 속도만큼만 읽으므로 보내는 쪽은 TCP 흐름 제어로 자연스럽게 속도가 맞춰짐
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportShortUrlsService implements ImportShortUrlsUseCase {
+    
+    private final CreateShortUrlUseCase createShortUrlUseCase;
+    private final ShortUrlRepositoryPort shortUrlRepository;
+    private final CodeExistenceFilterPort codeExistenceFilter;
+    private final LinkImportProperties properties;
+    private final MeterRegistry meterRegistry;
+    
+    private final LongAdder importedLinks = new LongAdder();
+    private final LongAdder invalidLinks = new LongAdder();
+    private final LongAdder failedLinks = new LongAdder();
+    private final AtomicInteger activeImports = new AtomicInteger();
+    
+    @PostConstruct
+    void registerMetrics() {
+        FunctionCounter.builder("shortlink.import.links", importedLinks, LongAdder::sum)
+                .tag("result", "imported")
+                .description("Imported links, including links that already existed")
+                .register(meterRegistry);
+        FunctionCounter.builder("shortlink.import.links", invalidLinks, LongAdder::sum)
+                .tag("result", "invalid")
+                .description("Import lines rejected by validation")
+                .register(meterRegistry);
+        FunctionCounter.builder("shortlink.import.links", failedLinks, LongAdder::sum)
+                .tag("result", "failed")
+                .description("Import lines that could not be stored")
+                .register(meterRegistry);
+        Gauge.builder("shortlink.import.active", activeImports, AtomicInteger::get)
+                .description("Link imports in progress")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public ImportSummary importLinks(LinkImportReader reader) {
+        Progress progress = new Progress(properties.getMaxReportedErrors());
+        long start = System.currentTimeMillis();
+        activeImports.incrementAndGet();
+        try {
+            List<Entry> chunk = new ArrayList<>(properties.getChunkSize());
+            Entry entry;
+            while ((entry = reader.next()) != null) {
+                chunk.add(entry);
+                if (chunk.size() == properties.getChunkSize()) {
+                    importChunk(chunk, progress);
+                    chunk.clear();
+                    log.debug("Imported links up to line {}", reader.line());
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, progress);
+            }
+        } finally {
+            activeImports.decrementAndGet();
+        }
+        
+        ImportSummary summary = progress.summary(reader.line());
+        log.info("Link import finished at line {} in {} ms: imported={}, invalid={}, failed={}",
+                summary.lastLine(), System.currentTimeMillis() - start,
+                summary.imported(), summary.invalid(), summary.failed());
+        return summary;
+    }
+    
+    private void importChunk(List<Entry> chunk, Progress progress) {
+        List<Entry> generated = new ArrayList<>();
+        List<Entry> legacy = new ArrayList<>();
+        for (Entry entry : chunk) {
+            String violation = UrlValidator.violation(entry.longUrl());
+            if (violation == null && entry.code() != null && !ShortUrlPolicy.isValidCode(entry.code())) {
+                violation = "Code must be 1 to " + ShortUrlPolicy.MAX_CODE_LENGTH + " Base62 characters";
+            }
+            if (violation != null) {
+                progress.invalid(entry, violation);
+            } else if (entry.code() == null) {
+                generated.add(entry);
+            } else {
+                legacy.add(entry);
+            }
+        }
+        
+        if (!generated.isEmpty()) {
+            List<BatchResult> results = createShortUrlUseCase.createShortUrls(
+                    generated.stream().map(Entry::longUrl).toList());
+            for (int i = 0; i < results.size(); i++) {
+                if (results.get(i).succeeded()) {
+                    progress.imported();
+                } else {
+                    progress.failed(generated.get(i), results.get(i).error());
+                }
+            }
+        }
+        if (!legacy.isEmpty()) {
+            importWithCodes(legacy, progress);
+        }
+    }
+    
+    /**
+     * 기존 코드를 유지해야 하는 항목 저장
+     * 저장되지 않은 항목은 같은 URL이 같은 코드로 이미 있으면(이전 실행에서 가져온 경우) 성공, 아니면 충돌로 집계
+     */
+    private void importWithCodes(List<Entry> entries, Progress progress) {
+        Instant now = Instant.now();
+        List<ShortUrl> rows = entries.stream()
+                .map(entry -> ShortUrl.builder()
+                        .code(entry.code())
+                        .longUrl(entry.longUrl())
+                        .createdAt(now)
+                        .expiresAt(ShortUrlPolicy.expiresAt(now))
+                        .build())
+                .toList();
+        Set<ShortUrl> saved = new HashSet<>(shortUrlRepository.saveAll(rows));
+        saved.forEach(shortUrl -> codeExistenceFilter.add(shortUrl.code()));
+        
+        List<Entry> unsaved = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (saved.contains(rows.get(i))) {
+                progress.imported();
+            } else {
+                unsaved.add(entries.get(i));
+            }
+        }
+        if (unsaved.isEmpty()) {
+            return;
+        }
+        
+        Map<String, String> existingCodes = new HashMap<>();
+        for (ShortUrl existing : shortUrlRepository.findAllByLongUrls(unsaved.stream().map(Entry::longUrl).toList())) {
+            existingCodes.putIfAbsent(UrlFingerprint.normalize(existing.longUrl()), existing.code());
+        }
+        for (Entry entry : unsaved) {
+            if (entry.code().equals(existingCodes.get(UrlFingerprint.normalize(entry.longUrl())))) {
+                progress.imported();
+            } else {
+                progress.failed(entry, "Code or URL already exists with a different mapping");
+            }
+        }
+    }
+    
+    /**
+     * 요청 하나의 진행 상황, 전체 누적값은 메트릭으로 함께 반영
+     */
+    private final class Progress {
+        
+        private final int maxReportedErrors;
+        private final List<ImportError> errors = new ArrayList<>();
+        private long imported;
+        private long invalid;
+        private long failed;
+        
+        private Progress(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+        
+        private void imported() {
+            imported++;
+            importedLinks.increment();
+        }
+        
+        private void invalid(Entry entry, String reason) {
+            invalid++;
+            invalidLinks.increment();
+            report(entry, reason);
+        }
+        
+        private void failed(Entry entry, String reason) {
+            failed++;
+            failedLinks.increment();
+            report(entry, reason);
+        }
+        
+        private void report(Entry entry, String reason) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportError(entry.line(), entry.longUrl(), reason));
+            }
+        }
+        
+        private ImportSummary summary(long lastLine) {
+            return new ImportSummary(lastLine, imported, invalid, failed, List.copyOf(errors));
+        }
+    }
+}
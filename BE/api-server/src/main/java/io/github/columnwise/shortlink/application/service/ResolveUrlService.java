@@ -1,47 +1,118 @@
 package io.github.columnwise.shortlink.application.service;
 
 import io.github.columnwise.shortlink.application.port.in.ResolveUrlUseCase;
+import io.github.columnwise.shortlink.application.port.out.CachePort;
+import io.github.columnwise.shortlink.application.port.out.ClickEventPublisherPort;
+import io.github.columnwise.shortlink.application.port.out.CodeExistenceFilterPort;
+import io.github.columnwise.shortlink.application.port.out.NearCachePort;
 import io.github.columnwise.shortlink.application.port.out.ShortUrlRepositoryPort;
-import io.github.columnwise.shortlink.domain.service.RedisKeyManager;
-import org.springframework.data.redis.core.RedisTemplate;
+import io.github.columnwise.shortlink.application.port.out.UrlHitCounterPort;
+import io.github.columnwise.shortlink.domain.exception.UrlExpiredException;
 import io.github.columnwise.shortlink.domain.exception.UrlNotFoundException;
+import io.github.columnwise.shortlink.domain.model.ClickEvent;
 import io.github.columnwise.shortlink.domain.model.ShortUrl;
+import io.github.columnwise.shortlink.domain.model.UrlAccessLog;
+import io.github.columnwise.shortlink.domain.service.ShortUrlPolicy;
+import io.github.columnwise.shortlink.util.SingleFlight;
+import io.github.columnwise.shortlink.util.VisitorFingerprint;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.Clock;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class ResolveUrlService implements ResolveUrlUseCase {
     
     private final ShortUrlRepositoryPort shortUrlRepository;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final NearCachePort nearCache;
+    private final CachePort cache;
+    private final CodeExistenceFilterPort codeExistenceFilter;
+    private final UrlHitCounterPort hitCounter;
+    private final ClickEventPublisherPort clickEventPublisher;
+    private final MeterRegistry meterRegistry;
     private final Clock clock;
     
+    // 같은 코드에 대한 동시 캐시 미스는 JVM당 하나의 로더만 Redis/DB로 보냄
+    private final SingleFlight<String, Optional<ShortUrl>> remoteLoads = new SingleFlight<>();
+    
+    @PostConstruct
+    void registerMetrics() {
+        remoteLoads.bindTo(meterRegistry, "resolve");
+    }
+    
     @Override
     public String resolveUrl(String code) {
-        ShortUrl shortUrl = shortUrlRepository.findByCode(code)
+        return resolveUrl(code, (Visit) null);
+    }
+    
+    @Override
+    public String resolveUrl(String code, String visitorId) {
+        return resolveUrl(code, new Visit(visitorId, null, null, null));
+    }
+    
+    @Override
+    public String resolveUrl(String code, Visit visit) {
+        // L1(JVM) -> L2(Redis) -> DB 순서로 조회하고, 돌아오는 길에 상위 캐시를 채움
+        // 발급된 적 없는 코드는 존재 필터에서 걸러 Redis/DB까지 가지 않음
+        ShortUrl shortUrl = nearCache.findByCode(code)
+                .or(() -> codeExistenceFilter.mightExist(code)
+                        ? remoteLoads.execute(code, () -> loadFromRemote(code))
+                        : Optional.empty())
                 .orElseThrow(() -> new UrlNotFoundException("URL not found for code: " + code));
         
-        // Redis에 타임스탬프 기반 방문 기록 저장
-        recordVisit(code);
+        // 캐시된 값에 만료 시각이 있으므로 DB를 다시 조회하지 않고 거절 (행은 정리 배치가 삭제)
+        long now = clock.millis();
+        if (ShortUrlPolicy.isExpired(shortUrl.expiresAt(), Instant.ofEpochMilli(now))) {
+            throw new UrlExpiredException("URL expired for code: " + code);
+        }
+        
+        // 방문 수는 메모리에 누적되었다가 주기적으로 Redis에 반영됨
+        String visitorId = visit != null ? visit.visitorId() : null;
+        if (visitorId != null) {
+            hitCounter.recordVisit(code, visitorId);
+        } else {
+            hitCounter.incrementHitCount(code);
+        }
+        
+        // 클릭 이벤트도 비동기로 스트림에 발행 (배치 서버가 근실시간으로 집계)
+        if (visit == null) {
+            clickEventPublisher.publish(new ClickEvent(code, now, null, null, null));
+            return shortUrl.longUrl();
+        }
+        clickEventPublisher.publish(new ClickEvent(code, now, VisitorFingerprint.ipHash(visit.ipAddress()),
+                VisitorFingerprint.userAgentId(visit.userAgent()), visit.referrer()));
+        
+        // 감사용 접속 로그는 버퍼에 넣기만 하고 배치로 저장됨
+        shortUrlRepository.saveAccessLog(UrlAccessLog.builder()
+                .code(code)
+                .ipAddress(visit.ipAddress())
+                .userAgent(visit.userAgent())
+                .accessedAt(Instant.ofEpochMilli(now))
+                .build());
         
         return shortUrl.longUrl();
     }
     
-    private void recordVisit(String code) {
-        LocalDateTime now = LocalDateTime.now(clock);
-        LocalDate date = now.toLocalDate();
-        String timestamp = now.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-        
-        // RedisKeyManager를 사용하여 일관된 키 패턴 적용
-        String accessKey = "url:access:count:" + code + ":" + timestamp;
+    private Optional<ShortUrl> loadFromRemote(String code) {
+        Optional<ShortUrl> cached = cache.findByCode(code, () -> shortUrlRepository.findByCode(code));
+        if (cached.isPresent()) {
+            nearCache.save(cached.get());
+            return cached;
+        }
         
-        // 해당 키에 값을 설정 (값은 1로 고정, 키 존재 자체가 방문을 의미)
-        redisTemplate.opsForValue().set(accessKey, "1");
+        long start = System.nanoTime();
+        Optional<ShortUrl> loaded = shortUrlRepository.findByCode(code);
+        Duration computeTime = Duration.ofNanos(System.nanoTime() - start);
+        loaded.ifPresent(shortUrl -> {
+            cache.save(shortUrl, computeTime);
+            nearCache.save(shortUrl);
+        });
+        return loaded;
     }
-}
+}
\ No newline at end of file
@@ -1,4 +0,0 @@
-package io.github.columnwise.shortlink.batch;
-
-public class ExpiredCleanupJob {
-}
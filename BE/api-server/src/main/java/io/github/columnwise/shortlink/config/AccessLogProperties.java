@@ -0,0 +1,59 @@
+package io.github.columnwise.shortlink.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * 접속 로그(url_access_logs) 비동기 저장 설정
+ * 리다이렉트 스레드는 링 버퍼에 넣기만 하고, app.access-log.flush-interval(기본 200ms)마다 JDBC 배치 INSERT로 저장
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.access-log")
+@Validated
+public class AccessLogProperties {
+    
+    private boolean enabled = true;
+    
+    // 링 버퍼 크기 (2의 거듭제곱으로 올림)
+    @Min(value = 1, message = "Access log buffer capacity must be positive")
+    @Max(value = 1 << 30, message = "Access log buffer capacity must not exceed 2^30")
+    private int bufferCapacity = 65_536;
+    
+    // JDBC 배치 INSERT 한 번에 넣는 최대 로그 수
+    @Min(value = 1, message = "Access log batch size must be positive")
+    private int batchSize = 500;
+    
+    // 플러시 한 번에 INSERT하는 최대 배치 수, DB 장애 시 커넥션 대기가 스케줄러 스레드를 오래 붙잡지 않도록 제한
+    @Min(value = 1, message = "Access log max batches per flush must be positive")
+    private int maxBatchesPerFlush = 4;
+    
+    @NotNull(message = "Access log overflow policy cannot be null")
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+    
+    // SAMPLE 정책에서 버퍼 사용률이 이 비율을 넘으면 sample-rate개 중 하나만 보관
+    private double sampleThreshold = 0.75;
+    
+    @Min(value = 1, message = "Access log sample rate must be positive")
+    private int sampleRate = 10;
+    
+    // BLOCK 정책에서 빈 자리를 기다리는 최대 시간, 지나면 버림
+    @NotNull(message = "Access log block timeout cannot be null")
+    private Duration blockTimeout = Duration.ofMillis(5);
+    
+    public enum OverflowPolicy {
+        // 가득 차면 새 로그를 버림 (리다이렉트 지연 없음)
+        DROP,
+        // 버퍼가 차오르면 일부만 보관하고, 가득 차면 버림
+        SAMPLE,
+        // 가득 차면 block-timeout까지 리다이렉트 스레드가 대기
+        BLOCK
+    }
+}
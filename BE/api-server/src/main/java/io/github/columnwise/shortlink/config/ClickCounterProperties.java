@@ -0,0 +1,29 @@
+package io.github.columnwise.shortlink.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * 방문 카운터 버퍼 설정
+ * 방문은 JVM 내부에서 누적되고 app.click-counter.flush-interval(기본 1s)마다 Redis로 일괄 반영됨
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.click-counter")
+@Validated
+public class ClickCounterProperties {
+    
+    // 일자별 카운터 키 보관 기간 (배치 집계가 끝날 때까지 유지되어야 함)
+    @NotNull(message = "Click counter retention cannot be null")
+    private Duration retention = Duration.ofDays(7);
+    
+    // 이 횟수만큼 연속으로 증가가 없던 버킷은 메모리에서 제거
+    @Min(value = 1, message = "Idle flushes before eviction must be positive")
+    private int idleFlushesBeforeEviction = 3;
+}
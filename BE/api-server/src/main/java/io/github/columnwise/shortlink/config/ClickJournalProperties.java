@@ -0,0 +1,33 @@
+package io.github.columnwise.shortlink.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 로컬 클릭 저널 설정
+ * 방문을 메모리 매핑된 세그먼트 파일에 먼저 기록해 두고, Redis 반영이 확인되면 세그먼트를 삭제
+ * 프로세스가 Redis 장애 중에 재시작되어도 반영되지 않은 방문은 기동 시 다시 읽어 반영
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.click-journal")
+@Validated
+public class ClickJournalProperties {
+    
+    private boolean enabled = false;
+    
+    @NotBlank(message = "Click journal directory cannot be blank")
+    private String directory = "click-journal";
+    
+    // 세그먼트 파일 하나에 담는 레코드 수 (레코드당 64 bytes, 기본 4MiB)
+    @Min(value = 1, message = "Click journal records per segment must be positive")
+    private int recordsPerSegment = 65_536;
+    
+    // 반영이 확인되지 않은 세그먼트 최대 개수, 넘으면 장애가 끝날 때까지 저널 기록을 건너뜀
+    @Min(value = 2, message = "Click journal must keep at least two segments")
+    private int maxSegments = 64;
+}
@@ -0,0 +1,36 @@
+package io.github.columnwise.shortlink.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 클릭 이벤트 스트림 발행 설정
+ * 이벤트는 메모리 큐에 쌓였다가 app.click-stream.flush-interval(기본 200ms)마다 샤드별 Redis Stream에 일괄 XADD
+ * 샤드 수는 배치 서버의 app.batch.click-stream.shard-count와 같아야 함
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.click-stream")
+@Validated
+public class ClickStreamProperties {
+    
+    private boolean enabled = false;
+    
+    @Min(value = 1, message = "Click stream shard count must be positive")
+    private int shardCount = 4;
+    
+    // 샤드당 보관할 최대 엔트리 수 (MAXLEN ~, 컨슈머가 멈춰도 메모리가 무한히 늘지 않도록 제한)
+    @Min(value = 1, message = "Click stream max length must be positive")
+    private long maxLength = 1_000_000;
+    
+    // 전송 대기 이벤트 상한, 넘치면 리다이렉트를 막지 않고 이벤트를 버림
+    @Min(value = 1, message = "Click stream buffer capacity must be positive")
+    private int bufferCapacity = 100_000;
+    
+    // 플러시 한 번에 파이프라인으로 보내는 최대 이벤트 수
+    @Min(value = 1, message = "Click stream flush batch size must be positive")
+    private int flushBatchSize = 1_000;
+}
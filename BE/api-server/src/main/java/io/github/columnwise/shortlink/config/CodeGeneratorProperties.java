@@ -0,0 +1,105 @@
+package io.github.columnwise.shortlink.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 단축 코드 생성 전략 설정
+ * HASH는 URL 해시 접두어(충돌 시 재시도), SNOWFLAKE는 시각/워커 ID/시퀀스로 만든 64비트 ID,
+ * SEQUENTIAL은 Redis에서 블록 단위로 임대한 순차 ID, SCRAMBLED는 그 순차 ID를 키로 정한 순열로 섞은 고정 길이 코드
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.code-generator")
+@Validated
+public class CodeGeneratorProperties {
+    
+    @NotNull(message = "Code generator strategy cannot be null")
+    private Strategy strategy = Strategy.HASH;
+    
+    @Valid
+    @NotNull
+    private Snowflake snowflake = new Snowflake();
+    
+    @Valid
+    @NotNull
+    private Block block = new Block();
+    
+    @Valid
+    @NotNull
+    private Scrambled scrambled = new Scrambled();
+    
+    public enum Strategy {
+        HASH,
+        SNOWFLAKE,
+        SEQUENTIAL,
+        SCRAMBLED
+    }
+    
+    @Data
+    public static class Snowflake {
+        // 타임스탬프 기준 시각, 운영 중에 바꾸면 이미 발급된 ID와 겹칠 수 있음
+        @NotNull(message = "Snowflake epoch cannot be null")
+        private Instant epoch = Instant.parse("2025-01-01T00:00:00Z");
+        
+        // 워커 ID 비트 수, 동시에 실행할 수 있는 인스턴스는 2^workerIdBits개
+        @Min(value = 1, message = "Snowflake worker ID bits must be positive")
+        @Max(value = 16, message = "Snowflake worker ID bits cannot exceed 16")
+        private int workerIdBits = 10;
+        
+        // 밀리초당 시퀀스 비트 수
+        @Min(value = 1, message = "Snowflake sequence bits must be positive")
+        @Max(value = 16, message = "Snowflake sequence bits cannot exceed 16")
+        private int sequenceBits = 12;
+        
+        @NotNull(message = "Snowflake worker lease TTL cannot be null")
+        private Duration leaseTtl = Duration.ofSeconds(30);
+        
+        @NotNull(message = "Snowflake worker lease renew interval cannot be null")
+        private Duration leaseRenewInterval = Duration.ofSeconds(10);
+        
+        // 이 범위 안의 시계 역행은 마지막 시각을 이어 써서 흡수하고, 넘으면 발급을 거부
+        @NotNull(message = "Snowflake max clock rollback cannot be null")
+        private Duration maxClockRollback = Duration.ofSeconds(5);
+    }
+    
+    @Data
+    public static class Block {
+        // Redis 호출 한 번에 임대하는 ID 수
+        @Min(value = 1, message = "ID block size must be positive")
+        private long size = 10_000;
+        
+        // 현재 블록을 이 비율만큼 쓰면 다음 블록을 미리 임대
+        @DecimalMin(value = "0.0", message = "ID block prefetch threshold cannot be negative")
+        @DecimalMax(value = "1.0", message = "ID block prefetch threshold cannot exceed 1.0")
+        private double prefetchThreshold = 0.8;
+    }
+    
+    @Data
+    public static class Scrambled {
+        // 코드 길이, 발급 가능한 코드 수는 62^codeLength (7자리 약 3.5조)
+        @Min(value = 4, message = "Scrambled code length must be at least 4")
+        @Max(value = 10, message = "Scrambled code length cannot exceed 10")
+        private int codeLength = 7;
+        
+        // 순열을 정하는 비밀 키 (기본값 없음, SCRAMBLED 전략이면 필수)
+        // 키를 아는 사람은 순열을 되돌려 코드를 순회할 수 있으므로 저장소에 두지 말고 환경 변수나 시크릿 저장소로 주입
+        // (APP_CODE_GENERATOR_SCRAMBLED_KEY), 운영 중에 바꾸면 이미 발급한 코드와 겹칠 수 있음
+        private String key;
+        
+        // Feistel 라운드 수 (짝수)
+        @Min(value = 2, message = "Scrambled code rounds must be at least 2")
+        private int rounds = 8;
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.columnwise.shortlink.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 발급 코드 존재 필터 설정
+ * 존재하지 않는 코드 요청을 Redis/DB 조회 없이 거절하기 위한 Bloom filter
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.existence-filter")
+@Validated
+public class ExistenceFilterProperties {
+    
+    private boolean enabled = true;
+    
+    // 첫 단계의 예상 원소 수, 초과 시 필터가 단계적으로 확장됨
+    @Min(value = 1, message = "Existence filter expected insertions must be positive")
+    private long expectedInsertions = 1_000_000;
+    
+    @DecimalMin(value = "0.0", inclusive = false, message = "False positive rate must be positive")
+    @DecimalMax(value = "0.5", message = "False positive rate cannot exceed 0.5")
+    private double falsePositiveRate = 0.001;
+    
+    @Min(value = 1, message = "Rebuild page size must be positive")
+    private int rebuildPageSize = 10_000;
+    
+    // 주기적 조회 시 워터마크보다 이만큼 앞의 id부터 다시 읽음
+    // IDENTITY id는 커밋 순서와 다를 수 있어, 워터마크를 지난 뒤 커밋된 행을 pub/sub 유실 시에도 놓치지 않기 위함
+    @Min(value = 0, message = "Existence filter catch-up overlap must not be negative")
+    private long catchUpOverlap = 10_000;
+    
+    // 다른 인스턴스에서 발급된 코드를 전파하는 Redis pub/sub 채널
+    @NotBlank(message = "Existence filter channel cannot be blank")
+    private String channel = "shortlink:codes:created";
+}
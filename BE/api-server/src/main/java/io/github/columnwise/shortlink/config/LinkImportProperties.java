@@ -0,0 +1,26 @@
+package io.github.columnwise.shortlink.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 링크 가져오기(POST /api/v1/urls/import) 설정
+ * 요청 본문을 청크 단위로 읽고 저장하므로 메모리에는 청크 하나만 유지됨
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.link-import")
+@Validated
+public class LinkImportProperties {
+    
+    // 한 번에 검증하고 배치 INSERT로 저장하는 줄 수
+    @Min(value = 1, message = "Link import chunk size must be positive")
+    private int chunkSize = 1000;
+    
+    // 응답에 담는 실패 항목의 최대 수 (나머지는 개수만 집계)
+    @Min(value = 0, message = "Link import max reported errors cannot be negative")
+    private int maxReportedErrors = 100;
+}
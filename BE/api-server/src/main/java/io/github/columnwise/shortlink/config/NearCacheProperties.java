@@ -0,0 +1,27 @@
+package io.github.columnwise.shortlink.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * JVM 내부 니어 캐시(L1) 설정
+ * Redis(L2) 앞단에서 핫 코드를 프로세스 메모리에 유지
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.near-cache")
+@Validated
+public class NearCacheProperties {
+    
+    @Min(value = 1, message = "Near cache maximum size must be positive")
+    private long maximumSize = 10_000;
+    
+    @NotNull(message = "Near cache TTL cannot be null")
+    private Duration ttl = Duration.ofMinutes(5);
+}
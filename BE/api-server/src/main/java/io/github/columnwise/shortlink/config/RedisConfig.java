@@ -1,24 +1,34 @@
 package io.github.columnwise.shortlink.config;
 
-import io.github.columnwise.shortlink.domain.model.ShortUrl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.columnwise.shortlink.adapter.cache.CachedShortUrl;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
 public class RedisConfig {
 
+    /**
+     * 단축 URL 캐시 엔트리 전용 템플릿
+     * Instant 필드 직렬화를 위해 JavaTimeModule이 등록된 Boot ObjectMapper를 사용
+     */
     @Bean
-    public RedisTemplate<String, ShortUrl> redisTemplate(RedisConnectionFactory connectionFactory) {
-        RedisTemplate<String, ShortUrl> template = new RedisTemplate<>();
+    public RedisTemplate<String, CachedShortUrl> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                               ObjectMapper objectMapper) {
+        Jackson2JsonRedisSerializer<CachedShortUrl> valueSerializer =
+                new Jackson2JsonRedisSerializer<>(objectMapper, CachedShortUrl.class);
+        RedisTemplate<String, CachedShortUrl> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setValueSerializer(valueSerializer);
         template.setHashKeySerializer(new StringRedisSerializer());
-        template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setHashValueSerializer(valueSerializer);
         return template;
     }
 
@@ -32,4 +42,11 @@ public class RedisConfig {
         template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
         return template;
     }
-}
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
\ No newline at end of file
@@ -1,6 +1,8 @@
 package io.github.columnwise.shortlink.config;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
@@ -28,6 +30,10 @@ public class RedisProperties {
     @NotNull
     private Lock lock = new Lock();
     
+    @Valid
+    @NotNull
+    private LongUrl longUrl = new LongUrl();
+    
     @Data
     public static class Cache {
         @NotBlank(message = "Cache key prefix cannot be blank")
@@ -35,6 +41,21 @@ public class RedisProperties {
         
         @NotNull(message = "Cache default TTL cannot be null")
         private Duration defaultTtl = Duration.ofMinutes(30);
+        
+        // 동시 만료를 막기 위한 TTL 분산 비율 (0.1 = ±10%)
+        @DecimalMin(value = "0.0", message = "Cache TTL jitter ratio cannot be negative")
+        @DecimalMax(value = "0.5", message = "Cache TTL jitter ratio cannot exceed 0.5")
+        private double ttlJitterRatio = 0.1;
+        
+        private boolean earlyRefreshEnabled = true;
+        
+        // XFetch beta: 클수록 더 일찍 갱신
+        @DecimalMin(value = "0.0", inclusive = false, message = "Early refresh beta must be positive")
+        private double earlyRefreshBeta = 1.0;
+        
+        // 재계산 비용이 측정되지 않은 엔트리에 적용할 최소 비용
+        @NotNull(message = "Early refresh minimum compute time cannot be null")
+        private Duration earlyRefreshMinComputeTime = Duration.ofMillis(500);
     }
     
     @Data
@@ -51,4 +72,14 @@ public class RedisProperties {
         @NotNull(message = "Lock default expiration cannot be null")
         private Duration defaultExpiration = Duration.ofSeconds(30);
     }
-}
\ No newline at end of file
+    
+    @Data
+    public static class LongUrl {
+        // 원본 URL 지문 -> 단축 URL 캐시, 같은 URL을 반복해서 단축할 때 DB를 조회하지 않기 위함
+        @NotBlank(message = "Long URL cache key prefix cannot be blank")
+        private String keyPrefix = "longurl:";
+        
+        @NotNull(message = "Long URL cache TTL cannot be null")
+        private Duration ttl = Duration.ofHours(24);
+    }
+}
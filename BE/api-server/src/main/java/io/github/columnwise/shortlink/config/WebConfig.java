@@ -1,15 +1,20 @@
 package io.github.columnwise.shortlink.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Clock;
+import java.time.ZoneId;
 
 @Configuration
 public class WebConfig {
     
+    /**
+     * 일자 버킷 기준 시계. 배치 서버와 같은 app.time-zone을 써야 API가 조회하는 날짜와 배치가 집계한 날짜가 일치함
+     */
     @Bean
-    public Clock clock() {
-        return Clock.systemDefaultZone();
+    public Clock clock(@Value("${app.time-zone:UTC}") String timeZone) {
+        return Clock.system(ZoneId.of(timeZone));
     }
 }
@@ -1,4 +0,0 @@
-package io.github.columnwise.shortlink.util;
-
-public class Base62 {
-}
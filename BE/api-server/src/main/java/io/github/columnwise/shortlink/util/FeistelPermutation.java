@@ -0,0 +1,132 @@
+package io.github.columnwise.shortlink.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 키로 정해지는 [0, 62^length) 구간의 전단사 순열 (형식 보존 Feistel 네트워크)
+ * 값을 (A, B) ∈ Z_m × Z_n (m = 62^⌊length/2⌋, n = 62^⌈length/2⌉)으로 나누고 라운드마다 두 법을 번갈아 쓰므로
+ * 짝수 라운드 뒤 결과가 항상 같은 구간에 남아 cycle walking 없이 한 번에 계산됨
+ * 순차 번호를 넣어도 결과가 흩어져 다음 코드를 추측할 수 없고, 전단사이므로 서로 다른 번호는 항상 다른 코드가 됨
+ * permute/inverse는 객체를 할당하지 않고, 라운드 안에서는 나눗셈 없이 곱셈/시프트만 사용
+ */
+public final class FeistelPermutation {
+    
+    private static final long BASE = 62;
+    
+    private final int length;
+    private final long leftModulus;
+    private final long rightModulus;
+    private final long[] roundKeys;
+    
+    private FeistelPermutation(int length, long[] roundKeys) {
+        this.length = length;
+        this.leftModulus = pow(length / 2);
+        this.rightModulus = pow(length - length / 2);
+        this.roundKeys = roundKeys;
+    }
+    
+    /**
+     * @param length 코드 길이 (2~10, 62^10은 long 범위 안)
+     * @param key 순열을 정하는 비밀 키, 바꾸면 이미 발급한 코드와 겹칠 수 있음
+     * @param rounds Feistel 라운드 수 (2 이상의 짝수)
+     */
+    public static FeistelPermutation base62(int length, String key, int rounds) {
+        if (length < 2 || length > 10) {
+            throw new IllegalArgumentException("Length must be between 2 and 10: " + length);
+        }
+        if (rounds < 2 || rounds % 2 != 0) {
+            throw new IllegalArgumentException("Rounds must be a positive even number: " + rounds);
+        }
+        if (key == null || key.isEmpty()) {
+            throw new IllegalArgumentException("Key must not be empty");
+        }
+        return new FeistelPermutation(length, deriveRoundKeys(key, rounds));
+    }
+    
+    public int length() {
+        return length;
+    }
+    
+    /**
+     * 순열이 정의된 값의 개수 (62^length)
+     */
+    public long size() {
+        return leftModulus * rightModulus;
+    }
+    
+    public long permute(long value) {
+        checkRange(value);
+        long a = value / rightModulus;
+        long b = value % rightModulus;
+        for (int round = 0; round < roundKeys.length; round++) {
+            long modulus = (round & 1) == 0 ? leftModulus : rightModulus;
+            long next = a + roundFunction(b, round, modulus);
+            if (next >= modulus) {
+                next -= modulus;
+            }
+            a = b;
+            b = next;
+        }
+        return a * rightModulus + b;
+    }
+    
+    public long inverse(long value) {
+        checkRange(value);
+        long a = value / rightModulus;
+        long b = value % rightModulus;
+        for (int round = roundKeys.length - 1; round >= 0; round--) {
+            long modulus = (round & 1) == 0 ? leftModulus : rightModulus;
+            long previous = b - roundFunction(a, round, modulus);
+            if (previous < 0) {
+                previous += modulus;
+            }
+            b = a;
+            a = previous;
+        }
+        return a * rightModulus + b;
+    }
+    
+    private long roundFunction(long value, int round, long modulus) {
+        long h = value + roundKeys[round];
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        // 상위 32비트를 곱셈-시프트로 [0, modulus)에 대응 (법은 62^5 < 2^32이므로 나눗셈 없이 계산)
+        return (((h ^ (h >>> 31)) >>> 32) * modulus) >>> 32;
+    }
+    
+    private void checkRange(long value) {
+        if (value < 0 || value >= size()) {
+            throw new IllegalArgumentException("Value out of range [0, " + size() + "): " + value);
+        }
+    }
+    
+    private static long pow(int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= BASE;
+        }
+        return result;
+    }
+    
+    private static long[] deriveRoundKeys(String key, int rounds) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long seed = ByteBuffer.wrap(digest.digest(key.getBytes(StandardCharsets.UTF_8))).getLong();
+            long[] roundKeys = new long[rounds];
+            for (int i = 0; i < rounds; i++) {
+                // SplitMix64 수열로 라운드 키 전개
+                seed += 0x9E3779B97F4A7C15L;
+                long z = seed;
+                z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+                z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+                roundKeys[i] = z ^ (z >>> 31);
+            }
+            return roundKeys;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
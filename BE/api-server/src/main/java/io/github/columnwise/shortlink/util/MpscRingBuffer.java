@@ -0,0 +1,119 @@
+package io.github.columnwise.shortlink.util;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 락 없는 고정 크기 다중 생산자/단일 소비자 링 버퍼 (Vyukov bounded queue)
+ * 슬롯마다 시퀀스 번호를 두어 생산자는 tail CAS 한 번으로 슬롯을 예약하고, 가득 차면 대기하지 않고 false 반환
+ * poll/drainTo는 한 스레드에서만 호출해야 함
+ */
+public class MpscRingBuffer<E> {
+    
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    // 슬롯 i의 시퀀스가 pos이면 pos번째 offer가 쓸 수 있고, pos + 1이면 pos번째 poll이 읽을 수 있음
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    // 소비자 스레드만 갱신, size() 조회를 위해 volatile
+    private volatile long head;
+    
+    public MpscRingBuffer(int requestedCapacity) {
+        if (requestedCapacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (requestedCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must not exceed 2^30");
+        }
+        // 인덱스 계산을 나머지 대신 비트 마스크로 하기 위해 2의 거듭제곱으로 올림
+        this.capacity = requestedCapacity == 1 ? 1 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+    
+    /**
+     * 원소 추가 (여러 스레드에서 동시 호출 가능)
+     *
+     * @return 버퍼가 가득 차서 추가하지 못했으면 false
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("Element cannot be null");
+        }
+        long position = tail.get();
+        int index;
+        while (true) {
+            index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // 한 바퀴 전 원소를 소비자가 아직 가져가지 않음
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+        elements.set(index, element);
+        sequences.set(index, position + 1);
+        return true;
+    }
+    
+    /**
+     * 원소 하나를 꺼냄 (소비자 스레드 전용)
+     *
+     * @return 비어 있거나 예약된 슬롯에 아직 값이 기록되지 않았으면 null
+     */
+    public E poll() {
+        long position = head;
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        E element = elements.get(index);
+        elements.set(index, null);
+        sequences.set(index, position + capacity);
+        head = position + 1;
+        return element;
+    }
+    
+    /**
+     * 최대 maxElements개를 꺼내 target에 추가 (소비자 스레드 전용)
+     *
+     * @return 꺼낸 원소 수
+     */
+    public int drainTo(Collection<? super E> target, int maxElements) {
+        int drained = 0;
+        while (drained < maxElements) {
+            E element = poll();
+            if (element == null) {
+                break;
+            }
+            target.add(element);
+            drained++;
+        }
+        return drained;
+    }
+    
+    /**
+     * 현재 들어 있는 원소 수의 근사치
+     */
+    public int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+    
+    public int capacity() {
+        return capacity;
+    }
+}
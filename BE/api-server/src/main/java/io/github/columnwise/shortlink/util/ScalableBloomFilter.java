@@ -0,0 +1,181 @@
+package io.github.columnwise.shortlink.util;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 원소 수를 미리 알 수 없을 때 사용하는 확장형 Bloom filter (Almeida et al., Scalable Bloom Filters)
+ * 현재 단계가 용량에 도달하면 더 크고 오탐률이 낮은 단계를 추가하여 전체 오탐률 상한을 유지
+ * 조회/추가 모두 락 없이 동작하며, 삭제는 지원하지 않음
+ */
+public class ScalableBloomFilter {
+    
+    private static final int GROWTH_FACTOR = 2;
+    private static final double TIGHTENING_RATIO = 0.5;
+    
+    private final List<Stage> stages = new CopyOnWriteArrayList<>();
+    
+    public ScalableBloomFilter(long initialCapacity, double falsePositiveRate) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Initial capacity must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+        // 단계별 오탐률이 p(1-r), p(1-r)r, ... 로 줄어들어 합이 p를 넘지 않음
+        stages.add(new Stage(initialCapacity, falsePositiveRate * (1 - TIGHTENING_RATIO)));
+    }
+    
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        return mightContain(hash, secondHash(hash));
+    }
+    
+    public void put(String value) {
+        long hash = hash64(value);
+        long hash2 = secondHash(hash);
+        // 이미 들어 있을 수 있는 값은 단계 용량을 소모하지 않도록 건너뜀
+        if (mightContain(hash, hash2)) {
+            return;
+        }
+        currentStage().put(hash, hash2);
+    }
+    
+    /**
+     * 추가된 원소 수의 근사치 (오탐으로 건너뛴 원소는 제외됨)
+     */
+    public long approximateElementCount() {
+        long count = 0;
+        for (Stage stage : stages) {
+            count += stage.count.get();
+        }
+        return count;
+    }
+    
+    /**
+     * 비트 배열이 차지하는 메모리 (bytes)
+     */
+    public long memoryBytes() {
+        long bytes = 0;
+        for (Stage stage : stages) {
+            bytes += (long) stage.words.length() * Long.BYTES;
+        }
+        return bytes;
+    }
+    
+    /**
+     * 현재 채워진 정도를 기준으로 추정한 오탐률
+     */
+    public double expectedFalsePositiveRate() {
+        double missAll = 1.0;
+        for (Stage stage : stages) {
+            missAll *= 1.0 - stage.currentFalsePositiveRate();
+        }
+        return 1.0 - missAll;
+    }
+    
+    public int stageCount() {
+        return stages.size();
+    }
+    
+    private boolean mightContain(long hash, long hash2) {
+        for (Stage stage : stages) {
+            if (stage.mightContain(hash, hash2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private Stage currentStage() {
+        Stage last = stages.get(stages.size() - 1);
+        if (!last.isFull()) {
+            return last;
+        }
+        synchronized (this) {
+            last = stages.get(stages.size() - 1);
+            if (last.isFull()) {
+                last = new Stage(last.capacity * GROWTH_FACTOR, last.falsePositiveRate * TIGHTENING_RATIO);
+                stages.add(last);
+            }
+            return last;
+        }
+    }
+    
+    private static long hash64(String value) {
+        long h = 0x9E3779B97F4A7C15L ^ value.length();
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0xBF58476D1CE4E5B9L;
+            h = Long.rotateLeft(h, 31);
+        }
+        return mix64(h);
+    }
+    
+    private static long secondHash(long hash) {
+        // 이중 해싱 간격은 홀수여야 비트 배열 전체를 순회함
+        return mix64(hash ^ 0x94D049BB133111EBL) | 1L;
+    }
+    
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+    
+    private static final class Stage {
+        
+        private final long capacity;
+        private final double falsePositiveRate;
+        private final long numBits;
+        private final int numHashes;
+        private final AtomicLongArray words;
+        private final AtomicLong count = new AtomicLong();
+        
+        private Stage(long capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+            this.falsePositiveRate = falsePositiveRate;
+            long bits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64);
+            this.numBits = (long) wordCount * 64;
+            this.numHashes = Math.max(1, (int) Math.round((double) numBits / capacity * Math.log(2)));
+            this.words = new AtomicLongArray(wordCount);
+        }
+        
+        private boolean mightContain(long hash, long hash2) {
+            long combined = hash;
+            for (int i = 0; i < numHashes; i++) {
+                long bit = Math.floorMod(combined, numBits);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+                combined += hash2;
+            }
+            return true;
+        }
+        
+        private void put(long hash, long hash2) {
+            long combined = hash;
+            for (int i = 0; i < numHashes; i++) {
+                long bit = Math.floorMod(combined, numBits);
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                if ((words.get(index) & mask) == 0) {
+                    words.getAndAccumulate(index, mask, (current, m) -> current | m);
+                }
+                combined += hash2;
+            }
+            count.incrementAndGet();
+        }
+        
+        private boolean isFull() {
+            return count.get() >= capacity;
+        }
+        
+        private double currentFalsePositiveRate() {
+            return Math.pow(1 - Math.exp(-(double) numHashes * count.get() / numBits), numHashes);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.columnwise.shortlink.util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키에 대한 동시 로딩 요청을 하나로 합치는 유틸리티
+ * 키별로 첫 번째 호출자(leader)만 loader를 실행하고, 진행 중에 들어온 호출자는 그 결과를 공유
+ * 로딩이 끝나면 키가 제거되므로 값 자체를 캐싱하지는 않음
+ */
+public class SingleFlight<K, V> {
+    
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder leaderCalls = new LongAdder();
+    private final LongAdder sharedCalls = new LongAdder();
+    
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            sharedCalls.increment();
+            return await(existing);
+        }
+        
+        leaderCalls.increment();
+        try {
+            V value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+    
+    /**
+     * 직접 loader를 실행한 호출 수
+     */
+    public long leaderCount() {
+        return leaderCalls.sum();
+    }
+    
+    /**
+     * 다른 호출자의 결과를 공유받은(병합된) 호출 수
+     */
+    public long sharedCount() {
+        return sharedCalls.sum();
+    }
+    
+    /**
+     * 호출 통계를 Micrometer에 등록
+     * @param registry 메트릭 레지스트리
+     * @param name 메트릭 태그로 사용할 이름
+     */
+    public void bindTo(MeterRegistry registry, String name) {
+        FunctionCounter.builder("shortlink.singleflight.calls", leaderCalls, LongAdder::sum)
+                .tag("name", name)
+                .tag("role", "leader")
+                .description("Lookups that executed the loader")
+                .register(registry);
+        FunctionCounter.builder("shortlink.singleflight.calls", sharedCalls, LongAdder::sum)
+                .tag("name", name)
+                .tag("role", "shared")
+                .description("Concurrent identical lookups that shared an in-flight result")
+                .register(registry);
+        Gauge.builder("shortlink.singleflight.in.flight", inFlight, ConcurrentHashMap::size)
+                .tag("name", name)
+                .description("Keys currently being loaded")
+                .register(registry);
+    }
+    
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.columnwise.shortlink.util;
+
+/**
+ * 고유 방문자 집계에 사용하는 방문자 식별자 생성
+ * IP와 User-Agent를 64비트 해시로 줄여 원본 값을 Redis에 남기지 않음
+ */
+public final class VisitorFingerprint {
+    
+    private VisitorFingerprint() {
+    }
+    
+    public static String of(String ipAddress, String userAgent) {
+        long h = 0xCBF29CE484222325L;
+        h = hash(h, ipAddress);
+        h = hash(h, "|");
+        h = hash(h, userAgent);
+        return Long.toHexString(mix(h));
+    }
+    
+    /**
+     * 클릭 이벤트에 기록할 IP 해시
+     */
+    public static String ipHash(String ipAddress) {
+        return ipAddress != null ? Long.toHexString(mix(hash(0xCBF29CE484222325L, ipAddress))) : null;
+    }
+    
+    /**
+     * 클릭 이벤트에 기록할 User-Agent 식별자 (같은 User-Agent 문자열은 같은 값)
+     */
+    public static String userAgentId(String userAgent) {
+        return userAgent != null ? Integer.toHexString((int) mix(hash(0xCBF29CE484222325L, userAgent))) : null;
+    }
+    
+    private static long mix(long h) {
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+    
+    private static long hash(long h, String value) {
+        if (value == null) {
+            return h;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return h;
+    }
+}
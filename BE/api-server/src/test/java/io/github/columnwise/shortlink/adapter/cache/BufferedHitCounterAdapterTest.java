@@ -0,0 +1,193 @@
+package io.github.columnwise.shortlink.adapter.cache;
+
+import io.github.columnwise.shortlink.adapter.journal.MappedClickJournal;
+import io.github.columnwise.shortlink.config.ClickCounterProperties;
+import io.github.columnwise.shortlink.config.ClickJournalProperties;
+import io.github.columnwise.shortlink.config.RedisProperties;
+import io.github.columnwise.shortlink.domain.service.ShortUrlPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.HyperLogLogOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BufferedHitCounterAdapterTest {
+    
+    private static final String DAILY_KEY = "url:access:daily:{abc123}";
+    private static final String TODAY = "2024-01-01";
+    
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    
+    @Mock
+    private RedisHitCounterAdapter redisHitCounter;
+    
+    @Mock
+    private RedisOperations<String, String> operations;
+    
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+    
+    @Mock
+    private SetOperations<String, String> setOperations;
+    
+    @Mock
+    private HyperLogLogOperations<String, String> hyperLogLogOperations;
+    
+    private BufferedHitCounterAdapter hitCounter;
+    
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2024-01-01T12:00:00Z"), ZoneOffset.UTC);
+        hitCounter = new BufferedHitCounterAdapter(redisTemplate, redisHitCounter, new RedisProperties(),
+                new ClickCounterProperties(), clock,
+                new MappedClickJournal(new ClickJournalProperties(), new SimpleMeterRegistry()),
+                new SimpleMeterRegistry());
+        
+        when(operations.opsForValue()).thenReturn(valueOperations);
+        when(operations.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(operations.opsForSet()).thenReturn(setOperations);
+        when(operations.opsForHyperLogLog()).thenReturn(hyperLogLogOperations);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            SessionCallback<?> callback = invocation.getArgument(0);
+            callback.execute(operations);
+            return List.of();
+        });
+    }
+    
+    @Test
+    @DisplayName("방문은 즉시 Redis로 가지 않고 플러시 시 합계가 한 번의 파이프라인으로 반영됨")
+    void flush_AggregatesClicksIntoSinglePipeline() {
+        // Given
+        hitCounter.incrementHitCount("abc123");
+        hitCounter.incrementHitCount("abc123");
+        hitCounter.incrementHitCount("abc123");
+        hitCounter.incrementHitCount("xyz789");
+        verifyNoInteractions(redisTemplate);
+        
+        // When
+        hitCounter.flush();
+        
+        // Then
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(hashOperations).increment(DAILY_KEY, TODAY, 3L);
+        verify(hashOperations).increment("url:access:daily:{xyz789}", TODAY, 1L);
+        verify(valueOperations).increment("hitcount:abc123", 3L);
+        verify(operations).expire("hitcount:abc123", ShortUrlPolicy.DEFAULT_TTL.toSeconds(), TimeUnit.SECONDS);
+        verify(setOperations).add("url:access:codes:{2024-01-01}", "abc123");
+    }
+    
+    @Test
+    @DisplayName("방문자 식별자는 플러시 시 코드/일자별 HyperLogLog에 한 번의 PFADD로 반영됨")
+    void flush_AddsVisitorsToHyperLogLog() {
+        // Given
+        hitCounter.recordVisit("abc123", "visitor-a");
+        hitCounter.recordVisit("abc123", "visitor-b");
+        hitCounter.recordVisit("abc123", "visitor-a");
+        
+        // When
+        hitCounter.flush();
+        
+        // Then
+        verify(hashOperations).increment(DAILY_KEY, TODAY, 3L);
+        ArgumentCaptor<String[]> visitors = ArgumentCaptor.forClass(String[].class);
+        verify(hyperLogLogOperations).add(eq("url:unique:visitors:{abc123}:2024-01-01"), visitors.capture());
+        assertThat(visitors.getValue()).containsExactlyInAnyOrder("visitor-a", "visitor-b");
+    }
+    
+    @Test
+    @DisplayName("버퍼에 방문이 없으면 Redis를 호출하지 않음")
+    void flush_NoClicks_SkipsRedis() {
+        // When
+        hitCounter.flush();
+        
+        // Then
+        verifyNoInteractions(redisTemplate);
+    }
+    
+    @Test
+    @DisplayName("플러시 실패 시 증가분을 유지했다가 다음 플러시에서 반영")
+    void flush_Failure_RetriesOnNextFlush() {
+        // Given
+        hitCounter.incrementHitCount("abc123");
+        hitCounter.incrementHitCount("abc123");
+        doThrow(new RedisConnectionFailureException("down"))
+                .doAnswer(invocation -> {
+                    SessionCallback<?> callback = invocation.getArgument(0);
+                    callback.execute(operations);
+                    return List.of();
+                })
+                .when(redisTemplate).executePipelined(any(SessionCallback.class));
+        
+        // When
+        hitCounter.flush();
+        hitCounter.incrementHitCount("abc123");
+        hitCounter.flush();
+        
+        // Then
+        verify(hashOperations).increment(DAILY_KEY, TODAY, 3L);
+    }
+    
+    @Test
+    @DisplayName("유휴 버킷을 제거한 뒤 들어온 방문도 다음 플러시에 반영됨")
+    void flush_AfterIdleEviction_KeepsLaterClicks() {
+        // Given
+        hitCounter.incrementHitCount("abc123");
+        hitCounter.flush();
+        for (int i = 0; i < new ClickCounterProperties().getIdleFlushesBeforeEviction() + 1; i++) {
+            hitCounter.flush();
+        }
+        
+        // When
+        hitCounter.incrementHitCount("abc123");
+        hitCounter.incrementHitCount("abc123");
+        hitCounter.flush();
+        
+        // Then
+        verify(hashOperations).increment(DAILY_KEY, TODAY, 1L);
+        verify(hashOperations).increment(DAILY_KEY, TODAY, 2L);
+        assertThat(hitCounter.getHitCount("abc123")).isZero();
+    }
+    
+    @Test
+    @DisplayName("조회수 조회 시 아직 반영되지 않은 방문도 포함")
+    void getHitCount_IncludesBufferedClicks() {
+        // Given
+        when(redisHitCounter.getHitCount("abc123")).thenReturn(10L);
+        hitCounter.incrementHitCount("abc123");
+        hitCounter.incrementHitCount("abc123");
+        
+        // When
+        long result = hitCounter.getHitCount("abc123");
+        
+        // Then
+        assertThat(result).isEqualTo(12L);
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.columnwise.shortlink.adapter.cache;
+
+import io.github.columnwise.shortlink.config.NearCacheProperties;
+import io.github.columnwise.shortlink.domain.model.ShortUrl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CaffeineNearCacheAdapterTest {
+    
+    private CaffeineNearCacheAdapter nearCacheAdapter;
+    
+    @BeforeEach
+    void setUp() {
+        NearCacheProperties properties = new NearCacheProperties();
+        properties.setMaximumSize(100);
+        
+        nearCacheAdapter = new CaffeineNearCacheAdapter(properties, new SimpleMeterRegistry());
+        nearCacheAdapter.init();
+    }
+    
+    @Test
+    @DisplayName("저장한 ShortUrl을 코드로 조회 성공")
+    void saveAndFind_Success() {
+        // Given
+        ShortUrl shortUrl = shortUrl("abc123");
+        
+        // When
+        nearCacheAdapter.save(shortUrl);
+        Optional<ShortUrl> result = nearCacheAdapter.findByCode("abc123");
+        
+        // Then
+        assertThat(result).contains(shortUrl);
+    }
+    
+    @Test
+    @DisplayName("저장되지 않은 코드 조회 시 Optional.empty 반환")
+    void findByCode_NotCached_ReturnsEmpty() {
+        // When
+        Optional<ShortUrl> result = nearCacheAdapter.findByCode("missing");
+        
+        // Then
+        assertThat(result).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("제거한 코드는 더 이상 조회되지 않음")
+    void evict_RemovesEntry() {
+        // Given
+        nearCacheAdapter.save(shortUrl("abc123"));
+        
+        // When
+        nearCacheAdapter.evict("abc123");
+        
+        // Then
+        assertThat(nearCacheAdapter.findByCode("abc123")).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("null 또는 빈 코드는 무시됨")
+    void invalidCode_Ignored() {
+        // When & Then
+        assertThat(nearCacheAdapter.findByCode(null)).isEmpty();
+        assertThat(nearCacheAdapter.findByCode("  ")).isEmpty();
+        assertThatCode(() -> nearCacheAdapter.save(null)).doesNotThrowAnyException();
+        assertThatCode(() -> nearCacheAdapter.evict(null)).doesNotThrowAnyException();
+    }
+    
+    private ShortUrl shortUrl(String code) {
+        return ShortUrl.builder()
+                .id(1L)
+                .code(code)
+                .longUrl("https://www.example.com")
+                .createdAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(86400))
+                .build();
+    }
+}
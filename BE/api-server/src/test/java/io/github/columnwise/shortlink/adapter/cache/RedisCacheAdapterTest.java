@@ -2,18 +2,22 @@ package io.github.columnwise.shortlink.adapter.cache;
 
 import io.github.columnwise.shortlink.config.RedisProperties;
 import io.github.columnwise.shortlink.domain.model.ShortUrl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -27,23 +31,26 @@ import org.mockito.quality.Strictness;
 class RedisCacheAdapterTest {
 
     @Mock
-    private RedisTemplate<String, ShortUrl> redisTemplate;
+    private RedisTemplate<String, CachedShortUrl> redisTemplate;
 
     @Mock
-    private ValueOperations<String, ShortUrl> valueOperations;
+    private ValueOperations<String, CachedShortUrl> valueOperations;
 
     @Mock
     private RedisProperties redisProperties;
 
     private RedisCacheAdapter cacheAdapter;
+    
+    private RedisProperties.Cache cacheConfig;
 
     @BeforeEach
     void setUp() {
         // Mock Redis properties
-        RedisProperties.Cache cacheConfig = new RedisProperties.Cache();
+        cacheConfig = new RedisProperties.Cache();
         when(redisProperties.getCache()).thenReturn(cacheConfig);
         
-        cacheAdapter = new RedisCacheAdapter(redisTemplate, redisProperties);
+        cacheAdapter = new RedisCacheAdapter(redisTemplate, redisProperties, new SimpleMeterRegistry(),
+                Clock.systemUTC());
     }
 
     @Test
@@ -60,7 +67,8 @@ class RedisCacheAdapterTest {
                 .build();
 
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get("shorturl:" + code)).thenReturn(shortUrl);
+        when(valueOperations.get("shorturl:" + code))
+                .thenReturn(new CachedShortUrl(shortUrl, 10L, System.currentTimeMillis() + 600_000L));
 
         // When
         Optional<ShortUrl> result = cacheAdapter.findByCode(code);
@@ -105,7 +113,95 @@ class RedisCacheAdapterTest {
         cacheAdapter.save(shortUrl);
 
         // Then
-        verify(valueOperations).set(eq("shorturl:abc123"), eq(shortUrl), any(Duration.class));
+        verify(valueOperations).set(eq("shorturl:abc123"),
+                argThat(entry -> entry.shortUrl().equals(shortUrl)), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("저장 시 TTL에 지터가 적용되어 기본 TTL ± 비율 범위 안에 분산됨")
+    void save_AppliesTtlJitter() {
+        // Given
+        cacheConfig.setDefaultTtl(Duration.ofMinutes(10));
+        cacheConfig.setTtlJitterRatio(0.2);
+        ShortUrl shortUrl = ShortUrl.builder()
+                .id(1L)
+                .code("abc123")
+                .longUrl("https://www.example.com")
+                .build();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            cacheAdapter.save(shortUrl, Duration.ofMillis(30));
+        }
+
+        // Then
+        ArgumentCaptor<Duration> ttlCaptor = ArgumentCaptor.forClass(Duration.class);
+        ArgumentCaptor<CachedShortUrl> entryCaptor = ArgumentCaptor.forClass(CachedShortUrl.class);
+        verify(valueOperations, times(50)).set(eq("shorturl:abc123"), entryCaptor.capture(), ttlCaptor.capture());
+        assertThat(ttlCaptor.getAllValues())
+                .allSatisfy(ttl -> assertThat(ttl).isBetween(Duration.ofMinutes(8), Duration.ofMinutes(12)));
+        assertThat(ttlCaptor.getAllValues().stream().distinct().count()).isGreaterThan(1);
+        assertThat(entryCaptor.getValue().computeMillis()).isEqualTo(30L);
+    }
+
+    @Test
+    @DisplayName("만료가 임박한 엔트리 조회 시 현재 값을 반환하고 백그라운드에서 갱신")
+    void findByCode_NearExpiry_RefreshesInBackground() {
+        // Given
+        String code = "abc123";
+        ShortUrl stale = ShortUrl.builder().id(1L).code(code).longUrl("https://old.example.com").build();
+        ShortUrl fresh = ShortUrl.builder().id(1L).code(code).longUrl("https://new.example.com").build();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("shorturl:" + code))
+                .thenReturn(new CachedShortUrl(stale, 100L, System.currentTimeMillis() - 1));
+
+        // When
+        Optional<ShortUrl> result = cacheAdapter.findByCode(code, () -> Optional.of(fresh));
+
+        // Then
+        assertThat(result).contains(stale);
+        verify(valueOperations, timeout(1000)).set(eq("shorturl:" + code),
+                argThat(entry -> entry.shortUrl().equals(fresh)), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("만료까지 여유가 있는 엔트리는 조기 갱신하지 않음")
+    void findByCode_FarFromExpiry_DoesNotRefresh() {
+        // Given
+        String code = "abc123";
+        ShortUrl shortUrl = ShortUrl.builder().id(1L).code(code).longUrl("https://www.example.com").build();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("shorturl:" + code))
+                .thenReturn(new CachedShortUrl(shortUrl, 1L, System.currentTimeMillis() + 3_600_000L));
+        cacheConfig.setEarlyRefreshMinComputeTime(Duration.ofMillis(1));
+        Supplier<Optional<ShortUrl>> loader = mock(Supplier.class);
+
+        // When
+        Optional<ShortUrl> result = cacheAdapter.findByCode(code, loader);
+
+        // Then
+        assertThat(result).contains(shortUrl);
+        verifyNoInteractions(loader);
+    }
+
+    @Test
+    @DisplayName("조기 갱신이 비활성화되면 만료 임박 엔트리도 갱신하지 않음")
+    void findByCode_EarlyRefreshDisabled_DoesNotRefresh() {
+        // Given
+        String code = "abc123";
+        ShortUrl shortUrl = ShortUrl.builder().id(1L).code(code).longUrl("https://www.example.com").build();
+        cacheConfig.setEarlyRefreshEnabled(false);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("shorturl:" + code))
+                .thenReturn(new CachedShortUrl(shortUrl, 100L, System.currentTimeMillis() - 1));
+        Supplier<Optional<ShortUrl>> loader = mock(Supplier.class);
+
+        // When
+        cacheAdapter.findByCode(code, loader);
+
+        // Then
+        verifyNoInteractions(loader);
     }
 
     @Test
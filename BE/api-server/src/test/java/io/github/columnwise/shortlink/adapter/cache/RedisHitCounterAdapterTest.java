@@ -1,6 +1,8 @@
 package io.github.columnwise.shortlink.adapter.cache;
 
+import io.github.columnwise.shortlink.config.ClickCounterProperties;
 import io.github.columnwise.shortlink.config.RedisProperties;
+import io.github.columnwise.shortlink.domain.service.ShortUrlPolicy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,6 +12,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 
+import java.time.Clock;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -37,7 +41,8 @@ class RedisHitCounterAdapterTest {
         RedisProperties.HitCounter hitCounterConfig = new RedisProperties.HitCounter();
         when(redisProperties.getHitCounter()).thenReturn(hitCounterConfig);
         
-        hitCounterAdapter = new RedisHitCounterAdapter(redisTemplate, redisProperties);
+        hitCounterAdapter = new RedisHitCounterAdapter(redisTemplate, redisProperties, new ClickCounterProperties(),
+                Clock.systemUTC());
     }
 
     @Test
@@ -53,6 +58,7 @@ class RedisHitCounterAdapterTest {
 
         // Then
         verify(valueOperations).increment("hitcount:" + code);
+        verify(redisTemplate).expire("hitcount:" + code, ShortUrlPolicy.DEFAULT_TTL);
     }
 
     @Test
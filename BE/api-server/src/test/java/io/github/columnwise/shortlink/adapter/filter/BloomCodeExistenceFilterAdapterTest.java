@@ -0,0 +1,91 @@
+package io.github.columnwise.shortlink.adapter.filter;
+
+import io.github.columnwise.shortlink.application.port.out.ShortUrlRepositoryPort;
+import io.github.columnwise.shortlink.config.ExistenceFilterProperties;
+import io.github.columnwise.shortlink.domain.model.ShortUrl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BloomCodeExistenceFilterAdapterTest {
+    
+    @Mock
+    private ShortUrlRepositoryPort shortUrlRepository;
+    
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+    
+    private ExistenceFilterProperties properties;
+    private BloomCodeExistenceFilterAdapter filter;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new ExistenceFilterProperties();
+        properties.setExpectedInsertions(1_000);
+        filter = new BloomCodeExistenceFilterAdapter(shortUrlRepository, redisTemplate, listenerContainer,
+                properties, new SimpleMeterRegistry());
+        filter.init();
+    }
+    
+    @Test
+    @DisplayName("워터마크보다 작은 id로 늦게 커밋된 코드도 주기적 조회에서 필터에 추가됨")
+    void catchUp_LoadsRowsCommittedBehindWatermark() throws InterruptedException {
+        // Given
+        when(shortUrlRepository.findCodesAfterId(0L, properties.getRebuildPageSize()))
+                .thenReturn(List.of(row(1, "aaa111"), row(3, "ccc333")))
+                .thenReturn(List.of(row(1, "aaa111"), row(2, "bbb222"), row(3, "ccc333")));
+        filter.rebuild();
+        awaitReady();
+        assertThat(filter.mightExist("bbb222")).isFalse();
+        
+        // When
+        filter.catchUp();
+        
+        // Then
+        assertThat(filter.mightExist("bbb222")).isTrue();
+    }
+    
+    @Test
+    @DisplayName("주기적 조회는 워터마크 앞 catch-up-overlap개 id부터 다시 읽음")
+    void catchUp_RescansOverlapBehindWatermark() throws InterruptedException {
+        // Given
+        properties.setCatchUpOverlap(10);
+        when(shortUrlRepository.findCodesAfterId(0L, properties.getRebuildPageSize()))
+                .thenReturn(List.of(row(100, "aaa111")));
+        filter.rebuild();
+        awaitReady();
+        
+        // When
+        filter.catchUp();
+        
+        // Then
+        verify(shortUrlRepository).findCodesAfterId(90L, properties.getRebuildPageSize());
+    }
+    
+    private void awaitReady() throws InterruptedException {
+        // 재구축은 별도 스레드에서 진행되며, 끝나기 전에는 모든 코드가 존재할 수 있다고 응답
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (filter.mightExist("never-issued") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+    
+    private static ShortUrl row(long id, String code) {
+        return ShortUrl.builder().id(id).code(code).build();
+    }
+}
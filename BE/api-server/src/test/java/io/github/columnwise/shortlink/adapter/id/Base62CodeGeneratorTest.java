@@ -0,0 +1,20 @@
+package io.github.columnwise.shortlink.adapter.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Base62CodeGeneratorTest {
+    
+    private final Base62CodeGenerator generator = new Base62CodeGenerator();
+    
+    @Test
+    @DisplayName("SHA-256 해시의 Base62 표현 앞 10자리를 사용하고 같은 URL은 같은 코드")
+    void generate_UsesLeadingDigitsOfDigest() {
+        assertThat(generator.generate("https://www.example.com")).isEqualTo("mmJkB2p7OY");
+        assertThat(generator.generate("https://github.com/columnwise")).isEqualTo("XRxPB2WrvV");
+        assertThat(generator.generate("https://www.example.com")).isEqualTo("mmJkB2p7OY");
+        assertThat(generator.guaranteesUniqueness()).isFalse();
+    }
+}
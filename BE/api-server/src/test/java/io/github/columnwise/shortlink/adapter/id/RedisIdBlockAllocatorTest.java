@@ -0,0 +1,130 @@
+package io.github.columnwise.shortlink.adapter.id;
+
+import io.github.columnwise.shortlink.config.CodeGeneratorProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisIdBlockAllocatorTest {
+    
+    private static final String COUNTER_KEY = "id:block:counter";
+    
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    
+    private final AtomicLong counter = new AtomicLong();
+    private CodeGeneratorProperties properties;
+    private RedisIdBlockAllocator allocator;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new CodeGeneratorProperties();
+        properties.getBlock().setSize(10);
+        allocator = new RedisIdBlockAllocator(redisTemplate, properties, new SimpleMeterRegistry());
+        
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(valueOperations.increment(eq(COUNTER_KEY), anyLong()))
+                .thenAnswer(invocation -> counter.addAndGet(invocation.getArgument(1)));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        allocator.shutdown();
+    }
+    
+    @Test
+    @DisplayName("블록 안에서는 Redis 호출 없이 순차 ID를 내주고 다 쓰면 다음 블록으로 넘어감")
+    void nextId_HandsOutSequentialIdsPerBlock() {
+        // When
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            ids.add(allocator.nextId());
+        }
+        
+        // Then
+        assertThat(ids).containsExactlyElementsOf(
+                LongStream.rangeClosed(1, 25).boxed().toList());
+        verify(valueOperations, times(3)).increment(COUNTER_KEY, 10L);
+    }
+    
+    @Test
+    @DisplayName("임계치에 닿으면 다음 블록을 미리 임대")
+    void nextId_ReachesThreshold_PrefetchesNextBlock() {
+        // When
+        for (int i = 0; i < 9; i++) {
+            allocator.nextId();
+        }
+        
+        // Then
+        verify(valueOperations, timeout(1_000).times(2)).increment(COUNTER_KEY, 10L);
+        assertThat(allocator.nextId()).isEqualTo(10);
+        assertThat(allocator.nextId()).isEqualTo(11);
+    }
+    
+    @Test
+    @DisplayName("미리 임대가 실패하면 블록이 바닥났을 때 동기로 다시 임대")
+    void nextId_PrefetchFails_LeasesSynchronously() {
+        // Given
+        when(valueOperations.increment(COUNTER_KEY, 10L))
+                .thenReturn(10L)
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn(20L);
+        
+        // When
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            ids.add(allocator.nextId());
+        }
+        
+        // Then
+        assertThat(ids.get(10)).isEqualTo(11);
+    }
+    
+    @Test
+    @DisplayName("여러 스레드가 동시에 받아도 ID가 겹치지 않음")
+    void nextId_Concurrent_Unique() throws InterruptedException {
+        // Given
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        
+        // When
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    ids.add(allocator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        
+        // Then
+        assertThat(ids).hasSize(8_000);
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.columnwise.shortlink.adapter.id;
+
+import io.github.columnwise.shortlink.config.CodeGeneratorProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScrambledCodeGeneratorTest {
+    
+    @Mock
+    private RedisIdBlockAllocator idBlockAllocator;
+    
+    private CodeGeneratorProperties properties;
+    private ScrambledCodeGenerator generator;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new CodeGeneratorProperties();
+        generator = new ScrambledCodeGenerator(idBlockAllocator, properties);
+    }
+    
+    @Test
+    @DisplayName("비밀 키가 설정되지 않으면 기동 시 실패")
+    void init_WithoutKey_Fails() {
+        assertThatThrownBy(generator::init)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("app.code-generator.scrambled.key");
+        
+        properties.getScrambled().setKey("  ");
+        assertThatThrownBy(generator::init).isInstanceOf(IllegalStateException.class);
+    }
+    
+    @Test
+    @DisplayName("설정한 키로 연속된 ID를 서로 다른 고정 길이 코드로 변환")
+    void generate_WithKey_ReturnsFixedLengthCodes() {
+        // Given
+        properties.getScrambled().setKey("test-secret");
+        generator.init();
+        when(idBlockAllocator.nextId()).thenReturn(1L, 2L);
+        
+        // When
+        String first = generator.generate("https://www.example.com/1");
+        String second = generator.generate("https://www.example.com/2");
+        
+        // Then
+        assertThat(first).hasSize(7);
+        assertThat(second).hasSize(7).isNotEqualTo(first);
+    }
+}
@@ -0,0 +1,154 @@
+package io.github.columnwise.shortlink.adapter.id;
+
+import io.github.columnwise.shortlink.config.CodeGeneratorProperties;
+import io.github.columnwise.shortlink.util.Base62;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SnowflakeCodeGeneratorTest {
+    
+    private static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+    
+    @Mock
+    private RedisWorkerIdLease workerIdLease;
+    
+    private CodeGeneratorProperties properties;
+    private MutableClock clock;
+    private SnowflakeCodeGenerator generator;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new CodeGeneratorProperties();
+        properties.getSnowflake().setEpoch(EPOCH);
+        clock = new MutableClock(EPOCH.plusMillis(1_000));
+        generator = new SnowflakeCodeGenerator(workerIdLease, properties, clock);
+        when(workerIdLease.workerId()).thenReturn(7);
+    }
+    
+    @Test
+    @DisplayName("ID는 기준 시각 이후 ms, 워커 ID, 시퀀스 순으로 구성되고 코드는 그 Base62 표현")
+    void generate_EncodesTimestampWorkerAndSequence() {
+        // When
+        String first = generator.generate("https://example.com");
+        String second = generator.generate("https://example.com");
+        
+        // Then
+        long expected = (1_000L << 22) | (7L << 12);
+        assertThat(Base62.decode(first)).isEqualTo(expected);
+        assertThat(Base62.decode(second)).isEqualTo(expected + 1);
+        assertThat(generator.guaranteesUniqueness()).isTrue();
+    }
+    
+    @Test
+    @DisplayName("ms당 시퀀스를 다 쓰면 다음 ms를 앞당겨 계속 유일한 ID를 발급")
+    void nextId_SequenceExhausted_BorrowsNextMillisecond() {
+        // Given
+        properties.getSnowflake().setSequenceBits(2);
+        Set<Long> ids = new HashSet<>();
+        
+        // When
+        for (int i = 0; i < 10; i++) {
+            ids.add(generator.nextId());
+        }
+        
+        // Then
+        assertThat(ids).hasSize(10);
+    }
+    
+    @Test
+    @DisplayName("허용 범위 안의 시계 역행은 흡수하고, 넘으면 발급을 거부")
+    void nextId_ClockRollback_ToleratesSmallDrift() {
+        // Given
+        long before = generator.nextId();
+        
+        // When
+        clock.set(EPOCH.plusMillis(500));
+        long afterSmallRollback = generator.nextId();
+        clock.set(EPOCH.plusMillis(1_000).minusSeconds(10));
+        
+        // Then
+        assertThat(afterSmallRollback).isGreaterThan(before);
+        assertThatThrownBy(() -> generator.nextId())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Clock moved backwards");
+    }
+    
+    @Test
+    @DisplayName("워커 ID 임대가 없으면 발급하지 않음")
+    void generate_LeaseNotHeld_Throws() {
+        // Given
+        when(workerIdLease.workerId()).thenThrow(new IllegalStateException("Snowflake worker ID lease is not held"));
+        
+        // When & Then
+        assertThatThrownBy(() -> generator.generate("https://example.com"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+    
+    @Test
+    @DisplayName("여러 스레드가 동시에 발급해도 ID가 겹치지 않음")
+    void nextId_Concurrent_Unique() throws InterruptedException {
+        // Given
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        
+        // When
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        
+        // Then
+        assertThat(ids).hasSize(80_000);
+    }
+    
+    private static final class MutableClock extends Clock {
+        private volatile Instant instant;
+        
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+        
+        private void set(Instant instant) {
+            this.instant = instant;
+        }
+        
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+        
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+        
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
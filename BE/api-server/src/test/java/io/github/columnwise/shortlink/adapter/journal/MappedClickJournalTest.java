@@ -0,0 +1,118 @@
+package io.github.columnwise.shortlink.adapter.journal;
+
+import io.github.columnwise.shortlink.adapter.journal.MappedClickJournal.JournaledClick;
+import io.github.columnwise.shortlink.config.ClickJournalProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MappedClickJournalTest {
+    
+    @TempDir
+    Path directory;
+    
+    private ClickJournalProperties properties;
+    private MappedClickJournal journal;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        properties = new ClickJournalProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(directory.toString());
+        properties.setRecordsPerSegment(4);
+        properties.setMaxSegments(3);
+        journal = open();
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        journal.close();
+    }
+    
+    @Test
+    @DisplayName("확인 처리되지 않은 방문은 재시작 후 그대로 다시 읽힘")
+    void replay_ReturnsUnacknowledgedClicksAfterRestart() throws IOException {
+        // Given
+        journal.append("abc123", 1_000L, "1f2e3d4c5b6a7988");
+        journal.append("xyz789", 2_000L, null);
+        journal.close();
+        
+        // When
+        journal = open();
+        List<JournaledClick> replayed = replayAll();
+        
+        // Then
+        assertThat(replayed).containsExactly(
+                new JournaledClick("abc123", 1_000L, "1f2e3d4c5b6a7988"),
+                new JournaledClick("xyz789", 2_000L, null));
+    }
+    
+    @Test
+    @DisplayName("확인 처리한 위치 이전의 방문은 다시 읽히지 않고 지난 세그먼트는 삭제됨")
+    void acknowledge_SkipsAcknowledgedClicksAndDeletesSegments() throws IOException {
+        // Given
+        for (int i = 0; i < 6; i++) {
+            journal.append("code" + i, i, null);
+        }
+        assertThat(segmentFiles()).isEqualTo(2);
+        
+        // When
+        journal.acknowledge(journal.position());
+        journal.append("late", 99L, null);
+        journal.close();
+        journal = open();
+        
+        // Then
+        assertThat(replayAll()).containsExactly(new JournaledClick("late", 99L, null));
+    }
+    
+    @Test
+    @DisplayName("세그먼트 수가 상한에 닿으면 기록을 건너뛰고 확인 처리 후 다시 기록함")
+    void append_Full_SkipsUntilAcknowledged() throws IOException {
+        // Given
+        for (int i = 0; i < 12; i++) {
+            journal.append("code" + i, i, null);
+        }
+        long position = journal.position();
+        
+        // When
+        journal.append("skipped", 12L, null);
+        journal.acknowledge(position);
+        journal.append("resumed", 13L, null);
+        journal.close();
+        journal = open();
+        
+        // Then
+        assertThat(replayAll()).containsExactly(new JournaledClick("resumed", 13L, null));
+    }
+    
+    private MappedClickJournal open() throws IOException {
+        MappedClickJournal opened = new MappedClickJournal(properties, new SimpleMeterRegistry());
+        opened.open();
+        return opened;
+    }
+    
+    private List<JournaledClick> replayAll() {
+        List<JournaledClick> replayed = new ArrayList<>();
+        journal.replay(replayed::add);
+        return replayed;
+    }
+    
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(path -> path.getFileName().toString().endsWith(".journal")).count();
+        }
+    }
+}
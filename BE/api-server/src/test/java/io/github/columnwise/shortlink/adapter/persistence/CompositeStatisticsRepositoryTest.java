@@ -0,0 +1,200 @@
+package io.github.columnwise.shortlink.adapter.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.columnwise.shortlink.config.ClickCounterProperties;
+import io.github.columnwise.shortlink.domain.model.DailyStatistics;
+import io.github.columnwise.shortlink.domain.model.DailyUrlStatisticsEntity;
+import io.github.columnwise.shortlink.domain.model.UniqueVisitorCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.HyperLogLogOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CompositeStatisticsRepositoryTest {
+    
+    private static final String CODE = "abc123";
+    private static final String DAILY_KEY = "url:access:daily:{abc123}";
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 10);
+    
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+    
+    @Mock
+    private RedisTemplate<String, Object> objectRedisTemplate;
+    
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+    
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+    
+    @Mock
+    private HyperLogLogOperations<String, String> hyperLogLogOperations;
+    
+    @Mock
+    private SpringDataDailyUrlStatisticsRepository dailyStatisticsRepository;
+    
+    private CompositeStatisticsRepository repository;
+    
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2024-01-10T12:00:00Z"), ZoneOffset.UTC);
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        
+        when(objectRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenReturn(null);
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(stringRedisTemplate.opsForHyperLogLog()).thenReturn(hyperLogLogOperations);
+        when(stringRedisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(2L));
+        
+        repository = new CompositeStatisticsRepository(
+                stringRedisTemplate, objectRedisTemplate, objectMapper, dailyStatisticsRepository, clock, new ClickCounterProperties());
+    }
+    
+    @Test
+    @DisplayName("마감된 날짜는 일일 통계 테이블에서, 오늘은 Redis에서 조회")
+    void getDailyStatistics_MergesArchivedRowsWithToday() {
+        // Given
+        LocalDate start = TODAY.minusDays(9);
+        when(dailyStatisticsRepository.findByCodeAndStatDateBetweenOrderByStatDateAsc(CODE, start, TODAY.minusDays(1)))
+                .thenReturn(List.of(archived(TODAY.minusDays(7), 10, 8), archived(TODAY.minusDays(1), 5, 3)));
+        when(hashOperations.multiGet(DAILY_KEY, List.of("2024-01-10"))).thenReturn(List.of("4"));
+        
+        // When
+        List<DailyStatistics> result = repository.getDailyStatistics(CODE, start, TODAY);
+        
+        // Then
+        assertThat(result).extracting(DailyStatistics::date)
+                .containsExactly(TODAY.minusDays(7), TODAY.minusDays(1), TODAY);
+        assertThat(result).extracting(DailyStatistics::accessCount).containsExactly(10L, 5L, 4L);
+        assertThat(result.get(2).uniqueVisitors()).isEqualTo(2L);
+        verify(hashOperations).multiGet(DAILY_KEY, List.of("2024-01-10"));
+    }
+    
+    @Test
+    @DisplayName("전날 스냅샷이 아직 없으면 전날도 Redis에서 보충")
+    void getDailyStatistics_FallsBackToRedisForUnarchivedYesterday() {
+        // Given
+        LocalDate start = TODAY.minusDays(3);
+        when(dailyStatisticsRepository.findByCodeAndStatDateBetweenOrderByStatDateAsc(CODE, start, TODAY.minusDays(1)))
+                .thenReturn(List.of(archived(TODAY.minusDays(2), 7, 6)));
+        when(hashOperations.multiGet(DAILY_KEY, List.of("2024-01-09", "2024-01-10"))).thenReturn(List.of("3", "4"));
+        when(stringRedisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(3L, 2L));
+        
+        // When
+        List<DailyStatistics> result = repository.getDailyStatistics(CODE, start, TODAY);
+        
+        // Then
+        assertThat(result).extracting(DailyStatistics::accessCount).containsExactly(7L, 3L, 4L);
+        assertThat(result).extracting(DailyStatistics::uniqueVisitors).containsExactly(6L, 3L, 2L);
+    }
+    
+    @Test
+    @DisplayName("과거 기간만 조회하면 Redis 카운터를 읽지 않음")
+    void getDailyStatistics_HistoricalRangeSkipsRedis() {
+        // Given
+        LocalDate start = TODAY.minusDays(30);
+        LocalDate end = TODAY.minusDays(20);
+        when(dailyStatisticsRepository.findByCodeAndStatDateBetweenOrderByStatDateAsc(CODE, start, end))
+                .thenReturn(List.of(archived(TODAY.minusDays(25), 12, 9)));
+        
+        // When
+        List<DailyStatistics> result = repository.getDailyStatistics(CODE, start, end);
+        
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).accessCount()).isEqualTo(12L);
+        verify(hashOperations, never()).multiGet(anyString(), anyCollection());
+    }
+    
+    @Test
+    @DisplayName("마감된 날짜의 방문 수는 일일 통계 테이블 값을 사용")
+    void getAccessCountForDate_UsesArchivedRow() {
+        // Given
+        LocalDate date = TODAY.minusDays(5);
+        when(dailyStatisticsRepository.findByCodeAndStatDate(CODE, date))
+                .thenReturn(Optional.of(archived(date, 42, 30)));
+        
+        // When
+        long result = repository.getAccessCountForDate(CODE, date);
+        
+        // Then
+        assertThat(result).isEqualTo(42L);
+        verify(hashOperations, never()).get(anyString(), any());
+    }
+    
+    @Test
+    @DisplayName("기간 고유 방문자는 결과 키를 쓰지 않고 다중 키 PFCOUNT로 셈")
+    void getUniqueVisitors_CountsUnionWithoutWriting() {
+        // Given
+        when(hyperLogLogOperations.size(any(String[].class))).thenReturn(15L);
+        
+        // When
+        UniqueVisitorCount result = repository.getUniqueVisitors(CODE, TODAY.minusDays(2), TODAY);
+        
+        // Then
+        assertThat(result).isEqualTo(new UniqueVisitorCount(TODAY.minusDays(2), TODAY, 15L, false));
+        verify(hyperLogLogOperations).size(
+                "url:unique:visitors:{abc123}:2024-01-08",
+                "url:unique:visitors:{abc123}:2024-01-09",
+                "url:unique:visitors:{abc123}:2024-01-10");
+        verify(hyperLogLogOperations, never()).union(anyString(), any(String[].class));
+    }
+    
+    @Test
+    @DisplayName("보관 기간보다 긴 기간은 보관 기간 첫날부터 세고 truncated로 알림")
+    void getUniqueVisitors_LongerThanRetention_IsTruncated() {
+        // Given
+        when(hyperLogLogOperations.size(any(String[].class))).thenReturn(40L);
+        
+        // When
+        UniqueVisitorCount result = repository.getUniqueVisitors(CODE, TODAY.minusDays(30), TODAY);
+        
+        // Then
+        assertThat(result).isEqualTo(new UniqueVisitorCount(TODAY.minusDays(6), TODAY, 40L, true));
+    }
+    
+    @Test
+    @DisplayName("보관 기간이 지난 기간만 조회하면 Redis를 읽지 않음")
+    void getUniqueVisitors_OutsideRetention_SkipsRedis() {
+        // When
+        UniqueVisitorCount result = repository.getUniqueVisitors(CODE, TODAY.minusDays(30), TODAY.minusDays(20));
+        
+        // Then
+        assertThat(result.truncated()).isTrue();
+        assertThat(result.uniqueVisitors()).isZero();
+        verifyNoInteractions(hyperLogLogOperations);
+    }
+    
+    private DailyUrlStatisticsEntity archived(LocalDate date, long accessCount, long uniqueVisitors) {
+        return DailyUrlStatisticsEntity.builder()
+                .code(CODE)
+                .statDate(date)
+                .accessCount(accessCount)
+                .uniqueVisitors(uniqueVisitors)
+                .build();
+    }
+}
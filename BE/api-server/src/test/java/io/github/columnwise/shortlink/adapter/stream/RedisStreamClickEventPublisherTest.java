@@ -0,0 +1,152 @@
+package io.github.columnwise.shortlink.adapter.stream;
+
+import io.github.columnwise.shortlink.config.ClickStreamProperties;
+import io.github.columnwise.shortlink.domain.model.ClickEvent;
+import io.github.columnwise.shortlink.domain.service.RedisKeyManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StreamOperations;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RedisStreamClickEventPublisherTest {
+    
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    
+    @Mock
+    private RedisOperations<String, String> operations;
+    
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+    
+    private ClickStreamProperties properties;
+    private RedisStreamClickEventPublisher publisher;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new ClickStreamProperties();
+        properties.setEnabled(true);
+        properties.setShardCount(4);
+        properties.setBufferCapacity(2);
+        publisher = new RedisStreamClickEventPublisher(redisTemplate, properties, new SimpleMeterRegistry());
+        publisher.init();
+        
+        when(operations.<Object, Object>opsForStream()).thenReturn(streamOperations);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            SessionCallback<?> callback = invocation.getArgument(0);
+            callback.execute(operations);
+            return List.of();
+        });
+    }
+    
+    @Test
+    @DisplayName("이벤트는 플러시 시 코드의 샤드 스트림에 길이 제한과 함께 한 번의 파이프라인으로 추가됨")
+    void flush_AppendsToShardStreamWithApproximateTrim() {
+        // Given
+        publisher.publish(new ClickEvent("abc123", 1_000L, "ip", "ua", "news.example.com"));
+        verifyNoInteractions(redisTemplate);
+        
+        // When
+        publisher.flush();
+        
+        // Then
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        ArgumentCaptor<MapRecord<String, String, String>> record = ArgumentCaptor.forClass(MapRecord.class);
+        ArgumentCaptor<XAddOptions> options = ArgumentCaptor.forClass(XAddOptions.class);
+        verify(streamOperations).add(record.capture(), options.capture());
+        
+        String expectedStream = RedisKeyManager.getClickStreamKey(RedisKeyManager.getClickStreamShard("abc123", 4));
+        assertThat(record.getValue().getStream()).isEqualTo(expectedStream);
+        assertThat(ClickEvent.fromFields(record.getValue().getValue()))
+                .isEqualTo(new ClickEvent("abc123", 1_000L, "ip", "ua", "news.example.com"));
+        assertThat(options.getValue().getMaxlen()).isEqualTo(properties.getMaxLength());
+        assertThat(options.getValue().isApproximateTrimming()).isTrue();
+    }
+    
+    @Test
+    @DisplayName("버퍼가 가득 차면 리다이렉트를 막지 않고 초과 이벤트를 버림")
+    void publish_BufferFull_DropsEvent() {
+        // Given
+        publisher.publish(new ClickEvent("a", 1L, null, null, null));
+        publisher.publish(new ClickEvent("b", 2L, null, null, null));
+        publisher.publish(new ClickEvent("c", 3L, null, null, null));
+        
+        // When
+        publisher.flush();
+        
+        // Then
+        verify(streamOperations, times(2)).add(any(MapRecord.class), any(XAddOptions.class));
+    }
+    
+    @Test
+    @DisplayName("비활성화되어 있으면 이벤트를 쌓지 않음")
+    void publish_Disabled_SkipsRedis() {
+        // Given
+        properties.setEnabled(false);
+        publisher.publish(new ClickEvent("abc123", 1L, null, null, null));
+        
+        // When
+        publisher.flush();
+        
+        // Then
+        verifyNoInteractions(redisTemplate);
+    }
+    
+    @Test
+    @DisplayName("전송 실패 시 이벤트를 큐에 되돌려 다음 플러시에서 다시 전송")
+    void flush_Failure_RetriesOnNextFlush() {
+        // Given
+        publisher.publish(new ClickEvent("abc123", 1L, null, null, null));
+        doThrow(new RedisConnectionFailureException("down"))
+                .doAnswer(invocation -> {
+                    SessionCallback<?> callback = invocation.getArgument(0);
+                    callback.execute(operations);
+                    return List.of();
+                })
+                .when(redisTemplate).executePipelined(any(SessionCallback.class));
+        
+        // When
+        publisher.flush();
+        publisher.flush();
+        
+        // Then
+        verify(streamOperations, times(1)).add(any(MapRecord.class), any(XAddOptions.class));
+    }
+    
+    @Test
+    @DisplayName("클릭 이벤트는 비어 있는 필드를 빼고 직렬화되며 그대로 복원됨")
+    void clickEvent_RoundTripsThroughStreamFields() {
+        // Given
+        ClickEvent event = new ClickEvent("abc123", 42L, "ip", null, null);
+        
+        // When
+        Map<String, String> fields = event.toFields();
+        
+        // Then
+        assertThat(fields).containsOnlyKeys(ClickEvent.FIELD_CODE, ClickEvent.FIELD_TIMESTAMP, ClickEvent.FIELD_IP_HASH);
+        assertThat(ClickEvent.fromFields(fields)).isEqualTo(event);
+        assertThatThrownBy(() -> ClickEvent.fromFields(Map.of(ClickEvent.FIELD_CODE, "abc123")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,17 +1,28 @@
 package io.github.columnwise.shortlink.adapter.web;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.columnwise.shortlink.adapter.web.dto.BatchCreateShortUrlRequest;
 import io.github.columnwise.shortlink.adapter.web.dto.CreateShortUrlRequest;
 import io.github.columnwise.shortlink.application.port.in.CreateShortUrlUseCase;
+import io.github.columnwise.shortlink.application.port.in.CreateShortUrlUseCase.BatchResult;
 import io.github.columnwise.shortlink.application.port.in.GetStatsUseCase;
+import io.github.columnwise.shortlink.application.port.in.ImportShortUrlsUseCase;
+import io.github.columnwise.shortlink.application.port.in.ImportShortUrlsUseCase.ImportSummary;
 import io.github.columnwise.shortlink.application.port.in.ResolveUrlUseCase;
+import io.github.columnwise.shortlink.application.port.in.ResolveUrlUseCase.Visit;
+import io.github.columnwise.shortlink.config.WebConfig;
+import io.github.columnwise.shortlink.domain.exception.UrlExpiredException;
 import io.github.columnwise.shortlink.domain.exception.UrlNotFoundException;
 import io.github.columnwise.shortlink.domain.model.ShortUrl;
 import io.github.columnwise.shortlink.domain.model.DailyStatistics;
+import io.github.columnwise.shortlink.domain.model.UniqueVisitorCount;
+import io.github.columnwise.shortlink.util.LinkImportReader;
+import io.github.columnwise.shortlink.util.VisitorFingerprint;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -21,31 +32,37 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ShortUrlController.class)
+@Import(WebConfig.class)
 @ActiveProfiles("test")
 class ShortUrlControllerTest {
-
+    
     @Autowired
     private MockMvc mockMvc;
-
+    
     @Autowired
     private ObjectMapper objectMapper;
-
+    
     @MockitoBean
     private CreateShortUrlUseCase createShortUrlUseCase;
-
+    
     @MockitoBean
     private ResolveUrlUseCase resolveUrlUseCase;
-
+    
     @MockitoBean
     private GetStatsUseCase getStatsUseCase;
-
+    
+    @MockitoBean
+    private ImportShortUrlsUseCase importShortUrlsUseCase;
+    
     @Test
     @DisplayName("URL 단축 생성 성공")
     void createShortUrl_Success() throws Exception {
@@ -61,9 +78,9 @@ class ShortUrlControllerTest {
                 .createdAt(Instant.now())
                 .expiresAt(Instant.now().plusSeconds(31536000)) // 1년
                 .build();
-
+        
         when(createShortUrlUseCase.createShortUrl(eq(longUrl))).thenReturn(mockShortUrl);
-
+        
         // When & Then
         mockMvc.perform(post("/api/v1/urls")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -72,49 +89,152 @@ class ShortUrlControllerTest {
                 .andExpect(jsonPath("$.code").value(shortCode))
                 .andExpect(jsonPath("$.shortUrl").value("http://localhost:8080/api/v1/r/" + shortCode));
     }
-
+    
     @Test
     @DisplayName("잘못된 URL로 단축 생성 실패")
     void createShortUrl_InvalidUrl() throws Exception {
         // Given
         CreateShortUrlRequest request = new CreateShortUrlRequest("");
-
+        
         // When & Then
         mockMvc.perform(post("/api/v1/urls")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
     }
-
+    
+    @Test
+    @DisplayName("URL 일괄 단축 시 요청 순서대로 항목별 결과 반환")
+    void createShortUrls_ReturnsResultsInOrder() throws Exception {
+        // Given
+        List<String> longUrls = List.of("https://www.example.com", "https://bad.example.com");
+        BatchCreateShortUrlRequest request = new BatchCreateShortUrlRequest(longUrls);
+        ShortUrl created = ShortUrl.builder()
+                .code("abc123")
+                .longUrl(longUrls.get(0))
+                .createdAt(Instant.now())
+                .build();
+        
+        when(createShortUrlUseCase.createShortUrls(longUrls)).thenReturn(List.of(
+                new BatchResult(longUrls.get(0), created, null),
+                new BatchResult(longUrls.get(1), null, "Failed to generate unique code")));
+        
+        // When & Then
+        mockMvc.perform(post("/api/v1/urls/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].code").value("abc123"))
+                .andExpect(jsonPath("$.results[0].shortUrl").value("http://localhost:8080/api/v1/r/abc123"))
+                .andExpect(jsonPath("$.results[1].longUrl").value(longUrls.get(1)))
+                .andExpect(jsonPath("$.results[1].error").value("Failed to generate unique code"));
+    }
+    
+    @Test
+    @DisplayName("빈 목록이나 빈 URL이 포함된 일괄 단축 요청은 거부")
+    void createShortUrls_InvalidRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/urls/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BatchCreateShortUrlRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/v1/urls/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BatchCreateShortUrlRequest(List.of("")))))
+                .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    @DisplayName("CSV 본문을 체크포인트 이후부터 가져오고 결과 요약 반환")
+    void importShortUrls_Csv() throws Exception {
+        // Given
+        when(importShortUrlsUseCase.importLinks(any(LinkImportReader.class))).thenAnswer(invocation -> {
+            LinkImportReader reader = invocation.getArgument(0);
+            reader.next();
+            return new ImportSummary(reader.line(), 1, 0, 0, List.of());
+        });
+        
+        // When & Then
+        mockMvc.perform(post("/api/v1/urls/import")
+                        .param("skipLines", "1")
+                        .contentType("text/csv")
+                        .content("https://skipped.example.com\nhttps://www.example.com\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lastLine").value(2))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.errors").isEmpty());
+    }
+    
     @Test
     @DisplayName("단축 URL 리다이렉트 성공")
     void redirectToOriginalUrl_Success() throws Exception {
         // Given
         String code = "abc123";
         String longUrl = "https://www.example.com";
-
-        when(resolveUrlUseCase.resolveUrl(eq(code))).thenReturn(longUrl);
-
+        
+        when(resolveUrlUseCase.resolveUrl(eq(code), any(Visit.class))).thenReturn(longUrl);
+        
         // When & Then
         mockMvc.perform(get("/api/v1/r/" + code))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl(longUrl));
     }
-
+    
+    @Test
+    @DisplayName("리다이렉트 시 프록시 뒤 클라이언트 IP와 User-Agent, 리퍼러 호스트로 방문 정보를 전달")
+    void redirectToOriginalUrl_PassesVisitorFingerprint() throws Exception {
+        // Given
+        String code = "abc123";
+        String userAgent = "Mozilla/5.0";
+        Visit expectedVisit = new Visit(
+                VisitorFingerprint.of("203.0.113.7", userAgent),
+                "203.0.113.7",
+                userAgent,
+                "news.example.com");
+        
+        when(resolveUrlUseCase.resolveUrl(eq(code), any(Visit.class))).thenReturn("https://www.example.com");
+        
+        // When
+        mockMvc.perform(get("/api/v1/r/" + code)
+                        .header("X-Forwarded-For", "203.0.113.7, 10.0.0.1")
+                        .header("User-Agent", userAgent)
+                        .header("Referer", "https://news.example.com/article/1?ref=home"))
+                .andExpect(status().is3xxRedirection());
+        
+        // Then
+        verify(resolveUrlUseCase).resolveUrl(code, expectedVisit);
+    }
+    
     @Test
     @DisplayName("존재하지 않는 코드로 리다이렉트 실패")
     void redirectToOriginalUrl_NotFound() throws Exception {
         // Given
         String code = "notfound";
-
-        when(resolveUrlUseCase.resolveUrl(eq(code)))
+        
+        when(resolveUrlUseCase.resolveUrl(eq(code), any(Visit.class)))
                 .thenThrow(new UrlNotFoundException("URL not found for code: " + code));
-
+        
         // When & Then
         mockMvc.perform(get("/api/v1/r/" + code))
                 .andExpect(status().isNotFound());
     }
-
+    
+    @Test
+    @DisplayName("만료된 코드로 리다이렉트하면 410")
+    void redirectToOriginalUrl_Expired() throws Exception {
+        // Given
+        String code = "expired";
+        
+        when(resolveUrlUseCase.resolveUrl(eq(code), any(Visit.class)))
+                .thenThrow(new UrlExpiredException("URL expired for code: " + code));
+        
+        // When & Then
+        mockMvc.perform(get("/api/v1/r/" + code))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.error").value("URL_EXPIRED"));
+    }
+    
     @Test
     @DisplayName("통계 조회 성공")
     void getDailyStatistics_Success() throws Exception {
@@ -128,9 +248,9 @@ class ShortUrlControllerTest {
                         .uniqueVisitors(18)
                         .build()
         );
-
+        
         when(getStatsUseCase.getDailyStatistics(eq(code), eq(null), eq(null))).thenReturn(mockStats);
-
+        
         // When & Then
         mockMvc.perform(get("/api/v1/urls/" + code + "/stats"))
                 .andExpect(status().isOk())
@@ -139,18 +259,40 @@ class ShortUrlControllerTest {
                 .andExpect(jsonPath("$[0].accessCount").value(25))
                 .andExpect(jsonPath("$[0].uniqueVisitors").value(18));
     }
-
+    
     @Test
     @DisplayName("존재하지 않는 코드의 통계 조회")
     void getDailyStatistics_NotFound() throws Exception {
         // Given
         String code = "notfound";
-
+        
         when(getStatsUseCase.getDailyStatistics(eq(code), eq(null), eq(null)))
                 .thenThrow(new UrlNotFoundException("URL not found for code: " + code));
-
+        
         // When & Then
         mockMvc.perform(get("/api/v1/urls/" + code + "/stats"))
                 .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("기간 고유 방문자 수 조회 성공")
+    void getUniqueVisitors_Success() throws Exception {
+        // Given
+        String code = "abc123";
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 1, 31);
+        
+        when(getStatsUseCase.getUniqueVisitors(code, startDate, endDate))
+                .thenReturn(new UniqueVisitorCount(LocalDate.of(2024, 1, 25), endDate, 1520L, true));
+        
+        // When & Then
+        mockMvc.perform(get("/api/v1/urls/" + code + "/stats/unique-visitors")
+                        .param("startDate", "2024-01-01")
+                        .param("endDate", "2024-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(code))
+                .andExpect(jsonPath("$.startDate").value("2024-01-25"))
+                .andExpect(jsonPath("$.uniqueVisitors").value(1520))
+                .andExpect(jsonPath("$.truncated").value(true));
+    }
+}
@@ -1,8 +1,13 @@
 package io.github.columnwise.shortlink.application.service;
 
+import io.github.columnwise.shortlink.application.port.in.CreateShortUrlUseCase.BatchResult;
+import io.github.columnwise.shortlink.application.port.out.CodeExistenceFilterPort;
+import io.github.columnwise.shortlink.application.port.out.LongUrlCachePort;
 import io.github.columnwise.shortlink.application.port.out.ShortUrlRepositoryPort;
+import io.github.columnwise.shortlink.domain.exception.CodeCollisionException;
 import io.github.columnwise.shortlink.domain.model.ShortUrl;
 import io.github.columnwise.shortlink.domain.service.CodeGenerator;
+import io.github.columnwise.shortlink.util.UrlFingerprint;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,7 +16,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -25,12 +32,18 @@ class CreateShortUrlServiceTest {
 
     @Mock
     private CodeGenerator codeGenerator;
+    
+    @Mock
+    private CodeExistenceFilterPort codeExistenceFilter;
+    
+    @Mock
+    private LongUrlCachePort longUrlCache;
 
     private CreateShortUrlService createShortUrlService;
 
     @BeforeEach
     void setUp() {
-        createShortUrlService = new CreateShortUrlService(shortUrlRepository, codeGenerator);
+        createShortUrlService = new CreateShortUrlService(shortUrlRepository, codeGenerator, codeExistenceFilter, longUrlCache);
     }
 
     @Test
@@ -54,9 +67,62 @@ class CreateShortUrlServiceTest {
         // Then
         assertThat(result).isEqualTo(existingUrl);
         verify(shortUrlRepository).findByLongUrl(longUrl);
+        verify(longUrlCache).save(UrlFingerprint.hex(longUrl), existingUrl);
         verifyNoMoreInteractions(codeGenerator, shortUrlRepository);
     }
 
+    @Test
+    @DisplayName("지문 캐시에 있으면 DB를 조회하지 않고 반환")
+    void createShortUrl_CachedFingerprint_SkipsRepository() {
+        // Given
+        String longUrl = "https://www.example.com";
+        ShortUrl cachedUrl = ShortUrl.builder()
+                .id(1L)
+                .code("cached")
+                .longUrl("HTTPS://WWW.EXAMPLE.COM:443")
+                .createdAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(31536000))
+                .build();
+        
+        when(longUrlCache.findByFingerprint(UrlFingerprint.hex(longUrl))).thenReturn(Optional.of(cachedUrl));
+        
+        // When
+        ShortUrl result = createShortUrlService.createShortUrl(longUrl);
+        
+        // Then
+        assertThat(result).isEqualTo(cachedUrl);
+        verifyNoInteractions(shortUrlRepository, codeGenerator);
+    }
+    
+    @Test
+    @DisplayName("같은 URL을 동시에 저장하다 실패하면 먼저 저장된 결과를 반환")
+    void createShortUrl_ConcurrentDuplicate_ReturnsWinner() {
+        // Given
+        String longUrl = "https://www.example.com";
+        ShortUrl winner = ShortUrl.builder()
+                .id(1L)
+                .code("winner")
+                .longUrl(longUrl)
+                .createdAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(31536000))
+                .build();
+        
+        when(shortUrlRepository.findByLongUrl(longUrl))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(winner));
+        when(codeGenerator.generate(longUrl + "_0")).thenReturn("loser");
+        when(shortUrlRepository.findByCode("loser")).thenReturn(Optional.empty());
+        when(shortUrlRepository.save(any(ShortUrl.class))).thenThrow(new RuntimeException("Duplicate long_url_hash"));
+        
+        // When
+        ShortUrl result = createShortUrlService.createShortUrl(longUrl);
+        
+        // Then
+        assertThat(result).isEqualTo(winner);
+        verify(shortUrlRepository).save(any(ShortUrl.class));
+        verifyNoInteractions(codeExistenceFilter);
+    }
+
     @Test
     @DisplayName("새 URL 생성 성공")
     void createShortUrl_NewUrl_Success() {
@@ -86,8 +152,106 @@ class CreateShortUrlServiceTest {
         verify(codeGenerator).generate(longUrl + "_0");
         verify(shortUrlRepository).findByCode(generatedCode);
         verify(shortUrlRepository).save(any(ShortUrl.class));
+        verify(codeExistenceFilter).add(generatedCode);
     }
 
+    @Test
+    @DisplayName("기존 URL이 만료되었으면 만료 행을 지우고 새 코드를 발급")
+    void createShortUrl_ExpiredExisting_DeletesAndCreates() {
+        // Given
+        String longUrl = "https://www.example.com";
+        ShortUrl expiredUrl = ShortUrl.builder()
+                .id(1L)
+                .code("expired")
+                .longUrl(longUrl)
+                .createdAt(Instant.now().minusSeconds(31536000))
+                .expiresAt(Instant.now().minusSeconds(60))
+                .build();
+        ShortUrl savedUrl = ShortUrl.builder()
+                .id(2L)
+                .code("abc123")
+                .longUrl(longUrl)
+                .createdAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(31536000))
+                .build();
+
+        when(shortUrlRepository.findByLongUrl(longUrl)).thenReturn(Optional.of(expiredUrl));
+        when(codeGenerator.generate(anyString())).thenReturn("abc123");
+        when(shortUrlRepository.findByCode("abc123")).thenReturn(Optional.empty());
+        when(shortUrlRepository.save(any(ShortUrl.class))).thenReturn(savedUrl);
+
+        // When
+        ShortUrl result = createShortUrlService.createShortUrl(longUrl);
+
+        // Then
+        assertThat(result).isEqualTo(savedUrl);
+        verify(shortUrlRepository).deleteIfExpired(eq("expired"), any(Instant.class));
+        verify(longUrlCache, never()).save(anyString(), eq(expiredUrl));
+    }
+
+    @Test
+    @DisplayName("유일한 코드를 보장하는 생성기는 중복 확인 없이 한 번에 저장")
+    void createShortUrl_UniqueGenerator_SkipsExistenceCheck() {
+        // Given
+        String longUrl = "https://www.example.com";
+        String generatedCode = "1a2B3c4D5e";
+        
+        ShortUrl savedUrl = ShortUrl.builder()
+                .id(1L)
+                .code(generatedCode)
+                .longUrl(longUrl)
+                .createdAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(31536000))
+                .build();
+        
+        when(shortUrlRepository.findByLongUrl(longUrl)).thenReturn(Optional.empty());
+        when(codeGenerator.guaranteesUniqueness()).thenReturn(true);
+        when(codeGenerator.generate(longUrl)).thenReturn(generatedCode);
+        when(shortUrlRepository.save(any(ShortUrl.class))).thenReturn(savedUrl);
+        
+        // When
+        ShortUrl result = createShortUrlService.createShortUrl(longUrl);
+        
+        // Then
+        assertThat(result).isEqualTo(savedUrl);
+        verify(codeGenerator).generate(longUrl);
+        verify(shortUrlRepository, never()).findByCode(anyString());
+        verify(codeExistenceFilter).add(generatedCode);
+    }
+    
+    @Test
+    @DisplayName("유일한 코드를 보장하는 생성기도 가져온 코드와 겹치면 새 번호로 다시 저장")
+    void createShortUrl_UniqueGeneratorHitsImportedCode_DrawsNewCode() {
+        // Given
+        String longUrl = "https://www.example.com";
+        
+        ShortUrl savedUrl = ShortUrl.builder()
+                .id(2L)
+                .code("c")
+                .longUrl(longUrl)
+                .createdAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(31536000))
+                .build();
+        
+        when(shortUrlRepository.findByLongUrl(longUrl)).thenReturn(Optional.empty());
+        when(codeGenerator.guaranteesUniqueness()).thenReturn(true);
+        when(codeGenerator.generate(longUrl)).thenReturn("b", "c");
+        when(shortUrlRepository.save(argThat(shortUrl -> shortUrl != null && "b".equals(shortUrl.code()))))
+                .thenThrow(new CodeCollisionException("Code already exists: b"));
+        when(shortUrlRepository.save(argThat(shortUrl -> shortUrl != null && "c".equals(shortUrl.code()))))
+                .thenReturn(savedUrl);
+        
+        // When
+        ShortUrl result = createShortUrlService.createShortUrl(longUrl);
+        
+        // Then
+        assertThat(result).isEqualTo(savedUrl);
+        verify(codeGenerator, times(2)).generate(longUrl);
+        verify(shortUrlRepository, times(2)).save(any(ShortUrl.class));
+        verify(codeExistenceFilter).add("c");
+        verify(codeExistenceFilter, never()).add("b");
+    }
+    
     @Test
     @DisplayName("코드 충돌 시 재시도 후 성공")
     void createShortUrl_CodeCollision_RetrySuccess() {
@@ -158,6 +322,7 @@ class CreateShortUrlServiceTest {
         verify(codeGenerator, times(5)).generate(anyString());
         verify(shortUrlRepository, times(5)).findByCode(code);
         verify(shortUrlRepository, never()).save(any());
+        verifyNoInteractions(codeExistenceFilter);
     }
 
     @Test
@@ -192,4 +357,65 @@ class CreateShortUrlServiceTest {
         assertThat(result).isEqualTo(savedUrl);
         verify(shortUrlRepository, times(2)).save(any(ShortUrl.class));
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("일괄 단축은 기존 URL을 한 번에 조회하고 새 URL만 배치로 저장하며 요청 순서대로 결과 반환")
+    void createShortUrls_MixedBatch_ReturnsResultsInOrder() {
+        // Given
+        String existingUrl = "https://www.example.com";
+        String newUrl = "https://github.com/columnwise";
+        ShortUrl existing = ShortUrl.builder()
+                .id(1L)
+                .code("existing")
+                .longUrl(existingUrl)
+                .createdAt(Instant.now())
+                .build();
+        
+        when(shortUrlRepository.findAllByLongUrls(anyCollection())).thenReturn(List.of(existing));
+        when(codeGenerator.generate(newUrl + "_0")).thenReturn("fresh");
+        when(shortUrlRepository.findExistingCodes(List.of("fresh"))).thenReturn(Set.of());
+        when(shortUrlRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // When
+        List<BatchResult> results = createShortUrlService.createShortUrls(
+                List.of(newUrl, existingUrl, "HTTPS://GITHUB.COM/columnwise"));
+        
+        // Then
+        assertThat(results).extracting(result -> result.shortUrl().code())
+                .containsExactly("fresh", "existing", "fresh");
+        assertThat(results).allMatch(BatchResult::succeeded);
+        verify(codeGenerator, times(1)).generate(anyString());
+        verify(shortUrlRepository, never()).save(any());
+        verify(codeExistenceFilter).add("fresh");
+    }
+    
+    @Test
+    @DisplayName("일괄 저장에서 코드가 겹친 URL은 단건 생성으로 재시도")
+    void createShortUrls_CodeConflict_FallsBackToSingleCreate() {
+        // Given
+        String longUrl = "https://www.example.com";
+        ShortUrl retried = ShortUrl.builder()
+                .id(2L)
+                .code("retried")
+                .longUrl(longUrl)
+                .createdAt(Instant.now())
+                .build();
+        
+        when(shortUrlRepository.findAllByLongUrls(anyCollection())).thenReturn(List.of());
+        when(codeGenerator.generate(longUrl + "_0")).thenReturn("taken");
+        when(codeGenerator.generate(longUrl + "_1")).thenReturn("retried");
+        when(shortUrlRepository.findExistingCodes(List.of("taken"))).thenReturn(Set.of("taken"));
+        when(shortUrlRepository.saveAll(List.of())).thenReturn(List.of());
+        when(shortUrlRepository.findByLongUrl(longUrl)).thenReturn(Optional.empty());
+        when(shortUrlRepository.findByCode("taken")).thenReturn(Optional.of(retried));
+        when(shortUrlRepository.findByCode("retried")).thenReturn(Optional.empty());
+        when(shortUrlRepository.save(any(ShortUrl.class))).thenReturn(retried);
+        
+        // When
+        List<BatchResult> results = createShortUrlService.createShortUrls(List.of(longUrl));
+        
+        // Then
+        assertThat(results).singleElement()
+                .satisfies(result -> assertThat(result.shortUrl()).isEqualTo(retried));
+    }
+}
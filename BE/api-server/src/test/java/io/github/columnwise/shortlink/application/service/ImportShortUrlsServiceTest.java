@@ -0,0 +1,111 @@
+package io.github.columnwise.shortlink.application.service;
+
+import io.github.columnwise.shortlink.application.port.in.CreateShortUrlUseCase;
+import io.github.columnwise.shortlink.application.port.in.CreateShortUrlUseCase.BatchResult;
+import io.github.columnwise.shortlink.application.port.in.ImportShortUrlsUseCase.ImportError;
+import io.github.columnwise.shortlink.application.port.in.ImportShortUrlsUseCase.ImportSummary;
+import io.github.columnwise.shortlink.application.port.out.CodeExistenceFilterPort;
+import io.github.columnwise.shortlink.application.port.out.ShortUrlRepositoryPort;
+import io.github.columnwise.shortlink.config.LinkImportProperties;
+import io.github.columnwise.shortlink.domain.model.ShortUrl;
+import io.github.columnwise.shortlink.util.LinkImportReader;
+import io.github.columnwise.shortlink.util.LinkImportReader.Format;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.StringReader;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportShortUrlsServiceTest {
+    
+    @Mock
+    private CreateShortUrlUseCase createShortUrlUseCase;
+    
+    @Mock
+    private ShortUrlRepositoryPort shortUrlRepository;
+    
+    @Mock
+    private CodeExistenceFilterPort codeExistenceFilter;
+    
+    private LinkImportProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ImportShortUrlsService importShortUrlsService;
+    
+    @BeforeEach
+    void setUp() {
+        properties = new LinkImportProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        importShortUrlsService = new ImportShortUrlsService(
+                createShortUrlUseCase, shortUrlRepository, codeExistenceFilter, properties, meterRegistry);
+        importShortUrlsService.registerMetrics();
+    }
+    
+    @Test
+    @DisplayName("청크 단위로 검증하고 코드가 없는 URL은 일괄 생성으로 저장")
+    void importLinks_GeneratedCodes_ProcessedPerChunk() {
+        // Given
+        properties.setChunkSize(2);
+        String csv = "https://a.example.com\nftp://b.example.com\nhttps://c.example.com\n";
+        when(createShortUrlUseCase.createShortUrls(anyList())).thenAnswer(invocation -> {
+            List<String> longUrls = invocation.getArgument(0);
+            return longUrls.stream().map(url -> new BatchResult(url, shortUrl("gen", url), null)).toList();
+        });
+        
+        // When
+        ImportSummary summary = importShortUrlsService.importLinks(reader(csv));
+        
+        // Then
+        assertThat(summary.lastLine()).isEqualTo(3);
+        assertThat(summary.imported()).isEqualTo(2);
+        assertThat(summary.invalid()).isEqualTo(1);
+        assertThat(summary.errors()).containsExactly(
+                new ImportError(2, "ftp://b.example.com", "URL scheme must be http or https"));
+        verify(createShortUrlUseCase).createShortUrls(List.of("https://a.example.com"));
+        verify(createShortUrlUseCase).createShortUrls(List.of("https://c.example.com"));
+        assertThat(meterRegistry.get("shortlink.import.links").tag("result", "imported").functionCounter().count())
+                .isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("기존 코드를 유지하는 항목은 다시 가져오면 성공, 다른 대응과 겹치면 실패로 집계")
+    void importLinks_LegacyCodes_IdempotentAndConflicts() {
+        // Given
+        String csv = "https://a.example.com,legacyA\nhttps://b.example.com,legacyB\nhttps://c.example.com,bad-code!\n";
+        when(shortUrlRepository.saveAll(anyList())).thenReturn(List.of());
+        when(shortUrlRepository.findAllByLongUrls(anyList()))
+                .thenReturn(List.of(shortUrl("legacyA", "https://a.example.com")));
+        
+        // When
+        ImportSummary summary = importShortUrlsService.importLinks(reader(csv));
+        
+        // Then
+        assertThat(summary.imported()).isEqualTo(1);
+        assertThat(summary.failed()).isEqualTo(1);
+        assertThat(summary.invalid()).isEqualTo(1);
+        assertThat(summary.errors()).extracting(ImportError::line).containsExactly(3L, 2L);
+        verifyNoInteractions(createShortUrlUseCase, codeExistenceFilter);
+    }
+    
+    private static LinkImportReader reader(String csv) {
+        return new LinkImportReader(new StringReader(csv), Format.CSV);
+    }
+    
+    private static ShortUrl shortUrl(String code, String longUrl) {
+        return ShortUrl.builder()
+                .code(code)
+                .longUrl(longUrl)
+                .createdAt(Instant.now())
+                .build();
+    }
+}
@@ -1,20 +1,30 @@
 package io.github.columnwise.shortlink.application.service;
 
+import io.github.columnwise.shortlink.application.port.in.ResolveUrlUseCase.Visit;
+import io.github.columnwise.shortlink.application.port.out.CachePort;
+import io.github.columnwise.shortlink.application.port.out.ClickEventPublisherPort;
+import io.github.columnwise.shortlink.application.port.out.CodeExistenceFilterPort;
+import io.github.columnwise.shortlink.application.port.out.NearCachePort;
 import io.github.columnwise.shortlink.application.port.out.ShortUrlRepositoryPort;
+import io.github.columnwise.shortlink.application.port.out.UrlHitCounterPort;
+import io.github.columnwise.shortlink.domain.exception.UrlExpiredException;
 import io.github.columnwise.shortlink.domain.exception.UrlNotFoundException;
+import io.github.columnwise.shortlink.domain.model.ClickEvent;
 import io.github.columnwise.shortlink.domain.model.ShortUrl;
+import io.github.columnwise.shortlink.domain.model.UrlAccessLog;
+import io.github.columnwise.shortlink.util.VisitorFingerprint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.Optional;
 
@@ -28,19 +38,26 @@ class ResolveUrlServiceTest {
     private ShortUrlRepositoryPort shortUrlRepository;
     
     @Mock
-    private RedisTemplate<String, String> redisTemplate;
+    private NearCachePort nearCache;
     
     @Mock
-    private ValueOperations<String, String> valueOperations;
+    private CachePort cache;
     
     @Mock
-    private Clock clock;
+    private CodeExistenceFilterPort codeExistenceFilter;
+    
+    @Mock
+    private UrlHitCounterPort hitCounter;
+    
+    @Mock
+    private ClickEventPublisherPort clickEventPublisher;
 
     private ResolveUrlService resolveUrlService;
 
     @BeforeEach
     void setUp() {
-        resolveUrlService = new ResolveUrlService(shortUrlRepository, redisTemplate, clock);
+        resolveUrlService = new ResolveUrlService(shortUrlRepository, nearCache, cache, codeExistenceFilter,
+                hitCounter, clickEventPublisher, new SimpleMeterRegistry(), Clock.systemUTC());
     }
 
     @Test
@@ -49,7 +66,6 @@ class ResolveUrlServiceTest {
         // Given
         String code = "abc123";
         String longUrl = "https://www.example.com";
-        LocalDateTime fixedTime = LocalDateTime.of(2024, 1, 1, 12, 0, 0);
         
         ShortUrl shortUrl = ShortUrl.builder()
                 .id(1L)
@@ -59,10 +75,10 @@ class ResolveUrlServiceTest {
                 .expiresAt(Instant.now().plusSeconds(31536000))
                 .build();
 
+        when(nearCache.findByCode(code)).thenReturn(Optional.empty());
+        when(codeExistenceFilter.mightExist(code)).thenReturn(true);
+        when(cache.findByCode(eq(code), any())).thenReturn(Optional.empty());
         when(shortUrlRepository.findByCode(code)).thenReturn(Optional.of(shortUrl));
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(clock.instant()).thenReturn(fixedTime.toInstant(ZoneOffset.UTC));
-        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
 
         // When
         String result = resolveUrlService.resolveUrl(code);
@@ -70,13 +86,10 @@ class ResolveUrlServiceTest {
         // Then
         assertThat(result).isEqualTo(longUrl);
         verify(shortUrlRepository).findByCode(code);
+        verify(cache).save(eq(shortUrl), any(Duration.class));
+        verify(nearCache).save(shortUrl);
         
-        // 방문 기록이 Redis에 저장되었는지 확인 (구현 디테일이 아닌 행위 검증)
-        verify(redisTemplate).opsForValue();
-        verify(valueOperations).set(
-            argThat(key -> key.matches("url:access:count:" + code + ":\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}")), 
-            eq("1")
-        );
+        verify(hitCounter).incrementHitCount(code);
     }
 
     @Test
@@ -85,6 +98,9 @@ class ResolveUrlServiceTest {
         // Given
         String code = "notfound";
 
+        when(nearCache.findByCode(code)).thenReturn(Optional.empty());
+        when(codeExistenceFilter.mightExist(code)).thenReturn(true);
+        when(cache.findByCode(eq(code), any())).thenReturn(Optional.empty());
         when(shortUrlRepository.findByCode(code)).thenReturn(Optional.empty());
 
         // When & Then
@@ -93,6 +109,182 @@ class ResolveUrlServiceTest {
                 .hasMessageContaining("URL not found for code: " + code);
         
         verify(shortUrlRepository).findByCode(code);
-        verifyNoInteractions(redisTemplate);
+        verify(cache, never()).save(any(), any());
+        verify(nearCache, never()).save(any());
+        verifyNoInteractions(hitCounter);
+    }
+
+    @Test
+    @DisplayName("니어 캐시 적중 시 Redis와 DB를 조회하지 않음")
+    void resolveUrl_NearCacheHit_SkipsRemote() {
+        // Given
+        String code = "abc123";
+        String longUrl = "https://www.example.com";
+
+        when(nearCache.findByCode(code)).thenReturn(Optional.of(shortUrl(code, longUrl)));
+
+        // When
+        String result = resolveUrlService.resolveUrl(code);
+
+        // Then
+        assertThat(result).isEqualTo(longUrl);
+        verifyNoInteractions(codeExistenceFilter, cache, shortUrlRepository);
+    }
+
+    @Test
+    @DisplayName("Redis 캐시 적중 시 DB를 조회하지 않고 니어 캐시를 채움")
+    void resolveUrl_RedisCacheHit_FillsNearCache() {
+        // Given
+        String code = "abc123";
+        String longUrl = "https://www.example.com";
+        ShortUrl shortUrl = shortUrl(code, longUrl);
+
+        when(nearCache.findByCode(code)).thenReturn(Optional.empty());
+        when(codeExistenceFilter.mightExist(code)).thenReturn(true);
+        when(cache.findByCode(eq(code), any())).thenReturn(Optional.of(shortUrl));
+
+        // When
+        String result = resolveUrlService.resolveUrl(code);
+
+        // Then
+        assertThat(result).isEqualTo(longUrl);
+        verify(nearCache).save(shortUrl);
+        verifyNoInteractions(shortUrlRepository);
+    }
+
+    @Test
+    @DisplayName("캐시된 URL이 만료되었으면 DB를 조회하지 않고 방문 기록 없이 예외 발생")
+    void resolveUrl_ExpiredUrl_ThrowsWithoutRemoteLookup() {
+        // Given
+        String code = "abc123";
+        ShortUrl expired = ShortUrl.builder()
+                .id(1L)
+                .code(code)
+                .longUrl("https://www.example.com")
+                .createdAt(Instant.now().minusSeconds(31536000))
+                .expiresAt(Instant.now().minusSeconds(1))
+                .build();
+
+        when(nearCache.findByCode(code)).thenReturn(Optional.of(expired));
+
+        // When & Then
+        assertThatThrownBy(() -> resolveUrlService.resolveUrl(code))
+                .isInstanceOf(UrlExpiredException.class)
+                .hasMessageContaining("URL expired for code: " + code);
+        
+        verifyNoInteractions(codeExistenceFilter, cache, shortUrlRepository, hitCounter, clickEventPublisher);
+    }
+
+    @Test
+    @DisplayName("만료 여부는 주입된 Clock 기준으로 판단")
+    void resolveUrl_UsesInjectedClockForExpiry() {
+        // Given
+        String code = "abc123";
+        Instant expiresAt = Instant.parse("2030-01-01T00:00:00Z");
+        ShortUrl shortUrl = ShortUrl.builder()
+                .id(1L)
+                .code(code)
+                .longUrl("https://www.example.com")
+                .createdAt(expiresAt.minusSeconds(31536000))
+                .expiresAt(expiresAt)
+                .build();
+        ResolveUrlService service = new ResolveUrlService(shortUrlRepository, nearCache, cache, codeExistenceFilter,
+                hitCounter, clickEventPublisher, new SimpleMeterRegistry(),
+                Clock.fixed(expiresAt.plusSeconds(1), ZoneOffset.UTC));
+
+        when(nearCache.findByCode(code)).thenReturn(Optional.of(shortUrl));
+
+        // When & Then
+        assertThatThrownBy(() -> service.resolveUrl(code))
+                .isInstanceOf(UrlExpiredException.class);
+        
+        verifyNoInteractions(hitCounter, clickEventPublisher);
+    }
+
+    @Test
+    @DisplayName("존재 필터가 거절한 코드는 Redis와 DB를 조회하지 않고 예외 발생")
+    void resolveUrl_FilteredCode_SkipsRemote() {
+        // Given
+        String code = "random1";
+
+        when(nearCache.findByCode(code)).thenReturn(Optional.empty());
+        when(codeExistenceFilter.mightExist(code)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> resolveUrlService.resolveUrl(code))
+                .isInstanceOf(UrlNotFoundException.class);
+        
+        verifyNoInteractions(cache, shortUrlRepository, hitCounter);
+    }
+
+    @Test
+    @DisplayName("방문자 식별자가 있으면 고유 방문자 집계와 함께 방문 기록")
+    void resolveUrl_WithVisitorId_RecordsVisitor() {
+        // Given
+        String code = "abc123";
+        String longUrl = "https://www.example.com";
+
+        when(nearCache.findByCode(code)).thenReturn(Optional.of(shortUrl(code, longUrl)));
+
+        // When
+        String result = resolveUrlService.resolveUrl(code, "visitor-a");
+
+        // Then
+        assertThat(result).isEqualTo(longUrl);
+        verify(hitCounter).recordVisit(code, "visitor-a");
+        verify(hitCounter, never()).incrementHitCount(any());
+    }
+
+    @Test
+    @DisplayName("방문 정보가 있으면 해시된 방문 정보로 클릭 이벤트를 발행하고 원본은 접속 로그에만 저장")
+    void resolveUrl_WithVisit_PublishesClickEventAndAccessLog() {
+        // Given
+        String code = "abc123";
+        String longUrl = "https://www.example.com";
+
+        when(nearCache.findByCode(code)).thenReturn(Optional.of(shortUrl(code, longUrl)));
+
+        // When
+        resolveUrlService.resolveUrl(code, new Visit("visitor-a", "203.0.113.7", "Mozilla/5.0", "news.example.com"));
+
+        // Then
+        ArgumentCaptor<ClickEvent> captor = ArgumentCaptor.forClass(ClickEvent.class);
+        verify(clickEventPublisher).publish(captor.capture());
+        assertThat(captor.getValue().code()).isEqualTo(code);
+        assertThat(captor.getValue().ipHash()).isEqualTo(VisitorFingerprint.ipHash("203.0.113.7"));
+        assertThat(captor.getValue().userAgentId()).isEqualTo(VisitorFingerprint.userAgentId("Mozilla/5.0"));
+        assertThat(captor.getValue().referrer()).isEqualTo("news.example.com");
+        verify(hitCounter).recordVisit(code, "visitor-a");
+        
+        ArgumentCaptor<UrlAccessLog> accessLog = ArgumentCaptor.forClass(UrlAccessLog.class);
+        verify(shortUrlRepository).saveAccessLog(accessLog.capture());
+        assertThat(accessLog.getValue().ipAddress()).isEqualTo("203.0.113.7");
+        assertThat(accessLog.getValue().userAgent()).isEqualTo("Mozilla/5.0");
+        assertThat(accessLog.getValue().accessedAt().toEpochMilli()).isEqualTo(captor.getValue().timestamp());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 코드는 클릭 이벤트를 발행하지 않음")
+    void resolveUrl_NotFound_DoesNotPublishClickEvent() {
+        // Given
+        String code = "missing";
+
+        when(nearCache.findByCode(code)).thenReturn(Optional.empty());
+        when(codeExistenceFilter.mightExist(code)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> resolveUrlService.resolveUrl(code, new Visit("visitor-a", null, null, null)))
+                .isInstanceOf(UrlNotFoundException.class);
+        verifyNoInteractions(clickEventPublisher);
+    }
+
+    private ShortUrl shortUrl(String code, String longUrl) {
+        return ShortUrl.builder()
+                .id(1L)
+                .code(code)
+                .longUrl(longUrl)
+                .createdAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(31536000))
+                .build();
     }
 }
\ No newline at end of file
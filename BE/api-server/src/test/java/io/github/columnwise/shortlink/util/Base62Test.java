@@ -0,0 +1,59 @@
+package io.github.columnwise.shortlink.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class Base62Test {
+    
+    @Test
+    @DisplayName("인코딩한 값은 그대로 디코딩되고 앞자리 0을 채우지 않음")
+    void encode_RoundTrips() {
+        assertThat(Base62.encode(0)).isEqualTo("0");
+        assertThat(Base62.encode(61)).isEqualTo("z");
+        assertThat(Base62.encode(62)).isEqualTo("10");
+        assertThat(Base62.encode(Long.MAX_VALUE)).hasSize(11);
+        
+        for (long value : new long[]{0, 1, 61, 62, 3_843, 56_800_235_583L, Long.MAX_VALUE}) {
+            assertThat(Base62.decode(Base62.encode(value))).isEqualTo(value);
+        }
+    }
+    
+    @Test
+    @DisplayName("고정 길이 인코딩은 앞자리를 0으로 채우고 자리수를 넘는 값은 거부")
+    void encodeFixedLength_PadsAndRejectsOverflow() {
+        assertThat(Base62.encode(61, 4)).isEqualTo("000z");
+        assertThat(Base62.decode(Base62.encode(3_843, 7))).isEqualTo(3_843);
+        assertThatThrownBy(() -> Base62.encode(3_844, 2)).isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    @DisplayName("바이트 배열은 부호 없는 정수로 보고 변환하며 decodeTo로 되돌릴 수 있음")
+    void encodeToBytes_RoundTrips() {
+        // Given
+        byte[] magnitude = {0, 0, (byte) 0xFF, (byte) 0xFF};
+        char[] buffer = new char[16];
+        
+        // When
+        int start = Base62.encodeTo(magnitude.clone(), buffer);
+        String encoded = new String(buffer, start, buffer.length - start);
+        byte[] decoded = new byte[4];
+        Base62.decodeTo(encoded, decoded);
+        
+        // Then
+        assertThat(encoded).isEqualTo("H31");
+        assertThat(decoded).containsExactly(magnitude);
+        assertThat(Base62.encodeTo(new byte[32], buffer)).isEqualTo(buffer.length - 1);
+        assertThat(buffer[buffer.length - 1]).isEqualTo('0');
+        assertThatThrownBy(() -> Base62.decodeTo("zzzz", new byte[2])).isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    @DisplayName("음수와 범위를 벗어난 문자열은 거부")
+    void encodeAndDecode_InvalidInput_Throws() {
+        assertThatThrownBy(() -> Base62.encode(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Base62.decode("ab-c")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Base62.decode("zzzzzzzzzzz")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.columnwise.shortlink.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FeistelPermutationTest {
+    
+    @Test
+    @DisplayName("구간 전체에서 전단사이고 inverse가 permute를 되돌림")
+    void permute_IsBijective() {
+        for (int length : new int[]{2, 3}) {
+            // Given
+            FeistelPermutation permutation = FeistelPermutation.base62(length, "secret", 8);
+            BitSet seen = new BitSet((int) permutation.size());
+            
+            // When & Then
+            for (long value = 0; value < permutation.size(); value++) {
+                long permuted = permutation.permute(value);
+                assertThat(permuted).isBetween(0L, permutation.size() - 1);
+                assertThat(seen.get((int) permuted)).isFalse();
+                seen.set((int) permuted);
+                assertThat(permutation.inverse(permuted)).isEqualTo(value);
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("연속된 번호가 연속된 코드로 나오지 않고, 키가 다르면 다른 순열")
+    void permute_ScramblesSequentialValues() {
+        // Given
+        FeistelPermutation permutation = FeistelPermutation.base62(7, "secret", 8);
+        FeistelPermutation otherKey = FeistelPermutation.base62(7, "other", 8);
+        
+        // When
+        long first = permutation.permute(1);
+        long second = permutation.permute(2);
+        
+        // Then
+        assertThat(Math.abs(second - first)).isGreaterThan(1);
+        assertThat(otherKey.permute(1)).isNotEqualTo(first);
+        assertThat(Base62.encode(permutation.permute(1), 7)).hasSize(7);
+        assertThat(permutation.inverse(permutation.permute(1_234_567_890L))).isEqualTo(1_234_567_890L);
+    }
+    
+    @Test
+    @DisplayName("구간 밖의 값과 잘못된 설정은 거부")
+    void permute_InvalidInput_Throws() {
+        FeistelPermutation permutation = FeistelPermutation.base62(4, "secret", 8);
+        
+        assertThatThrownBy(() -> permutation.permute(permutation.size()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FeistelPermutation.base62(4, "secret", 3))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FeistelPermutation.base62(11, "secret", 8))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
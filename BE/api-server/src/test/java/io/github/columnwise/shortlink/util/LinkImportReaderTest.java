@@ -0,0 +1,81 @@
+package io.github.columnwise.shortlink.util;
+
+import io.github.columnwise.shortlink.util.LinkImportReader.Entry;
+import io.github.columnwise.shortlink.util.LinkImportReader.Format;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LinkImportReaderTest {
+    
+    @Test
+    @DisplayName("CSV는 헤더와 빈 줄을 건너뛰고 따옴표로 감싼 필드를 해석")
+    void next_Csv() {
+        String csv = """
+                long_url,code
+                https://www.example.com,legacy1
+                
+                "https://example.com/?a=1,2",
+                "broken
+                """;
+        
+        List<Entry> entries = readAll(new LinkImportReader(new StringReader(csv), Format.CSV));
+        
+        assertThat(entries).containsExactly(
+                new Entry(2, "https://www.example.com", "legacy1"),
+                new Entry(4, "https://example.com/?a=1,2", null),
+                new Entry(5, null, null));
+    }
+    
+    @Test
+    @DisplayName("NDJSON은 줄마다 객체 하나를 읽고 형식이 잘못된 줄은 longUrl 없이 반환")
+    void next_Ndjson() {
+        String ndjson = """
+                {"longUrl": "https://www.example.com", "code": "legacy1"}
+                {"longUrl": "https://github.com/columnwise"}
+                not json
+                """;
+        
+        List<Entry> entries = readAll(new LinkImportReader(new StringReader(ndjson), Format.NDJSON));
+        
+        assertThat(entries).containsExactly(
+                new Entry(1, "https://www.example.com", "legacy1"),
+                new Entry(2, "https://github.com/columnwise", null),
+                new Entry(3, null, null));
+    }
+    
+    @Test
+    @DisplayName("체크포인트의 줄 수만큼 건너뛰고 이어서 읽음")
+    void skip_ResumesAfterCheckpoint() {
+        String csv = "https://a.example.com\nhttps://b.example.com\nhttps://c.example.com\n";
+        LinkImportReader reader = new LinkImportReader(new StringReader(csv), Format.CSV);
+        
+        reader.skip(2);
+        
+        assertThat(readAll(reader)).containsExactly(new Entry(3, "https://c.example.com", null));
+        assertThat(reader.line()).isEqualTo(3);
+    }
+    
+    @Test
+    @DisplayName("Content-Type이나 파일 이름으로 형식 판별")
+    void detect_Format() {
+        assertThat(Format.detect("application/x-ndjson")).isEqualTo(Format.NDJSON);
+        assertThat(Format.detect("links.jsonl")).isEqualTo(Format.NDJSON);
+        assertThat(Format.detect("text/csv;charset=UTF-8")).isEqualTo(Format.CSV);
+        assertThat(Format.detect(null)).isEqualTo(Format.CSV);
+    }
+    
+    private static List<Entry> readAll(LinkImportReader reader) {
+        List<Entry> entries = new ArrayList<>();
+        Entry entry;
+        while ((entry = reader.next()) != null) {
+            entries.add(entry);
+        }
+        return entries;
+    }
+}
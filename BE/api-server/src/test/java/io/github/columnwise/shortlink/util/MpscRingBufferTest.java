@@ -0,0 +1,105 @@
+package io.github.columnwise.shortlink.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MpscRingBufferTest {
+    
+    @Test
+    @DisplayName("용량은 2의 거듭제곱으로 올려지고, 가득 차면 offer가 false를 반환")
+    void offer_Full_ReturnsFalse() {
+        // Given
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(3);
+        
+        // When
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        
+        // Then
+        assertThat(buffer.capacity()).isEqualTo(4);
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+    }
+    
+    @Test
+    @DisplayName("꺼낸 만큼 다시 넣을 수 있고 넣은 순서대로 꺼내짐")
+    void drainTo_WrapsAroundInOrder() {
+        // Given
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+        
+        // When
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                buffer.offer(round * 4 + i);
+            }
+            buffer.drainTo(drained, 10);
+        }
+        
+        // Then
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11);
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.size()).isZero();
+    }
+    
+    @Test
+    @DisplayName("여러 생산자가 동시에 넣어도 받아들여진 원소는 빠짐없이 한 번씩 꺼내짐")
+    void offer_ConcurrentProducers_NoLossOrDuplicates() throws Exception {
+        // Given
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+        int producers = 4;
+        int perProducer = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        
+        try {
+            // When
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!buffer.offer(base + i)) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            
+            Set<Integer> consumed = new HashSet<>();
+            List<Integer> batch = new ArrayList<>();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (consumed.size() < producers * perProducer && System.nanoTime() < deadline) {
+                batch.clear();
+                buffer.drainTo(batch, 256);
+                for (Integer value : batch) {
+                    assertThat(consumed.add(value)).isTrue();
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+            
+            // Then
+            assertThat(consumed).hasSize(producers * perProducer);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.columnwise.shortlink.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ScalableBloomFilterTest {
+    
+    @Test
+    @DisplayName("추가한 값은 항상 포함된 것으로 판단 (거짓 음성 없음)")
+    void mightContain_AddedValues_AlwaysTrue() {
+        // Given
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+        
+        // When
+        for (int i = 0; i < 5_000; i++) {
+            filter.put("code" + i);
+        }
+        
+        // Then
+        for (int i = 0; i < 5_000; i++) {
+            assertThat(filter.mightContain("code" + i)).isTrue();
+        }
+    }
+    
+    @Test
+    @DisplayName("용량을 넘어 추가해도 오탐률이 목표치 근처로 유지되고 단계가 늘어남")
+    void put_BeyondCapacity_GrowsAndKeepsFalsePositiveRate() {
+        // Given
+        double targetRate = 0.01;
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, targetRate);
+        
+        // When
+        for (int i = 0; i < 20_000; i++) {
+            filter.put("code" + i);
+        }
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("unknown" + i)) {
+                falsePositives++;
+            }
+        }
+        
+        // Then
+        assertThat(filter.stageCount()).isGreaterThan(1);
+        assertThat((double) falsePositives / probes).isLessThan(targetRate * 2);
+        assertThat(filter.expectedFalsePositiveRate()).isLessThan(targetRate * 2);
+        assertThat(filter.approximateElementCount()).isBetween(19_000L, 20_000L);
+        assertThat(filter.memoryBytes()).isPositive();
+    }
+    
+    @Test
+    @DisplayName("잘못된 용량이나 오탐률로 생성 시 예외 발생")
+    void constructor_InvalidArguments_ThrowsException() {
+        assertThatThrownBy(() -> new ScalableBloomFilter(0, 0.01))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ScalableBloomFilter(100, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.columnwise.shortlink.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SingleFlightTest {
+    
+    @Test
+    @DisplayName("동시에 같은 키를 조회하면 loader는 한 번만 실행되고 결과를 공유")
+    void execute_ConcurrentSameKey_LoadsOnce() throws Exception {
+        // Given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        
+        try {
+            // When
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("abc123", () -> {
+                    loaderCalls.incrementAndGet();
+                    awaitQuietly(release);
+                    return "https://www.example.com";
+                })));
+            }
+            
+            // 리더를 제외한 모든 호출자가 진행 중인 로딩에 합류할 때까지 대기
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (singleFlight.sharedCount() < callers - 1 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            
+            // Then
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("https://www.example.com");
+            }
+            assertThat(loaderCalls.get()).isEqualTo(1);
+            assertThat(singleFlight.leaderCount()).isEqualTo(1);
+            assertThat(singleFlight.sharedCount()).isEqualTo(callers - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    @DisplayName("로딩이 끝난 키는 다시 조회하면 loader가 새로 실행됨")
+    void execute_AfterCompletion_LoadsAgain() {
+        // Given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger loaderCalls = new AtomicInteger();
+        
+        // When
+        singleFlight.execute("abc123", loaderCalls::incrementAndGet);
+        singleFlight.execute("abc123", loaderCalls::incrementAndGet);
+        
+        // Then
+        assertThat(loaderCalls.get()).isEqualTo(2);
+        assertThat(singleFlight.sharedCount()).isZero();
+    }
+    
+    @Test
+    @DisplayName("loader 예외는 호출자에게 그대로 전파되고 키는 정리됨")
+    void execute_LoaderFails_PropagatesException() {
+        // Given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        
+        // When & Then
+        assertThatThrownBy(() -> singleFlight.execute("abc123", () -> {
+            throw new IllegalStateException("DB error");
+        })).isInstanceOf(IllegalStateException.class)
+                .hasMessage("DB error");
+        
+        assertThat(singleFlight.execute("abc123", () -> "recovered")).isEqualTo("recovered");
+    }
+    
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.columnwise.shortlink.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UrlFingerprintTest {
+    
+    @Test
+    @DisplayName("스킴/호스트 대소문자, 기본 포트, 빈 경로 차이는 같은 URL로 취급")
+    void normalize_EquivalentUrls_SameFingerprint() {
+        assertThat(UrlFingerprint.normalize(" HTTPS://WWW.Example.COM:443 ")).isEqualTo("https://www.example.com/");
+        assertThat(UrlFingerprint.normalize("http://example.com:80/a?b=c#d")).isEqualTo("http://example.com/a?b=c#d");
+        assertThat(UrlFingerprint.of("https://www.example.com"))
+                .hasSize(UrlFingerprint.LENGTH)
+                .isEqualTo(UrlFingerprint.of("HTTPS://www.EXAMPLE.com:443/"));
+    }
+    
+    @Test
+    @DisplayName("경로, 쿼리, 기본이 아닌 포트가 다르면 다른 URL")
+    void normalize_DifferentUrls_DifferentFingerprint() {
+        assertThat(UrlFingerprint.sameUrl("https://example.com/Path", "https://example.com/path")).isFalse();
+        assertThat(UrlFingerprint.sameUrl("https://example.com/?a=1", "https://example.com/?a=2")).isFalse();
+        assertThat(UrlFingerprint.sameUrl("https://example.com:8443", "https://example.com")).isFalse();
+        assertThat(UrlFingerprint.hex("https://example.com/a")).isNotEqualTo(UrlFingerprint.hex("https://example.com/b"));
+    }
+    
+    @Test
+    @DisplayName("URI로 해석할 수 없는 값은 앞뒤 공백만 제거하여 비교")
+    void normalize_InvalidUri_Trimmed() {
+        assertThat(UrlFingerprint.normalize(" not a url ")).isEqualTo("not a url");
+        assertThat(UrlFingerprint.hex("not a url")).hasSize(UrlFingerprint.LENGTH * 2);
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.columnwise.shortlink.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UrlValidatorTest {
+    
+    @Test
+    @DisplayName("호스트가 있는 http/https 절대 URL만 허용")
+    void isValid_HttpAndHttpsOnly() {
+        assertThat(UrlValidator.isValid("https://www.example.com/path?q=1#top")).isTrue();
+        assertThat(UrlValidator.isValid("HTTP://example.com:8080")).isTrue();
+        
+        assertThat(UrlValidator.isValid(null)).isFalse();
+        assertThat(UrlValidator.isValid(" ")).isFalse();
+        assertThat(UrlValidator.isValid("javascript:alert(1)")).isFalse();
+        assertThat(UrlValidator.isValid("ftp://example.com/file")).isFalse();
+        assertThat(UrlValidator.isValid("/relative/path")).isFalse();
+        assertThat(UrlValidator.isValid("https:///no-host")).isFalse();
+        assertThat(UrlValidator.isValid("https://example.com/a b")).isFalse();
+    }
+    
+    @Test
+    @DisplayName("컬럼 길이를 넘는 URL은 거부하고 사유를 반환")
+    void violation_TooLong() {
+        String url = "https://example.com/" + "a".repeat(UrlValidator.MAX_LENGTH);
+        
+        assertThat(UrlValidator.violation(url)).contains("longer than");
+        assertThat(UrlValidator.violation("https://example.com")).isNull();
+    }
+}
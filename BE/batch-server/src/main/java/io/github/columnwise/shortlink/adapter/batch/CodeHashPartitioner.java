@@ -0,0 +1,37 @@
+package io.github.columnwise.shortlink.adapter.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 코드 해시 값으로 나눈 파티션 번호만 각 워커 스텝에 전달
+ * 실제 코드 목록은 워커가 직접 조회하므로 실행 컨텍스트(배치 메타 테이블)에 큰 목록을 저장하지 않음
+ */
+@RequiredArgsConstructor
+public class CodeHashPartitioner implements Partitioner {
+    
+    public static final String TARGET_DATE = "targetDate";
+    public static final String PARTITION_INDEX = "partitionIndex";
+    public static final String PARTITION_COUNT = "partitionCount";
+    
+    private final LocalDate targetDate;
+    
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        int partitionCount = Math.max(1, gridSize);
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        for (int i = 0; i < partitionCount; i++) {
+            ExecutionContext context = new ExecutionContext();
+            context.putString(TARGET_DATE, targetDate.toString());
+            context.putInt(PARTITION_INDEX, i);
+            context.putInt(PARTITION_COUNT, partitionCount);
+            partitions.put("partition" + i, context);
+        }
+        return partitions;
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.columnwise.shortlink.adapter.batch;
+
+import io.github.columnwise.shortlink.adapter.config.AggregationPartitionProperties;
+import io.github.columnwise.shortlink.adapter.config.BatchCoordinationProperties;
+import io.github.columnwise.shortlink.application.port.in.CooperativeAggregationUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Redis 파티션 큐가 빌 때까지 파티션을 가져와 처리하는 워커
+ * 인스턴스마다 로컬 스레드 수만큼 실행되며, 모든 인스턴스가 같은 큐를 공유
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CooperativePartitionTasklet implements Tasklet {
+    
+    public static final String RUN_ID = "runId";
+    public static final String INSTANCE_ID = "instanceId";
+    
+    private final CooperativeAggregationUseCase cooperativeAggregationUseCase;
+    private final AggregationPartitionProperties partitionProperties;
+    private final BatchCoordinationProperties coordinationProperties;
+    private final Clock clock;
+    
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        Map<String, Object> jobParameters = chunkContext.getStepContext().getJobParameters();
+        LocalDate targetDate = TargetDateParser.parse(jobParameters.get(CodeHashPartitioner.TARGET_DATE), clock);
+        String runId = String.valueOf(jobParameters.get(RUN_ID));
+        String workerId = jobParameters.get(INSTANCE_ID) + ":" + Thread.currentThread().getName();
+        
+        int completedCount = cooperativeAggregationUseCase.drainPartitions(
+                targetDate, runId, workerId,
+                partitionProperties.getCommitInterval(), coordinationProperties.getLeaseTimeout());
+        
+        contribution.getStepExecution().getExecutionContext()
+                   .put("completedPartitions", completedCount);
+        
+        if (cooperativeAggregationUseCase.isRunComplete(runId)) {
+            log.info("All partitions of run {} are completed", runId);
+        }
+        
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.columnwise.shortlink.adapter.batch;
+
+import io.github.columnwise.shortlink.adapter.config.ExpiredCleanupProperties;
+import io.github.columnwise.shortlink.application.port.in.CleanupExpiredLinksUseCase;
+import io.github.columnwise.shortlink.application.port.in.CleanupExpiredLinksUseCase.Cursor;
+import io.github.columnwise.shortlink.application.port.in.CleanupExpiredLinksUseCase.PurgeResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * 만료된 단축 URL을 청크 하나씩 삭제하는 Tasklet
+ * execute 한 번이 트랜잭션 하나이며, 키셋 위치를 StepExecution 컨텍스트에 함께 커밋하므로 재시작하면 마지막 청크 다음부터 이어서 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpiredCleanupTasklet implements Tasklet {
+    
+    public static final String CUTOFF = "cutoff";
+    
+    private static final String CURSOR_EXPIRES_AT = "expiredCleanup.expiresAt";
+    private static final String CURSOR_ID = "expiredCleanup.id";
+    private static final String DELETED = "expiredCleanup.deleted";
+    
+    private final CleanupExpiredLinksUseCase cleanupExpiredLinksUseCase;
+    private final ExpiredCleanupProperties properties;
+    
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        Object cutoff = chunkContext.getStepContext().getJobParameters().get(CUTOFF);
+        Instant now = cutoff != null ? Instant.ofEpochMilli(Long.parseLong(cutoff.toString())) : Instant.now();
+        ExecutionContext context = contribution.getStepExecution().getExecutionContext();
+        Cursor cursor = context.containsKey(CURSOR_ID)
+                ? new Cursor(Instant.ofEpochMilli(context.getLong(CURSOR_EXPIRES_AT)), context.getLong(CURSOR_ID))
+                : Cursor.START;
+        
+        PurgeResult result = cleanupExpiredLinksUseCase.purgeExpired(cursor, now, properties.getChunkSize());
+        contribution.incrementWriteCount(result.deleted());
+        
+        long deleted = context.getLong(DELETED, 0L) + result.deleted();
+        context.putLong(CURSOR_EXPIRES_AT, result.next().expiresAt().toEpochMilli());
+        context.putLong(CURSOR_ID, result.next().id());
+        context.putLong(DELETED, deleted);
+        
+        if (result.scanned() < properties.getChunkSize()) {
+            log.info("Expired link cleanup finished, deleted {} short URLs expired before {}", deleted, now);
+            return RepeatStatus.FINISHED;
+        }
+        return RepeatStatus.CONTINUABLE;
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.columnwise.shortlink.adapter.batch;
+
+import io.github.columnwise.shortlink.adapter.config.ClickRetentionProperties;
+import io.github.columnwise.shortlink.adapter.config.LegacyKeyCompactionProperties;
+import io.github.columnwise.shortlink.application.port.in.CompactLegacyKeysUseCase;
+import io.github.columnwise.shortlink.application.port.in.CompactLegacyKeysUseCase.CompactionResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 방문 카운터 키 압축 Tasklet
+ * 처리한 키는 삭제되므로 중단 후 재실행하면 SCAN 처음부터 돌아도 남은 키만 처리됨
+ */
+@Component
+@RequiredArgsConstructor
+public class LegacyKeyCompactionTasklet implements Tasklet {
+    
+    private final CompactLegacyKeysUseCase compactLegacyKeysUseCase;
+    private final LegacyKeyCompactionProperties properties;
+    private final ClickRetentionProperties clickRetentionProperties;
+    
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        CompactionResult result = compactLegacyKeysUseCase.compact(
+                properties.getScanCount(),
+                properties.getBatchSize(),
+                properties.getMaxKeysPerSecond(),
+                clickRetentionProperties.getRetention());
+        
+        contribution.incrementWriteCount(result.compacted());
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.columnwise.shortlink.adapter.batch;
+
+import io.github.columnwise.shortlink.domain.service.ShortUrlPolicy;
+import io.github.columnwise.shortlink.util.LinkImportReader.Entry;
+import io.github.columnwise.shortlink.util.UrlValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ItemProcessor;
+
+/**
+ * 검증에 실패한 줄을 걸러냄 (Step의 filterCount로 집계)
+ */
+@Slf4j
+public class LinkImportItemProcessor implements ItemProcessor<Entry, Entry> {
+    
+    @Override
+    public Entry process(Entry entry) {
+        String violation = UrlValidator.violation(entry.longUrl());
+        if (violation == null && entry.code() != null && !ShortUrlPolicy.isValidCode(entry.code())) {
+            violation = "Code must be 1 to " + ShortUrlPolicy.MAX_CODE_LENGTH + " Base62 characters";
+        }
+        if (violation != null) {
+            log.warn("Skipping invalid line {}: {}", entry.line(), violation);
+            return null;
+        }
+        return entry;
+    }
+}
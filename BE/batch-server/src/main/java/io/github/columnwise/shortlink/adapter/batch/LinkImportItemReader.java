@@ -0,0 +1,71 @@
+package io.github.columnwise.shortlink.adapter.batch;
+
+import io.github.columnwise.shortlink.util.LinkImportReader;
+import io.github.columnwise.shortlink.util.LinkImportReader.Entry;
+import io.github.columnwise.shortlink.util.LinkImportReader.Format;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 가져오기 파일을 한 줄씩 읽는 재시작 가능한 리더
+ * 청크가 커밋될 때마다 마지막으로 읽은 줄 번호를 Step ExecutionContext에 저장하고, 재시작하면 그 줄 이후부터 읽음
+ */
+@Slf4j
+public class LinkImportItemReader implements ItemStreamReader<Entry> {
+    
+    static final String LINE_KEY = "linkImport.line";
+    
+    private final Path inputFile;
+    private final Format format;
+    private LinkImportReader reader;
+    
+    public LinkImportItemReader(Path inputFile, Format format) {
+        this.inputFile = inputFile;
+        this.format = format;
+    }
+    
+    @Override
+    public void open(ExecutionContext executionContext) {
+        try {
+            reader = new LinkImportReader(Files.newBufferedReader(inputFile, StandardCharsets.UTF_8), format);
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to open link import file: " + inputFile, e);
+        }
+        long checkpoint = executionContext.getLong(LINE_KEY, 0L);
+        if (checkpoint > 0) {
+            reader.skip(checkpoint);
+            log.info("Resuming link import of {} after line {}", inputFile, checkpoint);
+        }
+    }
+    
+    @Override
+    public Entry read() {
+        return reader.next();
+    }
+    
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(LINE_KEY, reader.line());
+    }
+    
+    @Override
+    public void close() {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to close link import file: " + inputFile, e);
+        } finally {
+            reader = null;
+        }
+    }
+}
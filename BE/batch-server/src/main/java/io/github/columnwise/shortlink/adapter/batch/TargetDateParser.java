@@ -0,0 +1,53 @@
+package io.github.columnwise.shortlink.adapter.batch;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+@Slf4j
+public final class TargetDateParser {
+    
+    // 다양한 날짜 형식 시도 (중복 제거)
+    private static final DateTimeFormatter[] FORMATTERS = {
+        DateTimeFormatter.ISO_LOCAL_DATE,      // 2024-09-13 (yyyy-MM-dd와 동일)
+        DateTimeFormatter.ofPattern("yyyy/MM/dd"),    // 2024/09/13
+        DateTimeFormatter.ofPattern("yyyyMMdd")       // 20240913
+    };
+    
+    private TargetDateParser() {
+    }
+    
+    /**
+     * 다양한 형식의 날짜 입력을 파싱하여 LocalDate로 변환
+     * 
+     * @param targetDateObj Job Parameter로 전달된 날짜 객체
+     * @param clock 기본값으로 쓸 현재 날짜의 기준 시계
+     * @return 파싱된 LocalDate, 실패 시 clock 기준 현재 날짜
+     */
+    public static LocalDate parse(Object targetDateObj, Clock clock) {
+        if (targetDateObj == null) {
+            return LocalDate.now(clock);
+        }
+        
+        String dateString = targetDateObj.toString().trim();
+        if (dateString.isEmpty()) {
+            return LocalDate.now(clock);
+        }
+        
+        for (DateTimeFormatter formatter : FORMATTERS) {
+            try {
+                LocalDate parsed = LocalDate.parse(dateString, formatter);
+                log.debug("Successfully parsed target date: {} -> {}", dateString, parsed);
+                return parsed;
+            } catch (DateTimeParseException e) {
+                // 다음 포맷터 시도
+            }
+        }
+        
+        log.warn("Failed to parse target date: '{}', using current date", dateString);
+        return LocalDate.now(clock);
+    }
+}
@@ -3,11 +3,14 @@ package io.github.columnwise.shortlink.adapter.composite;
 import io.github.columnwise.shortlink.adapter.persistence.DatabaseUrlMetricsWriterAdapter;
 import io.github.columnwise.shortlink.adapter.redis.ClusterRedisUrlMetricsWriterAdapter;
 import io.github.columnwise.shortlink.application.port.out.UrlMetricsWriter;
+import io.github.columnwise.shortlink.domain.model.UrlMetricsDelta;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
 @Primary
@@ -123,4 +126,54 @@ public class CompositeUrlMetricsWriterAdapter implements UrlMetricsWriter {
                     code, dbSuccess, redisSuccess);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public void applyDeltas(List<UrlMetricsDelta> deltas) {
+        boolean dbSuccess = false;
+        boolean redisSuccess = false;
+        Exception dbException = null;
+        Exception redisException = null;
+        
+        // DB는 청크 단위 배치 upsert 한 번으로 반영
+        try {
+            databaseWriter.applyDeltas(deltas);
+            dbSuccess = true;
+            log.debug("Database metrics updated for {} codes", deltas.size());
+        } catch (Exception e) {
+            dbException = e;
+            log.error("Failed to apply database metrics for {} codes", deltas.size(), e);
+        }
+        
+        // Redis 업데이트 시도
+        try {
+            redisWriter.applyDeltas(deltas);
+            redisSuccess = true;
+            log.debug("Redis metrics updated for {} codes", deltas.size());
+        } catch (Exception e) {
+            redisException = e;
+            log.error("Failed to apply Redis metrics for {} codes", deltas.size(), e);
+        }
+        
+        // 둘 다 실패한 경우 예외 발생
+        if (!dbSuccess && !redisSuccess) {
+            String errorMessage = String.format("Both DB and Redis bulk writes failed for %d codes", deltas.size());
+            log.error(errorMessage);
+            
+            // 복합 예외 메시지 생성
+            StringBuilder detailMessage = new StringBuilder(errorMessage);
+            if (dbException != null) {
+                detailMessage.append(" | DB Error: ").append(dbException.getMessage());
+            }
+            if (redisException != null) {
+                detailMessage.append(" | Redis Error: ").append(redisException.getMessage());
+            }
+            
+            throw new StatisticsUpdateException(detailMessage.toString());
+        }
+        
+        if (!dbSuccess || !redisSuccess) {
+            log.warn("Partial failure in bulk metrics write for {} codes - DB success: {}, Redis success: {}", 
+                    deltas.size(), dbSuccess, redisSuccess);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.columnwise.shortlink.adapter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 통계 집계 Job의 파티션/청크 설정
+ * 기본값은 배치 노드의 코어 수에 맞춰 파티션과 워커 스레드를 구성
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.batch.aggregation")
+public class AggregationPartitionProperties {
+    
+    /**
+     * 코드 해시 기준으로 나누는 파티션 수
+     */
+    private int partitionCount = Runtime.getRuntime().availableProcessors();
+    
+    /**
+     * 파티션을 동시에 처리하는 워커 스레드 수
+     */
+    private int concurrency = Runtime.getRuntime().availableProcessors();
+    
+    /**
+     * 워커 스텝의 청크(커밋) 크기
+     */
+    private int commitInterval = 500;
+}
@@ -3,12 +3,16 @@ package io.github.columnwise.shortlink.adapter.config;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+import java.time.Clock;
+import java.time.ZoneId;
+
 @Configuration
 @EnableScheduling
 public class BatchConfig {
@@ -22,4 +26,12 @@ public class BatchConfig {
         jobLauncher.afterPropertiesSet();
         return jobLauncher;
     }
+
+    /**
+     * 일자 버킷 기준 시계. API 서버와 같은 app.time-zone을 써야 집계 날짜와 조회 날짜가 어긋나지 않음
+     */
+    @Bean
+    public Clock clock(@Value("${app.time-zone:UTC}") String timeZone) {
+        return Clock.system(ZoneId.of(timeZone));
+    }
 }
\ No newline at end of file
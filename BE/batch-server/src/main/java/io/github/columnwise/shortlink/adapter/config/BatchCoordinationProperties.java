@@ -0,0 +1,43 @@
+package io.github.columnwise.shortlink.adapter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 여러 배치 인스턴스 간 집계 작업 분배 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.batch.coordination")
+public class BatchCoordinationProperties {
+    
+    /**
+     * LOCK: 분산 락을 얻은 인스턴스 하나만 실행
+     * COOPERATIVE: 모든 인스턴스가 Redis 파티션 큐에서 파티션을 나눠 처리
+     */
+    private Mode mode = Mode.LOCK;
+    
+    /**
+     * 파티션 점유 리스 시간, 이 시간 동안 갱신이 없으면 다른 인스턴스가 가져감
+     */
+    private Duration leaseTimeout = Duration.ofMinutes(2);
+    
+    /**
+     * 파티션 큐 키의 보존 기간
+     */
+    private Duration queueTtl = Duration.ofHours(6);
+    
+    /**
+     * 락 없이 매시 정각에 집계 Job을 실행하는 기존 스케줄러 사용 여부
+     * DistributedStatisticsJobScheduler와 같은 날짜를 동시에 집계하지 않도록 기본값은 꺼 둠
+     */
+    private boolean legacySchedulerEnabled = false;
+    
+    public enum Mode {
+        LOCK,
+        COOPERATIVE
+    }
+}
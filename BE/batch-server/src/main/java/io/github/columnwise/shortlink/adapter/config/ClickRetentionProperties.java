@@ -0,0 +1,19 @@
+package io.github.columnwise.shortlink.adapter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 배치 서버가 쓰는 클릭 관련 일자별 Redis 키의 보관 기간
+ * API 서버의 app.click-counter.retention과 같아야 하며, 집계가 끝난 일자의 키는 이 기간이 지나면 만료됨
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.batch.click-retention")
+public class ClickRetentionProperties {
+    
+    private Duration retention = Duration.ofDays(7);
+}
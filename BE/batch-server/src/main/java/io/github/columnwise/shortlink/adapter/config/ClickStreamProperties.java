@@ -0,0 +1,50 @@
+package io.github.columnwise.shortlink.adapter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 클릭 이벤트 스트림 컨슈머 설정
+ * 활성화하면 URL 누적 통계와 일일 통계는 스트림 컨슈머가 근실시간으로 반영하고,
+ * 매시간 집계 Job은 워터마크 갱신과 마감된 날짜 보관만 수행
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.batch.click-stream")
+public class ClickStreamProperties {
+    
+    private boolean enabled = false;
+    
+    /**
+     * 스트림 샤드 수, API 서버의 app.click-stream.shard-count와 같아야 함 (샤드마다 컨슈머 스레드 하나)
+     */
+    private int shardCount = 4;
+    
+    /**
+     * 모든 배치 인스턴스가 공유하는 컨슈머 그룹
+     */
+    private String consumerGroup = "shortlink-batch";
+    
+    /**
+     * 그룹 내 컨슈머 이름, 비워 두면 호스트 이름을 사용 (호스트 이름을 얻지 못하면 프로세스 ID)
+     */
+    private String consumerName;
+    
+    /**
+     * XREADGROUP 한 번에 읽어 한 번에 반영하는 최대 이벤트 수
+     */
+    private int batchSize = 1000;
+    
+    /**
+     * 새 이벤트가 없을 때 XREADGROUP이 대기하는 시간
+     */
+    private Duration block = Duration.ofSeconds(2);
+    
+    /**
+     * 이 시간 이상 ACK되지 않은 다른 컨슈머의 이벤트는 가져와 다시 처리
+     */
+    private Duration claimMinIdle = Duration.ofMinutes(1);
+}
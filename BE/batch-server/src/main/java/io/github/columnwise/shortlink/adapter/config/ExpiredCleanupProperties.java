@@ -0,0 +1,37 @@
+package io.github.columnwise.shortlink.adapter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 단축 URL 정리 Job 설정
+ * 키 접두사는 API 서버의 app.redis.cache.key-prefix, app.redis.hit-counter.key-prefix와 같아야 함
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.batch.expired-cleanup")
+public class ExpiredCleanupProperties {
+    
+    private boolean enabled = true;
+    
+    /**
+     * 실행 주기, 트래픽이 적은 새벽에 실행
+     */
+    private String cron = "0 30 3 * * ?";
+    
+    /**
+     * 한 트랜잭션에서 삭제할 최대 행 수, 행 잠금과 복제 지연이 짧게 유지되도록 작게 둠
+     */
+    private int chunkSize = 500;
+    
+    /**
+     * API 서버 Redis 캐시 키 접두사
+     */
+    private String cacheKeyPrefix = "shorturl:";
+    
+    /**
+     * API 서버 누적 방문 수 키 접두사
+     */
+    private String hitCountKeyPrefix = "hitcount:";
+}
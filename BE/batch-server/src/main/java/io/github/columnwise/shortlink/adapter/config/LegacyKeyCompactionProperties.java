@@ -0,0 +1,37 @@
+package io.github.columnwise.shortlink.adapter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 방문 카운터 키(url:access:count:*) 압축 Job 설정
+ * 키를 SCAN으로 찾아 GETDEL로 읽으면서 지우고 코드별 일자 해시로 합치며, 남은 키가 없으면 SCAN 한 바퀴만 돌고 끝남
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.batch.legacy-key-compaction")
+public class LegacyKeyCompactionProperties {
+    
+    private boolean enabled = true;
+    
+    /**
+     * 실행 주기, 만료 정리 Job과 겹치지 않는 새벽 시간
+     */
+    private String cron = "0 15 4 * * ?";
+    
+    /**
+     * SCAN 한 번에 훑는 슬롯 수 힌트 (COUNT), 클수록 왕복이 줄지만 명령 하나가 Redis를 오래 점유함
+     */
+    private int scanCount = 1000;
+    
+    /**
+     * 한 번의 파이프라인(GETDEL, HINCRBY)으로 처리하는 키 수
+     */
+    private int batchSize = 500;
+    
+    /**
+     * 초당 처리할 최대 키 수, 운영 중인 Redis의 응답 지연이 늘지 않도록 제한
+     */
+    private int maxKeysPerSecond = 5000;
+}
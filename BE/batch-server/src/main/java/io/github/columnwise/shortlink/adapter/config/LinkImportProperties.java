@@ -0,0 +1,35 @@
+package io.github.columnwise.shortlink.adapter.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 링크 가져오기 Job 설정
+ * input-file을 지정하고 실행하면 시작 시 Job을 한 번 실행하며, 실패 후 같은 파일로 다시 실행하면 마지막 커밋 지점부터 이어서 처리
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.batch.link-import")
+public class LinkImportProperties {
+    
+    /**
+     * 가져올 CSV(long_url[,code]) 또는 NDJSON 파일 경로
+     */
+    private String inputFile;
+    
+    /**
+     * 입력 형식(CSV/NDJSON), 비워 두면 파일 확장자로 판별
+     */
+    private String format;
+    
+    /**
+     * 청크(커밋) 크기, 한 청크를 한 트랜잭션의 배치 INSERT로 저장하고 읽은 줄 번호를 함께 커밋
+     */
+    private int chunkSize = 1000;
+    
+    /**
+     * 동시에 저장된 행과 충돌하여 건너뛸 수 있는 최대 항목 수
+     */
+    private int skipLimit = 10_000;
+}
@@ -0,0 +1,84 @@
+package io.github.columnwise.shortlink.adapter.persistence;
+
+import io.github.columnwise.shortlink.application.port.out.DailyStatisticsArchiveWriter;
+import io.github.columnwise.shortlink.domain.service.ShortUrlPolicy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DatabaseDailyStatisticsArchiveWriterAdapter implements DailyStatisticsArchiveWriter {
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    // 재집계(일일 배치 재실행 등)에도 uk_daily_url_statistics_code_date로 (code, date)당 한 행만 유지
+    private static final String MYSQL_UPSERT_SQL = """
+            INSERT INTO daily_url_statistics (code, stat_date, access_count, unique_visitors, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                access_count = VALUES(access_count),
+                unique_visitors = VALUES(unique_visitors),
+                updated_at = VALUES(updated_at)
+            """;
+    
+    private static final String H2_UPSERT_SQL = """
+            MERGE INTO daily_url_statistics t
+            USING (VALUES (CAST(? AS VARCHAR(%d)), CAST(? AS DATE), CAST(? AS BIGINT), CAST(? AS BIGINT),
+                           CAST(? AS TIMESTAMP(6) WITH TIME ZONE), CAST(? AS TIMESTAMP(6) WITH TIME ZONE)))
+                AS s(code, stat_date, access_count, unique_visitors, created_at, updated_at)
+            ON t.code = s.code AND t.stat_date = s.stat_date
+            WHEN MATCHED THEN UPDATE SET
+                access_count = s.access_count,
+                unique_visitors = s.unique_visitors,
+                updated_at = s.updated_at
+            WHEN NOT MATCHED THEN INSERT (code, stat_date, access_count, unique_visitors, created_at, updated_at)
+                VALUES (s.code, s.stat_date, s.access_count, s.unique_visitors, s.created_at, s.updated_at)
+            """.formatted(ShortUrlPolicy.MAX_CODE_LENGTH);
+    
+    private volatile String upsertSql;
+    
+    /**
+     * 청크 전체를 트랜잭션 하나에서 네이티브 upsert JDBC 배치로 기록
+     * 코드마다 SELECT 후 INSERT/UPDATE를 각자의 트랜잭션으로 오가던 것을 청크당 한 번의 배치 실행으로 줄임
+     */
+    @Override
+    @Transactional
+    public void saveDailySnapshots(List<DailySnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(upsertSql(), snapshots, snapshots.size(), (ps, snapshot) -> {
+            ps.setString(1, snapshot.code());
+            ps.setDate(2, Date.valueOf(snapshot.date()));
+            ps.setLong(3, snapshot.accessCount());
+            ps.setLong(4, snapshot.uniqueVisitors());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+        
+        log.debug("Archived {} daily statistics snapshots in one batch", snapshots.size());
+    }
+    
+    private String upsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            String productName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            sql = "H2".equalsIgnoreCase(productName) ? H2_UPSERT_SQL : MYSQL_UPSERT_SQL;
+            upsertSql = sql;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.columnwise.shortlink.adapter.persistence;
+
+import io.github.columnwise.shortlink.application.port.out.ExpiredShortUrlRepository;
+import io.github.columnwise.shortlink.domain.model.ShortUrl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 만료 정리용 short_urls JDBC 접근
+ * OFFSET 없이 idx_short_urls_expires_at을 (expires_at, id) 키셋으로 탐색하므로 페이지가 뒤로 가도 읽는 행 수가 일정함
+ * 인덱스가 없으면 FOR UPDATE가 테이블 전체를 훑으며 잠그므로, ddl-auto=validate인 운영 DB에는 미리 만들어 두어야 함
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcExpiredShortUrlAdapter implements ExpiredShortUrlRepository {
+    
+    // 조회한 행을 삭제 전까지 잠가 두어 삭제 대상과 Redis에서 지울 코드가 어긋나지 않게 함
+    private static final String LOCK_EXPIRED_SQL =
+            "SELECT id, code, expires_at FROM short_urls" +
+            " WHERE expires_at <= :now" +
+            " AND (expires_at > :afterExpiresAt OR (expires_at = :afterExpiresAt AND id > :afterId))" +
+            " ORDER BY expires_at, id LIMIT :limit FOR UPDATE";
+    private static final String DELETE_SHORT_URLS_SQL = "DELETE FROM short_urls WHERE id IN (:ids)";
+    private static final String DELETE_STATISTICS_SQL = "DELETE FROM url_statistics WHERE code IN (:codes)";
+    
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    
+    @Override
+    public List<ShortUrl> lockExpiredAfter(Instant afterExpiresAt, long afterId, Instant now, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("now", Timestamp.from(now))
+                .addValue("afterExpiresAt", Timestamp.from(afterExpiresAt))
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+        return namedParameterJdbcTemplate.query(LOCK_EXPIRED_SQL, parameters, (resultSet, rowNum) -> ShortUrl.builder()
+                .id(resultSet.getLong(1))
+                .code(resultSet.getString(2))
+                .expiresAt(resultSet.getTimestamp(3).toInstant())
+                .build());
+    }
+    
+    @Override
+    public int deleteAll(Collection<Long> ids, Collection<String> codes) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int deleted = namedParameterJdbcTemplate.update(DELETE_SHORT_URLS_SQL, Map.of("ids", ids));
+        namedParameterJdbcTemplate.update(DELETE_STATISTICS_SQL, Map.of("codes", codes));
+        return deleted;
+    }
+}
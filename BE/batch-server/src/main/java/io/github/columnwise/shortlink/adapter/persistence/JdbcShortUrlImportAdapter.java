@@ -0,0 +1,72 @@
+package io.github.columnwise.shortlink.adapter.persistence;
+
+import io.github.columnwise.shortlink.application.port.out.ShortUrlImportRepository;
+import io.github.columnwise.shortlink.domain.model.ShortUrl;
+import io.github.columnwise.shortlink.util.UrlFingerprint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * short_urls에 대한 가져오기 전용 JDBC 접근
+ * 배치 서버에는 ShortUrlEntity가 없고, IDENTITY 키는 Hibernate 배치 INSERT를 막으므로 JdbcTemplate으로 직접 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcShortUrlImportAdapter implements ShortUrlImportRepository {
+    
+    private static final String FIND_BY_HASHES_SQL =
+            "SELECT long_url, code FROM short_urls WHERE long_url_hash IN (:hashes)";
+    private static final String FIND_CODES_SQL = "SELECT code FROM short_urls WHERE code IN (:codes)";
+    private static final String INSERT_SQL =
+            "INSERT INTO short_urls (code, long_url, long_url_hash, created_at, expires_at) VALUES (?, ?, ?, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    
+    @Override
+    public Map<String, String> findCodesByLongUrls(Collection<String> longUrls) {
+        Map<String, String> codes = new HashMap<>();
+        if (longUrls.isEmpty()) {
+            return codes;
+        }
+        List<byte[]> hashes = longUrls.stream().map(UrlFingerprint::of).toList();
+        namedParameterJdbcTemplate.query(FIND_BY_HASHES_SQL, Map.of("hashes", hashes), resultSet -> {
+            // 지문 충돌에 대비해 정규화한 원본으로 키를 만들고, 호출자는 자신의 URL을 정규화해 조회
+            codes.putIfAbsent(UrlFingerprint.normalize(resultSet.getString(1)), resultSet.getString(2));
+        });
+        return codes;
+    }
+    
+    @Override
+    public Set<String> findExistingCodes(Collection<String> codes) {
+        Set<String> existing = new HashSet<>();
+        if (codes.isEmpty()) {
+            return existing;
+        }
+        namedParameterJdbcTemplate.query(FIND_CODES_SQL, Map.of("codes", codes), resultSet -> {
+            existing.add(resultSet.getString(1));
+        });
+        return existing;
+    }
+    
+    @Override
+    public void insertAll(List<ShortUrl> shortUrls) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, shortUrls, shortUrls.size(), (statement, shortUrl) -> {
+            statement.setString(1, shortUrl.code());
+            statement.setString(2, shortUrl.longUrl());
+            statement.setBytes(3, UrlFingerprint.of(shortUrl.longUrl()));
+            statement.setTimestamp(4, Timestamp.from(shortUrl.createdAt()));
+            statement.setTimestamp(5, Timestamp.from(shortUrl.expiresAt()));
+        });
+    }
+}
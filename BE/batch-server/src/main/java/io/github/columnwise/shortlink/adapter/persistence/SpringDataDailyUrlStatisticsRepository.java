@@ -0,0 +1,14 @@
+package io.github.columnwise.shortlink.adapter.persistence;
+
+import io.github.columnwise.shortlink.domain.model.DailyUrlStatisticsEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface SpringDataDailyUrlStatisticsRepository extends JpaRepository<DailyUrlStatisticsEntity, Long> {
+    
+    Optional<DailyUrlStatisticsEntity> findByCodeAndStatDate(String code, LocalDate statDate);
+}
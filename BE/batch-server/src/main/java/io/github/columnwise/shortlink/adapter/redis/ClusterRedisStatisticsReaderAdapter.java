@@ -5,13 +5,33 @@ import io.github.columnwise.shortlink.domain.service.RedisKeyManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -19,9 +39,15 @@ import java.util.stream.Collectors;
 @Primary
 @RequiredArgsConstructor
 public class ClusterRedisStatisticsReaderAdapter implements RedisStatisticsReader {
-
+    
     private final RedisTemplate<String, Object> redisTemplate;
-
+    
+    // 파이프라인 한 번에 보내는 명령 수 (응답 버퍼가 과도하게 커지지 않도록 제한)
+    private static final int PIPELINE_BATCH_SIZE = 500;
+    
+    // SSCAN 한 번에 훑는 원소 수 힌트
+    private static final int SCAN_COUNT = 1000;
+    
     @Override
     public Set<String> findAccessCountKeys(LocalDate date) {
         // KEYS 명령 대신 SET으로 관리되는 코드 목록 사용
@@ -39,22 +65,78 @@ public class ClusterRedisStatisticsReaderAdapter implements RedisStatisticsReade
                 .map(code -> RedisKeyManager.getAccessCountKey(code, date))
                 .collect(Collectors.toSet());
     }
-
+    
+    @Override
+    public Set<String> findAccessCountKeys(LocalDate date, Predicate<String> codeFilter) {
+        // 파티션마다 SMEMBERS로 하루치 코드 전체를 받아 두지 않고 SSCAN으로 흘려 읽으며 해당 코드만 남김
+        String codesSetKey = RedisKeyManager.getAccessCodesSetKey(date);
+        ScanOptions options = ScanOptions.scanOptions().count(SCAN_COUNT).build();
+        Set<String> keys = new HashSet<>();
+        try (Cursor<Object> cursor = redisTemplate.opsForSet().scan(codesSetKey, options)) {
+            while (cursor.hasNext()) {
+                String code = cursor.next().toString();
+                if (codeFilter.test(code)) {
+                    keys.add(RedisKeyManager.getAccessCountKey(code, date));
+                }
+            }
+        }
+        return keys;
+    }
+    
     @Override
     public Long getAccessCount(String key) {
-        Object value = redisTemplate.opsForValue().get(key);
+        // API 서버는 방문 수를 코드별 일자 해시(url:access:daily:{code})에 누적하므로
+        // url:access:count:{date}:code 형태의 키는 해시 필드로 변환해서 조회
+        String code = RedisKeyManager.extractCodeFromKey(key);
+        LocalDate date = RedisKeyManager.extractDateFromKey(key);
+        Object value = redisTemplate.opsForHash().get(RedisKeyManager.getDailyAccessHashKey(code), date.toString());
+        if (value == null) {
+            // 해시 도입 이전에 기록된 일자별 카운터
+            value = redisTemplate.opsForValue().get(key);
+        }
         if (value == null) {
             return null;
         }
         
-        try {
-            return Long.parseLong(value.toString());
-        } catch (NumberFormatException e) {
-            log.warn("Invalid access count value for key {}: {}", key, value);
-            return null;
+        return parseCount(key, value);
+    }
+    
+    @Override
+    public Map<String, Long> getAccessCounts(Collection<String> keys) {
+        // 코드별 일자 해시에서 HGET, 해시에 없는 키만 기존 일자별 카운터를 한 번 더 조회
+        Map<String, Object> hashValues = pipelineBySlot(keys,
+                key -> RedisKeyManager.getDailyAccessHashKey(RedisKeyManager.extractCodeFromKey(key)),
+                (operations, key) -> operations.opsForHash().get(
+                        RedisKeyManager.getDailyAccessHashKey(RedisKeyManager.extractCodeFromKey(key)),
+                        RedisKeyManager.extractDateFromKey(key).toString()));
+        
+        Map<String, Long> counts = new HashMap<>();
+        List<String> legacyKeys = new ArrayList<>();
+        for (String key : keys) {
+            Object value = hashValues.get(key);
+            if (value == null) {
+                legacyKeys.add(key);
+                continue;
+            }
+            Long count = parseCount(key, value);
+            if (count != null) {
+                counts.put(key, count);
+            }
         }
+        
+        if (!legacyKeys.isEmpty()) {
+            Map<String, Object> legacyValues = pipelineBySlot(legacyKeys, Function.identity(),
+                    (operations, key) -> operations.opsForValue().get(key));
+            legacyValues.forEach((key, value) -> {
+                Long count = value != null ? parseCount(key, value) : null;
+                if (count != null) {
+                    counts.put(key, count);
+                }
+            });
+        }
+        return counts;
     }
-
+    
     @Override
     public Set<String> findDailyStatisticsKeys(LocalDate date) {
         // KEYS 명령 대신 SET으로 관리되는 코드 목록 사용
@@ -72,10 +154,130 @@ public class ClusterRedisStatisticsReaderAdapter implements RedisStatisticsReade
                 .map(code -> RedisKeyManager.getDailyStatsKey(code, date))
                 .collect(Collectors.toSet());
     }
-
+    
     @Override
     public Map<Object, Object> getDailyStatistics(String key) {
         Map<Object, Object> stats = redisTemplate.opsForHash().entries(key);
         return stats != null ? stats : Collections.emptyMap();
     }
-}
\ No newline at end of file
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Map<Object, Object>> getDailyStatistics(Collection<String> keys) {
+        Map<String, Object> values = pipelineBySlot(keys, Function.identity(),
+                (operations, key) -> operations.opsForHash().entries(key));
+        
+        Map<String, Map<Object, Object>> statistics = new HashMap<>();
+        values.forEach((key, value) -> {
+            if (value instanceof Map<?, ?> stats && !stats.isEmpty()) {
+                statistics.put(key, (Map<Object, Object>) stats);
+            }
+        });
+        return statistics;
+    }
+    
+    @Override
+    public long getUniqueVisitors(String code, LocalDate date) {
+        Long count = redisTemplate.opsForHyperLogLog().size(RedisKeyManager.getUniqueVisitorsKey(code, date));
+        return count != null ? count : 0;
+    }
+    
+    @Override
+    public Map<String, Long> getUniqueVisitors(Collection<String> codes, LocalDate date) {
+        Map<String, Object> values = pipelineBySlot(codes,
+                code -> RedisKeyManager.getUniqueVisitorsKey(code, date),
+                (operations, code) -> operations.opsForHyperLogLog().size(RedisKeyManager.getUniqueVisitorsKey(code, date)));
+        
+        Map<String, Long> visitors = new HashMap<>();
+        for (String code : codes) {
+            visitors.put(code, values.get(code) instanceof Long count ? count : 0L);
+        }
+        return visitors;
+    }
+    
+    /**
+     * 키를 클러스터 노드(단일 Redis면 하나의 그룹)와 슬롯 순서로 묶어 파이프라인으로 실행
+     * 같은 노드로 가는 명령끼리 모아 보내므로 키 수만큼 발생하던 왕복을 배치 수만큼으로 줄임
+     *
+     * @param items 조회 대상 (결과 맵의 키로 사용)
+     * @param routingKey 실제로 명령이 전달되는 Redis 키 (슬롯 계산용)
+     * @param command 파이프라인 안에서 실행할 명령 (항목당 정확히 하나)
+     * @return 항목별 명령 결과
+     */
+    private Map<String, Object> pipelineBySlot(Collection<String> items,
+                                               Function<String, String> routingKey,
+                                               BiConsumer<RedisOperations<String, Object>, String> command) {
+        Map<String, Object> results = new HashMap<>();
+        for (List<String> nodeGroup : groupByNode(items, routingKey)) {
+            for (int from = 0; from < nodeGroup.size(); from += PIPELINE_BATCH_SIZE) {
+                List<String> batch = nodeGroup.subList(from, Math.min(from + PIPELINE_BATCH_SIZE, nodeGroup.size()));
+                List<Object> values = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                        RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                        for (String item : batch) {
+                            command.accept(ops, item);
+                        }
+                        return null;
+                    }
+                });
+                for (int i = 0; i < batch.size(); i++) {
+                    results.put(batch.get(i), i < values.size() ? values.get(i) : null);
+                }
+            }
+        }
+        return results;
+    }
+    
+    private Collection<List<String>> groupByNode(Collection<String> items, Function<String, String> routingKey) {
+        Map<Integer, List<String>> bySlot = new TreeMap<>();
+        for (String item : items) {
+            int slot = ClusterSlotHashUtil.calculateSlot(routingKey.apply(item));
+            bySlot.computeIfAbsent(slot, ignored -> new ArrayList<>()).add(item);
+        }
+        
+        List<RedisClusterNode> masters = clusterMasters();
+        Map<String, List<String>> byNode = new LinkedHashMap<>();
+        bySlot.forEach((slot, slotItems) -> {
+            String nodeId = masters.stream()
+                    .filter(node -> node.servesSlot(slot))
+                    .map(RedisClusterNode::getId)
+                    .findFirst()
+                    .orElse("standalone");
+            byNode.computeIfAbsent(nodeId, ignored -> new ArrayList<>()).addAll(slotItems);
+        });
+        return byNode.values();
+    }
+    
+    /**
+     * 클러스터 모드일 때 마스터 노드 목록 (호출마다 한 번만 토폴로지 조회)
+     */
+    private List<RedisClusterNode> clusterMasters() {
+        RedisConnectionFactory connectionFactory = redisTemplate.getConnectionFactory();
+        if (!(connectionFactory instanceof LettuceConnectionFactory lettuce) || !lettuce.isClusterAware()) {
+            return List.of();
+        }
+        
+        List<RedisClusterNode> masters = new ArrayList<>();
+        try (RedisClusterConnection connection = lettuce.getClusterConnection()) {
+            for (RedisClusterNode node : connection.clusterGetNodes()) {
+                if (node.isMaster()) {
+                    masters.add(node);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read cluster topology, pipelining by slot order only", e);
+        }
+        return masters;
+    }
+    
+    private Long parseCount(String key, Object value) {
+        try {
+            return Long.parseLong(value.toString());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid access count value for key {}: {}", key, value);
+            return null;
+        }
+    }
+}
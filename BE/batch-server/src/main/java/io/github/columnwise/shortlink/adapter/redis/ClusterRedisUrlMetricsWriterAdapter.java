@@ -1,5 +1,6 @@
 package io.github.columnwise.shortlink.adapter.redis;
 
+import io.github.columnwise.shortlink.adapter.config.ClickRetentionProperties;
 import io.github.columnwise.shortlink.application.port.out.UrlMetricsWriter;
 import io.github.columnwise.shortlink.domain.service.RedisKeyManager;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +10,7 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
 import java.time.LocalDate;
 
 @Slf4j
@@ -19,12 +21,17 @@ public class ClusterRedisUrlMetricsWriterAdapter implements UrlMetricsWriter {
     @Qualifier("stringRedisTemplate")
     private final RedisTemplate<String, String> redisTemplate;
 
+    private final ClickRetentionProperties clickRetentionProperties;
+    private final Clock clock;
+
     @Override
     public long incrementTotalAccessCount(String code, long increment) {
-        LocalDate today = LocalDate.now();
+        LocalDate today = LocalDate.now(clock);
         String totalAccessKey = RedisKeyManager.getTotalAccessKey(code, today);
         
         Long result = redisTemplate.opsForValue().increment(totalAccessKey, increment);
+        // 일자마다 새 키가 생기므로 보관 기간이 지나면 만료되게 함
+        redisTemplate.expire(totalAccessKey, clickRetentionProperties.getRetention());
         long newTotal = result != null ? result : increment;
         
         log.debug("Incremented total access count for code {}: +{} = {}", 
@@ -35,10 +42,11 @@ public class ClusterRedisUrlMetricsWriterAdapter implements UrlMetricsWriter {
 
     @Override
     public void updateLastAccessTime(String code, long timestamp) {
-        LocalDate today = LocalDate.now();
+        LocalDate today = LocalDate.now(clock);
         String lastAccessKey = RedisKeyManager.getLastAccessKey(code, today);
         
-        redisTemplate.opsForValue().set(lastAccessKey, String.valueOf(timestamp));
+        redisTemplate.opsForValue().set(lastAccessKey, String.valueOf(timestamp),
+                clickRetentionProperties.getRetention());
         
         log.debug("Updated last access time for code {}: {}", code, timestamp);
     }
@@ -42,12 +42,21 @@ public class ClusterStatisticsWriterAdapter implements StatisticsWriter {
         
         log.debug("Saved daily statistics for code: {} on date: {}", code, date);
     }
-
+    
     @Override
-    public void markAsProcessed(String code, LocalDate date, long expireTime, TimeUnit expireUnit) {
-        String processedKey = RedisKeyManager.getProcessedMarkerKey(code, date);
-        redisTemplate.opsForValue().set(processedKey, "true", expireTime, expireUnit);
+    public void incrementDailyStatistics(String code, LocalDate date, long increment,
+                                         long expireTime, TimeUnit expireUnit) {
+        String dailyStatsKey = RedisKeyManager.getDailyStatsKey(code, date);
+        
+        redisTemplate.opsForHash().increment(dailyStatsKey, "accessCount", increment);
+        redisTemplate.opsForHash().put(dailyStatsKey, "date", date.toString());
+        redisTemplate.opsForHash().put(dailyStatsKey, "processedAt", Instant.now().toString());
+        redisTemplate.expire(dailyStatsKey, expireTime, expireUnit);
+        
+        String dailyCodesSetKey = RedisKeyManager.getDailyCodesSetKey(date);
+        redisTemplate.opsForSet().add(dailyCodesSetKey, code);
+        redisTemplate.expire(dailyCodesSetKey, expireTime, expireUnit);
         
-        log.debug("Marked as processed: code={}, date={}", code, date);
+        log.debug("Incremented daily statistics for code: {} on date: {} by {}", code, date, increment);
     }
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+package io.github.columnwise.shortlink.adapter.redis;
+
+import io.github.columnwise.shortlink.application.port.out.AccessCountDrainer;
+import io.github.columnwise.shortlink.domain.service.RedisKeyManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * API 서버가 누적하는 코드별 일자 해시(url:access:daily:{code})와 워터마크 해시(url:access:aggregated:{code})를 비교해 증가분을 계산
+ * 일자 해시는 실시간 통계 조회에 그대로 쓰이므로 값을 줄이지 않고, 워터마크만 앞으로 이동
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisAccessCountDrainerAdapter implements AccessCountDrainer {
+    
+    private static final String INFLIGHT_SUFFIX = ":inflight";
+    
+    // 클릭 카운터 보존 기간보다 하루 길게 유지해 일자 해시가 남아 있는 동안은 워터마크도 남도록 함
+    private static final Duration WATERMARK_TTL = Duration.ofDays(8);
+    
+    // KEYS: daily hash, watermark hash / ARGV: date field, inflight field, ttl seconds
+    // 반환: {이번 증가분(이전 in-flight 포함), 현재 누적 값}
+    private static final byte[] DRAIN_SCRIPT = (
+            "local current = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') " +
+            "local mark = tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0') " +
+            "local inflight = tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0') " +
+            "local delta = current - mark " +
+            "if delta > 0 then " +
+            "  redis.call('HSET', KEYS[2], ARGV[1], current) " +
+            "  inflight = redis.call('HINCRBY', KEYS[2], ARGV[2], delta) " +
+            "  redis.call('EXPIRE', KEYS[2], ARGV[3]) " +
+            "end " +
+            "return {inflight, current}"
+    ).getBytes(StandardCharsets.UTF_8);
+    
+    private static final int PIPELINE_BATCH_SIZE = 500;
+    
+    private final RedisTemplate<String, String> redisTemplate;
+    
+    @Override
+    public Map<String, DrainedCount> drain(Collection<String> codes, LocalDate date) {
+        byte[] dateField = bytes(date.toString());
+        byte[] inflightField = bytes(date + INFLIGHT_SUFFIX);
+        byte[] ttl = bytes(String.valueOf(WATERMARK_TTL.toSeconds()));
+        
+        Map<String, DrainedCount> drained = new HashMap<>();
+        List<String> codeList = new ArrayList<>(codes);
+        for (int from = 0; from < codeList.size(); from += PIPELINE_BATCH_SIZE) {
+            List<String> batch = codeList.subList(from, Math.min(from + PIPELINE_BATCH_SIZE, codeList.size()));
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String code : batch) {
+                    evalDrain(connection, code, dateField, inflightField, ttl);
+                }
+                return null;
+            });
+            
+            for (int i = 0; i < batch.size() && i < results.size(); i++) {
+                if (results.get(i) instanceof List<?> values && values.size() == 2) {
+                    long delta = toLong(values.get(0));
+                    if (delta > 0) {
+                        drained.put(batch.get(i), new DrainedCount(delta, toLong(values.get(1))));
+                    }
+                }
+            }
+        }
+        return drained;
+    }
+    
+    @Override
+    public void commit(Collection<String> codes, LocalDate date) {
+        String inflightField = date + INFLIGHT_SUFFIX;
+        List<String> codeList = new ArrayList<>(codes);
+        for (int from = 0; from < codeList.size(); from += PIPELINE_BATCH_SIZE) {
+            List<String> batch = codeList.subList(from, Math.min(from + PIPELINE_BATCH_SIZE, codeList.size()));
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String code : batch) {
+                    connection.hashCommands().hDel(bytes(RedisKeyManager.getAggregatedAccessHashKey(code)), bytes(inflightField));
+                }
+                return null;
+            });
+        }
+        log.debug("Committed drained access counts for {} codes on date: {}", codes.size(), date);
+    }
+    
+    private void evalDrain(RedisConnection connection, String code, byte[] dateField, byte[] inflightField, byte[] ttl) {
+        connection.scriptingCommands().eval(DRAIN_SCRIPT, ReturnType.MULTI, 2,
+                bytes(RedisKeyManager.getDailyAccessHashKey(code)),
+                bytes(RedisKeyManager.getAggregatedAccessHashKey(code)),
+                dateField, inflightField, ttl);
+    }
+    
+    private static long toLong(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+    
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.columnwise.shortlink.adapter.redis;
+
+import io.github.columnwise.shortlink.application.port.out.LegacyAccessKeyStore;
+import io.github.columnwise.shortlink.domain.service.RedisKeyManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 기존 카운터 키 SCAN과 파이프라인 GETDEL/HINCRBY
+ * 키마다 슬롯이 다르므로 여러 키를 묶은 명령 대신 키 하나당 명령 하나를 파이프라인으로 보냄
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLegacyAccessKeyStoreAdapter implements LegacyAccessKeyStore {
+    
+    private static final String LEGACY_KEY_PATTERN = "url:access:count:*";
+    
+    // RedisAccessCountDrainerAdapter와 같이 워터마크는 일자 해시보다 하루 길게 유지
+    private static final Duration WATERMARK_EXTRA_TTL = Duration.ofDays(1);
+    
+    private final RedisTemplate<String, String> redisTemplate;
+    
+    @Override
+    public void scan(int scanCount, int batchSize, Consumer<List<String>> consumer) {
+        // 카운터는 문자열 키이므로 TYPE으로 걸러 다른 자료형 키에 GET을 보내지 않음
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(LEGACY_KEY_PATTERN)
+                .count(scanCount)
+                .type(DataType.STRING)
+                .build();
+        
+        // 클러스터 전체를 한 번에 SCAN할 수 없으므로 마스터 노드마다 순회
+        RedisConnectionFactory connectionFactory = redisTemplate.getConnectionFactory();
+        if (connectionFactory instanceof LettuceConnectionFactory lettuce && lettuce.isClusterAware()) {
+            try (RedisClusterConnection connection = lettuce.getClusterConnection()) {
+                for (RedisClusterNode node : connection.clusterGetNodes()) {
+                    if (!node.isMaster()) {
+                        continue;
+                    }
+                    try (Cursor<byte[]> cursor = connection.scan(node, options)) {
+                        drain(cursor, key -> new String(key, StandardCharsets.UTF_8), batchSize, consumer);
+                    }
+                }
+            }
+            return;
+        }
+        
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            drain(cursor, Function.identity(), batchSize, consumer);
+        }
+    }
+    
+    @Override
+    public Map<String, String> takeValues(List<String> keys) {
+        List<Object> values = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.stringCommands().getDel(bytes(key));
+            }
+            return null;
+        });
+        
+        Map<String, String> result = new HashMap<>();
+        for (int i = 0; i < keys.size() && i < values.size(); i++) {
+            if (values.get(i) != null) {
+                result.put(keys.get(i), values.get(i).toString());
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public void addToDailyCounters(List<DailyCount> counts, Duration retention) {
+        long dailyTtl = retention.toSeconds();
+        long watermarkTtl = retention.plus(WATERMARK_EXTRA_TTL).toSeconds();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (DailyCount count : counts) {
+                byte[] dailyKey = bytes(RedisKeyManager.getDailyAccessHashKey(count.code()));
+                byte[] watermarkKey = bytes(RedisKeyManager.getAggregatedAccessHashKey(count.code()));
+                byte[] field = bytes(count.date().toString());
+                connection.hashCommands().hIncrBy(dailyKey, field, count.count());
+                connection.hashCommands().hIncrBy(watermarkKey, field, count.count());
+                connection.keyCommands().expire(dailyKey, dailyTtl);
+                connection.keyCommands().expire(watermarkKey, watermarkTtl);
+            }
+            return null;
+        });
+    }
+    
+    private static <T> void drain(Cursor<T> cursor, Function<T, String> toKey, int batchSize,
+                                  Consumer<List<String>> consumer) {
+        List<String> batch = new ArrayList<>(batchSize);
+        while (cursor.hasNext()) {
+            batch.add(toKey.apply(cursor.next()));
+            if (batch.size() >= batchSize) {
+                consumer.accept(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            consumer.accept(batch);
+        }
+    }
+    
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
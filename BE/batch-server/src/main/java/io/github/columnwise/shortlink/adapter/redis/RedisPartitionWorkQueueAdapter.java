@@ -0,0 +1,143 @@
+package io.github.columnwise.shortlink.adapter.redis;
+
+import io.github.columnwise.shortlink.application.port.out.PartitionWorkQueue;
+import io.github.columnwise.shortlink.domain.service.RedisKeyManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.TreeMap;
+
+/**
+ * Redis 기반 파티션 작업 큐
+ * pending(LIST)에서 파티션을 꺼내고, 점유 중인 파티션은 leases(ZSET, score=리스 만료 시각)와 owners(HASH)로 관리
+ * 리스 만료 판단은 Redis TIME 기준이라 인스턴스 간 시계 차이의 영향을 받지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisPartitionWorkQueueAdapter implements PartitionWorkQueue {
+    
+    private static final String NOW_MILLIS =
+            "local t = redis.call('TIME') " +
+            "local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000) ";
+    
+    // KEYS: meta, pending / ARGV: partitionCount, ttlSeconds
+    private static final RedisScript<Long> INITIALIZE_SCRIPT = new DefaultRedisScript<>(
+            "if not redis.call('SET', KEYS[1], ARGV[1], 'NX', 'EX', ARGV[2]) then return 0 end " +
+            "for i = 0, tonumber(ARGV[1]) - 1 do redis.call('RPUSH', KEYS[2], i) end " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[2]) " +
+            "return 1",
+            Long.class);
+    
+    // KEYS: pending, leases, owners / ARGV: workerId, leaseMillis, ttlSeconds
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            NOW_MILLIS +
+            "local p = redis.call('LPOP', KEYS[1]) " +
+            "if not p then " +
+            "  local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', now, 'LIMIT', 0, 1) " +
+            "  if #expired == 0 then return -1 end " +
+            "  p = expired[1] " +
+            "end " +
+            "redis.call('ZADD', KEYS[2], now + tonumber(ARGV[2]), p) " +
+            "redis.call('HSET', KEYS[3], p, ARGV[1]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[3]) " +
+            "redis.call('EXPIRE', KEYS[3], ARGV[3]) " +
+            "return tonumber(p)",
+            Long.class);
+    
+    // KEYS: leases, owners / ARGV: partition, workerId, leaseMillis
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            NOW_MILLIS +
+            "if redis.call('HGET', KEYS[2], ARGV[1]) ~= ARGV[2] then return 0 end " +
+            "redis.call('ZADD', KEYS[1], now + tonumber(ARGV[3]), ARGV[1]) " +
+            "return 1",
+            Long.class);
+    
+    // KEYS: leases, owners, done / ARGV: partition, workerId, ttlSeconds
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[2], ARGV[1]) ~= ARGV[2] then return 0 end " +
+            "redis.call('ZREM', KEYS[1], ARGV[1]) " +
+            "redis.call('HDEL', KEYS[2], ARGV[1]) " +
+            "redis.call('HSET', KEYS[3], ARGV[1], ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[3], ARGV[3]) " +
+            "return 1",
+            Long.class);
+    
+    // 완료 기록은 실행 키와 같은 수명으로 유지
+    private static final Duration DEFAULT_TTL = Duration.ofHours(6);
+    
+    private final RedisTemplate<String, String> redisTemplate;
+    
+    @Override
+    public boolean initialize(String runId, int partitionCount, Duration ttl) {
+        Long created = redisTemplate.execute(INITIALIZE_SCRIPT,
+                List.of(key(runId, "meta"), key(runId, "pending")),
+                String.valueOf(partitionCount), String.valueOf(ttl.toSeconds()));
+        boolean initialized = Long.valueOf(1L).equals(created);
+        if (initialized) {
+            log.info("Created partition queue for run {} with {} partitions", runId, partitionCount);
+        }
+        return initialized;
+    }
+    
+    @Override
+    public OptionalInt getPartitionCount(String runId) {
+        String value = redisTemplate.opsForValue().get(key(runId, "meta"));
+        if (value == null) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(Integer.parseInt(value));
+    }
+    
+    @Override
+    public OptionalInt claim(String runId, String workerId, Duration lease) {
+        Long partition = redisTemplate.execute(CLAIM_SCRIPT,
+                List.of(key(runId, "pending"), key(runId, "leases"), key(runId, "owners")),
+                workerId, String.valueOf(lease.toMillis()), String.valueOf(ttlSeconds(runId)));
+        if (partition == null || partition < 0) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(partition.intValue());
+    }
+    
+    @Override
+    public boolean renew(String runId, int partition, String workerId, Duration lease) {
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT,
+                List.of(key(runId, "leases"), key(runId, "owners")),
+                String.valueOf(partition), workerId, String.valueOf(lease.toMillis()));
+        return Long.valueOf(1L).equals(renewed);
+    }
+    
+    @Override
+    public boolean complete(String runId, int partition, String workerId) {
+        Long completed = redisTemplate.execute(COMPLETE_SCRIPT,
+                List.of(key(runId, "leases"), key(runId, "owners"), key(runId, "done")),
+                String.valueOf(partition), workerId, String.valueOf(ttlSeconds(runId)));
+        return Long.valueOf(1L).equals(completed);
+    }
+    
+    @Override
+    public Map<Integer, String> getCompletedPartitions(String runId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(key(runId, "done"));
+        Map<Integer, String> completed = new TreeMap<>();
+        entries.forEach((partition, worker) -> completed.put(Integer.parseInt(partition.toString()), worker.toString()));
+        return completed;
+    }
+    
+    private long ttlSeconds(String runId) {
+        Long ttl = redisTemplate.getExpire(key(runId, "meta"));
+        return ttl != null && ttl > 0 ? ttl : DEFAULT_TTL.toSeconds();
+    }
+    
+    private String key(String runId, String part) {
+        return RedisKeyManager.getPartitionQueueKey(runId, part);
+    }
+}
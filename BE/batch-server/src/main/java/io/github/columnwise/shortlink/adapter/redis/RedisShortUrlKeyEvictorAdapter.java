@@ -0,0 +1,57 @@
+package io.github.columnwise.shortlink.adapter.redis;
+
+import io.github.columnwise.shortlink.adapter.config.ExpiredCleanupProperties;
+import io.github.columnwise.shortlink.application.port.out.ShortUrlKeyEvictor;
+import io.github.columnwise.shortlink.domain.service.RedisKeyManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 삭제된 코드의 캐시 엔트리(shorturl:{code}), 누적 방문 수(hitcount:{code}), 일자 해시와 워터마크 해시를 파이프라인 DEL로 제거
+ * 키마다 슬롯이 다르므로 여러 키를 묶은 DEL 대신 키 하나당 DEL 하나를 보내 클러스터에서도 CROSSSLOT 오류가 나지 않게 함
+ * 일자별 고유 방문자 HyperLogLog는 보존 기간 TTL로 사라지므로 건드리지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisShortUrlKeyEvictorAdapter implements ShortUrlKeyEvictor {
+    
+    private static final int PIPELINE_BATCH_SIZE = 500;
+    
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ExpiredCleanupProperties properties;
+    
+    @Override
+    public void evict(Collection<String> codes) {
+        List<String> codeList = new ArrayList<>(codes);
+        for (int from = 0; from < codeList.size(); from += PIPELINE_BATCH_SIZE) {
+            List<String> batch = codeList.subList(from, Math.min(from + PIPELINE_BATCH_SIZE, codeList.size()));
+            try {
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    for (String code : batch) {
+                        connection.keyCommands().del(bytes(properties.getCacheKeyPrefix() + code));
+                        connection.keyCommands().del(bytes(properties.getHitCountKeyPrefix() + code));
+                        connection.keyCommands().del(bytes(RedisKeyManager.getDailyAccessHashKey(code)));
+                        connection.keyCommands().del(bytes(RedisKeyManager.getAggregatedAccessHashKey(code)));
+                    }
+                    return null;
+                });
+            } catch (Exception e) {
+                // 남은 캐시 엔트리는 TTL로 만료되고 API 서버가 만료 시각으로 거절하므로 정리를 멈추지 않음
+                log.warn("Failed to evict Redis keys for {} expired codes", batch.size(), e);
+            }
+        }
+    }
+    
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.columnwise.shortlink.adapter.redis;
 
 import io.github.columnwise.shortlink.application.port.out.RedisStatisticsReader;
+import io.github.columnwise.shortlink.domain.service.RedisKeyManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.Cursor;
@@ -92,4 +93,10 @@ public class RedisStatisticsReaderAdapter implements RedisStatisticsReader {
         Map<Object, Object> stats = redisTemplate.opsForHash().entries(key);
         return stats != null ? stats : Collections.emptyMap();
     }
+
+    @Override
+    public long getUniqueVisitors(String code, LocalDate date) {
+        Long count = redisTemplate.opsForHyperLogLog().size(RedisKeyManager.getUniqueVisitorsKey(code, date));
+        return count != null ? count : 0;
+    }
 }
\ No newline at end of file
@@ -17,7 +17,6 @@ public class StatisticsWriterAdapter implements StatisticsWriter {
     private final RedisTemplate<String, Object> redisTemplate;
 
     private static final String DAILY_STATS_KEY_PREFIX = "url:daily:stats:";
-    private static final String PROCESSED_KEY_PREFIX = "url:processed:";
 
     @Override
     public void saveDailyStatistics(String code, LocalDate date, long accessCount, 
@@ -32,12 +31,17 @@ public class StatisticsWriterAdapter implements StatisticsWriter {
         // 만료 시간 설정
         redisTemplate.expire(dailyStatsKey, expireTime, expireUnit);
     }
-
+    
     @Override
-    public void markAsProcessed(String code, LocalDate date, long expireTime, TimeUnit expireUnit) {
+    public void incrementDailyStatistics(String code, LocalDate date, long increment,
+                                         long expireTime, TimeUnit expireUnit) {
         String dateKey = date.format(DateTimeFormatter.ISO_LOCAL_DATE);
-        String processedKey = PROCESSED_KEY_PREFIX + code + ":" + dateKey;
+        String dailyStatsKey = DAILY_STATS_KEY_PREFIX + code + ":" + dateKey;
+        
+        redisTemplate.opsForHash().increment(dailyStatsKey, "accessCount", increment);
+        redisTemplate.opsForHash().put(dailyStatsKey, "date", dateKey);
+        redisTemplate.opsForHash().put(dailyStatsKey, "processedAt", Instant.now().toString());
         
-        redisTemplate.opsForValue().set(processedKey, "true", expireTime, expireUnit);
+        redisTemplate.expire(dailyStatsKey, expireTime, expireUnit);
     }
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package io.github.columnwise.shortlink.adapter.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 같은 cron으로 깨어난 여러 배치 인스턴스 중 하나만 작업을 실행하도록 하는 Redis 분산 락
+ * 락 값은 인스턴스 ID이며, 해제는 자신이 획득한 락일 때만 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchJobLock {
+    
+    private static final String RELEASE_SCRIPT =
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "else " +
+            "  return 0 " +
+            "end";
+    
+    @Qualifier("stringRedisTemplate")
+    private final RedisTemplate<String, String> redisTemplate;
+    
+    private final String instanceId = generateInstanceId();
+    
+    public String instanceId() {
+        return instanceId;
+    }
+    
+    /**
+     * 락 획득 시도, 다른 인스턴스가 잡고 있으면 현재 보유자를 로그로 남기고 false 반환
+     */
+    public boolean tryAcquire(String lockKey, Duration ttl) {
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, instanceId, ttl);
+        if (Boolean.TRUE.equals(acquired)) {
+            log.info("Distributed lock acquired: {}", lockKey);
+            return true;
+        }
+        log.info("Another instance ({}) holds lock {}. Skipping.", redisTemplate.opsForValue().get(lockKey), lockKey);
+        return false;
+    }
+    
+    public void release(String lockKey) {
+        try {
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+                    RELEASE_SCRIPT.getBytes(StandardCharsets.UTF_8),
+                    ReturnType.INTEGER,
+                    1,
+                    lockKey.getBytes(StandardCharsets.UTF_8),
+                    instanceId.getBytes(StandardCharsets.UTF_8)));
+            log.debug("Released distributed lock: {}", lockKey);
+        } catch (Exception e) {
+            log.warn("Failed to release lock: {}", lockKey, e);
+        }
+    }
+    
+    private static String generateInstanceId() {
+        try {
+            String hostname = InetAddress.getLocalHost().getHostName();
+            String uuid = UUID.randomUUID().toString().substring(0, 8);
+            return hostname + "-" + uuid;
+        } catch (Exception e) {
+            return "unknown-" + UUID.randomUUID().toString().substring(0, 8);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.columnwise.shortlink.adapter.scheduler;
+
+import io.github.columnwise.shortlink.adapter.config.ClickStreamProperties;
+import io.github.columnwise.shortlink.application.port.in.ConsumeClickEventsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 클릭 이벤트 스트림을 샤드마다 전용 스레드로 계속 소비
+ * 한 묶음을 반영하고 ACK한 뒤에야 다음 묶음을 읽으므로 처리 속도를 넘는 이벤트는 스트림에 남아 대기 (backpressure)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.batch.click-stream", name = "enabled", havingValue = "true")
+public class ClickStreamConsumerRunner implements SmartLifecycle {
+    
+    // 반영 실패나 Redis 장애 시 같은 오류를 연속으로 쏟아내지 않도록 대기
+    private static final long FAILURE_BACKOFF_MILLIS = 1000;
+    
+    private final ConsumeClickEventsUseCase consumeClickEventsUseCase;
+    private final ClickStreamProperties properties;
+    
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+    
+    @Override
+    public synchronized void start() {
+        String consumerName = resolveConsumerName();
+        running = true;
+        for (int shard = 0; shard < properties.getShardCount(); shard++) {
+            int assignedShard = shard;
+            Thread worker = new Thread(() -> consume(assignedShard, consumerName), "click-stream-" + shard);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("Started click stream consumer {} for {} shards in group {}",
+                consumerName, properties.getShardCount(), properties.getConsumerGroup());
+    }
+    
+    @Override
+    public synchronized void stop() {
+        running = false;
+        for (Thread worker : workers) {
+            try {
+                // 진행 중인 묶음은 반영과 ACK까지 마치도록 대기 (XREADGROUP 대기 시간만큼은 걸릴 수 있음)
+                worker.join(properties.getBlock().toMillis() + FAILURE_BACKOFF_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        workers.clear();
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    private void consume(int shard, String consumerName) {
+        while (running) {
+            try {
+                consumeClickEventsUseCase.consumeBatch(shard, consumerName, properties.getBatchSize(),
+                        properties.getBlock(), properties.getClaimMinIdle());
+            } catch (Exception e) {
+                log.error("Click stream consumer failed on shard {}, retrying", shard, e);
+                sleepQuietly();
+            }
+        }
+    }
+    
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(FAILURE_BACKOFF_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+    
+    private String resolveConsumerName() {
+        if (properties.getConsumerName() != null && !properties.getConsumerName().isBlank()) {
+            return properties.getConsumerName();
+        }
+        // 재시작해도 같은 이름을 쓰도록 호스트 이름 사용 (그룹에 사용하지 않는 컨슈머가 쌓이지 않음)
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "batch-" + ProcessHandle.current().pid();
+        }
+    }
+}
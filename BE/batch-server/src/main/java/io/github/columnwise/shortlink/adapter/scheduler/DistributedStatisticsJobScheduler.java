@@ -1,5 +1,9 @@
 package io.github.columnwise.shortlink.adapter.scheduler;
 
+import io.github.columnwise.shortlink.adapter.batch.CooperativePartitionTasklet;
+import io.github.columnwise.shortlink.adapter.config.AggregationPartitionProperties;
+import io.github.columnwise.shortlink.adapter.config.BatchCoordinationProperties;
+import io.github.columnwise.shortlink.application.port.in.CooperativeAggregationUseCase;
 import io.github.columnwise.shortlink.domain.service.RedisKeyManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,15 +13,15 @@ import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Primary;
-import org.springframework.data.redis.core.RedisCallback;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.net.InetAddress;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalDate;
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 
 @Slf4j
 @Component
@@ -28,18 +32,20 @@ public class DistributedStatisticsJobScheduler {
     @Qualifier("asyncJobLauncher")
     private final JobLauncher jobLauncher;
     private final Job statisticsAggregationJob;
-    @Qualifier("stringRedisTemplate")
-    private final RedisTemplate<String, String> redisTemplate;
-    
-    private final String instanceId = generateInstanceId();
+    private final Job cooperativeStatisticsAggregationJob;
+    private final CooperativeAggregationUseCase cooperativeAggregationUseCase;
+    private final BatchCoordinationProperties coordinationProperties;
+    private final AggregationPartitionProperties partitionProperties;
+    private final BatchJobLock batchJobLock;
+    private final Clock clock;
 
     /**
      * 매시간 5분에 통계 집계 배치 실행 (이전 시간 데이터 처리)
      */
     @Scheduled(cron = "0 5 * * * ?")
     public void runHourlyStatisticsAggregation() {
-        LocalDate today = LocalDate.now();
-        tryRunBatchWithLock("hourly", today);
+        LocalDate today = LocalDate.now(clock);
+        runBatch("hourly", today);
     }
 
     /**
@@ -47,8 +53,46 @@ public class DistributedStatisticsJobScheduler {
      */
     @Scheduled(cron = "0 10 0 * * ?")
     public void runDailyStatisticsAggregation() {
-        LocalDate yesterday = LocalDate.now().minusDays(1);
-        tryRunBatchWithLock("daily", yesterday);
+        LocalDate yesterday = LocalDate.now(clock).minusDays(1);
+        runBatch("daily", yesterday);
+    }
+
+    private void runBatch(String batchType, LocalDate targetDate) {
+        if (coordinationProperties.getMode() == BatchCoordinationProperties.Mode.COOPERATIVE) {
+            runCooperativeBatch(batchType, targetDate);
+        } else {
+            tryRunBatchWithLock(batchType, targetDate);
+        }
+    }
+
+    /**
+     * 락 없이 모든 인스턴스가 같은 실행 ID의 파티션 큐를 나눠 처리
+     * 실행 ID는 스케줄 시각(시 단위)으로 정해지므로 같은 cron으로 깨어난 인스턴스끼리 같은 큐를 공유
+     */
+    private void runCooperativeBatch(String batchType, LocalDate targetDate) {
+        String scheduledAt = LocalDateTime.now(clock).truncatedTo(ChronoUnit.HOURS)
+                .format(DateTimeFormatter.ofPattern("yyyyMMddHH"));
+        String runId = batchType + ":" + targetDate + ":" + scheduledAt;
+        
+        try {
+            cooperativeAggregationUseCase.prepareRun(runId, partitionProperties.getPartitionCount(),
+                    coordinationProperties.getQueueTtl());
+            
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addLong("timestamp", System.currentTimeMillis())
+                    .addString("batchType", batchType)
+                    .addString("targetDate", targetDate.toString())
+                    .addString(CooperativePartitionTasklet.RUN_ID, runId)
+                    .addString(CooperativePartitionTasklet.INSTANCE_ID, batchJobLock.instanceId())
+                    .toJobParameters();
+            
+            jobLauncher.run(cooperativeStatisticsAggregationJob, jobParameters);
+            log.info("Joined cooperative {} statistics aggregation run {}", batchType, runId);
+            
+        } catch (Exception e) {
+            log.error("Failed to join cooperative {} statistics aggregation for {}", 
+                    batchType, targetDate, e);
+        }
     }
 
     private void tryRunBatchWithLock(String batchType, LocalDate targetDate) {
@@ -56,12 +100,7 @@ public class DistributedStatisticsJobScheduler {
         
         try {
             // 분산 락 획득 시도 (최대 10분 유지)
-            Boolean lockAcquired = redisTemplate.opsForValue()
-                    .setIfAbsent(lockKey, instanceId, Duration.ofMinutes(10));
-            
-            if (Boolean.TRUE.equals(lockAcquired)) {
-                log.info("Distributed lock acquired for {} batch on {}", batchType, targetDate);
-                
+            if (batchJobLock.tryAcquire(lockKey, Duration.ofMinutes(10))) {
                 try {
                     runStatisticsAggregationJob(batchType, targetDate);
                     log.info("{} statistics aggregation completed successfully for {}", 
@@ -72,13 +111,8 @@ public class DistributedStatisticsJobScheduler {
                             batchType, targetDate, e);
                 } finally {
                     // 락 해제
-                    releaseLock(lockKey);
+                    batchJobLock.release(lockKey);
                 }
-                
-            } else {
-                String currentHolder = (String) redisTemplate.opsForValue().get(lockKey);
-                log.info("Another instance ({}) is processing {} batch for {}. Skipping.", 
-                        currentHolder, batchType, targetDate);
             }
             
         } catch (Exception e) {
@@ -92,46 +126,9 @@ public class DistributedStatisticsJobScheduler {
                 .addLong("timestamp", System.currentTimeMillis())
                 .addString("batchType", batchType)
                 .addString("targetDate", targetDate.toString())
-                .addString("instanceId", instanceId)
+                .addString("instanceId", batchJobLock.instanceId())
                 .toJobParameters();
         
         jobLauncher.run(statisticsAggregationJob, jobParameters);
     }
-
-    private void releaseLock(String lockKey) {
-        try {
-            // 자신이 획득한 락만 해제
-            String script = 
-                "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
-                "  return redis.call('DEL', KEYS[1]) " +
-                "else " +
-                "  return 0 " +
-                "end";
-            
-            redisTemplate.execute((RedisCallback<Long>) connection -> {
-                return connection.eval(
-                    script.getBytes(),
-                    org.springframework.data.redis.connection.ReturnType.INTEGER,
-                    1,
-                    lockKey.getBytes(),
-                    instanceId.getBytes()
-                );
-            });
-            
-            log.debug("Released distributed lock: {}", lockKey);
-            
-        } catch (Exception e) {
-            log.warn("Failed to release lock: {}", lockKey, e);
-        }
-    }
-
-    private String generateInstanceId() {
-        try {
-            String hostname = InetAddress.getLocalHost().getHostName();
-            String uuid = UUID.randomUUID().toString().substring(0, 8);
-            return hostname + "-" + uuid;
-        } catch (Exception e) {
-            return "unknown-" + UUID.randomUUID().toString().substring(0, 8);
-        }
-    }
 }
\ No newline at end of file
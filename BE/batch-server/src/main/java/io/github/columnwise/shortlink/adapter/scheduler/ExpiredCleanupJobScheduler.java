@@ -0,0 +1,55 @@
+package io.github.columnwise.shortlink.adapter.scheduler;
+
+import io.github.columnwise.shortlink.adapter.batch.ExpiredCleanupTasklet;
+import io.github.columnwise.shortlink.domain.service.RedisKeyManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.batch.expired-cleanup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ExpiredCleanupJobScheduler {
+    
+    // 잡은 비동기로 실행되므로 끝날 때 풀지 않고, 같은 날 다른 인스턴스가 다시 돌리지 않도록 만료될 때까지 유지
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+    
+    private final JobLauncher jobLauncher;
+    private final Job expiredCleanupJob;
+    private final BatchJobLock batchJobLock;
+    private final Clock clock;
+    
+    /**
+     * 실행 시각을 기준 시각으로 고정하여, 실행 중에 만료되는 URL은 다음 실행에서 정리
+     */
+    @Scheduled(cron = "${app.batch.expired-cleanup.cron:0 30 3 * * ?}")
+    public void runExpiredCleanup() {
+        try {
+            // 모든 인스턴스가 같은 만료 행을 잠그고 지우지 않도록 한 인스턴스만 실행
+            String lockKey = RedisKeyManager.getJobLockKey("expired-cleanup", LocalDate.now(clock));
+            if (!batchJobLock.tryAcquire(lockKey, LOCK_TTL)) {
+                return;
+            }
+            log.info("Starting expired link cleanup job");
+            
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addLong(ExpiredCleanupTasklet.CUTOFF, clock.millis())
+                    .toJobParameters();
+            
+            jobLauncher.run(expiredCleanupJob, jobParameters);
+        } catch (Exception e) {
+            log.error("Failed to run expired link cleanup job", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.columnwise.shortlink.adapter.scheduler;
+
+import io.github.columnwise.shortlink.domain.service.RedisKeyManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.batch.legacy-key-compaction", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LegacyKeyCompactionJobScheduler {
+    
+    // 잡은 비동기로 실행되므로 끝날 때 풀지 않고, 같은 날 다른 인스턴스가 다시 돌리지 않도록 만료될 때까지 유지
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+    
+    private final JobLauncher jobLauncher;
+    private final Job legacyKeyCompactionJob;
+    private final BatchJobLock batchJobLock;
+    private final Clock clock;
+    
+    @Scheduled(cron = "${app.batch.legacy-key-compaction.cron:0 15 4 * * ?}")
+    public void runLegacyKeyCompaction() {
+        try {
+            // 여러 인스턴스가 같은 키를 동시에 스캔하지 않도록 한 인스턴스만 실행
+            String lockKey = RedisKeyManager.getJobLockKey("legacy-key-compaction", LocalDate.now(clock));
+            if (!batchJobLock.tryAcquire(lockKey, LOCK_TTL)) {
+                return;
+            }
+            log.info("Starting legacy access key compaction job");
+            
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addLong("timestamp", clock.millis())
+                    .toJobParameters();
+            
+            jobLauncher.run(legacyKeyCompactionJob, jobParameters);
+        } catch (Exception e) {
+            log.error("Failed to run legacy access key compaction job", e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.columnwise.shortlink.adapter.scheduler;
+
+import io.github.columnwise.shortlink.adapter.config.LinkImportProperties;
+import io.github.columnwise.shortlink.batch.job.LinkImportJobConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * app.batch.link-import.input-file이 지정되면 시작 시 링크 가져오기 Job을 실행
+ * inputFile만 식별 파라미터로 쓰므로 같은 파일로 다시 실행하면 실패한 실행을 체크포인트부터 재시작함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.batch.link-import", name = "input-file")
+public class LinkImportJobRunner implements ApplicationRunner {
+    
+    private final JobLauncher jobLauncher;
+    private final Job linkImportJob;
+    private final LinkImportProperties properties;
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        String inputFile = Path.of(properties.getInputFile()).toAbsolutePath().normalize().toString();
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString(LinkImportJobConfig.INPUT_FILE, inputFile)
+                .addString(LinkImportJobConfig.FORMAT, properties.getFormat() != null ? properties.getFormat() : "", false)
+                .toJobParameters();
+        
+        try {
+            log.info("Starting link import job for {}", inputFile);
+            jobLauncher.run(linkImportJob, jobParameters);
+        } catch (JobInstanceAlreadyCompleteException e) {
+            log.info("Link import of {} has already completed", inputFile);
+        } catch (Exception e) {
+            log.error("Failed to run link import job for {}", inputFile, e);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.columnwise.shortlink.adapter.stream;
+
+import io.github.columnwise.shortlink.adapter.config.ClickStreamProperties;
+import io.github.columnwise.shortlink.application.port.out.ClickEventSource;
+import io.github.columnwise.shortlink.domain.model.ClickEvent;
+import io.github.columnwise.shortlink.domain.service.RedisKeyManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis Streams 컨슈머 그룹 기반 클릭 이벤트 소스
+ * 그룹은 샤드별로 처음 읽을 때 스트림 처음(0)부터 생성하여 컨슈머보다 먼저 쌓인 이벤트도 집계
+ * 형식이 잘못된 엔트리는 다시 전달되지 않도록 읽는 즉시 ACK하고 건너뜀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisStreamClickEventSourceAdapter implements ClickEventSource {
+    
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ClickStreamProperties clickStreamProperties;
+    
+    private final Set<Integer> initializedShards = ConcurrentHashMap.newKeySet();
+    
+    @Override
+    public List<Delivery> read(int shard, String consumer, int count, Duration block) {
+        ensureGroup(shard);
+        String streamKey = RedisKeyManager.getClickStreamKey(shard);
+        // read()는 가변 인자만 받으므로 제네릭 배열을 직접 만들어 넘김 (원소는 하나뿐이라 타입 안전)
+        @SuppressWarnings("unchecked")
+        StreamOffset<String>[] offsets = new StreamOffset[] {StreamOffset.create(streamKey, ReadOffset.lastConsumed())};
+        try {
+            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                    Consumer.from(clickStreamProperties.getConsumerGroup(), consumer),
+                    StreamReadOptions.empty().count(count).block(block),
+                    offsets);
+            return toDeliveries(shard, records);
+        } catch (DataAccessException e) {
+            // 스트림이 삭제되어 그룹이 사라졌으면 다음 호출에서 다시 생성
+            if (String.valueOf(e.getMessage()).contains("NOGROUP")) {
+                initializedShards.remove(shard);
+            }
+            throw e;
+        }
+    }
+    
+    @Override
+    public List<Delivery> claimStale(int shard, String consumer, Duration minIdle, int count) {
+        ensureGroup(shard);
+        String streamKey = RedisKeyManager.getClickStreamKey(shard);
+        String group = clickStreamProperties.getConsumerGroup();
+        
+        PendingMessages pending = redisTemplate.opsForStream().pending(streamKey, group, Range.unbounded(), count);
+        if (pending == null || pending.isEmpty()) {
+            return List.of();
+        }
+        List<RecordId> staleIds = new ArrayList<>();
+        for (PendingMessage message : pending) {
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0) {
+                staleIds.add(message.getId());
+            }
+        }
+        if (staleIds.isEmpty()) {
+            return List.of();
+        }
+        
+        // XCLAIM이 유휴 시간을 다시 확인하므로 다른 컨슈머와 동시에 가져가도 한쪽만 소유권을 얻음
+        List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream().claim(
+                streamKey, group, consumer, minIdle, staleIds.toArray(new RecordId[0]));
+        if (!claimed.isEmpty()) {
+            log.info("Claimed {} stale click events on shard {} for consumer {}", claimed.size(), shard, consumer);
+        }
+        return toDeliveries(shard, claimed);
+    }
+    
+    @Override
+    public void acknowledge(int shard, List<Delivery> deliveries) {
+        if (deliveries.isEmpty()) {
+            return;
+        }
+        String[] ids = deliveries.stream().map(Delivery::id).toArray(String[]::new);
+        redisTemplate.opsForStream().acknowledge(RedisKeyManager.getClickStreamKey(shard),
+                clickStreamProperties.getConsumerGroup(), ids);
+    }
+    
+    private List<Delivery> toDeliveries(int shard, List<MapRecord<String, Object, Object>> records) {
+        if (records == null || records.isEmpty()) {
+            return List.of();
+        }
+        List<Delivery> deliveries = new ArrayList<>(records.size());
+        List<String> malformedIds = new ArrayList<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            try {
+                deliveries.add(new Delivery(record.getId().getValue(), ClickEvent.fromFields(record.getValue())));
+            } catch (IllegalArgumentException e) {
+                log.warn("Skipping malformed click event {} on shard {}: {}", record.getId(), shard, e.getMessage());
+                malformedIds.add(record.getId().getValue());
+            }
+        }
+        if (!malformedIds.isEmpty()) {
+            redisTemplate.opsForStream().acknowledge(RedisKeyManager.getClickStreamKey(shard),
+                    clickStreamProperties.getConsumerGroup(), malformedIds.toArray(new String[0]));
+        }
+        return deliveries;
+    }
+    
+    private void ensureGroup(int shard) {
+        if (initializedShards.contains(shard)) {
+            return;
+        }
+        byte[] streamKey = RedisKeyManager.getClickStreamKey(shard).getBytes(StandardCharsets.UTF_8);
+        String group = clickStreamProperties.getConsumerGroup();
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection -> createGroup(connection, streamKey, group));
+            log.info("Created consumer group {} on click stream shard {}", group, shard);
+        } catch (DataAccessException e) {
+            // 다른 인스턴스가 이미 만든 그룹
+            if (!String.valueOf(e.getMessage()).contains("BUSYGROUP")
+                    && !(e.getCause() != null && String.valueOf(e.getCause().getMessage()).contains("BUSYGROUP"))) {
+                throw e;
+            }
+        }
+        initializedShards.add(shard);
+    }
+    
+    private String createGroup(RedisConnection connection, byte[] streamKey, String group) {
+        return connection.streamCommands().xGroupCreate(streamKey, group, ReadOffset.from("0"), true);
+    }
+}
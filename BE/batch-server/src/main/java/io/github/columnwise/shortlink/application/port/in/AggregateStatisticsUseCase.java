@@ -1,6 +1,7 @@
 package io.github.columnwise.shortlink.application.port.in;
 
 import java.time.LocalDate;
+import java.util.List;
 
 public interface AggregateStatisticsUseCase {
     
@@ -13,11 +14,21 @@ public interface AggregateStatisticsUseCase {
     int aggregateStatisticsForDate(LocalDate targetDate);
     
     /**
-     * 오늘 날짜의 Redis 통계 데이터를 집계합니다.
+     * 지정된 날짜의 접근 카운트 키 중 해당 파티션에 속하는 키를 조회합니다.
      * 
+     * @param targetDate 집계할 날짜
+     * @param partitionIndex 파티션 번호 (0부터 시작)
+     * @param partitionCount 전체 파티션 수
+     * @return 파티션에 속하는 접근 카운트 키 목록
+     */
+    List<String> findAccessKeys(LocalDate targetDate, int partitionIndex, int partitionCount);
+    
+    /**
+     * 주어진 접근 카운트 키들만 집계합니다. (파티션 워커의 청크 단위 처리)
+     * 
+     * @param targetDate 집계할 날짜
+     * @param accessKeys 집계할 접근 카운트 키
      * @return 처리된 URL 개수
      */
-    default int aggregateTodayStatistics() {
-        return aggregateStatisticsForDate(LocalDate.now());
-    }
+    int aggregateStatistics(LocalDate targetDate, List<String> accessKeys);
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package io.github.columnwise.shortlink.application.port.in;
+
+import java.time.Instant;
+
+public interface CleanupExpiredLinksUseCase {
+    
+    /**
+     * cursor 이후 (expires_at, id) 순서로 now 이전에 만료된 단축 URL을 최대 limit개 삭제
+     * 호출한 쪽의 트랜잭션에 참여하며, Redis 키는 트랜잭션이 커밋된 뒤 제거됨
+     */
+    PurgeResult purgeExpired(Cursor cursor, Instant now, int limit);
+    
+    /**
+     * 키셋 페이지 위치 (마지막으로 처리한 행의 만료 시각과 id)
+     */
+    record Cursor(Instant expiresAt, long id) {
+        
+        public static final Cursor START = new Cursor(Instant.EPOCH, 0L);
+    }
+    
+    /**
+     * @param scanned 이번에 읽은 만료 행 수 (limit보다 작으면 더 남은 행이 없음)
+     * @param deleted 삭제한 행 수
+     * @param next 다음 호출에 넘길 위치
+     */
+    record PurgeResult(int scanned, int deleted, Cursor next) {
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.columnwise.shortlink.application.port.in;
+
+import java.time.Duration;
+
+public interface CompactLegacyKeysUseCase {
+    
+    /**
+     * 기존 방문 카운터 키를 코드별 일자 해시(url:access:daily:{code})로 합치고 원본 키를 삭제
+     *
+     * @param scanCount SCAN COUNT 힌트
+     * @param batchSize 파이프라인 한 번에 처리할 키 수
+     * @param maxKeysPerSecond 초당 처리할 최대 키 수
+     * @param retention 합친 일자 해시의 보관 기간
+     */
+    CompactionResult compact(int scanCount, int batchSize, int maxKeysPerSecond, Duration retention);
+    
+    /**
+     * @param scanned SCAN으로 찾은 키 수
+     * @param compacted 일자 해시로 합치고 삭제한 키 수
+     * @param skipped 형식을 알 수 없어 그대로 둔 키 수
+     * @param clicks 일자 해시로 옮긴 방문 수
+     */
+    record CompactionResult(long scanned, long compacted, long skipped, long clicks) {
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.columnwise.shortlink.application.port.in;
+
+import java.time.Duration;
+
+public interface ConsumeClickEventsUseCase {
+    
+    /**
+     * 샤드 스트림에서 이벤트 한 묶음을 읽어 메모리에서 합산한 뒤 누적 통계와 일일 통계에 반영하고 ACK합니다.
+     * 오래 ACK되지 않은 이벤트가 있으면 새 이벤트보다 먼저 가져와 처리합니다.
+     * 누적 통계 반영에 실패하면 ACK하지 않고 예외를 던지며, 해당 이벤트는 claimMinIdle 이후 다시 처리됩니다.
+     * 
+     * @param shard 스트림 샤드 번호
+     * @param consumerName 컨슈머 그룹 내 이름
+     * @param batchSize 한 번에 읽는 최대 이벤트 수
+     * @param block 새 이벤트가 없을 때 대기 시간
+     * @param claimMinIdle 다시 가져올 미처리 이벤트의 최소 대기 시간
+     * @return 반영한 이벤트 수
+     */
+    int consumeBatch(int shard, String consumerName, int batchSize, Duration block, Duration claimMinIdle);
+}
@@ -0,0 +1,34 @@
+package io.github.columnwise.shortlink.application.port.in;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+public interface CooperativeAggregationUseCase {
+    
+    /**
+     * 집계 실행의 파티션 큐를 준비합니다. 여러 인스턴스가 동시에 호출해도 한 번만 생성됩니다.
+     * 
+     * @param runId 인스턴스 간에 공유되는 실행 ID
+     * @param partitionCount 파티션 수 (처음 생성하는 인스턴스의 값이 사용됨)
+     * @param ttl 파티션 큐 보존 기간
+     */
+    void prepareRun(String runId, int partitionCount, Duration ttl);
+    
+    /**
+     * 파티션 큐가 빌 때까지 파티션을 점유해 증가분 집계를 수행합니다.
+     * 리스가 만료된 다른 워커의 파티션도 가져와 처리합니다.
+     * 
+     * @param targetDate 집계할 날짜
+     * @param runId 실행 ID
+     * @param workerId 워커 식별자
+     * @param chunkSize 청크 크기 (청크마다 리스를 갱신)
+     * @param lease 파티션 점유 리스 시간
+     * @return 이 워커가 완료한 파티션 수
+     */
+    int drainPartitions(LocalDate targetDate, String runId, String workerId, int chunkSize, Duration lease);
+    
+    /**
+     * 실행의 모든 파티션이 완료되었는지 확인합니다.
+     */
+    boolean isRunComplete(String runId);
+}
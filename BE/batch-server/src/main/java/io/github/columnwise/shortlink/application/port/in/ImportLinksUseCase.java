@@ -0,0 +1,16 @@
+package io.github.columnwise.shortlink.application.port.in;
+
+import io.github.columnwise.shortlink.util.LinkImportReader.Entry;
+
+import java.util.List;
+
+public interface ImportLinksUseCase {
+    
+    /**
+     * 검증을 통과한 링크 한 청크를 저장
+     * 이미 같은 URL이 저장되어 있으면 건너뛰고, 코드가 없는 항목은 해시 코드를 생성 (충돌 시 salt를 바꿔 재생성)
+     *
+     * @return 새로 저장한 항목 수
+     */
+    int importLinks(List<Entry> entries);
+}
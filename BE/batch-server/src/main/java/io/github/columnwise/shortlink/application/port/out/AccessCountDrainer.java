@@ -0,0 +1,31 @@
+package io.github.columnwise.shortlink.application.port.out;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 마지막으로 커밋된 워터마크 이후 새로 쌓인 방문 수만 꺼내는 포트
+ * drain으로 꺼낸 증가분은 commit 전까지 in-flight로 남아, 반영에 실패하면 다음 drain에 다시 포함됨
+ */
+public interface AccessCountDrainer {
+    
+    /**
+     * 코드별로 워터마크 이후 증가분을 꺼내고 워터마크를 현재 누적 값으로 이동
+     * 
+     * @return 증가분이 있는 코드만 포함 (이전 실행에서 커밋되지 않은 증가분 포함)
+     */
+    Map<String, DrainedCount> drain(Collection<String> codes, LocalDate date);
+    
+    /**
+     * 영구 저장소 반영이 끝난 증가분을 확정 (in-flight 제거)
+     */
+    void commit(Collection<String> codes, LocalDate date);
+    
+    /**
+     * @param delta 이번에 반영할 증가분
+     * @param dayTotal 해당 일자의 현재 누적 방문 수
+     */
+    record DrainedCount(long delta, long dayTotal) {
+    }
+}
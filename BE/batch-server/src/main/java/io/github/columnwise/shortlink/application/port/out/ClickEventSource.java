@@ -0,0 +1,37 @@
+package io.github.columnwise.shortlink.application.port.out;
+
+import io.github.columnwise.shortlink.domain.model.ClickEvent;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 샤드별 클릭 이벤트 스트림을 컨슈머 그룹으로 읽는 소스
+ * 읽은 이벤트는 ACK할 때까지 그룹의 미처리 목록에 남아, 컨슈머가 죽으면 다른 컨슈머가 가져갈 수 있음
+ */
+public interface ClickEventSource {
+    
+    /**
+     * 아직 그룹에 전달되지 않은 이벤트를 읽음, 없으면 block 시간만큼 대기
+     */
+    List<Delivery> read(int shard, String consumer, int count, Duration block);
+    
+    /**
+     * minIdle 이상 ACK되지 않은 이벤트의 소유권을 가져옴
+     */
+    List<Delivery> claimStale(int shard, String consumer, Duration minIdle, int count);
+    
+    /**
+     * 반영이 끝난 이벤트 ACK
+     */
+    void acknowledge(int shard, List<Delivery> deliveries);
+    
+    /**
+     * 스트림에서 읽은 이벤트 한 건
+     * 
+     * @param id 스트림 엔트리 ID
+     * @param event 클릭 이벤트
+     */
+    record Delivery(String id, ClickEvent event) {
+    }
+}
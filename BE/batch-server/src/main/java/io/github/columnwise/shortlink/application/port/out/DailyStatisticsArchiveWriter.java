@@ -0,0 +1,16 @@
+package io.github.columnwise.shortlink.application.port.out;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyStatisticsArchiveWriter {
+    
+    /**
+     * 마감된 날짜의 코드별 일일 통계를 영구 저장소에 한 번에 기록
+     * 같은 (code, date)가 이미 있으면 최신 값으로 덮어씀
+     */
+    void saveDailySnapshots(List<DailySnapshot> snapshots);
+    
+    record DailySnapshot(String code, LocalDate date, long accessCount, long uniqueVisitors) {
+    }
+}
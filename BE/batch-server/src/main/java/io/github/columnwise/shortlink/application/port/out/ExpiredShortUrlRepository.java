@@ -0,0 +1,22 @@
+package io.github.columnwise.shortlink.application.port.out;
+
+import io.github.columnwise.shortlink.domain.model.ShortUrl;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface ExpiredShortUrlRepository {
+    
+    /**
+     * (afterExpiresAt, afterId) 이후 now 이전에 만료된 행을 (expires_at, id) 순서로 잠그고 조회 (id, code, expiresAt만 채워짐)
+     */
+    List<ShortUrl> lockExpiredAfter(Instant afterExpiresAt, long afterId, Instant now, int limit);
+    
+    /**
+     * 단축 URL 행과 코드별 누적 통계 행을 삭제 (일자별 통계 기록은 유지)
+     *
+     * @return 삭제한 단축 URL 행 수
+     */
+    int deleteAll(Collection<Long> ids, Collection<String> codes);
+}
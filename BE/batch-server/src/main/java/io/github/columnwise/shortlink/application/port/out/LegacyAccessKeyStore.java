@@ -0,0 +1,34 @@
+package io.github.columnwise.shortlink.application.port.out;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 일자 해시 도입 이전에 방문마다 만들어진 카운터 키(url:access:count:*)에 대한 접근
+ */
+public interface LegacyAccessKeyStore {
+    
+    /**
+     * 기존 카운터 키를 SCAN으로 순회하며 최대 batchSize개씩 consumer에 넘김 (클러스터는 마스터 노드마다 순회)
+     * consumer가 돌아올 때까지 다음 SCAN을 보내지 않으므로 consumer에서 속도를 조절할 수 있음
+     */
+    void scan(int scanCount, int batchSize, Consumer<List<String>> consumer);
+    
+    /**
+     * 키 값을 읽으면서 삭제 (GETDEL, Redis 6.2 이상)
+     * 읽기와 삭제가 한 명령이므로 그 사이에 들어온 증가분이 지워지지 않고 새 키로 남아 다음 실행에서 처리됨
+     * 그 사이 사라진 키는 결과에서 빠짐
+     */
+    Map<String, String> takeValues(List<String> keys);
+    
+    /**
+     * 코드별 일자 해시에 방문 수를 더하고, 기존 키는 이미 집계된 것이므로 집계 워터마크도 같은 양만큼 올림
+     */
+    void addToDailyCounters(List<DailyCount> counts, Duration retention);
+    
+    record DailyCount(String code, LocalDate date, long count) {
+    }
+}
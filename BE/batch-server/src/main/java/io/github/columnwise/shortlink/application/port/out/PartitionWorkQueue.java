@@ -0,0 +1,50 @@
+package io.github.columnwise.shortlink.application.port.out;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalInt;
+
+/**
+ * 여러 배치 인스턴스가 하나의 집계 실행을 파티션 단위로 나눠 처리하기 위한 작업 큐
+ * 파티션은 리스(lease)로 점유하며, 리스가 만료된 파티션은 다른 워커가 가져갈 수 있음
+ */
+public interface PartitionWorkQueue {
+    
+    /**
+     * 실행의 파티션 목록을 생성 (이미 생성된 실행이면 아무것도 하지 않음)
+     * 
+     * @return 이번 호출로 생성했으면 true
+     */
+    boolean initialize(String runId, int partitionCount, Duration ttl);
+    
+    /**
+     * 실행 생성 시 정해진 파티션 수 (실행이 없으면 empty)
+     */
+    OptionalInt getPartitionCount(String runId);
+    
+    /**
+     * 대기 중인 파티션 또는 리스가 만료된 파티션 하나를 점유
+     * 
+     * @return 점유한 파티션 번호, 남은 파티션이 없으면 empty
+     */
+    OptionalInt claim(String runId, String workerId, Duration lease);
+    
+    /**
+     * 점유 중인 파티션의 리스 연장
+     * 
+     * @return 여전히 해당 워커가 점유 중이면 true (다른 워커가 가져갔으면 false)
+     */
+    boolean renew(String runId, int partition, String workerId, Duration lease);
+    
+    /**
+     * 파티션 처리 완료 기록
+     * 
+     * @return 해당 워커가 점유 중이던 파티션을 완료 처리했으면 true
+     */
+    boolean complete(String runId, int partition, String workerId);
+    
+    /**
+     * 파티션별 완료 기록 (파티션 번호 -> 완료한 워커)
+     */
+    Map<Integer, String> getCompletedPartitions(String runId);
+}
@@ -0,0 +1,89 @@
+package io.github.columnwise.shortlink.application.port.out;
+
+import io.github.columnwise.shortlink.domain.service.RedisKeyManager;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+public interface RedisStatisticsReader {
+    
+    /**
+     * 지정된 날짜에 방문이 기록된 코드의 접근 카운트 키 목록 조회
+     */
+    Set<String> findAccessCountKeys(LocalDate date);
+    
+    /**
+     * 지정된 날짜에 방문이 기록된 코드 중 codeFilter를 통과한 코드의 접근 카운트 키 목록 조회
+     * 기본 구현은 전체 목록을 읽은 뒤 거르며, 어댑터에서 목록을 흘려 읽으며 거르도록 재정의
+     */
+    default Set<String> findAccessCountKeys(LocalDate date, Predicate<String> codeFilter) {
+        return findAccessCountKeys(date).stream()
+                .filter(key -> codeFilter.test(RedisKeyManager.extractCodeFromKey(key)))
+                .collect(Collectors.toSet());
+    }
+    
+    /**
+     * 접근 카운트 키의 방문 수 조회 (값이 없으면 null)
+     */
+    Long getAccessCount(String key);
+    
+    /**
+     * 지정된 날짜의 일일 통계 키 목록 조회
+     */
+    Set<String> findDailyStatisticsKeys(LocalDate date);
+    
+    /**
+     * 일일 통계 해시 조회
+     */
+    Map<Object, Object> getDailyStatistics(String key);
+    
+    /**
+     * 지정된 날짜의 고유 방문자 수 조회 (HyperLogLog 추정치)
+     */
+    long getUniqueVisitors(String code, LocalDate date);
+    
+    /**
+     * 여러 접근 카운트 키의 방문 수를 한 번에 조회 (값이 없는 키는 결과에서 제외)
+     * 기본 구현은 키마다 개별 조회하며, 어댑터에서 파이프라인으로 재정의
+     */
+    default Map<String, Long> getAccessCounts(Collection<String> keys) {
+        Map<String, Long> counts = new HashMap<>();
+        for (String key : keys) {
+            Long count = getAccessCount(key);
+            if (count != null) {
+                counts.put(key, count);
+            }
+        }
+        return counts;
+    }
+    
+    /**
+     * 여러 일일 통계 해시를 한 번에 조회 (비어 있는 키는 결과에서 제외)
+     */
+    default Map<String, Map<Object, Object>> getDailyStatistics(Collection<String> keys) {
+        Map<String, Map<Object, Object>> statistics = new HashMap<>();
+        for (String key : keys) {
+            Map<Object, Object> stats = getDailyStatistics(key);
+            if (!stats.isEmpty()) {
+                statistics.put(key, stats);
+            }
+        }
+        return statistics;
+    }
+    
+    /**
+     * 여러 코드의 지정된 날짜 고유 방문자 수를 한 번에 조회
+     */
+    default Map<String, Long> getUniqueVisitors(Collection<String> codes, LocalDate date) {
+        Map<String, Long> visitors = new HashMap<>();
+        for (String code : codes) {
+            visitors.put(code, getUniqueVisitors(code, date));
+        }
+        return visitors;
+    }
+}
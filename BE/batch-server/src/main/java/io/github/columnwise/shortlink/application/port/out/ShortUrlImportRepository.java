@@ -0,0 +1,26 @@
+package io.github.columnwise.shortlink.application.port.out;
+
+import io.github.columnwise.shortlink.domain.model.ShortUrl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface ShortUrlImportRepository {
+    
+    /**
+     * 이미 저장된 원본 URL의 코드 (키는 UrlFingerprint.normalize로 정규화한 URL)
+     */
+    Map<String, String> findCodesByLongUrls(Collection<String> longUrls);
+    
+    /**
+     * 주어진 코드 중 이미 사용 중인 코드
+     */
+    Set<String> findExistingCodes(Collection<String> codes);
+    
+    /**
+     * 배치 INSERT로 저장 (호출한 쪽의 트랜잭션에 참여하며, 충돌하면 DataIntegrityViolationException)
+     */
+    void insertAll(List<ShortUrl> shortUrls);
+}
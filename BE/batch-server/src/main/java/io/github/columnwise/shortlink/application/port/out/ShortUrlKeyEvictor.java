@@ -0,0 +1,11 @@
+package io.github.columnwise.shortlink.application.port.out;
+
+import java.util.Collection;
+
+public interface ShortUrlKeyEvictor {
+    
+    /**
+     * 삭제된 코드의 Redis 캐시 엔트리와 코드별 방문 카운터를 제거 (실패해도 예외를 던지지 않음)
+     */
+    void evict(Collection<String> codes);
+}
@@ -0,0 +1,17 @@
+package io.github.columnwise.shortlink.application.port.out;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+public interface StatisticsWriter {
+    
+    /**
+     * 코드의 일일 통계(해당 일자 누적 방문 수) 저장
+     */
+    void saveDailyStatistics(String code, LocalDate date, long accessCount, long expireTime, TimeUnit expireUnit);
+    
+    /**
+     * 코드의 일일 통계 방문 수에 증가분을 더함 (클릭 이벤트 스트림 컨슈머에서 사용)
+     */
+    void incrementDailyStatistics(String code, LocalDate date, long increment, long expireTime, TimeUnit expireUnit);
+}
@@ -0,0 +1,31 @@
+package io.github.columnwise.shortlink.application.port.out;
+
+import io.github.columnwise.shortlink.domain.model.UrlMetricsDelta;
+
+import java.util.List;
+
+public interface UrlMetricsWriter {
+    
+    /**
+     * 코드의 총 접근 횟수를 증가시키고 증가 후 값을 반환
+     */
+    long incrementTotalAccessCount(String code, long increment);
+    
+    /**
+     * 코드의 마지막 접근 시각 갱신 (epoch ms)
+     */
+    void updateLastAccessTime(String code, long timestamp);
+    
+    /**
+     * 여러 코드의 접근 횟수 증가분과 마지막 접근 시각을 한 번에 반영
+     * 기본 구현은 코드마다 개별 갱신하며, DB 어댑터는 JDBC 배치 upsert로 재정의
+     */
+    default void applyDeltas(List<UrlMetricsDelta> deltas) {
+        for (UrlMetricsDelta delta : deltas) {
+            incrementTotalAccessCount(delta.code(), delta.increment());
+            if (delta.lastAccessTime() != null) {
+                updateLastAccessTime(delta.code(), delta.lastAccessTime());
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.columnwise.shortlink.application.service;
+
+import io.github.columnwise.shortlink.application.port.in.ConsumeClickEventsUseCase;
+import io.github.columnwise.shortlink.application.port.out.ClickEventSource;
+import io.github.columnwise.shortlink.application.port.out.ClickEventSource.Delivery;
+import io.github.columnwise.shortlink.application.port.out.StatisticsWriter;
+import io.github.columnwise.shortlink.application.port.out.UrlMetricsWriter;
+import io.github.columnwise.shortlink.domain.model.ClickEvent;
+import io.github.columnwise.shortlink.domain.model.UrlMetricsDelta;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClickEventAggregationService implements ConsumeClickEventsUseCase {
+    
+    private final ClickEventSource clickEventSource;
+    private final UrlMetricsWriter urlMetricsWriter;
+    private final StatisticsWriter statisticsWriter;
+    private final Clock clock;
+    
+    @Override
+    public int consumeBatch(int shard, String consumerName, int batchSize, Duration block, Duration claimMinIdle) {
+        // 죽은 컨슈머가 남긴 미처리 이벤트를 먼저 가져오고, 없으면 새 이벤트를 기다림
+        List<Delivery> deliveries = clickEventSource.claimStale(shard, consumerName, claimMinIdle, batchSize);
+        if (deliveries.isEmpty()) {
+            deliveries = clickEventSource.read(shard, consumerName, batchSize, block);
+        }
+        if (deliveries.isEmpty()) {
+            return 0;
+        }
+        
+        // 코드별 증가분/마지막 방문 시각과 코드-일자별 방문 수를 메모리에서 합산
+        Map<String, CodeTotals> codeTotals = new HashMap<>();
+        Map<String, Map<LocalDate, Long>> dailyCounts = new HashMap<>();
+        ZoneId zone = clock.getZone();
+        for (Delivery delivery : deliveries) {
+            ClickEvent event = delivery.event();
+            codeTotals.computeIfAbsent(event.code(), code -> new CodeTotals()).add(event.timestamp());
+            LocalDate date = LocalDate.ofInstant(Instant.ofEpochMilli(event.timestamp()), zone);
+            dailyCounts.computeIfAbsent(event.code(), code -> new HashMap<>()).merge(date, 1L, Long::sum);
+        }
+        
+        List<UrlMetricsDelta> deltas = new ArrayList<>(codeTotals.size());
+        codeTotals.forEach((code, totals) -> deltas.add(new UrlMetricsDelta(code, totals.count, totals.lastAccessTime)));
+        
+        // 누적 통계 반영에 실패하면 예외를 그대로 던지고 ACK하지 않아, 유휴 시간이 지난 뒤 다시 처리됨
+        urlMetricsWriter.applyDeltas(deltas);
+        
+        dailyCounts.forEach((code, counts) -> counts.forEach((date, count) -> {
+            try {
+                statisticsWriter.incrementDailyStatistics(code, date, count, 1, TimeUnit.DAYS);
+            } catch (Exception e) {
+                log.warn("Failed to increment daily statistics for code: {} on date: {}", code, date, e);
+            }
+        }));
+        
+        clickEventSource.acknowledge(shard, deliveries);
+        log.debug("Consumed {} click events for {} codes on shard {}", deliveries.size(), deltas.size(), shard);
+        return deliveries.size();
+    }
+    
+    private static final class CodeTotals {
+        private long count;
+        private long lastAccessTime;
+        
+        private void add(long timestamp) {
+            count++;
+            lastAccessTime = Math.max(lastAccessTime, timestamp);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.columnwise.shortlink.application.service;
+
+/**
+ * 코드 해시 기반 파티션 판별
+ * 같은 코드는 항상 같은 파티션에 속하므로 파티션 간 처리 대상이 겹치지 않음
+ */
+final class CodePartitions {
+    
+    private CodePartitions() {
+    }
+    
+    static boolean contains(String code, int partitionIndex, int partitionCount) {
+        if (partitionCount <= 1) {
+            return true;
+        }
+        return Math.floorMod(code.hashCode(), partitionCount) == partitionIndex;
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.columnwise.shortlink.application.service;
+
+import io.github.columnwise.shortlink.application.port.in.AggregateStatisticsUseCase;
+import io.github.columnwise.shortlink.application.port.in.CooperativeAggregationUseCase;
+import io.github.columnwise.shortlink.application.port.out.PartitionWorkQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.OptionalInt;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CooperativeAggregationService implements CooperativeAggregationUseCase {
+    
+    private final PartitionWorkQueue partitionWorkQueue;
+    private final AggregateStatisticsUseCase aggregateStatisticsUseCase;
+    
+    @Override
+    public void prepareRun(String runId, int partitionCount, Duration ttl) {
+        partitionWorkQueue.initialize(runId, Math.max(1, partitionCount), ttl);
+    }
+    
+    @Override
+    public int drainPartitions(LocalDate targetDate, String runId, String workerId, int chunkSize, Duration lease) {
+        OptionalInt partitionCount = partitionWorkQueue.getPartitionCount(runId);
+        if (partitionCount.isEmpty()) {
+            log.warn("Partition queue for run {} does not exist", runId);
+            return 0;
+        }
+        
+        int completedCount = 0;
+        OptionalInt claimed;
+        while ((claimed = partitionWorkQueue.claim(runId, workerId, lease)).isPresent()) {
+            int partition = claimed.getAsInt();
+            log.info("Worker {} claimed partition {}/{} of run {}", workerId, partition, partitionCount.getAsInt(), runId);
+            
+            if (processPartition(targetDate, runId, workerId, partition, partitionCount.getAsInt(), chunkSize, lease)
+                    && partitionWorkQueue.complete(runId, partition, workerId)) {
+                completedCount++;
+            } else {
+                log.warn("Worker {} lost the lease on partition {} of run {}", workerId, partition, runId);
+            }
+        }
+        
+        log.info("Worker {} finished run {} after completing {} partitions", workerId, runId, completedCount);
+        return completedCount;
+    }
+    
+    @Override
+    public boolean isRunComplete(String runId) {
+        OptionalInt partitionCount = partitionWorkQueue.getPartitionCount(runId);
+        return partitionCount.isPresent()
+                && partitionWorkQueue.getCompletedPartitions(runId).size() >= partitionCount.getAsInt();
+    }
+    
+    /**
+     * 코드 해시 파티션 하나의 증가분을 청크 단위로 반영 (청크마다 리스 갱신)
+     * 
+     * @return 끝까지 리스를 유지하며 처리했으면 true
+     */
+    private boolean processPartition(LocalDate targetDate, String runId, String workerId,
+                                     int partition, int partitionCount, int chunkSize, Duration lease) {
+        List<String> accessKeys = aggregateStatisticsUseCase.findAccessKeys(targetDate, partition, partitionCount);
+        for (int from = 0; from < accessKeys.size(); from += chunkSize) {
+            List<String> chunk = accessKeys.subList(from, Math.min(from + chunkSize, accessKeys.size()));
+            aggregateStatisticsUseCase.aggregateStatistics(targetDate, chunk);
+            if (!partitionWorkQueue.renew(runId, partition, workerId, lease)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.columnwise.shortlink.application.service;
+
+import io.github.columnwise.shortlink.application.port.in.CleanupExpiredLinksUseCase;
+import io.github.columnwise.shortlink.application.port.out.ExpiredShortUrlRepository;
+import io.github.columnwise.shortlink.application.port.out.ShortUrlKeyEvictor;
+import io.github.columnwise.shortlink.domain.model.ShortUrl;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExpiredLinkCleanupService implements CleanupExpiredLinksUseCase {
+    
+    private final ExpiredShortUrlRepository expiredShortUrlRepository;
+    private final ShortUrlKeyEvictor shortUrlKeyEvictor;
+    
+    @Override
+    public PurgeResult purgeExpired(Cursor cursor, Instant now, int limit) {
+        List<ShortUrl> expired = expiredShortUrlRepository.lockExpiredAfter(cursor.expiresAt(), cursor.id(), now, limit);
+        if (expired.isEmpty()) {
+            return new PurgeResult(0, 0, cursor);
+        }
+        
+        List<String> codes = expired.stream().map(ShortUrl::code).toList();
+        int deleted = expiredShortUrlRepository.deleteAll(expired.stream().map(ShortUrl::id).toList(), codes);
+        evictAfterCommit(codes);
+        
+        ShortUrl last = expired.get(expired.size() - 1);
+        log.debug("Purged {} expired short URLs up to expiresAt: {}, id: {}", deleted, last.expiresAt(), last.id());
+        return new PurgeResult(expired.size(), deleted, new Cursor(last.expiresAt(), last.id()));
+    }
+    
+    private void evictAfterCommit(List<String> codes) {
+        // 커밋 전에 지우면 그 사이 API 서버가 아직 남아 있는 행으로 캐시를 다시 채울 수 있음
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            shortUrlKeyEvictor.evict(codes);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                shortUrlKeyEvictor.evict(codes);
+            }
+        });
+    }
+}
@@ -0,0 +1,182 @@
+package io.github.columnwise.shortlink.application.service;
+
+import io.github.columnwise.shortlink.application.port.in.CompactLegacyKeysUseCase;
+import io.github.columnwise.shortlink.application.port.out.LegacyAccessKeyStore;
+import io.github.columnwise.shortlink.application.port.out.LegacyAccessKeyStore.DailyCount;
+import io.github.columnwise.shortlink.domain.service.ShortUrlPolicy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 기존 방문 카운터 키를 코드별 일자 해시로 합치는 서비스
+ * 키 형식은 url:access:count:{yyyy-MM-dd}:code와 방문마다 만들던 url:access:count:{code}:timestamp 두 가지를 지원하고,
+ * 그 외 형식은 잘못 지우지 않도록 그대로 둠
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LegacyKeyCompactionService implements CompactLegacyKeysUseCase {
+    
+    private static final String LEGACY_KEY_PREFIX = "url:access:count:";
+    
+    // 이 값 이상이면 밀리초, 미만이면 초 단위 타임스탬프로 봄 (1e11초는 5138년)
+    private static final long EPOCH_MILLIS_THRESHOLD = 100_000_000_000L;
+    
+    private final LegacyAccessKeyStore legacyAccessKeyStore;
+    private final Clock clock;
+    
+    @Override
+    public CompactionResult compact(int scanCount, int batchSize, int maxKeysPerSecond, Duration retention) {
+        long[] totals = new long[4];
+        long nanosPerKey = maxKeysPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / maxKeysPerSecond : 0L;
+        long[] nextSlot = {System.nanoTime()};
+        
+        legacyAccessKeyStore.scan(scanCount, batchSize, keys -> {
+            // 처리한 키 수만큼 다음 배치 시작 시각을 미뤄 초당 키 수를 제한
+            pace(nextSlot[0]);
+            nextSlot[0] = Math.max(nextSlot[0], System.nanoTime()) + nanosPerKey * keys.size();
+            
+            BatchResult result = compactBatch(keys, retention);
+            totals[0] += keys.size();
+            totals[1] += result.compacted();
+            totals[2] += result.skipped();
+            totals[3] += result.clicks();
+            log.debug("Compacted {} legacy access keys so far (scanned: {}, skipped: {})", totals[1], totals[0], totals[2]);
+        });
+        
+        CompactionResult result = new CompactionResult(totals[0], totals[1], totals[2], totals[3]);
+        log.info("Legacy access key compaction finished - scanned: {}, compacted: {}, skipped: {}, clicks: {}",
+                result.scanned(), result.compacted(), result.skipped(), result.clicks());
+        return result;
+    }
+    
+    private BatchResult compactBatch(List<String> keys, Duration retention) {
+        Map<String, LegacyKey> parsed = new HashMap<>();
+        for (String key : keys) {
+            LegacyKey legacyKey = parse(key, clock.getZone());
+            if (legacyKey != null) {
+                parsed.put(key, legacyKey);
+            }
+        }
+        long skipped = keys.size() - parsed.size();
+        if (parsed.isEmpty()) {
+            return new BatchResult(0, skipped, 0);
+        }
+        
+        // 값을 읽는 명령이 키도 지우므로, 읽은 뒤 들어온 증가분은 새 키에 쌓여 다음 실행에서 합쳐짐
+        // 키가 서로 다른 슬롯이라 일자 해시 반영과 한 번에 묶을 수 없으며, 둘 사이에 중단되면 이 배치의 방문 수는 반영되지 않음
+        Map<String, String> values = legacyAccessKeyStore.takeValues(new ArrayList<>(parsed.keySet()));
+        
+        // 같은 코드와 날짜의 키는 HINCRBY 한 번으로 합침
+        Map<LegacyKey, Long> sums = new HashMap<>();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            sums.merge(parsed.get(entry.getKey()), parseCount(entry.getValue()), Long::sum);
+        }
+        if (!sums.isEmpty()) {
+            List<DailyCount> counts = sums.entrySet().stream()
+                    .map(entry -> new DailyCount(entry.getKey().code(), entry.getKey().date(), entry.getValue()))
+                    .toList();
+            legacyAccessKeyStore.addToDailyCounters(counts, retention);
+        }
+        
+        long clicks = sums.values().stream().mapToLong(Long::longValue).sum();
+        return new BatchResult(values.size(), skipped, clicks);
+    }
+    
+    /**
+     * 키에서 코드와 날짜를 추출, 형식을 알 수 없으면 null
+     * 타임스탬프 키의 날짜는 zone 기준 일자로 정함
+     */
+    static LegacyKey parse(String key, ZoneId zone) {
+        if (key == null || !key.startsWith(LEGACY_KEY_PREFIX)) {
+            return null;
+        }
+        String rest = key.substring(LEGACY_KEY_PREFIX.length());
+        int separator = rest.lastIndexOf(':');
+        if (separator <= 0 || separator == rest.length() - 1) {
+            return null;
+        }
+        String first = stripHashTag(rest.substring(0, separator));
+        String second = stripHashTag(rest.substring(separator + 1));
+        
+        LocalDate date = parseDate(first);
+        if (date != null) {
+            return ShortUrlPolicy.isValidCode(second) ? new LegacyKey(second, date) : null;
+        }
+        date = parseTimestamp(second, zone);
+        if (date != null && ShortUrlPolicy.isValidCode(first)) {
+            return new LegacyKey(first, date);
+        }
+        return null;
+    }
+    
+    private static String stripHashTag(String value) {
+        if (value.length() >= 2 && value.charAt(0) == '{' && value.charAt(value.length() - 1) == '}') {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+    
+    private static LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+    
+    private static LocalDate parseTimestamp(String value, ZoneId zone) {
+        try {
+            long timestamp = Long.parseLong(value);
+            if (timestamp <= 0) {
+                return null;
+            }
+            Instant instant = timestamp >= EPOCH_MILLIS_THRESHOLD
+                    ? Instant.ofEpochMilli(timestamp)
+                    : Instant.ofEpochSecond(timestamp);
+            return LocalDate.ofInstant(instant, zone);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+    
+    private static long parseCount(String value) {
+        // 방문마다 만들던 키는 값이 숫자가 아닐 수 있으므로 키 하나를 방문 한 번으로 셈
+        try {
+            return Math.max(Long.parseLong(value.trim()), 0L);
+        } catch (NumberFormatException e) {
+            return 1L;
+        }
+    }
+    
+    private static void pace(long slot) {
+        long wait = slot - System.nanoTime();
+        while (wait > 0) {
+            LockSupport.parkNanos(wait);
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            wait = slot - System.nanoTime();
+        }
+    }
+    
+    record LegacyKey(String code, LocalDate date) {
+    }
+    
+    private record BatchResult(long compacted, long skipped, long clicks) {
+    }
+}
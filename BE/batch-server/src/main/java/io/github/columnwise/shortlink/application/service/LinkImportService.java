@@ -0,0 +1,140 @@
+package io.github.columnwise.shortlink.application.service;
+
+import io.github.columnwise.shortlink.application.port.in.ImportLinksUseCase;
+import io.github.columnwise.shortlink.application.port.out.ShortUrlImportRepository;
+import io.github.columnwise.shortlink.domain.model.ShortUrl;
+import io.github.columnwise.shortlink.domain.service.HashCodeGenerator;
+import io.github.columnwise.shortlink.domain.service.ShortUrlPolicy;
+import io.github.columnwise.shortlink.util.LinkImportReader.Entry;
+import io.github.columnwise.shortlink.util.UrlFingerprint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LinkImportService implements ImportLinksUseCase {
+    
+    // API 서버의 기본 생성 전략과 같은 형식, 충돌하면 API 서버처럼 "_0", "_1" ... salt를 붙여 재생성
+    // (Snowflake·시퀀스 전략은 API 서버의 Redis 할당기에 묶여 있어 배치에서 쓸 수 없음)
+    private static final HashCodeGenerator CODE_GENERATOR = new HashCodeGenerator();
+    private static final int MAX_ATTEMPTS = 5;
+    
+    private final ShortUrlImportRepository shortUrlImportRepository;
+    
+    @Override
+    public int importLinks(List<Entry> entries) {
+        // 같은 청크 안에서 정규화한 URL이 같으면 첫 항목만 처리
+        Map<String, Entry> distinct = new LinkedHashMap<>();
+        for (Entry entry : entries) {
+            distinct.putIfAbsent(UrlFingerprint.normalize(entry.longUrl()), entry);
+        }
+        
+        // 이미 저장된 URL은 건너뜀 (재실행 시 이전에 커밋된 항목 포함)
+        Map<String, String> existingCodes = shortUrlImportRepository.findCodesByLongUrls(
+                distinct.values().stream().map(Entry::longUrl).toList());
+        List<Entry> pending = new ArrayList<>();
+        distinct.forEach((normalized, entry) -> {
+            String existingCode = existingCodes.get(normalized);
+            if (existingCode == null) {
+                pending.add(entry);
+            } else if (entry.code() != null && !entry.code().equals(existingCode)) {
+                log.warn("Skipping line {}: URL already exists with code {} instead of {}",
+                        entry.line(), existingCode, entry.code());
+            }
+        });
+        
+        List<ShortUrl> rows = assignCodes(pending);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        try {
+            shortUrlImportRepository.insertAll(rows);
+        } catch (DataIntegrityViolationException e) {
+            // 여러 건이면 그대로 던져 Spring Batch가 청크를 롤백하고 한 건씩 다시 호출하게 함
+            if (pending.size() != 1 || pending.get(0).code() != null) {
+                throw e;
+            }
+            return insertWithFreshCode(pending.get(0), e);
+        }
+        return rows.size();
+    }
+    
+    /**
+     * 생성한 코드가 사전 확인 이후 다른 곳에서 먼저 저장되어 INSERT가 실패한 항목을 salt를 바꿔 다시 저장
+     * 그 사이 API 서버가 같은 URL을 저장했으면 이미 이전된 것으로 보고 건너뜀
+     */
+    private int insertWithFreshCode(Entry entry, DataIntegrityViolationException conflict) {
+        DataIntegrityViolationException last = conflict;
+        for (int retry = 0; retry < MAX_ATTEMPTS; retry++) {
+            if (!shortUrlImportRepository.findCodesByLongUrls(List.of(entry.longUrl())).isEmpty()) {
+                log.info("Line {}: URL was stored concurrently, skipping", entry.line());
+                return 0;
+            }
+            List<ShortUrl> rows = assignCodes(List.of(entry));
+            if (rows.isEmpty()) {
+                return 0;
+            }
+            log.warn("Line {}: generated code conflicted on insert, retrying with code {}",
+                    entry.line(), rows.get(0).code());
+            try {
+                shortUrlImportRepository.insertAll(rows);
+                return 1;
+            } catch (DataIntegrityViolationException e) {
+                last = e;
+            }
+        }
+        throw last;
+    }
+    
+    /**
+     * 기존 코드나 같은 청크의 다른 코드와 겹치지 않도록 코드를 정함
+     * 기존 코드를 유지해야 하는 항목이 겹치면 건너뛰고, 생성한 코드가 겹치면 salt를 바꿔 다시 생성
+     */
+    private List<ShortUrl> assignCodes(List<Entry> pending) {
+        Instant now = Instant.now();
+        List<ShortUrl> rows = new ArrayList<>(pending.size());
+        Set<String> claimed = new HashSet<>();
+        List<Entry> remaining = pending;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS && !remaining.isEmpty(); attempt++) {
+            Map<Entry, String> candidates = new LinkedHashMap<>();
+            for (Entry entry : remaining) {
+                candidates.put(entry, entry.code() != null
+                        ? entry.code()
+                        : CODE_GENERATOR.generate(entry.longUrl() + "_" + attempt));
+            }
+            Set<String> taken = shortUrlImportRepository.findExistingCodes(candidates.values());
+            
+            List<Entry> retry = new ArrayList<>();
+            candidates.forEach((entry, code) -> {
+                if (!taken.contains(code) && claimed.add(code)) {
+                    rows.add(ShortUrl.builder()
+                            .code(code)
+                            .longUrl(entry.longUrl())
+                            .createdAt(now)
+                            .expiresAt(ShortUrlPolicy.expiresAt(now))
+                            .build());
+                } else if (entry.code() != null) {
+                    log.warn("Skipping line {}: code {} is already in use", entry.line(), code);
+                } else {
+                    retry.add(entry);
+                }
+            });
+            remaining = retry;
+        }
+        for (Entry entry : remaining) {
+            log.warn("Skipping line {}: failed to generate a unique code after {} attempts", entry.line(), MAX_ATTEMPTS);
+        }
+        return rows;
+    }
+}
@@ -1,18 +1,26 @@
 package io.github.columnwise.shortlink.application.service;
 
 import io.github.columnwise.shortlink.application.port.in.AggregateStatisticsUseCase;
+import io.github.columnwise.shortlink.application.port.out.AccessCountDrainer;
+import io.github.columnwise.shortlink.application.port.out.DailyStatisticsArchiveWriter;
+import io.github.columnwise.shortlink.application.port.out.DailyStatisticsArchiveWriter.DailySnapshot;
 import io.github.columnwise.shortlink.application.port.out.RedisStatisticsReader;
 import io.github.columnwise.shortlink.application.port.out.StatisticsWriter;
 import io.github.columnwise.shortlink.application.port.out.UrlMetricsWriter;
+import io.github.columnwise.shortlink.domain.model.UrlMetricsDelta;
 import io.github.columnwise.shortlink.domain.service.RedisKeyManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -24,7 +32,20 @@ public class StatisticsAggregationService implements AggregateStatisticsUseCase
     private final RedisStatisticsReader statisticsReader;
     private final StatisticsWriter statisticsWriter;
     private final UrlMetricsWriter urlMetricsWriter;
+    private final DailyStatisticsArchiveWriter archiveWriter;
+    private final AccessCountDrainer accessCountDrainer;
     private final RedisTemplate<String, String> redisTemplate;
+    private final Clock clock;
+    
+    // Redis 파이프라인 조회 한 번에 넘기는 키 수
+    private static final int READ_CHUNK_SIZE = 1000;
+    
+    // 누적 통계 DB 배치 upsert 한 번에 넘기는 코드 수
+    private static final int WRITE_CHUNK_SIZE = 500;
+    
+    // 클릭 이벤트 스트림 컨슈머가 누적/일일 통계를 반영하는 경우 워터마크만 전진시켜 이중 집계를 막음
+    @Value("${app.batch.click-stream.enabled:false}")
+    private boolean clickStreamEnabled;
 
     @Override
     public int aggregateStatisticsForDate(LocalDate targetDate) {
@@ -37,65 +58,157 @@ public class StatisticsAggregationService implements AggregateStatisticsUseCase
             return 0;
         }
 
-        // 코드별로 그룹핑해서 카운트
+        int processedCount = aggregateStatistics(targetDate, new ArrayList<>(accessKeys));
+
+        log.info("Completed statistics aggregation for date: {}. Processed {} keys", 
+                targetDate, processedCount);
+
+        return processedCount;
+    }
+    
+    @Override
+    public List<String> findAccessKeys(LocalDate targetDate, int partitionIndex, int partitionCount) {
+        return statisticsReader.findAccessCountKeys(targetDate,
+                        code -> CodePartitions.contains(code, partitionIndex, partitionCount)).stream()
+                .sorted()
+                .toList();
+    }
+    
+    @Override
+    public int aggregateStatistics(LocalDate targetDate, List<String> keyList) {
+        List<String> codes = keyList.stream()
+                .map(accessKey -> extractCodeFromAccessKey(accessKey, targetDate))
+                .distinct()
+                .toList();
+        
+        // 마감된 날짜는 최종 누적 값을 일일 통계 테이블에 기록
+        if (targetDate.isBefore(LocalDate.now(clock))) {
+            archiveClosedDay(targetDate, readDayTotals(keyList, targetDate));
+        }
+        
+        // 워터마크 이후 증가분만 꺼내서 반영, 누적 통계는 청크 단위로 한 번에 반영
+        int processedCount = 0;
+        for (int from = 0; from < codes.size(); from += WRITE_CHUNK_SIZE) {
+            List<String> chunk = codes.subList(from, Math.min(from + WRITE_CHUNK_SIZE, codes.size()));
+            processedCount += processChunk(chunk, targetDate);
+        }
+        
+        log.debug("Aggregated {} of {} access keys for date: {}", processedCount, keyList.size(), targetDate);
+        return processedCount;
+    }
+    
+    /**
+     * 코드별 해당 일자 누적 방문 수 (키마다 왕복하지 않도록 청크 단위로 파이프라인 조회)
+     */
+    private java.util.Map<String, Long> readDayTotals(List<String> keyList, LocalDate targetDate) {
         java.util.Map<String, Long> codeCountMap = new java.util.HashMap<>();
-        for (String accessKey : accessKeys) {
+        for (int from = 0; from < keyList.size(); from += READ_CHUNK_SIZE) {
+            List<String> chunk = keyList.subList(from, Math.min(from + READ_CHUNK_SIZE, keyList.size()));
             try {
-                String code = extractCodeFromAccessKey(accessKey, targetDate);
-                codeCountMap.put(code, codeCountMap.getOrDefault(code, 0L) + 1);
+                statisticsReader.getAccessCounts(chunk).forEach((accessKey, accessCount) -> {
+                    if (accessCount > 0) {
+                        codeCountMap.merge(extractCodeFromAccessKey(accessKey, targetDate), accessCount, Long::sum);
+                    }
+                });
             } catch (Exception e) {
-                log.error("Error processing access key: {}", accessKey, e);
+                log.error("Error reading access counts for {} keys on date: {}", chunk.size(), targetDate, e);
             }
         }
-        
-        // 각 코드별로 통계 저장
-        int processedCount = 0;
-        for (java.util.Map.Entry<String, Long> entry : codeCountMap.entrySet()) {
-            try {
-                String code = entry.getKey();
-                Long accessCount = entry.getValue();
-                
-                // 중복 처리 방지: 이미 처리된 코드/날짜 조합인지 확인
-                if (isAlreadyProcessed(code, targetDate)) {
-                    log.debug("Statistics for code {} and date {} already processed, skipping", code, targetDate);
-                    continue;
-                }
-                
-                // 처리 중 마킹 (다른 인스턴스에서 동시 처리 방지)
-                if (!markAsProcessing(code, targetDate)) {
+        return codeCountMap;
+    }
+    
+    private int processChunk(List<String> codes, LocalDate targetDate) {
+        List<String> claimedCodes = new ArrayList<>();
+        try {
+            for (String code : codes) {
+                // 처리 중 마킹 (다른 인스턴스에서 동시에 같은 증가분을 꺼내지 않도록 방지)
+                if (markAsProcessing(code, targetDate)) {
+                    claimedCodes.add(code);
+                } else {
                     log.debug("Code {} for date {} is being processed by another instance, skipping", code, targetDate);
-                    continue;
                 }
-                
+            }
+            if (claimedCodes.isEmpty()) {
+                return 0;
+            }
+            
+            // 지난 실행 이후 증가분 (이전에 반영에 실패한 in-flight 증가분 포함)
+            java.util.Map<String, AccessCountDrainer.DrainedCount> drained;
+            try {
+                drained = accessCountDrainer.drain(claimedCodes, targetDate);
+            } catch (Exception e) {
+                log.error("Error draining access counts for {} codes on date: {}", claimedCodes.size(), targetDate, e);
+                return 0;
+            }
+            if (drained.isEmpty()) {
+                return 0;
+            }
+            if (clickStreamEnabled) {
+                accessCountDrainer.commit(drained.keySet(), targetDate);
+                return drained.size();
+            }
+            
+            long now = clock.millis();
+            List<UrlMetricsDelta> deltas = new ArrayList<>();
+            for (java.util.Map.Entry<String, AccessCountDrainer.DrainedCount> entry : drained.entrySet()) {
+                String code = entry.getKey();
                 try {
-                    // 일일 통계 저장
-                    statisticsWriter.saveDailyStatistics(code, targetDate, accessCount, 1, TimeUnit.DAYS);
-                    
-                    // URL 전체 통계 DB에 저장 (총 접근 횟수 증가)
-                    urlMetricsWriter.incrementTotalAccessCount(code, accessCount);
-                    
-                    // 처리 완료 마킹
-                    statisticsWriter.markAsProcessed(code, targetDate, 1, TimeUnit.DAYS);
-                    
-                    // 통계 캐시 무효화 (새로운 데이터가 처리되었으므로)
-                    invalidateStatisticsCache(code);
-                    
-                    processedCount++;
-                    
-                } finally {
-                    // 처리 중 상태 해제
-                    clearProcessingMark(code, targetDate);
+                    // 일일 통계 저장 (해당 일자 누적 값)
+                    statisticsWriter.saveDailyStatistics(code, targetDate, entry.getValue().dayTotal(), 1, TimeUnit.DAYS);
+                } catch (Exception e) {
+                    log.warn("Failed to save daily statistics for code: {} on date: {}", code, targetDate, e);
                 }
-                
+                deltas.add(new UrlMetricsDelta(code, entry.getValue().delta(), now));
+            }
+            
+            // URL 전체 통계 DB에 증가분만 반영, 실패하면 in-flight로 남아 다음 실행에서 다시 반영
+            try {
+                urlMetricsWriter.applyDeltas(deltas);
             } catch (Exception e) {
-                log.error("Error processing code statistics: {}", entry.getKey(), e);
+                log.error("Error applying url metrics for {} codes on date: {}", deltas.size(), targetDate, e);
+                return 0;
+            }
+            accessCountDrainer.commit(drained.keySet(), targetDate);
+            
+            // 통계 캐시 무효화 (새로운 데이터가 처리되었으므로)
+            for (UrlMetricsDelta delta : deltas) {
+                invalidateStatisticsCache(delta.code());
+            }
+            return deltas.size();
+            
+        } finally {
+            // 처리 중 상태 해제
+            for (String code : claimedCodes) {
+                clearProcessingMark(code, targetDate);
             }
         }
-
-        log.info("Completed statistics aggregation for date: {}. Processed {} keys", 
-                targetDate, processedCount);
-
-        return processedCount;
+    }
+    
+    private void archiveClosedDay(LocalDate targetDate, java.util.Map<String, Long> codeCountMap) {
+        int archivedCount = 0;
+        List<String> codes = new ArrayList<>(codeCountMap.keySet());
+        for (int from = 0; from < codes.size(); from += READ_CHUNK_SIZE) {
+            List<String> chunk = codes.subList(from, Math.min(from + READ_CHUNK_SIZE, codes.size()));
+            java.util.Map<String, Long> uniqueVisitors;
+            try {
+                uniqueVisitors = statisticsReader.getUniqueVisitors(chunk, targetDate);
+            } catch (Exception e) {
+                log.error("Failed to read unique visitors for {} codes on date: {}", chunk.size(), targetDate, e);
+                continue;
+            }
+            
+            List<DailySnapshot> snapshots = chunk.stream()
+                    .map(code -> new DailySnapshot(code, targetDate, codeCountMap.get(code),
+                            uniqueVisitors.getOrDefault(code, 0L)))
+                    .toList();
+            try {
+                archiveWriter.saveDailySnapshots(snapshots);
+                archivedCount += snapshots.size();
+            } catch (Exception e) {
+                log.error("Failed to archive daily statistics for {} codes on date: {}", snapshots.size(), targetDate, e);
+            }
+        }
+        log.info("Archived {} daily statistics rows for date: {}", archivedCount, targetDate);
     }
     
     private void invalidateStatisticsCache(String code) {
@@ -113,16 +226,6 @@ public class StatisticsAggregationService implements AggregateStatisticsUseCase
         }
     }
 
-    private boolean isAlreadyProcessed(String code, LocalDate date) {
-        try {
-            String processedKey = RedisKeyManager.getProcessedMarkerKey(code, date);
-            return Boolean.TRUE.equals(redisTemplate.hasKey(processedKey));
-        } catch (Exception e) {
-            log.warn("Failed to check processed status for code: {}, date: {}", code, date, e);
-            return false;
-        }
-    }
-    
     private boolean markAsProcessing(String code, LocalDate date) {
         try {
             String processingKey = RedisKeyManager.getProcessingMarkerKey(code, date);
@@ -0,0 +1,40 @@
+package io.github.columnwise.shortlink.batch.job;
+
+import io.github.columnwise.shortlink.adapter.batch.ExpiredCleanupTasklet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 만료된 단축 URL 정리 Job
+ * 한 번에 지우지 않고 청크마다 짧은 트랜잭션으로 삭제하여, 긴 행 잠금과 큰 undo 로그 없이 API 서버 쓰기와 함께 실행될 수 있게 함
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ExpiredCleanupJobConfig {
+    
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ExpiredCleanupTasklet expiredCleanupTasklet;
+    
+    @Bean
+    public Job expiredCleanupJob() {
+        return new JobBuilder("expiredCleanupJob", jobRepository)
+                .start(expiredCleanupStep())
+                .build();
+    }
+    
+    @Bean
+    public Step expiredCleanupStep() {
+        // 삭제와 키셋 위치가 같은 트랜잭션으로 커밋되도록 실제 트랜잭션 매니저 사용
+        return new StepBuilder("expiredCleanupStep", jobRepository)
+                .tasklet(expiredCleanupTasklet, transactionManager)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.columnwise.shortlink.batch.job;
+
+import io.github.columnwise.shortlink.adapter.batch.LegacyKeyCompactionTasklet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 기존 방문 카운터 키 압축 Job
+ * 남은 키가 없어지면 SCAN 한 바퀴만 돌고 끝나므로 이관이 끝난 뒤에도 켜 두어 다시 생긴 키를 정리
+ */
+@Configuration
+@RequiredArgsConstructor
+public class LegacyKeyCompactionJobConfig {
+    
+    private final JobRepository jobRepository;
+    private final LegacyKeyCompactionTasklet legacyKeyCompactionTasklet;
+    
+    @Bean
+    public Job legacyKeyCompactionJob() {
+        return new JobBuilder("legacyKeyCompactionJob", jobRepository)
+                .start(legacyKeyCompactionStep())
+                .build();
+    }
+    
+    @Bean
+    public Step legacyKeyCompactionStep() {
+        // Redis만 다루므로 DB 트랜잭션은 필요 없음
+        return new StepBuilder("legacyKeyCompactionStep", jobRepository)
+                .tasklet(legacyKeyCompactionTasklet, new ResourcelessTransactionManager())
+                .build();
+    }
+}
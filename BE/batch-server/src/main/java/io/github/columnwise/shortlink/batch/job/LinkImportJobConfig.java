@@ -0,0 +1,94 @@
+package io.github.columnwise.shortlink.batch.job;
+
+import io.github.columnwise.shortlink.adapter.batch.LinkImportItemProcessor;
+import io.github.columnwise.shortlink.adapter.batch.LinkImportItemReader;
+import io.github.columnwise.shortlink.adapter.batch.LinkImportProgressListener;
+import io.github.columnwise.shortlink.adapter.config.LinkImportProperties;
+import io.github.columnwise.shortlink.application.port.in.ImportLinksUseCase;
+import io.github.columnwise.shortlink.util.LinkImportReader.Entry;
+import io.github.columnwise.shortlink.util.LinkImportReader.Format;
+import io.micrometer.core.instrument.Metrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Locale;
+
+/**
+ * 대량 링크 이전 Job
+ * 파일을 한 줄씩 읽어 청크 단위로 검증 -> 코드 생성 -> 배치 INSERT하고, 저장과 체크포인트(읽은 줄 번호)를 한 트랜잭션으로 커밋
+ * 메모리에는 청크 하나만 유지되며, 실패 후 같은 inputFile로 다시 실행하면 마지막 커밋 지점부터 이어서 처리
+ */
+@Configuration
+@RequiredArgsConstructor
+public class LinkImportJobConfig {
+    
+    public static final String INPUT_FILE = "inputFile";
+    public static final String FORMAT = "format";
+    
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ImportLinksUseCase importLinksUseCase;
+    private final LinkImportProperties properties;
+    
+    @Bean
+    public Job linkImportJob() {
+        return new JobBuilder("linkImportJob", jobRepository)
+                .start(linkImportStep())
+                .build();
+    }
+    
+    @Bean
+    public Step linkImportStep() {
+        LinkImportProgressListener progressListener = linkImportProgressListener();
+        // API 서버가 같은 URL이나 코드를 동시에 저장해 청크가 실패하면 한 건씩 다시 처리
+        // 생성한 코드의 충돌은 서비스가 salt를 바꿔 재시도하므로, 건너뛰는 것은 지정 코드 충돌이나 재시도 소진뿐
+        return new StepBuilder("linkImportStep", jobRepository)
+                .<Entry, Entry>chunk(properties.getChunkSize(), transactionManager)
+                .reader(linkImportItemReader(null, null))
+                .processor(new LinkImportItemProcessor())
+                .writer(linkImportWriter())
+                .faultTolerant()
+                .skip(DataIntegrityViolationException.class)
+                .skipLimit(properties.getSkipLimit())
+                .listener((StepExecutionListener) progressListener)
+                .listener((ChunkListener) progressListener)
+                .build();
+    }
+    
+    @Bean
+    @StepScope
+    public LinkImportItemReader linkImportItemReader(
+            @Value("#{jobParameters['" + INPUT_FILE + "']}") String inputFile,
+            @Value("#{jobParameters['" + FORMAT + "']}") String format) {
+        Format resolved = format == null || format.isBlank()
+                ? Format.detect(inputFile)
+                : Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        return new LinkImportItemReader(Path.of(inputFile), resolved);
+    }
+    
+    @Bean
+    public ItemWriter<Entry> linkImportWriter() {
+        return chunk -> importLinksUseCase.importLinks(new ArrayList<>(chunk.getItems()));
+    }
+    
+    @Bean
+    public LinkImportProgressListener linkImportProgressListener() {
+        // 배치 서버에는 Actuator가 없으므로 Spring Batch 메트릭과 같은 전역 레지스트리에 등록
+        return new LinkImportProgressListener(Metrics.globalRegistry);
+    }
+}
@@ -1,17 +1,31 @@
 package io.github.columnwise.shortlink.batch.job;
 
-import io.github.columnwise.shortlink.adapter.batch.StatisticsAggregationTasklet;
-import io.github.columnwise.shortlink.adapter.batch.UrlMetricsUpdateTasklet;
+import io.github.columnwise.shortlink.adapter.batch.CodeHashPartitioner;
+import io.github.columnwise.shortlink.adapter.batch.CooperativePartitionTasklet;
+import io.github.columnwise.shortlink.adapter.batch.TargetDateParser;
+import io.github.columnwise.shortlink.adapter.config.AggregationPartitionProperties;
+import io.github.columnwise.shortlink.application.port.in.AggregateStatisticsUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.SimplePartitioner;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.support.ListItemReader;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
 
 @Slf4j
 @Configuration
@@ -19,29 +33,107 @@ import org.springframework.transaction.PlatformTransactionManager;
 public class StatisticsAggregationJobConfig {
 
     private final JobRepository jobRepository;
-    private final PlatformTransactionManager transactionManager;
-    private final StatisticsAggregationTasklet statisticsAggregationTasklet;
-    private final UrlMetricsUpdateTasklet urlMetricsUpdateTasklet;
+    private final AggregateStatisticsUseCase aggregateStatisticsUseCase;
+    private final AggregationPartitionProperties partitionProperties;
+    private final CooperativePartitionTasklet cooperativePartitionTasklet;
+    private final Clock clock;
 
     @Bean
     public Job statisticsAggregationJob() {
         return new JobBuilder("statisticsAggregationJob", jobRepository)
                 .start(aggregateRedisStatisticsStep())
-                .next(updateUrlStatisticsStep())
                 .build();
     }
 
+    /**
+     * 코드 해시 파티션별 워커 스텝을 제한된 스레드 풀에서 병렬 실행
+     */
     @Bean
     public Step aggregateRedisStatisticsStep() {
         return new StepBuilder("aggregateRedisStatisticsStep", jobRepository)
-                .tasklet(statisticsAggregationTasklet, transactionManager)
+                .partitioner("aggregateRedisStatisticsWorkerStep", codeHashPartitioner(null))
+                .step(aggregateRedisStatisticsWorkerStep())
+                .gridSize(partitionProperties.getPartitionCount())
+                .taskExecutor(statisticsPartitionTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    public Step aggregateRedisStatisticsWorkerStep() {
+        // DB 반영이 커밋된 뒤에 Redis 워터마크를 확정해야 하므로 청크를 바깥 트랜잭션으로 감싸지 않음
+        return new StepBuilder("aggregateRedisStatisticsWorkerStep", jobRepository)
+                .<String, String>chunk(partitionProperties.getCommitInterval(), new ResourcelessTransactionManager())
+                .reader(accessKeyPartitionReader(null, null, null))
+                .writer(statisticsAggregationWriter(null))
+                .build();
+    }
+
+    /**
+     * 여러 배치 인스턴스가 Redis 파티션 큐를 나눠 처리하는 협력 모드 Job
+     * 인스턴스 안에서는 로컬 워커 스레드 수만큼 큐를 동시에 소비
+     */
+    @Bean
+    public Job cooperativeStatisticsAggregationJob() {
+        return new JobBuilder("cooperativeStatisticsAggregationJob", jobRepository)
+                .start(cooperativeAggregationStep())
+                .build();
+    }
+
+    @Bean
+    public Step cooperativeAggregationStep() {
+        return new StepBuilder("cooperativeAggregationStep", jobRepository)
+                .partitioner("cooperativeAggregationWorkerStep", new SimplePartitioner())
+                .step(cooperativeAggregationWorkerStep())
+                .gridSize(Math.max(1, partitionProperties.getConcurrency()))
+                .taskExecutor(statisticsPartitionTaskExecutor())
                 .build();
     }
 
     @Bean
-    public Step updateUrlStatisticsStep() {
-        return new StepBuilder("updateUrlStatisticsStep", jobRepository)
-                .tasklet(urlMetricsUpdateTasklet, transactionManager)
+    public Step cooperativeAggregationWorkerStep() {
+        // 파티션 처리 중 DB 반영은 청크마다 자체 트랜잭션으로 커밋되므로 스텝 전체를 하나의 트랜잭션으로 묶지 않음
+        return new StepBuilder("cooperativeAggregationWorkerStep", jobRepository)
+                .tasklet(cooperativePartitionTasklet, new ResourcelessTransactionManager())
                 .build();
     }
-}
\ No newline at end of file
+
+    @Bean
+    @StepScope
+    public CodeHashPartitioner codeHashPartitioner(@Value("#{jobParameters['targetDate']}") String targetDate) {
+        // Job Parameters에서 targetDate 추출, 없으면 app.time-zone 기준 현재 날짜 사용
+        return new CodeHashPartitioner(TargetDateParser.parse(targetDate, clock));
+    }
+
+    @Bean
+    @StepScope
+    public ListItemReader<String> accessKeyPartitionReader(
+            @Value("#{stepExecutionContext['targetDate']}") String targetDate,
+            @Value("#{stepExecutionContext['partitionIndex']}") Integer partitionIndex,
+            @Value("#{stepExecutionContext['partitionCount']}") Integer partitionCount) {
+        LocalDate date = LocalDate.parse(targetDate);
+        return new ListItemReader<>(aggregateStatisticsUseCase.findAccessKeys(date, partitionIndex, partitionCount));
+    }
+
+    @Bean
+    @StepScope
+    public ItemWriter<String> statisticsAggregationWriter(
+            @Value("#{stepExecutionContext['targetDate']}") String targetDate) {
+        LocalDate date = LocalDate.parse(targetDate);
+        return chunk -> aggregateStatisticsUseCase.aggregateStatistics(date, new ArrayList<>(chunk.getItems()));
+    }
+
+    /**
+     * 파티션 워커 전용 스레드 풀 (코어 수 기준, 대기열은 파티션 수만큼만 허용)
+     */
+    @Bean
+    public TaskExecutor statisticsPartitionTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        int concurrency = Math.max(1, partitionProperties.getConcurrency());
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(Math.max(1, partitionProperties.getPartitionCount()));
+        executor.setThreadNamePrefix("stats-partition-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
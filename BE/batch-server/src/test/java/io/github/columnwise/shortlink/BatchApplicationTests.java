@@ -0,0 +1,30 @@
+package io.github.columnwise.shortlink;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.Job;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BatchApplicationTests {
+    
+    @Autowired
+    private Map<String, Job> jobs;
+    
+    @Test
+    void contextLoads() {
+        // Step 스코프 빈과 Job 구성이 모두 컨텍스트에 올라오는지 확인
+        assertThat(jobs).containsKeys(
+                "statisticsAggregationJob",
+                "cooperativeStatisticsAggregationJob",
+                "expiredCleanupJob",
+                "legacyKeyCompactionJob",
+                "linkImportJob");
+    }
+}
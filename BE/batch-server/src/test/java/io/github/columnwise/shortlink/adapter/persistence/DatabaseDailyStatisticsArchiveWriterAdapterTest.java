@@ -0,0 +1,52 @@
+package io.github.columnwise.shortlink.adapter.persistence;
+
+import io.github.columnwise.shortlink.application.port.out.DailyStatisticsArchiveWriter.DailySnapshot;
+import io.github.columnwise.shortlink.domain.model.DailyUrlStatisticsEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(DatabaseDailyStatisticsArchiveWriterAdapter.class)
+class DatabaseDailyStatisticsArchiveWriterAdapterTest {
+    
+    private static final LocalDate DAY = LocalDate.of(2024, 1, 1);
+    
+    @Autowired
+    private DatabaseDailyStatisticsArchiveWriterAdapter writer;
+    
+    @Autowired
+    private SpringDataDailyUrlStatisticsRepository repository;
+    
+    @Test
+    @DisplayName("청크의 스냅샷을 한 번에 넣고, 같은 (code, date)는 다시 기록하면 덮어씀")
+    void saveDailySnapshots_InsertsAndOverwrites() {
+        // Given
+        writer.saveDailySnapshots(List.of(
+                new DailySnapshot("abc123", DAY, 10, 4),
+                new DailySnapshot("abcdefghij123456", DAY, 7, 2)));
+        
+        // When
+        writer.saveDailySnapshots(List.of(
+                new DailySnapshot("abc123", DAY, 12, 5),
+                new DailySnapshot("abc123", DAY.plusDays(1), 3, 1)));
+        
+        // Then
+        DailyUrlStatisticsEntity overwritten = repository.findByCodeAndStatDate("abc123", DAY).orElseThrow();
+        assertThat(overwritten.getAccessCount()).isEqualTo(12);
+        assertThat(overwritten.getUniqueVisitors()).isEqualTo(5);
+        assertThat(repository.findByCodeAndStatDate("abcdefghij123456", DAY).orElseThrow().getAccessCount())
+                .isEqualTo(7);
+        assertThat(repository.findByCodeAndStatDate("abc123", DAY.plusDays(1))).isPresent();
+        assertThat(repository.count()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.columnwise.shortlink.adapter.persistence;
+
+import io.github.columnwise.shortlink.domain.model.UrlMetricsDelta;
+import io.github.columnwise.shortlink.domain.model.UrlStatisticsEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(DatabaseUrlMetricsWriterAdapter.class)
+class DatabaseUrlMetricsWriterAdapterTest {
+    
+    private static final long ACCESSED_AT = Instant.parse("2024-01-01T12:00:00Z").toEpochMilli();
+    
+    @Autowired
+    private DatabaseUrlMetricsWriterAdapter writer;
+    
+    @Autowired
+    private SpringDataUrlStatisticsRepository repository;
+    
+    @Test
+    @DisplayName("없는 코드는 새 행으로 넣고, 앞 10자가 같은 긴 코드도 서로 다른 행으로 저장")
+    void applyDeltas_InsertsLongCodesAsSeparateRows() {
+        // When
+        writer.applyDeltas(List.of(
+                new UrlMetricsDelta("abcdefghij1", 3, ACCESSED_AT),
+                new UrlMetricsDelta("abcdefghij123456", 5, ACCESSED_AT)));
+        
+        // Then
+        UrlStatisticsEntity first = repository.findByCode("abcdefghij1").orElseThrow();
+        assertThat(first.getTotalAccessCount()).isEqualTo(3);
+        assertThat(first.getLastAccessedAt()).isEqualTo(Instant.ofEpochMilli(ACCESSED_AT));
+        assertThat(repository.findByCode("abcdefghij123456").orElseThrow().getTotalAccessCount()).isEqualTo(5);
+        assertThat(repository.count()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("있는 코드는 접근 수를 더하고 마지막 접근 시각은 더 최근 값만 반영")
+    void applyDeltas_IncrementsExistingRow() {
+        // Given
+        writer.applyDeltas(List.of(new UrlMetricsDelta("abc123", 3, ACCESSED_AT)));
+        
+        // When
+        writer.applyDeltas(List.of(new UrlMetricsDelta("abc123", 4, ACCESSED_AT - 60_000)));
+        writer.applyDeltas(List.of(new UrlMetricsDelta("abc123", 1, ACCESSED_AT + 60_000)));
+        
+        // Then
+        UrlStatisticsEntity statistics = repository.findByCode("abc123").orElseThrow();
+        assertThat(statistics.getTotalAccessCount()).isEqualTo(8);
+        assertThat(statistics.getLastAccessedAt()).isEqualTo(Instant.ofEpochMilli(ACCESSED_AT + 60_000));
+    }
+    
+    @Test
+    @DisplayName("마지막 접근 시각이 null이면 접근 수만 더하고 기존 시각은 유지")
+    void applyDeltas_NullLastAccessTime_KeepsExistingTime() {
+        // Given
+        writer.applyDeltas(List.of(new UrlMetricsDelta("abc123", 3, ACCESSED_AT)));
+        
+        // When
+        writer.applyDeltas(List.of(
+                new UrlMetricsDelta("abc123", 2, null),
+                new UrlMetricsDelta("xyz789", 1, null)));
+        
+        // Then
+        UrlStatisticsEntity existing = repository.findByCode("abc123").orElseThrow();
+        assertThat(existing.getTotalAccessCount()).isEqualTo(5);
+        assertThat(existing.getLastAccessedAt()).isEqualTo(Instant.ofEpochMilli(ACCESSED_AT));
+        UrlStatisticsEntity created = repository.findByCode("xyz789").orElseThrow();
+        assertThat(created.getTotalAccessCount()).isEqualTo(1);
+        assertThat(created.getLastAccessedAt()).isNull();
+    }
+}
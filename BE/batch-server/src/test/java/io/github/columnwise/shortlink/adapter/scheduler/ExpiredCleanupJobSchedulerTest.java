@@ -0,0 +1,75 @@
+package io.github.columnwise.shortlink.adapter.scheduler;
+
+import io.github.columnwise.shortlink.adapter.batch.ExpiredCleanupTasklet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.launch.JobLauncher;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExpiredCleanupJobSchedulerTest {
+    
+    private static final Instant NOW = Instant.parse("2024-01-01T03:30:00Z");
+    private static final String LOCK_KEY = "batch:lock:expired-cleanup:{2024-01-01}";
+    
+    @Mock
+    private JobLauncher jobLauncher;
+    
+    @Mock
+    private Job expiredCleanupJob;
+    
+    @Mock
+    private BatchJobLock batchJobLock;
+    
+    private ExpiredCleanupJobScheduler scheduler;
+    
+    @BeforeEach
+    void setUp() {
+        scheduler = new ExpiredCleanupJobScheduler(jobLauncher, expiredCleanupJob, batchJobLock,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+    
+    @Test
+    @DisplayName("락을 잡은 인스턴스만 실행 시각을 기준 시각으로 잡을 실행")
+    void runExpiredCleanup_LockAcquired_LaunchesJob() throws Exception {
+        // Given
+        when(batchJobLock.tryAcquire(eq(LOCK_KEY), any(Duration.class))).thenReturn(true);
+        
+        // When
+        scheduler.runExpiredCleanup();
+        
+        // Then
+        ArgumentCaptor<JobParameters> parameters = ArgumentCaptor.forClass(JobParameters.class);
+        verify(jobLauncher).run(eq(expiredCleanupJob), parameters.capture());
+        assertThat(parameters.getValue().getLong(ExpiredCleanupTasklet.CUTOFF)).isEqualTo(NOW.toEpochMilli());
+        verify(batchJobLock, never()).release(anyString());
+    }
+    
+    @Test
+    @DisplayName("다른 인스턴스가 락을 잡고 있으면 실행하지 않음")
+    void runExpiredCleanup_LockHeldElsewhere_Skips() {
+        // Given
+        when(batchJobLock.tryAcquire(eq(LOCK_KEY), any(Duration.class))).thenReturn(false);
+        
+        // When
+        scheduler.runExpiredCleanup();
+        
+        // Then
+        verifyNoInteractions(jobLauncher);
+    }
+}
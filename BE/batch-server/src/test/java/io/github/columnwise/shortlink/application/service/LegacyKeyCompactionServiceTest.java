@@ -0,0 +1,84 @@
+package io.github.columnwise.shortlink.application.service;
+
+import io.github.columnwise.shortlink.application.port.in.CompactLegacyKeysUseCase.CompactionResult;
+import io.github.columnwise.shortlink.application.port.out.LegacyAccessKeyStore;
+import io.github.columnwise.shortlink.application.port.out.LegacyAccessKeyStore.DailyCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LegacyKeyCompactionServiceTest {
+    
+    private static final Duration RETENTION = Duration.ofDays(7);
+    
+    @Mock
+    private LegacyAccessKeyStore legacyAccessKeyStore;
+    
+    private LegacyKeyCompactionService service;
+    
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2024-01-02T00:00:00Z"), ZoneOffset.UTC);
+        service = new LegacyKeyCompactionService(legacyAccessKeyStore, clock);
+    }
+    
+    @Test
+    @DisplayName("읽으면서 지운 값만 코드/일자별로 합쳐 일자 해시에 더하고 형식을 모르는 키는 건드리지 않음")
+    void compact_FoldsTakenValuesIntoDailyCounters() {
+        // Given
+        String dated = "url:access:count:{2024-01-01}:abc123";
+        String perClick = "url:access:count:{abc123}:1704110400";
+        String vanished = "url:access:count:{2024-01-01}:xyz789";
+        String unknown = "url:access:count:garbage";
+        doAnswer(invocation -> {
+            Consumer<List<String>> consumer = invocation.getArgument(2);
+            consumer.accept(List.of(dated, perClick, vanished, unknown));
+            return null;
+        }).when(legacyAccessKeyStore).scan(anyInt(), anyInt(), any());
+        when(legacyAccessKeyStore.takeValues(anyList())).thenReturn(Map.of(dated, "4", perClick, "1"));
+        
+        // When
+        CompactionResult result = service.compact(1000, 500, 0, RETENTION);
+        
+        // Then
+        ArgumentCaptor<List<String>> taken = ArgumentCaptor.forClass(List.class);
+        verify(legacyAccessKeyStore).takeValues(taken.capture());
+        assertThat(taken.getValue()).containsExactlyInAnyOrder(dated, perClick, vanished);
+        verify(legacyAccessKeyStore).addToDailyCounters(
+                List.of(new DailyCount("abc123", LocalDate.of(2024, 1, 1), 5L)), RETENTION);
+        assertThat(result).isEqualTo(new CompactionResult(4, 2, 1, 5));
+    }
+    
+    @Test
+    @DisplayName("형식을 알 수 있는 키 형태만 파싱하고 타임스탬프는 설정 시간대의 일자로 나눔")
+    void parse_SupportsDatedAndPerClickKeys() {
+        assertThat(LegacyKeyCompactionService.parse("url:access:count:{2024-01-01}:abc123", ZoneOffset.UTC))
+                .isEqualTo(new LegacyKeyCompactionService.LegacyKey("abc123", LocalDate.of(2024, 1, 1)));
+        // 2024-01-01T16:00:00Z는 서울 기준으로 다음 날
+        assertThat(LegacyKeyCompactionService.parse("url:access:count:{abc123}:1704124800", ZoneOffset.UTC))
+                .isEqualTo(new LegacyKeyCompactionService.LegacyKey("abc123", LocalDate.of(2024, 1, 1)));
+        assertThat(LegacyKeyCompactionService.parse("url:access:count:{abc123}:1704124800", ZoneId.of("Asia/Seoul")))
+                .isEqualTo(new LegacyKeyCompactionService.LegacyKey("abc123", LocalDate.of(2024, 1, 2)));
+        assertThat(LegacyKeyCompactionService.parse("url:access:count:{abc123}:not-a-timestamp", ZoneOffset.UTC)).isNull();
+        assertThat(LegacyKeyCompactionService.parse("hitcount:abc123", ZoneOffset.UTC)).isNull();
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.columnwise.shortlink.application.service;
+
+import io.github.columnwise.shortlink.application.port.out.ShortUrlImportRepository;
+import io.github.columnwise.shortlink.domain.model.ShortUrl;
+import io.github.columnwise.shortlink.util.LinkImportReader.Entry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LinkImportServiceTest {
+    
+    private static final String LONG_URL = "https://example.com/page";
+    
+    @Mock
+    private ShortUrlImportRepository shortUrlImportRepository;
+    
+    @InjectMocks
+    private LinkImportService service;
+    
+    @Test
+    @DisplayName("생성한 코드가 INSERT 시점에 충돌하면 salt를 바꾼 코드로 다시 저장")
+    void importLinks_GeneratedCodeConflictsOnInsert_RetriesWithSaltedCode() {
+        when(shortUrlImportRepository.findCodesByLongUrls(anyCollection())).thenReturn(Map.of());
+        // 재확인 시에는 먼저 저장된 코드가 보이므로 처음 만든 코드가 사용 중으로 조회됨
+        when(shortUrlImportRepository.findExistingCodes(anyCollection()))
+                .thenReturn(Set.of())
+                .thenAnswer(invocation -> new HashSet<>(invocation.<Collection<String>>getArgument(0)))
+                .thenReturn(Set.of());
+        doThrow(new DataIntegrityViolationException("duplicate code"))
+                .doNothing()
+                .when(shortUrlImportRepository).insertAll(anyList());
+        
+        int imported = service.importLinks(List.of(new Entry(1, LONG_URL, null)));
+        
+        assertThat(imported).isEqualTo(1);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ShortUrl>> captor = ArgumentCaptor.forClass(List.class);
+        verify(shortUrlImportRepository, times(2)).insertAll(captor.capture());
+        String firstCode = captor.getAllValues().get(0).get(0).code();
+        String retriedCode = captor.getAllValues().get(1).get(0).code();
+        assertThat(retriedCode).isNotEqualTo(firstCode);
+    }
+    
+    @Test
+    @DisplayName("재시도 전에 같은 URL이 저장되었으면 다시 저장하지 않음")
+    void importLinks_UrlStoredConcurrently_SkipsRetry() {
+        when(shortUrlImportRepository.findCodesByLongUrls(anyCollection()))
+                .thenReturn(Map.of())
+                .thenReturn(Map.of(LONG_URL, "abc123"));
+        when(shortUrlImportRepository.findExistingCodes(anyCollection())).thenReturn(Set.of());
+        doThrow(new DataIntegrityViolationException("duplicate url"))
+                .when(shortUrlImportRepository).insertAll(anyList());
+        
+        int imported = service.importLinks(List.of(new Entry(1, LONG_URL, null)));
+        
+        assertThat(imported).isZero();
+        verify(shortUrlImportRepository, times(1)).insertAll(anyList());
+    }
+    
+    @Test
+    @DisplayName("여러 건을 저장하다 충돌하면 청크를 한 건씩 다시 처리하도록 예외를 그대로 던짐")
+    void importLinks_ChunkConflicts_Rethrows() {
+        when(shortUrlImportRepository.findCodesByLongUrls(anyCollection())).thenReturn(Map.of());
+        when(shortUrlImportRepository.findExistingCodes(anyCollection())).thenReturn(Set.of());
+        doThrow(new DataIntegrityViolationException("duplicate code"))
+                .when(shortUrlImportRepository).insertAll(anyList());
+        
+        assertThatThrownBy(() -> service.importLinks(List.of(
+                new Entry(1, LONG_URL, null),
+                new Entry(2, "https://example.com/other", null))))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        verify(shortUrlImportRepository, times(1)).insertAll(anyList());
+    }
+}
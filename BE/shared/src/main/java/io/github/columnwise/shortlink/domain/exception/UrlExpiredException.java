@@ -0,0 +1,10 @@
+package io.github.columnwise.shortlink.domain.exception;
+
+/**
+ * 만료된 단축 URL 요청, 정리 배치가 삭제하기 전까지 반복해서 들어올 수 있으므로 스택 트레이스를 만들지 않음
+ */
+public class UrlExpiredException extends RuntimeException {
+	public UrlExpiredException(String message) {
+		super(message, null, false, false);
+	}
+}
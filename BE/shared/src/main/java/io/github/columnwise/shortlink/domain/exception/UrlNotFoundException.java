@@ -1,7 +1,10 @@
 package io.github.columnwise.shortlink.domain.exception;
 
+/**
+ * 존재하지 않는 코드 요청은 스캐너/봇에 의해 대량으로 발생하므로 스택 트레이스를 만들지 않음
+ */
 public class UrlNotFoundException extends RuntimeException {
 	public UrlNotFoundException(String message) {
-		super(message);
+		super(message, null, false, false);
 	}
 }
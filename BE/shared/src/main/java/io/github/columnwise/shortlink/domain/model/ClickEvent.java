@@ -0,0 +1,72 @@
+package io.github.columnwise.shortlink.domain.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 클릭 이벤트 스트림(Redis Streams)에 기록되는 방문 한 건
+ * API 서버가 발행하고 배치 서버 컨슈머 그룹이 읽어 집계하므로 필드 이름을 이 클래스에서만 정의
+ *
+ * @param code 단축 코드
+ * @param timestamp 방문 시각 (epoch ms)
+ * @param ipHash 클라이언트 IP 해시, 없으면 null
+ * @param userAgentId User-Agent 해시, 없으면 null
+ * @param referrer 리퍼러 호스트, 없으면 null
+ */
+public record ClickEvent(
+        String code,
+        long timestamp,
+        String ipHash,
+        String userAgentId,
+        String referrer
+) {
+    
+    public static final String FIELD_CODE = "c";
+    public static final String FIELD_TIMESTAMP = "t";
+    public static final String FIELD_IP_HASH = "i";
+    public static final String FIELD_USER_AGENT_ID = "u";
+    public static final String FIELD_REFERRER = "r";
+    
+    /**
+     * 스트림 엔트리 필드로 변환 (null 필드는 기록하지 않음)
+     */
+    public Map<String, String> toFields() {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(FIELD_CODE, code);
+        fields.put(FIELD_TIMESTAMP, Long.toString(timestamp));
+        if (ipHash != null) {
+            fields.put(FIELD_IP_HASH, ipHash);
+        }
+        if (userAgentId != null) {
+            fields.put(FIELD_USER_AGENT_ID, userAgentId);
+        }
+        if (referrer != null) {
+            fields.put(FIELD_REFERRER, referrer);
+        }
+        return fields;
+    }
+    
+    /**
+     * 스트림 엔트리 필드에서 복원
+     *
+     * @throws IllegalArgumentException 코드나 시각이 없거나 형식이 잘못된 경우
+     */
+    public static ClickEvent fromFields(Map<?, ?> fields) {
+        Object code = fields.get(FIELD_CODE);
+        Object timestamp = fields.get(FIELD_TIMESTAMP);
+        if (code == null || code.toString().isEmpty() || timestamp == null) {
+            throw new IllegalArgumentException("Click event requires code and timestamp: " + fields);
+        }
+        try {
+            return new ClickEvent(code.toString(), Long.parseLong(timestamp.toString()),
+                    asString(fields.get(FIELD_IP_HASH)), asString(fields.get(FIELD_USER_AGENT_ID)),
+                    asString(fields.get(FIELD_REFERRER)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid click event timestamp: " + timestamp, e);
+        }
+    }
+    
+    private static String asString(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
@@ -17,7 +17,7 @@ public record DailyStatistics(
         @Schema(description = "접속 횟수", example = "25")
         long accessCount,
         
-        @Schema(description = "고유 방문자 수 (개략적)", example = "18")
+        @Schema(description = "고유 방문자 수 (HyperLogLog 추정치)", example = "18")
         long uniqueVisitors
 ) {
 }
\ No newline at end of file
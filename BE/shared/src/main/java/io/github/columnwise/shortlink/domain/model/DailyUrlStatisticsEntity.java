@@ -0,0 +1,62 @@
+package io.github.columnwise.shortlink.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 마감된 날짜의 코드별 일일 통계 스냅샷
+ * 배치가 날짜가 지난 뒤 한 번 기록하며, (code, stat_date) 복합 인덱스로 기간 조회를 한 번에 처리
+ */
+@Entity
+@Table(
+        name = "daily_url_statistics",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_url_statistics_code_date", columnNames = {"code", "stat_date"})
+)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyUrlStatisticsEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false, length = 16)
+    private String code;
+    
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+    
+    @Column(nullable = false)
+    @Builder.Default
+    private Long accessCount = 0L;
+    
+    @Column(nullable = false)
+    @Builder.Default
+    private Long uniqueVisitors = 0L;
+    
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+    
+    @Column(nullable = false)
+    private Instant updatedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        Instant now = Instant.now();
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = Instant.now();
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.columnwise.shortlink.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * 기간 고유 방문자 수
+ * 일별 HyperLogLog는 보관 기간 동안만 남으므로 요청 기간이 그보다 길면 startDate를 보관 기간 첫날로 좁히고 truncated를 true로 둠
+ */
+public record UniqueVisitorCount(
+        LocalDate startDate,
+        LocalDate endDate,
+        long uniqueVisitors,
+        boolean truncated
+) {
+}
@@ -0,0 +1,15 @@
+package io.github.columnwise.shortlink.domain.model;
+
+/**
+ * 배치 집계 한 번에서 코드별로 누적 통계에 반영할 변화량
+ *
+ * @param code 단축 코드
+ * @param increment 총 접근 횟수 증가분
+ * @param lastAccessTime 마지막 접근 시각 (epoch ms), 갱신하지 않으면 null
+ */
+public record UrlMetricsDelta(
+        String code,
+        long increment,
+        Long lastAccessTime
+) {
+}
@@ -20,7 +20,7 @@ public class UrlStatisticsEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
-    @Column(unique = true, nullable = false, length = 10)
+    @Column(unique = true, nullable = false, length = 16)
     private String code;
     
     @Column(nullable = false)
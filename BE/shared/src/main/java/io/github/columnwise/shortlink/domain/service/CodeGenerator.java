@@ -2,4 +2,12 @@ package io.github.columnwise.shortlink.domain.service;
 
 public interface CodeGenerator {
 	String generate(String longUrl);
+
+	/**
+	 * 호출마다 서로 다른 코드를 보장하는지 여부
+	 * true이면 생성 측에서 저장 전 중복 확인을 생략할 수 있음
+	 */
+	default boolean guaranteesUniqueness() {
+		return false;
+	}
 }
@@ -0,0 +1,61 @@
+package io.github.columnwise.shortlink.domain.service;
+
+import io.github.columnwise.shortlink.util.Base62;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 입력의 SHA-256 해시를 Base62로 변환해 6~10자리 코드를 만드는 생성기
+ * 같은 입력은 항상 같은 코드가 되므로 충돌 시 호출자가 입력에 salt를 붙여 다시 생성해야 함
+ * API 서버의 기본 생성 전략과 배치 서버의 링크 가져오기가 같은 코드 형식을 쓰도록 공유
+ */
+public class HashCodeGenerator implements CodeGenerator {
+    
+    private static final int DIGEST_LENGTH = 32;
+    // 256비트 값은 Base62로 최대 43자리
+    private static final int ENCODED_DIGEST_LENGTH = 43;
+    private static final int MIN_LENGTH = 6;
+    private static final int MAX_LENGTH = 10;
+    
+    // MessageDigest는 스레드 안전하지 않으므로 요청마다 새로 만들지 않고 스레드별로 재사용
+    private static final ThreadLocal<Workspace> WORKSPACE = ThreadLocal.withInitial(Workspace::new);
+    
+    @Override
+    public String generate(String longUrl) {
+        Workspace workspace = WORKSPACE.get();
+        
+        // URL을 SHA-256 해시로 변환
+        workspace.digest.update(longUrl.getBytes(StandardCharsets.UTF_8));
+        try {
+            workspace.digest.digest(workspace.hash, 0, DIGEST_LENGTH);
+        } catch (DigestException e) {
+            throw new IllegalStateException("Failed to compute SHA-256 digest", e);
+        }
+        
+        // 해시를 부호 없는 정수로 보고 Base62로 변환한 뒤 앞 10자리 사용 (최소 6자리로 패딩)
+        char[] chars = workspace.chars;
+        int start = Base62.encodeTo(workspace.hash, chars);
+        int length = chars.length - start;
+        if (length < MIN_LENGTH) {
+            return "0".repeat(MIN_LENGTH - length) + new String(chars, start, length);
+        }
+        return new String(chars, start, Math.min(length, MAX_LENGTH));
+    }
+    
+    private static final class Workspace {
+        private final MessageDigest digest;
+        private final byte[] hash = new byte[DIGEST_LENGTH];
+        private final char[] chars = new char[ENCODED_DIGEST_LENGTH];
+        
+        private Workspace() {
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 algorithm not available", e);
+            }
+        }
+    }
+}
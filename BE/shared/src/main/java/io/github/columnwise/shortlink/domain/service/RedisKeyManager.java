@@ -15,15 +15,36 @@ public class RedisKeyManager {
     private static final String TOTAL_ACCESS_KEY_TEMPLATE = "url:total:access:{%s}:%s";
     private static final String LAST_ACCESS_KEY_TEMPLATE = "url:last:access:{%s}:%s";
     
+    // 코드별 일자 방문 수 해시 (field: yyyy-MM-dd), 기간 조회를 HMGET 한 번으로 처리
+    private static final String DAILY_ACCESS_HASH_KEY_TEMPLATE = "url:access:daily:{%s}";
+    
+    // 배치가 일자별로 어디까지 집계했는지 기록하는 워터마크 해시 (일자 해시와 같은 슬롯)
+    private static final String AGGREGATED_ACCESS_HASH_KEY_TEMPLATE = "url:access:aggregated:{%s}";
+    
+    // 고유 방문자 HyperLogLog, 기간 합산(다중 키 PFCOUNT)을 위해 같은 코드의 키를 같은 슬롯에 배치
+    private static final String UNIQUE_VISITORS_KEY_TEMPLATE = "url:unique:visitors:{%s}:%s";
+    
     // 키 목록 관리를 위한 SET
     private static final String ACCESS_CODES_SET_TEMPLATE = "url:access:codes:{%s}";
     private static final String DAILY_CODES_SET_TEMPLATE = "url:daily:codes:{%s}";
     
     // 분산 락
     private static final String BATCH_LOCK_KEY_TEMPLATE = "batch:lock:aggregation:{%s}";
-    private static final String PROCESSED_MARKER_TEMPLATE = "batch:processed:{%s}:%s";
+    private static final String JOB_LOCK_KEY_TEMPLATE = "batch:lock:%s:{%s}";
     private static final String PROCESSING_MARKER_TEMPLATE = "batch:processing:{%s}:%s";
     
+    // 여러 배치 인스턴스가 나눠 가지는 파티션 작업 큐 (Lua 스크립트가 한 슬롯에서 실행되도록 실행 ID를 Hash Tag로 사용)
+    private static final String PARTITION_QUEUE_KEY_TEMPLATE = "batch:partition:{%s}:%s";
+    
+    // 클릭 이벤트 스트림, 샤드마다 다른 슬롯에 배치되도록 샤드 번호를 Hash Tag로 사용
+    private static final String CLICK_STREAM_KEY_TEMPLATE = "click:events:{%d}";
+    
+    // Snowflake 워커 ID 임대, 값은 임대한 인스턴스의 토큰
+    private static final String SNOWFLAKE_WORKER_KEY_TEMPLATE = "id:snowflake:worker:%d";
+    
+    // 순차 ID 블록 임대 카운터 (INCRBY로 블록 끝 값을 받음)
+    private static final String ID_BLOCK_COUNTER_KEY = "id:block:counter";
+    
     public static String getAccessCountKey(String code, LocalDate date) {
         String dateKey = date.format(DateTimeFormatter.ISO_LOCAL_DATE);
         return String.format(ACCESS_COUNT_KEY_TEMPLATE, dateKey, code);
@@ -44,6 +65,19 @@ public class RedisKeyManager {
         return String.format(LAST_ACCESS_KEY_TEMPLATE, dateKey, code);
     }
     
+    public static String getDailyAccessHashKey(String code) {
+        return String.format(DAILY_ACCESS_HASH_KEY_TEMPLATE, code);
+    }
+    
+    public static String getAggregatedAccessHashKey(String code) {
+        return String.format(AGGREGATED_ACCESS_HASH_KEY_TEMPLATE, code);
+    }
+    
+    public static String getUniqueVisitorsKey(String code, LocalDate date) {
+        String dateKey = date.format(DateTimeFormatter.ISO_LOCAL_DATE);
+        return String.format(UNIQUE_VISITORS_KEY_TEMPLATE, code, dateKey);
+    }
+    
     public static String getAccessCodesSetKey(LocalDate date) {
         String dateKey = date.format(DateTimeFormatter.ISO_LOCAL_DATE);
         return String.format(ACCESS_CODES_SET_TEMPLATE, dateKey);
@@ -59,9 +93,9 @@ public class RedisKeyManager {
         return String.format(BATCH_LOCK_KEY_TEMPLATE, dateKey);
     }
     
-    public static String getProcessedMarkerKey(String code, LocalDate date) {
+    public static String getJobLockKey(String jobName, LocalDate date) {
         String dateKey = date.format(DateTimeFormatter.ISO_LOCAL_DATE);
-        return String.format(PROCESSED_MARKER_TEMPLATE, dateKey, code);
+        return String.format(JOB_LOCK_KEY_TEMPLATE, jobName, dateKey);
     }
     
     public static String getProcessingMarkerKey(String code, LocalDate date) {
@@ -69,6 +103,29 @@ public class RedisKeyManager {
         return String.format(PROCESSING_MARKER_TEMPLATE, dateKey, code);
     }
     
+    public static String getPartitionQueueKey(String runId, String part) {
+        return String.format(PARTITION_QUEUE_KEY_TEMPLATE, runId, part);
+    }
+    
+    public static String getClickStreamKey(int shard) {
+        return String.format(CLICK_STREAM_KEY_TEMPLATE, shard);
+    }
+    
+    public static String getSnowflakeWorkerKey(int workerId) {
+        return String.format(SNOWFLAKE_WORKER_KEY_TEMPLATE, workerId);
+    }
+    
+    public static String getIdBlockCounterKey() {
+        return ID_BLOCK_COUNTER_KEY;
+    }
+    
+    /**
+     * 코드가 기록될 클릭 스트림 샤드 번호 (같은 코드는 항상 같은 샤드)
+     */
+    public static int getClickStreamShard(String code, int shardCount) {
+        return Math.floorMod(code.hashCode(), shardCount);
+    }
+    
     /**
      * Redis 키에서 코드를 추출하는 유틸리티 메소드
      * 다양한 키 형태를 지원하여 클러스터 및 단일 Redis 환경 모두 호환
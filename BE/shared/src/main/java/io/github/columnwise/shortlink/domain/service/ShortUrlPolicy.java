@@ -1,4 +1,44 @@
 package io.github.columnwise.shortlink.domain.service;
 
-public class ShortUrlPolicy {
+import java.time.Duration;
+import java.time.Instant;
+import java.util.regex.Pattern;
+
+/**
+ * 단축 URL 발급 규칙 (API 서버와 배치 서버가 공유)
+ */
+public final class ShortUrlPolicy {
+    
+    /**
+     * 발급된 단축 URL의 유효 기간
+     */
+    public static final Duration DEFAULT_TTL = Duration.ofDays(365);
+    
+    /**
+     * short_urls.code 컬럼 길이
+     */
+    public static final int MAX_CODE_LENGTH = 16;
+    
+    private static final Pattern CODE_PATTERN = Pattern.compile("[0-9A-Za-z]{1," + MAX_CODE_LENGTH + "}");
+    
+    private ShortUrlPolicy() {
+    }
+    
+    public static Instant expiresAt(Instant createdAt) {
+        return createdAt.plus(DEFAULT_TTL);
+    }
+    
+    /**
+     * 만료 시각이 지났는지 확인 (만료 시각이 없는 URL은 만료되지 않음)
+     */
+    public static boolean isExpired(Instant expiresAt, Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+    
+    /**
+     * 외부에서 주어진 코드(가져오기의 기존 코드 등)가 Base62 문자로만 이루어져 있고 컬럼에 들어가는지 확인
+     */
+    public static boolean isValidCode(String code) {
+        return code != null && CODE_PATTERN.matcher(code).matches();
+    }
 }
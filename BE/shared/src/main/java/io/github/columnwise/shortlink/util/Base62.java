@@ -0,0 +1,165 @@
+package io.github.columnwise.shortlink.util;
+
+import java.util.Arrays;
+
+/**
+ * 음이 아닌 정수를 Base62 문자열로 변환
+ * 문자 순서는 0-9, A-Z, a-z이며 encode(long)은 앞자리 0을 채우지 않으므로 값과 문자열이 일대일로 대응
+ * encodeTo/decodeTo는 호출자가 넘긴 버퍼에 직접 쓰므로 결과 String 외에는 할당하지 않음
+ */
+public final class Base62 {
+    
+    private static final char[] ALPHABET =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final int BASE = ALPHABET.length;
+    // Long.MAX_VALUE는 Base62로 11자리
+    private static final int MAX_LONG_LENGTH = 11;
+    
+    // 바이트 배열 나눗셈 한 번에 5자리씩 (62^5 < 2^30이라 나머지 * 256이 long에 들어감)
+    private static final int CHUNK_DIGITS = 5;
+    private static final long CHUNK = 916_132_832L;
+    
+    private static final byte[] DIGITS = new byte[128];
+    
+    static {
+        Arrays.fill(DIGITS, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            DIGITS[ALPHABET[i]] = (byte) i;
+        }
+    }
+    
+    private Base62() {
+    }
+    
+    public static String encode(long value) {
+        char[] chars = new char[MAX_LONG_LENGTH];
+        int start = encodeTo(value, chars, MAX_LONG_LENGTH);
+        return new String(chars, start, MAX_LONG_LENGTH - start);
+    }
+    
+    /**
+     * 정확히 length자리로 인코딩 (앞자리는 0으로 채움)
+     *
+     * @throws IllegalArgumentException 값이 length자리에 들어가지 않는 경우
+     */
+    public static String encode(long value, int length) {
+        if (length <= 0 || length > MAX_LONG_LENGTH) {
+            throw new IllegalArgumentException("Length must be between 1 and " + MAX_LONG_LENGTH + ": " + length);
+        }
+        char[] chars = new char[length];
+        int start = encodeTo(value, chars, length);
+        if (start < 0) {
+            throw new IllegalArgumentException("Value does not fit in " + length + " Base62 digits");
+        }
+        Arrays.fill(chars, 0, start, ALPHABET[0]);
+        return new String(chars);
+    }
+    
+    /**
+     * value를 buffer[.., end) 구간의 끝에서부터 채움
+     *
+     * @return 결과가 시작하는 위치, buffer에 다 들어가지 않으면 음수
+     */
+    public static int encodeTo(long value, char[] buffer, int end) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value must not be negative: " + value);
+        }
+        int position = end;
+        do {
+            if (position == 0) {
+                return -1;
+            }
+            buffer[--position] = ALPHABET[(int) (value % BASE)];
+            value /= BASE;
+        } while (value > 0);
+        return position;
+    }
+    
+    /**
+     * 부호 없는 빅엔디언 정수를 buffer의 끝에서부터 채움 (앞자리 0 없음)
+     * 계산 중에 magnitude를 나눗셈 몫으로 덮어쓰므로 호출 후 magnitude는 0이 됨
+     *
+     * @return 결과가 시작하는 위치
+     * @throws IllegalArgumentException buffer가 작은 경우 (32바이트는 43자리 필요)
+     */
+    public static int encodeTo(byte[] magnitude, char[] buffer) {
+        int position = buffer.length;
+        int first = firstNonZero(magnitude, 0);
+        while (first < magnitude.length) {
+            long remainder = 0;
+            for (int i = first; i < magnitude.length; i++) {
+                long current = (remainder << 8) | (magnitude[i] & 0xFF);
+                magnitude[i] = (byte) (current / CHUNK);
+                remainder = current % CHUNK;
+            }
+            first = firstNonZero(magnitude, first);
+            
+            // 몫이 남아 있으면 5자리를 모두 쓰고, 마지막 묶음은 앞자리 0을 쓰지 않음
+            boolean last = first == magnitude.length;
+            for (int d = 0; d < CHUNK_DIGITS && (!last || remainder > 0); d++) {
+                if (position == 0) {
+                    throw new IllegalArgumentException("Buffer is too small for the encoded value");
+                }
+                buffer[--position] = ALPHABET[(int) (remainder % BASE)];
+                remainder /= BASE;
+            }
+        }
+        if (position == buffer.length) {
+            buffer[--position] = ALPHABET[0];
+        }
+        return position;
+    }
+    
+    public static long decode(String encoded) {
+        if (encoded == null || encoded.isEmpty() || encoded.length() > MAX_LONG_LENGTH) {
+            throw new IllegalArgumentException("Invalid Base62 value: " + encoded);
+        }
+        long value = 0;
+        for (int i = 0; i < encoded.length(); i++) {
+            int digit = digit(encoded.charAt(i));
+            if (digit < 0 || value > (Long.MAX_VALUE - digit) / BASE) {
+                throw new IllegalArgumentException("Invalid Base62 value: " + encoded);
+            }
+            value = value * BASE + digit;
+        }
+        return value;
+    }
+    
+    /**
+     * Base62 문자열을 부호 없는 빅엔디언 정수로 magnitude에 채움 (앞쪽은 0)
+     *
+     * @throws IllegalArgumentException 잘못된 문자가 있거나 magnitude에 들어가지 않는 경우
+     */
+    public static void decodeTo(CharSequence encoded, byte[] magnitude) {
+        if (encoded == null || encoded.isEmpty()) {
+            throw new IllegalArgumentException("Invalid Base62 value: " + encoded);
+        }
+        Arrays.fill(magnitude, (byte) 0);
+        for (int i = 0; i < encoded.length(); i++) {
+            int carry = digit(encoded.charAt(i));
+            if (carry < 0) {
+                throw new IllegalArgumentException("Invalid Base62 value: " + encoded);
+            }
+            for (int j = magnitude.length - 1; j >= 0; j--) {
+                int current = (magnitude[j] & 0xFF) * BASE + carry;
+                magnitude[j] = (byte) current;
+                carry = current >>> 8;
+            }
+            if (carry != 0) {
+                throw new IllegalArgumentException("Base62 value does not fit in " + magnitude.length + " bytes");
+            }
+        }
+    }
+    
+    private static int digit(char c) {
+        return c < DIGITS.length ? DIGITS[c] : -1;
+    }
+    
+    private static int firstNonZero(byte[] magnitude, int from) {
+        int index = from;
+        while (index < magnitude.length && magnitude[index] == 0) {
+            index++;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,173 @@
+package io.github.columnwise.shortlink.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 링크 가져오기 파일을 한 줄씩 읽는 스트리밍 파서
+ * 한 번에 한 줄만 메모리에 두므로 입력 크기와 관계없이 메모리 사용량이 일정함
+ * 줄 번호를 체크포인트로 쓸 수 있도록 skip으로 앞부분을 건너뛰고 이어서 읽을 수 있음
+ *
+ * <ul>
+ *     <li>CSV: {@code long_url[,code]}, 첫 줄이 헤더이면 건너뜀, 큰따옴표로 감싼 필드 지원 (여러 줄 필드는 미지원)</li>
+ *     <li>NDJSON: 줄마다 {@code {"longUrl": "...", "code": "..."}}</li>
+ * </ul>
+ * 형식이 잘못된 줄은 예외 대신 longUrl이 null인 항목으로 반환하여 검증 단계에서 실패로 집계
+ */
+public class LinkImportReader implements Closeable {
+    
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    
+    public enum Format {
+        CSV, NDJSON;
+        
+        /**
+         * Content-Type 또는 파일 확장자로 형식 판별
+         */
+        public static Format detect(String contentTypeOrFileName) {
+            String value = contentTypeOrFileName == null ? "" : contentTypeOrFileName.toLowerCase(Locale.ROOT);
+            return value.contains("ndjson") || value.contains("json") ? NDJSON : CSV;
+        }
+    }
+    
+    /**
+     * 가져올 링크 한 건
+     *
+     * @param line 입력 파일에서의 줄 번호 (1부터 시작)
+     * @param longUrl 원본 URL, 줄을 해석하지 못하면 null
+     * @param code 유지할 기존 코드, 없으면 null (새로 생성)
+     */
+    public record Entry(long line, String longUrl, String code) {
+    }
+    
+    private final BufferedReader reader;
+    private final Format format;
+    private long line;
+    
+    public LinkImportReader(Reader reader, Format format) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.format = format;
+    }
+    
+    /**
+     * 앞의 lines줄을 해석하지 않고 건너뜀 (체크포인트에서 이어 읽기)
+     */
+    public void skip(long lines) {
+        try {
+            while (line < lines && reader.readLine() != null) {
+                line++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * 다음 항목, 입력이 끝나면 null (빈 줄과 CSV 헤더는 건너뜀)
+     */
+    public Entry next() {
+        try {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank() || (format == Format.CSV && line == 1 && isCsvHeader(text))) {
+                    continue;
+                }
+                return format == Format.CSV ? parseCsv(text) : parseJson(text);
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * 마지막으로 읽은 줄 번호 (다음 실행에서 skip에 넘기면 이어서 읽음)
+     */
+    public long line() {
+        return line;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+    
+    private Entry parseCsv(String text) {
+        List<String> fields = splitCsv(text);
+        if (fields == null || fields.isEmpty() || fields.size() > 2) {
+            return new Entry(line, null, null);
+        }
+        return new Entry(line, emptyToNull(fields.get(0)), fields.size() > 1 ? emptyToNull(fields.get(1)) : null);
+    }
+    
+    private Entry parseJson(String text) {
+        try {
+            JsonNode node = OBJECT_MAPPER.readTree(text);
+            if (node == null || !node.isObject()) {
+                return new Entry(line, null, null);
+            }
+            return new Entry(line, textField(node, "longUrl"), textField(node, "code"));
+        } catch (JsonProcessingException e) {
+            return new Entry(line, null, null);
+        }
+    }
+    
+    private static boolean isCsvHeader(String text) {
+        String first = text.split(",", 2)[0].trim().replace("\"", "").toLowerCase(Locale.ROOT);
+        return first.equals("long_url") || first.equals("longurl") || first.equals("url");
+    }
+    
+    /**
+     * RFC 4180 형식의 한 줄을 필드로 분리, 따옴표가 닫히지 않았으면 null
+     */
+    private static List<String> splitCsv(String text) {
+        List<String> fields = new ArrayList<>(2);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+    
+    private static String textField(JsonNode node, String name) {
+        JsonNode value = node.get(name);
+        return value != null && value.isTextual() ? emptyToNull(value.asText().trim()) : null;
+    }
+    
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.columnwise.shortlink.util;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * 원본 URL 중복 확인에 쓰는 고정 길이 지문
+ * URL을 정규화(스킴/호스트 소문자, 기본 포트 제거, 빈 경로는 /)한 뒤 SHA-256 앞 16바이트를 사용
+ * 지문이 같아도 원본이 다를 수 있으므로 조회 결과는 sameUrl로 한 번 더 비교해야 함
+ */
+public final class UrlFingerprint {
+    
+    public static final int LENGTH = 16;
+    
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    });
+    
+    private UrlFingerprint() {
+    }
+    
+    public static byte[] of(String url) {
+        byte[] digest = SHA_256.get().digest(normalize(url).getBytes(StandardCharsets.UTF_8));
+        return Arrays.copyOf(digest, LENGTH);
+    }
+    
+    /**
+     * 캐시 키 등에 쓰는 16진수 지문
+     */
+    public static String hex(String url) {
+        return HexFormat.of().formatHex(of(url));
+    }
+    
+    public static boolean sameUrl(String left, String right) {
+        return left != null && right != null && normalize(left).equals(normalize(right));
+    }
+    
+    /**
+     * 같은 자원을 가리키는 표기 차이를 없앰, 해석할 수 없는 URL은 앞뒤 공백만 제거
+     */
+    public static String normalize(String url) {
+        String trimmed = url.trim();
+        try {
+            URI uri = new URI(trimmed);
+            if (uri.getScheme() == null || uri.getHost() == null) {
+                return trimmed;
+            }
+            
+            String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+            StringBuilder normalized = new StringBuilder(trimmed.length()).append(scheme).append("://");
+            if (uri.getRawUserInfo() != null) {
+                normalized.append(uri.getRawUserInfo()).append('@');
+            }
+            normalized.append(uri.getHost().toLowerCase(Locale.ROOT));
+            if (uri.getPort() != -1 && uri.getPort() != defaultPort(scheme)) {
+                normalized.append(':').append(uri.getPort());
+            }
+            String path = uri.getRawPath();
+            normalized.append(path == null || path.isEmpty() ? "/" : path);
+            if (uri.getRawQuery() != null) {
+                normalized.append('?').append(uri.getRawQuery());
+            }
+            if (uri.getRawFragment() != null) {
+                normalized.append('#').append(uri.getRawFragment());
+            }
+            return normalized.toString();
+        } catch (URISyntaxException e) {
+            return trimmed;
+        }
+    }
+    
+    private static int defaultPort(String scheme) {
+        return switch (scheme) {
+            case "http" -> 80;
+            case "https" -> 443;
+            default -> -1;
+        };
+    }
+}
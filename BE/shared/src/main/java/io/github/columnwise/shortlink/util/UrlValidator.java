@@ -0,0 +1,56 @@
+package io.github.columnwise.shortlink.util;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Locale;
+
+/**
+ * 단축 대상 URL 검증
+ * 리다이렉트 대상으로 안전한 http/https 절대 URL만 허용 (javascript:, data:, 상대 경로 등은 거부)
+ */
+public final class UrlValidator {
+    
+    // short_urls.long_url 컬럼 길이
+    public static final int MAX_LENGTH = 2048;
+    
+    private UrlValidator() {
+    }
+    
+    public static boolean isValid(String url) {
+        return violation(url) == null;
+    }
+    
+    /**
+     * 유효하지 않은 이유, 유효하면 null
+     */
+    public static String violation(String url) {
+        if (url == null || url.isBlank()) {
+            return "URL is blank";
+        }
+        if (url.length() > MAX_LENGTH) {
+            return "URL is longer than " + MAX_LENGTH + " characters";
+        }
+        for (int i = 0; i < url.length(); i++) {
+            char c = url.charAt(i);
+            if (Character.isWhitespace(c) || Character.isISOControl(c)) {
+                return "URL contains whitespace or control characters";
+            }
+        }
+        
+        URI uri;
+        try {
+            uri = new URI(url);
+        } catch (URISyntaxException e) {
+            return "URL is malformed";
+        }
+        String scheme = uri.getScheme() != null ? uri.getScheme().toLowerCase(Locale.ROOT) : null;
+        if (!"http".equals(scheme) && !"https".equals(scheme)) {
+            return "URL scheme must be http or https";
+        }
+        // 포트나 호스트 형식이 잘못되면 getHost()가 null (서버 기반 authority로 해석되지 않음)
+        if (uri.getHost() == null || uri.getHost().isEmpty()) {
+            return "URL has no valid host";
+        }
+        return null;
+    }
+}